@@ -1,5 +1,7 @@
 package com.samsamotot.otboo.clothes.controller;
 
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionDto;
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionImageDto;
 import com.samsamotot.otboo.clothes.dto.request.ClothesCreateRequest;
 import com.samsamotot.otboo.clothes.dto.request.ClothesDto;
 import com.samsamotot.otboo.clothes.dto.request.ClothesSearchRequest;
@@ -10,6 +12,7 @@ import com.samsamotot.otboo.common.dto.CursorResponse;
 import com.samsamotot.otboo.common.util.AuthUtil;
 import jakarta.validation.Valid;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -43,7 +46,8 @@ public class ClothesController implements ClothesControllerApi{
     @PostMapping
     public ResponseEntity<ClothesDto> createClothes(
         @Valid @RequestPart("request") ClothesCreateRequest request,
-        @RequestPart(value = "image", required = false) MultipartFile image
+        @RequestPart(value = "image", required = false) MultipartFile image,
+        @RequestParam(value = "imageKey", required = false) String imageKey
     ) {
         UUID ownerId = AuthUtil.getAuthenticatedUserId();
 
@@ -53,6 +57,11 @@ public class ClothesController implements ClothesControllerApi{
             result = clothesService.create(ownerId, request, image);
             log.debug(CONTROLLER_NAME + " 이미지 있는 의상 등록 요청 - 결과 반환: id: {}", result.id());
         }
+        else if (imageKey != null) {
+            log.debug(CONTROLLER_NAME + " 직접 업로드 이미지 의상 등록 요청 - clothesService.createWithUploadedImage 호출");
+            result = clothesService.createWithUploadedImage(ownerId, request, imageKey);
+            log.debug(CONTROLLER_NAME + " 직접 업로드 이미지 의상 등록 요청 - 결과 반환: id: {}", result.id());
+        }
         else {
             log.debug(CONTROLLER_NAME + " 이미지 없는 의상 등록 요청 - clothesService.create 호출");
             result = clothesService.create(ownerId, request);
@@ -69,7 +78,8 @@ public class ClothesController implements ClothesControllerApi{
     public ResponseEntity<ClothesDto> updateClothes(
         @PathVariable("clothesId") UUID clothesId,
         @Valid @RequestPart("request") ClothesUpdateRequest request,
-        @RequestPart(value = "image", required = false) MultipartFile image
+        @RequestPart(value = "image", required = false) MultipartFile image,
+        @RequestParam(value = "imageKey", required = false) String imageKey
     ) {
         UUID ownerId = AuthUtil.getAuthenticatedUserId();
 
@@ -79,6 +89,11 @@ public class ClothesController implements ClothesControllerApi{
             result = clothesService.update(clothesId, ownerId, request, image);
             log.debug(CONTROLLER_NAME + " 이미지 있는 의상 수정 요청 - 결과 반환: id: {}", result.id());
         }
+        else if (imageKey != null) {
+            log.debug(CONTROLLER_NAME + " 직접 업로드 이미지 의상 수정 요청 - clothesService.updateWithUploadedImage 호출");
+            result = clothesService.updateWithUploadedImage(clothesId, ownerId, request, imageKey);
+            log.debug(CONTROLLER_NAME + " 직접 업로드 이미지 의상 수정 요청 - 결과 반환: id: {}", result.id());
+        }
         else {
             log.debug(CONTROLLER_NAME + " 이미지 없는 의상 수정 요청 - clothesService.update 호출");
             result = clothesService.update(clothesId, ownerId, request);
@@ -123,17 +138,36 @@ public class ClothesController implements ClothesControllerApi{
     }
 
     // 의상 정보 url 추출 컨트롤러
+    // 추출은 extractTaskExecutor 에서 진행되며, 요청 스레드는 결과를 기다리지 않고 반환된다.
     @GetMapping("/extractions")
-    public ResponseEntity<ClothesDto> extractClothes(
+    public CompletableFuture<ResponseEntity<ClothesExtractionDto>> extractClothes(
         @RequestParam("url") String url
     ) {
+        UUID userId = AuthUtil.getAuthenticatedUserId();
+
         log.debug(CONTROLLER_NAME + " 구매 링크로 의상 정보 추출 요청 - clothesExtractService.extract 호출");
-        ClothesDto dto = clothesExtractService.extract(url);
-        log.debug(CONTROLLER_NAME + " 구매 링크로 의상 정보 추출 요청 - clothesExtractService.extract 종료");
+        return clothesExtractService.extract(userId, url)
+            .thenApply(dto -> {
+                log.debug(CONTROLLER_NAME + " 구매 링크로 의상 정보 추출 요청 - clothesExtractService.extract 종료");
+                return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(dto);
+            });
+    }
+
+    // 추출 이미지의 S3 재업로드 결과 조회 컨트롤러 (SSE 를 받지 못한 경우용)
+    @GetMapping("/extractions/images/{imageUploadId}")
+    public ResponseEntity<ClothesExtractionImageDto> getExtractedImage(
+        @PathVariable("imageUploadId") UUID imageUploadId
+    ) {
+        UUID userId = AuthUtil.getAuthenticatedUserId();
+
+        log.debug(CONTROLLER_NAME + " 추출 이미지 재업로드 결과 조회 요청 - imageUploadId: {}", imageUploadId);
+        ClothesExtractionImageDto dto = clothesExtractService.getExtractedImage(userId, imageUploadId);
 
         return ResponseEntity
             .status(HttpStatus.OK)
             .body(dto);
     }
 
-}
\ No newline at end of file
+}
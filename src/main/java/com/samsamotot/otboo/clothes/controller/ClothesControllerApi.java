@@ -23,6 +23,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -44,7 +45,8 @@ public interface ClothesControllerApi {
     @PostMapping
     ResponseEntity<ClothesDto> createClothes(
         @Parameter @RequestPart("request") ClothesCreateRequest request,
-        @Parameter(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)) @RequestPart(value = "image", required = false) MultipartFile image
+        @Parameter(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)) @RequestPart(value = "image", required = false) MultipartFile image,
+        @Parameter(description = "presigned URL 로 직접 업로드한 이미지 키 (image 가 있으면 무시)") @RequestParam(value = "imageKey", required = false) String imageKey
     );
 
     @Operation(summary = "옷 수정", description = "옷 수정 API")
@@ -60,7 +62,8 @@ public interface ClothesControllerApi {
     ResponseEntity<ClothesDto> updateClothes(
         @PathVariable UUID clothesId,
         @Parameter @RequestPart("request") ClothesUpdateRequest request,
-        @Parameter(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)) @RequestPart(value = "image", required = false) MultipartFile image
+        @Parameter(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)) @RequestPart(value = "image", required = false) MultipartFile image,
+        @Parameter(description = "presigned URL 로 직접 업로드한 이미지 키 (image 가 있으면 무시)") @RequestParam(value = "imageKey", required = false) String imageKey
     );
 
     @Operation(summary = "옷 삭제", description = "옷 삭제 API")
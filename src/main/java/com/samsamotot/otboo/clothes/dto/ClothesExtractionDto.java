@@ -0,0 +1,19 @@
+package com.samsamotot.otboo.clothes.dto;
+
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * 구매 링크에서 추출한 의상 정보
+ *
+ * <p>imageUploadId 가 있으면 원본 이미지를 S3로 옮기는 작업이 진행 중이며,
+ * 완료되면 "clothes-extraction-images" SSE 이벤트로 최종 이미지 URL 이 전달됩니다.
+ */
+@Builder
+public record ClothesExtractionDto(
+    String name,
+    String imageUrl,
+    UUID imageUploadId
+) {
+
+}
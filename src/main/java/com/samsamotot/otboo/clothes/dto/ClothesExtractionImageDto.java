@@ -0,0 +1,13 @@
+package com.samsamotot.otboo.clothes.dto;
+
+import java.util.UUID;
+import lombok.Builder;
+
+@Builder
+public record ClothesExtractionImageDto(
+    UUID imageUploadId,
+    String imageUrl,
+    boolean ready
+) {
+
+}
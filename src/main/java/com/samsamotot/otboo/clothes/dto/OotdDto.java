@@ -1,6 +1,8 @@
 package com.samsamotot.otboo.clothes.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.samsamotot.otboo.clothes.entity.ClothesType;
+import com.samsamotot.otboo.common.storage.ImageVariant;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -15,9 +17,18 @@ public record OotdDto(
     String name,
     String imageUrl,
     ClothesType type,
-    List<ClothesAttributeWithDefDto> attributes
+    List<ClothesAttributeWithDefDto> attributes,
+    boolean imageVariantsReady
 ) {
 
+    /**
+     * 피드 카드 표시용 썸네일 URL (변형 이미지 생성이 끝나지 않았으면 원본 URL)
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public String thumbnailUrl() {
+        return imageVariantsReady ? ImageVariant.THUMBNAIL.of(imageUrl) : imageUrl;
+    }
+
     public String toSummaryStringWithDefs() {
         // 1) 레이블: 타입 + 이름(있으면 그대로)
         String label = (type != null ? type.name() : "알수없음");
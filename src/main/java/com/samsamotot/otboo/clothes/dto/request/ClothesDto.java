@@ -1,7 +1,9 @@
 package com.samsamotot.otboo.clothes.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.samsamotot.otboo.clothes.dto.ClothesAttributeWithDefDto;
 import com.samsamotot.otboo.clothes.entity.ClothesType;
+import com.samsamotot.otboo.common.storage.ImageVariant;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,7 +13,21 @@ public record ClothesDto(
     String name,
     String imageUrl,
     ClothesType type,
-    List<ClothesAttributeWithDefDto> attributes
+    List<ClothesAttributeWithDefDto> attributes,
+    boolean imageVariantsReady
 ) {
 
+    // 변형 이미지 생성 전(방금 업로드한 이미지 등)의 응답용
+    public ClothesDto(UUID id, UUID ownerId, String name, String imageUrl, ClothesType type,
+        List<ClothesAttributeWithDefDto> attributes) {
+        this(id, ownerId, name, imageUrl, type, attributes, false);
+    }
+
+    /**
+     * 옷장 목록 표시용 썸네일 URL (변형 이미지 생성이 끝나지 않았으면 원본 URL)
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public String thumbnailUrl() {
+        return imageVariantsReady ? ImageVariant.THUMBNAIL.of(imageUrl) : imageUrl;
+    }
 }
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -15,6 +16,7 @@ import jakarta.persistence.Table;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,7 +26,13 @@ import org.springframework.data.annotation.LastModifiedDate;
 
 @Builder
 @Entity
-@Table(name = "clothes")
+@Table(
+    name = "clothes",
+    indexes = {
+        @Index(name = "idx_clothes_owner_created_id_desc", columnList = "owner_id, created_at DESC, id DESC"),
+        @Index(name = "idx_clothes_owner_type_created_id_desc", columnList = "owner_id, type, created_at DESC, id DESC")
+    }
+)
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -36,6 +44,11 @@ public class Clothes extends BaseEntity {
     @Column(name = "image_url", columnDefinition = "TEXT", nullable = true)
     private String imageUrl;
 
+    // 썸네일/중간 크기 변형 이미지가 생성되어 있는지 여부 (false 면 원본 URL 사용)
+    @Builder.Default
+    @Column(name = "image_variants_ready", nullable = false)
+    private boolean imageVariantsReady = false;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "type", nullable = false)
     private ClothesType type;
@@ -64,6 +77,9 @@ public class Clothes extends BaseEntity {
     }
 
     public void updateImageUrl(String imageUrl) {
+        if (!Objects.equals(this.imageUrl, imageUrl)) {
+            this.imageVariantsReady = false;
+        }
         this.imageUrl = imageUrl;
     }
 
@@ -3,6 +3,7 @@ package com.samsamotot.otboo.clothes.entity;
 import com.samsamotot.otboo.common.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -35,7 +36,7 @@ public class ClothesAttributeOption extends BaseEntity {
     @Column(name = "value", nullable = false)
     private String value;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "definition_id", nullable = false)
     private ClothesAttributeDef definition;
 
@@ -0,0 +1,31 @@
+package com.samsamotot.otboo.clothes.listener;
+
+import com.samsamotot.otboo.clothes.repository.ClothesRepository;
+import com.samsamotot.otboo.common.storage.event.ImageVariantsReadyEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName  : com.samsamotot.otboo.clothes.listener
+ * FileName     : ClothesImageVariantsListener
+ * Description  : 변형 이미지 생성이 끝난 의상 이미지에 완료 표시를 남겨, 이후 응답부터 썸네일 URL 을 내려주도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClothesImageVariantsListener {
+
+    private static final String CLOTHES_IMAGE_VARIANTS_LISTENER = "[ClothesImageVariantsListener] ";
+
+    private final ClothesRepository clothesRepository;
+
+    @EventListener
+    public void onImageVariantsReady(ImageVariantsReadyEvent event) {
+        int updated = clothesRepository.markImageVariantsReady(event.imageUrl());
+        if (updated > 0) {
+            log.debug(CLOTHES_IMAGE_VARIANTS_LISTENER + "변형 이미지 완료 표시 - URL: {}, 의상 수: {}", event.imageUrl(), updated);
+        }
+    }
+}
@@ -18,6 +18,7 @@ public interface ClothesMapper {
     @Mapping(source = "clothes.owner.id", target = "ownerId")
     @Mapping(source = "clothes.name", target = "name")
     @Mapping(source = "clothes.imageUrl", target = "imageUrl")
+    @Mapping(source = "clothes.imageVariantsReady", target = "imageVariantsReady")
     @Mapping(source = "clothes.type", target = "type")
     @Mapping(source = "clothes.attributes", target = "attributes")
     ClothesDto toClothesDto(Clothes clothes);
@@ -25,6 +26,7 @@ public interface ClothesMapper {
     @Mapping(source = "clothes.id", target = "clothesId")
     @Mapping(source = "clothes.name", target = "name")
     @Mapping(source = "clothes.imageUrl", target = "imageUrl")
+    @Mapping(source = "clothes.imageVariantsReady", target = "imageVariantsReady")
     @Mapping(source = "clothes.type", target = "type")
     @Mapping(source = "clothes.attributes", target = "attributes")
     OotdDto toOotdDto(FeedClothes feedClothes);
@@ -32,6 +34,7 @@ public interface ClothesMapper {
     @Mapping(source = "clothes.id", target = "clothesId")
     @Mapping(source = "clothes.name", target = "name")
     @Mapping(source = "clothes.imageUrl", target = "imageUrl")
+    @Mapping(source = "clothes.imageVariantsReady", target = "imageVariantsReady")
     @Mapping(source = "clothes.type", target = "type")
     @Mapping(source = "clothes.attributes", target = "attributes")
     OotdDto toOotdDto(Clothes clothes);
@@ -1,10 +1,13 @@
 package com.samsamotot.otboo.clothes.repository;
 
 import com.samsamotot.otboo.clothes.entity.ClothesAttributeDef;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +16,8 @@ public interface ClothesAttributeDefRepository extends JpaRepository<ClothesAttr
     boolean existsByName(String name);
 
     List<ClothesAttributeDef> findByNameContaining(String name, Sort sort);
+
+    // 여러 속성 정의를 선택지(options)와 함께 한 번에 조회
+    @Query("select distinct d from ClothesAttributeDef d left join fetch d.options where d.id in :ids")
+    List<ClothesAttributeDef> findAllWithOptionsByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -6,7 +6,11 @@ import com.samsamotot.otboo.clothes.repository.custom.ClothesRepositoryCustom;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ClothesRepository extends JpaRepository<Clothes, UUID>, ClothesRepositoryCustom {
@@ -14,4 +18,14 @@ public interface ClothesRepository extends JpaRepository<Clothes, UUID>, Clothes
     List<Clothes> findAllByType(ClothesType type);
 
     List<Clothes> findAllByOwnerId(UUID ownerId);
+
+    /**
+     * 해당 이미지를 쓰는 의상에 변형 이미지 생성 완료를 표시합니다.
+     *
+     * @return 갱신된 의상 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Clothes c SET c.imageVariantsReady = true WHERE c.imageUrl = :imageUrl AND c.imageVariantsReady = false")
+    int markImageVariantsReady(@Param("imageUrl") String imageUrl);
 }
@@ -1,7 +1,9 @@
 package com.samsamotot.otboo.clothes.repository.custom;
 
+import com.samsamotot.otboo.clothes.dto.OotdDto;
 import com.samsamotot.otboo.clothes.dto.request.ClothesSearchRequest;
 import com.samsamotot.otboo.clothes.entity.Clothes;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -12,4 +14,7 @@ public interface ClothesRepositoryCustom {
 
     // totalElement 구하기
     long totalElementCount(UUID ownerId, ClothesSearchRequest request);
+
+    // 추천용 옷장 조회 (엔티티 대신 추천에 필요한 컬럼만 단일 쿼리로 조회)
+    List<OotdDto> findRecommendationCandidates(UUID ownerId);
 }
@@ -1,15 +1,27 @@
 package com.samsamotot.otboo.clothes.repository.custom;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.samsamotot.otboo.clothes.dto.ClothesAttributeWithDefDto;
+import com.samsamotot.otboo.clothes.dto.OotdDto;
 import com.samsamotot.otboo.clothes.dto.request.ClothesSearchRequest;
 import com.samsamotot.otboo.clothes.entity.Clothes;
 import com.samsamotot.otboo.clothes.entity.QClothes;
+import com.samsamotot.otboo.clothes.entity.QClothesAttribute;
+import com.samsamotot.otboo.clothes.entity.QClothesAttributeDef;
+import com.samsamotot.otboo.clothes.entity.QClothesAttributeOption;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +38,9 @@ public class ClothesRepositoryCustomImpl implements ClothesRepositoryCustom {
     private EntityManager em;
     private final JPAQueryFactory queryFactory;
     private final QClothes clothes = QClothes.clothes;
+    private final QClothesAttribute attribute = QClothesAttribute.clothesAttribute;
+    private final QClothesAttributeDef definition = QClothesAttributeDef.clothesAttributeDef;
+    private final QClothesAttributeOption option = QClothesAttributeOption.clothesAttributeOption;
 
     // 의상 목록 조회하는 QueryDsl 메서드
     @Override
@@ -114,4 +129,80 @@ public class ClothesRepositoryCustomImpl implements ClothesRepositoryCustom {
 
         return count != null ? count : 0L;
     }
+
+    // 추천용 옷장 조회
+    // 의상 + 속성 + 속성 정의를 한 번에 조인해 필요한 컬럼만 가져오므로 엔티티 하이드레이션/N+1 없이 처리된다.
+    // 선택 가능한 옵션은 조회된 정의 ID로 한 번에 가져와 정의별로 묶는다.
+    @Override
+    public List<OotdDto> findRecommendationCandidates(UUID ownerId) {
+
+        List<Tuple> rows = queryFactory
+            .select(
+                clothes.id,
+                clothes.name,
+                clothes.imageUrl,
+                clothes.imageVariantsReady,
+                clothes.type,
+                definition.id,
+                definition.name,
+                attribute.value
+            )
+            .from(clothes)
+            .leftJoin(clothes.attributes, attribute)
+            .leftJoin(attribute.definition, definition)
+            .where(clothes.owner.id.eq(ownerId))
+            .orderBy(clothes.createdAt.desc(), clothes.id.desc())
+            .fetch();
+
+        Map<UUID, List<String>> selectableValues = findSelectableValues(rows.stream()
+            .map(row -> row.get(definition.id))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()));
+
+        // 의상 ID 기준으로 속성 행을 묶는다 (정렬 순서 유지)
+        Map<UUID, OotdDto> candidates = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            UUID clothesId = row.get(clothes.id);
+            OotdDto candidate = candidates.computeIfAbsent(clothesId, id -> OotdDto.builder()
+                .clothesId(id)
+                .name(row.get(clothes.name))
+                .imageUrl(row.get(clothes.imageUrl))
+                .imageVariantsReady(Boolean.TRUE.equals(row.get(clothes.imageVariantsReady)))
+                .type(row.get(clothes.type))
+                .attributes(new ArrayList<>())
+                .build());
+
+            UUID definitionId = row.get(definition.id);
+            if (definitionId == null) {
+                continue;
+            }
+            candidate.attributes().add(ClothesAttributeWithDefDto.builder()
+                .definitionId(definitionId)
+                .definitionName(row.get(definition.name))
+                .selectableValues(selectableValues.getOrDefault(definitionId, List.of()))
+                .value(row.get(attribute.value))
+                .build());
+        }
+
+        return new ArrayList<>(candidates.values());
+    }
+
+    // 정의 ID별 선택 가능한 옵션 값 (정의 수와 무관하게 쿼리 1회)
+    private Map<UUID, List<String>> findSelectableValues(Set<UUID> definitionIds) {
+        if (definitionIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return queryFactory
+            .select(option.definition.id, option.value)
+            .from(option)
+            .where(option.definition.id.in(definitionIds))
+            .orderBy(option.createdAt.asc(), option.id.asc())
+            .fetch()
+            .stream()
+            .collect(Collectors.groupingBy(
+                row -> row.get(option.definition.id),
+                Collectors.mapping(row -> row.get(option.value), Collectors.toList())
+            ));
+    }
 }
@@ -1,8 +1,13 @@
 package com.samsamotot.otboo.clothes.service;
 
-import com.samsamotot.otboo.clothes.dto.request.ClothesDto;
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionDto;
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionImageDto;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface ClothesExtractService {
 
-    ClothesDto extract(String url);
+    CompletableFuture<ClothesExtractionDto> extract(UUID userId, String url);
+
+    ClothesExtractionImageDto getExtractedImage(UUID userId, UUID imageUploadId);
 }
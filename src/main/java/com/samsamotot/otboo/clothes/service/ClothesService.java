@@ -13,10 +13,12 @@ public interface ClothesService {
     // create
     ClothesDto create(UUID ownerId, ClothesCreateRequest request);
     ClothesDto create(UUID ownerId, ClothesCreateRequest request, MultipartFile clothesImage);
+    ClothesDto createWithUploadedImage(UUID ownerId, ClothesCreateRequest request, String imageKey);
 
     // update
     ClothesDto update(UUID clothesId, UUID ownerId, ClothesUpdateRequest updateRequest);
     ClothesDto update(UUID clothesId, UUID ownerId, ClothesUpdateRequest updateRequest, MultipartFile clothesImage);
+    ClothesDto updateWithUploadedImage(UUID clothesId, UUID ownerId, ClothesUpdateRequest updateRequest, String imageKey);
 
     // delete
     void delete(UUID ownerId, UUID clothesId);
@@ -1,17 +1,32 @@
 package com.samsamotot.otboo.clothes.service.impl;
 
-import com.samsamotot.otboo.clothes.dto.request.ClothesDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionDto;
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionImageDto;
 import com.samsamotot.otboo.clothes.service.ClothesExtractService;
 import com.samsamotot.otboo.clothes.util.ClothesExtractHelper;
 import com.samsamotot.otboo.clothes.util.ImageDownloadService;
+import com.samsamotot.otboo.common.util.CacheNames;
+import com.samsamotot.otboo.sse.service.SseService;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.HttpStatusException;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -20,6 +35,12 @@ import org.springframework.stereotype.Service;
 public class ClothesExtractServiceImpl implements ClothesExtractService {
     private static final String SERVICE_NAME = "[ClothesExtractService] ";
 
+    public static final String SSE_EVENT_NAME = "clothes-extraction-images";
+    private static final String IMAGE_KEY_PREFIX = "clothesExtractionImage:";
+
+    // 추출 이미지는 내용 해시로 저장되어 여러 추출 결과가 공유하므로, 사용자 소유 이미지와 경로를 분리
+    private static final String EXTRACTED_IMAGE_FOLDER = "clothes/extracted/";
+
     // Selector를 상수로 관리
     // 기본
     private static final String SELECTOR_IMAGE_DEFAULT = "div.sc-uxvjgl-8 img";
@@ -29,48 +50,57 @@ public class ClothesExtractServiceImpl implements ClothesExtractService {
     private static final String SELECTOR_OG_IMAGE = "meta[property=og:image]";
     private static final String SELECTOR_OG_TITLE = "meta[property=og:title]";
 
+    @Value("${clothes.extraction.image.ttl.minutes:10}")
+    private int imageTtlMinutes;
+
     private final ImageDownloadService imageDownloadService;
     private final ClothesExtractHelper clothesExtractHelper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SseService sseService;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
 
+    /**
+     * 구매 링크에서 의상 이름과 이미지를 추출합니다.
+     * 상품 페이지 요청과 파싱은 extractTaskExecutor 에서 수행되어 요청 스레드를 점유하지 않으며,
+     * 에이블리/네이버 쇼핑 이미지의 S3 재업로드는 기다리지 않고 원본 이미지 URL 로 먼저 응답합니다.
+     * 추출 결과(재업로드가 끝난 이미지 URL 포함)는 정규화된 상품 URL 기준으로 캐시되어,
+     * 같은 상품 링크의 반복 추출은 페이지 요청과 이미지 재업로드 없이 처리됩니다.
+     */
     @Override
-    public ClothesDto extract(String url) {
+    @Async("extractTaskExecutor")
+    public CompletableFuture<ClothesExtractionDto> extract(UUID userId, String url) {
         try {
             // SSRF 방어를 위한 URL 검증
             clothesExtractHelper.validate(url);
 
-            // Cloudflare 우회용 HTML 요청
-            String html = clothesExtractHelper.fetchHtml(url);
-            Document doc = Jsoup.parse(html);
-
-            // 무신사 기본 구조 기반 파싱
-            String imageUrl = null;
-            String name = null;
-
-            // 이미지 추출
-            Element imgEl = doc.selectFirst(SELECTOR_IMAGE_DEFAULT);
-            if (imgEl != null) {
-                imageUrl = imgEl.attr("src");
-            } else {
-                // fallback: Open Graph
-                imageUrl = doc.select(SELECTOR_OG_IMAGE).attr("content");
+            // 같은 상품의 추출 결과가 캐시에 있으면 그대로 반환
+            String canonicalUrl = clothesExtractHelper.canonicalize(url);
+            ClothesExtractionDto cached = getCachedExtraction(canonicalUrl);
+            if (cached != null) {
+                log.info(SERVICE_NAME + "추출 결과 캐시 적중: {}", canonicalUrl);
+                return CompletableFuture.completedFuture(cached);
             }
 
+            // Cloudflare 우회용 HTML 요청 + 스트리밍 파싱
+            ParsedProduct parsed;
+            try (Reader html = clothesExtractHelper.openHtml(url)) {
+                parsed = parseProduct(html, url);
+            }
+            String imageUrl = parsed.imageUrl();
+            String name = parsed.name();
+
             // 쿼리 파라미터 제거
             if (imageUrl.contains("?")) {
                 imageUrl = imageUrl.substring(0, imageUrl.indexOf("?"));
             }
 
-            // ️의상 이름 추출
-            Element nameEl = doc.selectFirst(SELECTOR_NAME_DEFAULT);
-            if (nameEl != null) {
-                name = nameEl.text();
-            } else {
-                name = doc.select(SELECTOR_OG_TITLE).attr("content");
-            }
-
             log.info(SERVICE_NAME + "의상 이름 추출 결과: {}", name);
             log.info(SERVICE_NAME + "의상 이미지 추출 결과: {}", imageUrl);
 
+            // 이름을 찾지 못한 페이지(차단 페이지 등)는 캐시하지 않는다
+            boolean cacheable = !name.isEmpty();
+
             // 기본값 보정
             if (name.isEmpty())
                 name = "(이름 없음)";
@@ -81,56 +111,181 @@ public class ClothesExtractServiceImpl implements ClothesExtractService {
             boolean isAblyLink = url.contains("a-bly.com") || url.contains("applink.a-bly.com");
             boolean isNaverShop = url.contains("shopping.naver") || url.contains("shop-phinf.pstatic.net");
 
-            String finalImageUrl = imageUrl;
+            UUID imageUploadId = null;
 
-            if ((isAblyLink || isNaverShop) && finalImageUrl != null && !finalImageUrl.isBlank()) {
+            if ((isAblyLink || isNaverShop) && imageUrl != null && !imageUrl.isBlank()) {
                 String siteName = isAblyLink ? "에이블리" : "네이버쇼핑";
-                log.info(SERVICE_NAME + "<{}> 비동기 이미지 업로드 시작 - {}", siteName, finalImageUrl);
-
-                // 비동기 다운로드 + 업로드 실행
-                CompletableFuture<String> futureS3Url =
-                    imageDownloadService.downloadAndUploadAsync(finalImageUrl, "clothes/");
+                String originalImageUrl = imageUrl;
+                String extractedName = name;
+                UUID uploadId = UUID.randomUUID();
+                imageUploadId = uploadId;
+                log.info(SERVICE_NAME + "<{}> 비동기 이미지 업로드 시작 - {}, uploadId: {}", siteName, imageUrl, uploadId);
 
-                String s3Url = futureS3Url.join();
-
-                if (s3Url != null) {
-                    finalImageUrl = s3Url;
-                    log.info(SERVICE_NAME + "<{}> 비동기 이미지 업로드 성공: {}", siteName, s3Url);
-                } else {
-                    log.warn(SERVICE_NAME + "<{}> 비동기 이미지 업로드 실패 - 원본 URL로 대체됩니다: {}", siteName, imageUrl);
+                // 비동기 다운로드 + 업로드 실행 (완료를 기다리지 않고 결과는 SSE로 전달)
+                CompletableFuture<String> upload;
+                try {
+                    upload = imageDownloadService.downloadAndUploadAsync(originalImageUrl, EXTRACTED_IMAGE_FOLDER);
+                } catch (TaskRejectedException e) {
+                    // 이미지 실행자 포화 시 재업로드 없이 원본 URL 을 전달
+                    log.warn(SERVICE_NAME + "<{}> 이미지 실행자 포화로 재업로드 생략: {}", siteName, e.getMessage());
+                    upload = CompletableFuture.completedFuture(null);
                 }
+                upload.thenAccept(s3Url -> {
+                    if (s3Url != null) {
+                        log.info(SERVICE_NAME + "<{}> 비동기 이미지 업로드 성공: {}", siteName, s3Url);
+                        // 재업로드가 끝난 결과만 캐시 (실패하면 다음 요청에서 다시 시도)
+                        if (cacheable) {
+                            putCachedExtraction(canonicalUrl, ClothesExtractionDto.builder()
+                                .name(extractedName)
+                                .imageUrl(s3Url)
+                                .build());
+                        }
+                    } else {
+                        log.warn(SERVICE_NAME + "<{}> 비동기 이미지 업로드 실패 - 원본 URL로 대체됩니다: {}", siteName, originalImageUrl);
+                    }
+                    publishExtractedImage(userId, uploadId, s3Url != null ? s3Url : originalImageUrl);
+                });
             }
 
-            ClothesDto returnDto = new ClothesDto(
-                null,
-                null,
-                name,
-                finalImageUrl,
-                null,
-                null
-            );
-
-            return returnDto;
+            ClothesExtractionDto result = ClothesExtractionDto.builder()
+                .name(name)
+                .imageUrl(imageUrl)
+                .imageUploadId(imageUploadId)
+                .build();
+            if (cacheable && imageUploadId == null) {
+                putCachedExtraction(canonicalUrl, result);
+            }
+            return CompletableFuture.completedFuture(result);
 
         } catch (HttpStatusException e) {
             log.error(SERVICE_NAME + "HTTP 상태 오류: {}", e.getStatusCode());
-            return new ClothesDto(
-                null,
-                null,
-                "에러",
-                "에러",
-                null,
-                null);
+            return CompletableFuture.completedFuture(errorResult());
 
         } catch (IOException e) {
             log.error(SERVICE_NAME + "스크래핑 실패: {}", e.getMessage());
-            return new ClothesDto(
-                null,
-                null,
-                "에러",
-                "에러",
-                null,
-                null);
+            return CompletableFuture.completedFuture(errorResult());
+        }
+    }
+
+    /**
+     * S3로 옮겨진 추출 이미지 URL 을 조회합니다. 아직 업로드 중이거나 만료된 경우 ready=false를 반환합니다.
+     *
+     * @param userId 요청 사용자 ID (다른 사용자의 imageUploadId는 조회되지 않음)
+     * @param imageUploadId 추출 응답에 포함된 이미지 업로드 ID
+     */
+    @Override
+    public ClothesExtractionImageDto getExtractedImage(UUID userId, UUID imageUploadId) {
+        String imageUrl = stringRedisTemplate.opsForValue().get(imageKey(userId, imageUploadId));
+
+        return ClothesExtractionImageDto.builder()
+            .imageUploadId(imageUploadId)
+            .imageUrl(imageUrl)
+            .ready(imageUrl != null)
+            .build();
+    }
+
+    // 재업로드 결과를 Redis에 잠시 보관하고, 이 서버에 SSE로 연결된 사용자에게 바로 전송
+    private void publishExtractedImage(UUID userId, UUID imageUploadId, String imageUrl) {
+        ClothesExtractionImageDto dto = ClothesExtractionImageDto.builder()
+            .imageUploadId(imageUploadId)
+            .imageUrl(imageUrl)
+            .ready(true)
+            .build();
+
+        try {
+            stringRedisTemplate.opsForValue().set(imageKey(userId, imageUploadId), imageUrl, Duration.ofMinutes(imageTtlMinutes));
+        } catch (Exception e) {
+            log.warn(SERVICE_NAME + "추출 이미지 저장 실패: userId={}, uploadId={}, err={}", userId, imageUploadId, e.getMessage());
+        }
+
+        try {
+            // 이벤트 ID를 붙이면 브라우저의 Last-Event-ID가 바뀌어 재연결 시 알림 재전송이 깨지므로 null
+            sseService.sendLocalEvent(userId, SSE_EVENT_NAME, null, objectMapper.writeValueAsString(dto));
+        } catch (Exception e) {
+            log.warn(SERVICE_NAME + "추출 이미지 SSE 전송 실패: userId={}, uploadId={}, err={}", userId, imageUploadId, e.getMessage());
         }
     }
+
+    /**
+     * 상품 페이지를 DOM 전체를 만들지 않고 요소 단위로 읽으며 의상 이름과 이미지를 찾습니다.
+     * 무신사 기본 구조의 이름/이미지를 모두 찾으면 나머지 본문은 읽지 않고, 끝까지 찾지 못하면
+     * 도중에 본 Open Graph 값(og:title, og:image)을 사용합니다.
+     */
+    private ParsedProduct parseProduct(Reader html, String baseUri) throws IOException {
+        String imageUrl = null;
+        String name = null;
+        String ogImage = "";
+        String ogTitle = "";
+
+        try (StreamParser streamer = new StreamParser(Parser.htmlParser()).parse(html, baseUri)) {
+            Iterator<Element> elements = streamer.stream().iterator();
+            while ((imageUrl == null || name == null) && elements.hasNext()) {
+                Element el = elements.next();
+                if (imageUrl == null && el.is(SELECTOR_IMAGE_DEFAULT)) {
+                    imageUrl = el.attr("src");
+                } else if (name == null && el.is(SELECTOR_NAME_DEFAULT)) {
+                    name = el.text();
+                } else if (ogImage.isEmpty() && el.is(SELECTOR_OG_IMAGE)) {
+                    ogImage = el.attr("content");
+                } else if (ogTitle.isEmpty() && el.is(SELECTOR_OG_TITLE)) {
+                    ogTitle = el.attr("content");
+                }
+
+                // 확인이 끝난 head/body 의 자식 요소는 떼어내 DOM 이 쌓이지 않게 한다
+                // (아직 닫히지 않은 조상 요소는 남아 있으므로 하위 선택자 매칭에는 영향 없음)
+                Element parent = el.parent();
+                if (parent != null && ("head".equals(parent.normalName()) || "body".equals(parent.normalName()))) {
+                    el.remove();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return new ParsedProduct(
+            name != null ? name : ogTitle,
+            imageUrl != null ? imageUrl : ogImage
+        );
+    }
+
+    private record ParsedProduct(String name, String imageUrl) {
+    }
+
+    /**
+     * 캐시에서 추출 결과를 조회합니다. 캐시 장애는 무시하고 페이지 추출로 진행합니다.
+     */
+    private ClothesExtractionDto getCachedExtraction(String canonicalUrl) {
+        try {
+            Cache cache = cacheManager.getCache(CacheNames.CLOTHES_EXTRACTION);
+            return cache != null ? cache.get(canonicalUrl, ClothesExtractionDto.class) : null;
+        } catch (Exception e) {
+            log.warn(SERVICE_NAME + "추출 결과 캐시 조회 실패: url={}, err={}", canonicalUrl, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 추출 결과를 캐시에 저장합니다. 캐시 장애는 무시합니다.
+     */
+    private void putCachedExtraction(String canonicalUrl, ClothesExtractionDto dto) {
+        try {
+            Cache cache = cacheManager.getCache(CacheNames.CLOTHES_EXTRACTION);
+            if (cache != null) {
+                cache.put(canonicalUrl, dto);
+            }
+        } catch (Exception e) {
+            log.warn(SERVICE_NAME + "추출 결과 캐시 저장 실패: url={}, err={}", canonicalUrl, e.getMessage());
+        }
+    }
+
+    private static ClothesExtractionDto errorResult() {
+        return ClothesExtractionDto.builder()
+            .name("에러")
+            .imageUrl("에러")
+            .build();
+    }
+
+    private static String imageKey(UUID userId, UUID imageUploadId) {
+        return IMAGE_KEY_PREFIX + userId + ":" + imageUploadId;
+    }
 }
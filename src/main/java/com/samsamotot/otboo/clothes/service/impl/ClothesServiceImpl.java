@@ -21,6 +21,7 @@ import com.samsamotot.otboo.clothes.service.ClothesService;
 import com.samsamotot.otboo.clothes.util.ClothesServiceHelper;
 import com.samsamotot.otboo.common.dto.CursorResponse;
 import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import com.samsamotot.otboo.common.storage.event.ImageDeleteEvent;
 import com.samsamotot.otboo.common.type.SortDirection;
 import com.samsamotot.otboo.user.entity.User;
 import com.samsamotot.otboo.user.exception.UserNotFoundException;
@@ -28,15 +29,22 @@ import com.samsamotot.otboo.user.repository.UserRepository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -54,6 +62,8 @@ public class ClothesServiceImpl implements ClothesService {
     private final S3ImageStorage s3ImageStorage;
     private final ClothesMapper clothesMapper;
     private final ClothesServiceHelper clothesServiceHelper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 이미지 없는 생성
     @Override
@@ -92,45 +102,71 @@ public class ClothesServiceImpl implements ClothesService {
     }
 
     // 이미지 있는 생성
+    // S3 업로드는 트랜잭션 밖에서 먼저 수행하고, DB 작업이 실패하면 업로드한 이미지를 보상 삭제한다.
     @Override
-    @Transactional
     public ClothesDto create(UUID ownerId, ClothesCreateRequest request, MultipartFile clothesImage) {
         log.info(SERVICE_NAME + "create - 이미지 있는 의상 생성 호출됨");
 
-        List<ClothesAttributeWithDefDto> attributes = new ArrayList<>();
+        // imageUrl 처리
+        log.debug(SERVICE_NAME + "S3에 의상 이미지 업로드 요청: {}", clothesImage.getOriginalFilename());
+        String imageUrl = s3ImageStorage.uploadImage(clothesImage, "clothes/");
 
-        // 유저 조회
-        User owner = userRepository.findById(ownerId)
-            .orElseThrow(() -> new UserNotFoundException());
+        return createWithImageUrl(ownerId, request, imageUrl);
+    }
 
-        // Clothes 객체 생성
-        Clothes clothes = Clothes.createClothes(
-            request.name(),
-            request.type(),
-            owner
-        );
+    // 클라이언트가 presigned URL 로 직접 업로드한 이미지로 생성
+    @Override
+    public ClothesDto createWithUploadedImage(UUID ownerId, ClothesCreateRequest request, String imageKey) {
+        log.info(SERVICE_NAME + "createWithUploadedImage - 직접 업로드 이미지로 의상 생성 호출됨");
 
-        // Attributes 처리
-        process(request.attributes(), clothes, attributes);
+        String imageUrl = s3ImageStorage.confirmDirectUpload(imageKey, "clothes/", ownerId);
 
-        // imageUrl 처리
-        String imageUrl;
-        log.debug(SERVICE_NAME + "S3에 의상 이미지 업로드 요청: {}", clothesImage.getOriginalFilename());
-        imageUrl = s3ImageStorage.uploadImage(clothesImage, "clothes/");
+        return createWithImageUrl(ownerId, request, imageUrl);
+    }
 
-        clothes.updateImageUrl(imageUrl);
-        Clothes saved = clothesRepository.save(clothes);
+    // 업로드가 끝난 이미지로 의상을 생성하고, DB 작업이 실패하면 이미지를 보상 삭제한다.
+    private ClothesDto createWithImageUrl(UUID ownerId, ClothesCreateRequest request, String imageUrl) {
+        ClothesDto created;
+        try {
+            created = transactionTemplate.execute(status -> {
+                List<ClothesAttributeWithDefDto> attributes = new ArrayList<>();
+
+                // 유저 조회
+                User owner = userRepository.findById(ownerId)
+                    .orElseThrow(() -> new UserNotFoundException());
+
+                // Clothes 객체 생성
+                Clothes clothes = Clothes.createClothes(
+                    request.name(),
+                    request.type(),
+                    owner
+                );
 
-        log.debug(SERVICE_NAME + "ClothesDto 생성중");
-        // DTO 반환
-        return new ClothesDto(
-            saved.getId(),
-            ownerId,
-            request.name(),
-            imageUrl,
-            request.type(),
-            attributes
-        );
+                // Attributes 처리
+                process(request.attributes(), clothes, attributes);
+
+                clothes.updateImageUrl(imageUrl);
+                Clothes saved = clothesRepository.save(clothes);
+
+                log.debug(SERVICE_NAME + "ClothesDto 생성중");
+                // DTO 반환
+                return new ClothesDto(
+                    saved.getId(),
+                    ownerId,
+                    request.name(),
+                    imageUrl,
+                    request.type(),
+                    attributes
+                );
+            });
+        } catch (RuntimeException e) {
+            publishCompensatingDelete(imageUrl, e);
+            throw e;
+        }
+
+        // 커밋 전에 변형 이미지 생성이 끝났다면 완료 표시를 다시 요청
+        s3ImageStorage.publishVariantsReadyIfGenerated(imageUrl);
+        return created;
     }
 
     // 이미지 없는 수정
@@ -173,62 +209,89 @@ public class ClothesServiceImpl implements ClothesService {
     }
 
     // 이미지 있는 수정
+    // 새 이미지는 트랜잭션 밖에서 먼저 업로드하고, 기존 이미지는 커밋 이후 비동기로 삭제한다.
     @Override
-    @Transactional
     public ClothesDto update(UUID clothesId, UUID ownerId, ClothesUpdateRequest updateRequest, MultipartFile clothesImage) {
         log.info(SERVICE_NAME + "update - 이미지 있는 의상 수정 호출됨");
 
-        String newName = updateRequest.name();
-        ClothesType newType = updateRequest.type();
+        // 요청 들어온 새 이미지 업로드
+        log.debug(SERVICE_NAME + "S3에 의상 이미지 업로드 요청: {}", clothesImage.getOriginalFilename());
+        String imageUrl = s3ImageStorage.uploadImage(clothesImage, "clothes/");
 
-        // Clothes 조회
-        Clothes clothes = clothesRepository.findById(clothesId)
-            .orElseThrow(() -> new ClothesNotFoundException());
+        return updateWithImageUrl(clothesId, ownerId, updateRequest, imageUrl);
+    }
 
-        // 해당 clothes 객체가 유저의 의상이 맞는지 더블체크
-        if (!clothes.getOwner().getId().equals(ownerId)) {
-            throw new ClothesOwnerMismatchException();
-        }
+    // 클라이언트가 presigned URL 로 직접 업로드한 이미지로 수정
+    @Override
+    public ClothesDto updateWithUploadedImage(UUID clothesId, UUID ownerId, ClothesUpdateRequest updateRequest, String imageKey) {
+        log.info(SERVICE_NAME + "updateWithUploadedImage - 직접 업로드 이미지로 의상 수정 호출됨");
 
-        // 의상 이름 업데이트
-        if (!newName.equals(clothes.getName())) {
-            clothes.updateName(newName);
-        }
+        String imageUrl = s3ImageStorage.confirmDirectUpload(imageKey, "clothes/", ownerId);
 
-        // 의상 타입 업데이트
-        if (!newType.equals(clothes.getType())) {
-            clothes.updateType(newType);
-        }
+        return updateWithImageUrl(clothesId, ownerId, updateRequest, imageUrl);
+    }
 
-        // 현재의 attributes 맵핑
-        Map<UUID, ClothesAttribute> currentAttrs = currentAttrsMapping(clothes);
+    // 업로드가 끝난 이미지로 의상을 수정하고, 기존 이미지는 커밋 이후 비동기로 삭제한다.
+    private ClothesDto updateWithImageUrl(UUID clothesId, UUID ownerId, ClothesUpdateRequest updateRequest, String imageUrl) {
+        // 보상 삭제 시 현재 사용 중인 이미지를 지우지 않도록 기존 경로를 트랜잭션 밖에서도 참조
+        AtomicReference<String> previousImageUrlHolder = new AtomicReference<>();
+        ClothesDto updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                String newName = updateRequest.name();
+                ClothesType newType = updateRequest.type();
+
+                // Clothes 조회
+                Clothes clothes = clothesRepository.findById(clothesId)
+                    .orElseThrow(() -> new ClothesNotFoundException());
+
+                // 해당 clothes 객체가 유저의 의상이 맞는지 더블체크
+                if (!clothes.getOwner().getId().equals(ownerId)) {
+                    throw new ClothesOwnerMismatchException();
+                }
 
-        // 속성 업데이트 - 기존에 있는 def면 옵션을 수정, 없으면 새로 추가 (이미 선택된 정의를 제거할 수는 없음)
-        log.debug(SERVICE_NAME + "속성 업데이트 중");
-        attributesUpdate(updateRequest.attributes(), currentAttrs, clothes);
-        clothesRepository.save(clothes);
+                // 의상 이름 업데이트
+                if (!newName.equals(clothes.getName())) {
+                    clothes.updateName(newName);
+                }
 
-        // 기존 이미지 경로 보관
-        String previousImageUrl = clothes.getImageUrl();
+                // 의상 타입 업데이트
+                if (!newType.equals(clothes.getType())) {
+                    clothes.updateType(newType);
+                }
 
-        // 요청 들어온 새 이미지 업로드
-        log.debug(SERVICE_NAME + "S3에 의상 이미지 업로드 요청: {}", clothesImage.getOriginalFilename());
-        String imageUrl = s3ImageStorage.uploadImage(clothesImage, "clothes/");
+                // 현재의 attributes 맵핑
+                Map<UUID, ClothesAttribute> currentAttrs = currentAttrsMapping(clothes);
 
-        // 엔티티 반영 및 저장
-        clothes.updateImageUrl(imageUrl);
-        Clothes saved = clothesRepository.save(clothes);
+                // 속성 업데이트 - 기존에 있는 def면 옵션을 수정, 없으면 새로 추가 (이미 선택된 정의를 제거할 수는 없음)
+                log.debug(SERVICE_NAME + "속성 업데이트 중");
+                attributesUpdate(updateRequest.attributes(), currentAttrs, clothes);
 
-        // 기존 이미지 삭제 (실패해도 흐름 지속)
-        if (previousImageUrl != null) {
-            try {
-                s3ImageStorage.deleteImage(previousImageUrl);
-            } catch (Exception e) {
-                log.warn(SERVICE_NAME + "이전 이미지 삭제 실패 - url: {}, err: {}", previousImageUrl, e.getMessage(), e);
+                // 기존 이미지 경로 보관
+                String previousImageUrl = clothes.getImageUrl();
+                previousImageUrlHolder.set(previousImageUrl);
+
+                // 엔티티 반영 및 저장
+                clothes.updateImageUrl(imageUrl);
+                Clothes saved = clothesRepository.save(clothes);
+
+                // 기존 이미지 삭제 (커밋 이후 처리, 실패해도 흐름 지속). 같은 이미지로 다시 저장한 경우는 제외
+                if (previousImageUrl != null && !Objects.equals(previousImageUrl, imageUrl)) {
+                    eventPublisher.publishEvent(new ImageDeleteEvent(previousImageUrl));
+                }
+
+                return clothesMapper.toClothesDto(saved);
+            });
+        } catch (RuntimeException e) {
+            if (!Objects.equals(previousImageUrlHolder.get(), imageUrl)) {
+                publishCompensatingDelete(imageUrl, e);
             }
+            throw e;
         }
 
-        return clothesMapper.toClothesDto(saved);
+        // 커밋 전에 변형 이미지 생성이 끝났다면 완료 표시를 다시 요청
+        s3ImageStorage.publishVariantsReadyIfGenerated(imageUrl);
+        return updated;
     }
 
     // 삭제 기능
@@ -254,13 +317,9 @@ public class ClothesServiceImpl implements ClothesService {
         // 의상 삭제
         clothesRepository.delete(clothes);
 
-        // 의상 이미지 삭제
+        // 의상 이미지 삭제 (커밋 이후 비동기 처리)
         if (previousImageUrl != null) {
-            try {
-                s3ImageStorage.deleteImage(previousImageUrl);
-            } catch (Exception e) {
-                log.warn(SERVICE_NAME + "의상 이미지 삭제 실패 - url: {}, err: {}", previousImageUrl, e.getMessage(), e);
-            }
+            eventPublisher.publishEvent(new ImageDeleteEvent(previousImageUrl));
         }
     }
 
@@ -310,6 +369,16 @@ public class ClothesServiceImpl implements ClothesService {
 
     // ===== 공통 로직 메서드 ===== //
 
+    // DB 작업 실패 후 업로드된 이미지의 보상 삭제를 요청한다. 요청이 거절되어도 원래 예외가 클라이언트에 전달되도록 삼키고 URL 을 남긴다.
+    private void publishCompensatingDelete(String imageUrl, RuntimeException cause) {
+        try {
+            eventPublisher.publishEvent(new ImageDeleteEvent(imageUrl));
+        } catch (TaskRejectedException rejected) {
+            log.error(SERVICE_NAME + "보상 삭제 요청 거절, 고아 이미지 정리 필요 - url: {}", imageUrl, rejected);
+            cause.addSuppressed(rejected);
+        }
+    }
+
     /**
      *
      * 1. 요청받은 dto에서 선택한 속성 값으로 def 객체를 조회하고 attribute 객체와 연관관계를 세팅함
@@ -318,14 +387,16 @@ public class ClothesServiceImpl implements ClothesService {
     void process(List<ClothesAttributeDto> attributes, Clothes clothes, List<ClothesAttributeWithDefDto> clothesAttributeWithDefDtoList) {
         // Attributes 처리
         if (attributes != null) {
+            // 요청된 모든 def 를 옵션과 함께 한 번에 조회
+            Map<UUID, ClothesAttributeDef> definitions = resolveDefinitions(attributes);
+            Map<UUID, Set<String>> optionValues = optionValuesByDefinition(definitions);
+
             for (ClothesAttributeDto dto : attributes) {
                 log.debug(SERVICE_NAME + "Attribute 처리와 ClothesAttributeWithDefDto 생성을 위한 반복문");
                 log.debug(SERVICE_NAME + "{} 에서 현재 위치: {}", attributes, dto);
-                // def 객체 조회
-                ClothesAttributeDef definition = defRepository.findById(dto.definitionId())
-                    .orElseThrow(() -> new ClothesAttributeDefNotFoundException());
+                ClothesAttributeDef definition = definitions.get(dto.definitionId());
 
-                attributeValid(definition, dto.value());
+                attributeValid(dto.definitionId(), optionValues.get(dto.definitionId()), dto.value());
 
                 ClothesAttribute attribute = ClothesAttribute.createClothesAttribute(definition, dto.value());
 
@@ -348,14 +419,45 @@ public class ClothesServiceImpl implements ClothesService {
 
     /**
      *
-     * 들어온 옵션이 정의에 존재하는지 확인하는 메서드
+     * 요청된 속성들의 def 를 옵션과 함께 한 번의 쿼리로 조회해 id 기준 맵으로 반환하는 메서드
+     * 하나라도 존재하지 않으면 ClothesAttributeDefNotFoundException 발생
+     */
+    Map<UUID, ClothesAttributeDef> resolveDefinitions(List<ClothesAttributeDto> attributes) {
+        Set<UUID> definitionIds = attributes.stream()
+            .map(ClothesAttributeDto::definitionId)
+            .collect(Collectors.toSet());
+
+        Map<UUID, ClothesAttributeDef> definitions = defRepository.findAllWithOptionsByIdIn(definitionIds).stream()
+            .collect(Collectors.toMap(ClothesAttributeDef::getId, Function.identity()));
+
+        if (definitions.size() != definitionIds.size()) {
+            log.warn(SERVICE_NAME + "존재하지 않는 속성 정의 포함: 요청 {}개, 조회 {}개", definitionIds.size(), definitions.size());
+            throw new ClothesAttributeDefNotFoundException();
+        }
+        return definitions;
+    }
+
+    /**
+     *
+     * 조회한 def 별 옵션 값 Set 을 요청당 한 번만 만들어 반환하는 메서드
+     */
+    Map<UUID, Set<String>> optionValuesByDefinition(Map<UUID, ClothesAttributeDef> definitions) {
+        return definitions.values().stream()
+            .collect(Collectors.toMap(
+                ClothesAttributeDef::getId,
+                definition -> definition.getOptions().stream()
+                    .map(ClothesAttributeOption::getValue)
+                    .collect(Collectors.toSet())
+            ));
+    }
+
+    /**
+     *
+     * 들어온 옵션이 정의에 존재하는지 확인하는 메서드 (옵션 값 Set 으로 해시 조회)
      */
-    void attributeValid(ClothesAttributeDef definition, String value) {
-        boolean valid = definition.getOptions().stream()
-            .map(ClothesAttributeOption::getValue)
-            .anyMatch(v -> v.equals(value));
-        if (!valid) {
-            log.warn(SERVICE_NAME + "정의에 없는 속성 값: defId: {}, value: {}", definition.getId(), value);
+    void attributeValid(UUID definitionId, Set<String> optionValues, String value) {
+        if (!optionValues.contains(value)) {
+            log.warn(SERVICE_NAME + "정의에 없는 속성 값: defId: {}, value: {}", definitionId, value);
             throw new IllegalArgumentException("정의된 옵션에 없는 속성 값입니다.");
         }
     }
@@ -377,6 +479,19 @@ public class ClothesServiceImpl implements ClothesService {
     void attributesUpdate(List<ClothesAttributeDto> attributes, Map<UUID, ClothesAttribute> currentAttrs, Clothes clothes) {
         if (attributes != null) {
             log.debug(SERVICE_NAME + "속성 업데이트 시작");
+
+            // 새로 추가되거나 값이 바뀌는 속성의 def 만 옵션과 함께 한 번에 조회 (기존 속성의 def 를 지연 로딩하지 않음)
+            List<ClothesAttributeDto> changedAttributes = attributes.stream()
+                .filter(dto -> {
+                    ClothesAttribute existing = currentAttrs.get(dto.definitionId());
+                    return existing == null || !existing.getValue().equals(dto.value());
+                })
+                .toList();
+            Map<UUID, ClothesAttributeDef> definitions = changedAttributes.isEmpty()
+                ? Map.of()
+                : resolveDefinitions(changedAttributes);
+            Map<UUID, Set<String>> optionValues = optionValuesByDefinition(definitions);
+
             for (ClothesAttributeDto dto : attributes) {
                 // 이미 존재하는 속성 뽑기
                 ClothesAttribute existing = currentAttrs.get(dto.definitionId());
@@ -385,7 +500,7 @@ public class ClothesServiceImpl implements ClothesService {
                 if (existing != null) {
                     log.debug(SERVICE_NAME + "기존에 선택된 속성입니다. 옵션값을 수정합니다.");
                     if (!existing.getValue().equals(dto.value())) {
-                        attributeValid(existing.getDefinition(), dto.value());
+                        attributeValid(dto.definitionId(), optionValues.get(dto.definitionId()), dto.value());
 
                         existing.updateValue(dto.value());
                     }
@@ -393,10 +508,9 @@ public class ClothesServiceImpl implements ClothesService {
                 // 새로운 속성이면 -> 추가
                 else {
                     log.debug(SERVICE_NAME + "새로 추가되는 속성을 생성합니다.");
-                    ClothesAttributeDef definition = defRepository.findById(dto.definitionId())
-                        .orElseThrow(() -> new ClothesAttributeDefNotFoundException());
+                    ClothesAttributeDef definition = definitions.get(dto.definitionId());
 
-                    attributeValid(definition, dto.value());
+                    attributeValid(dto.definitionId(), optionValues.get(dto.definitionId()), dto.value());
 
                     ClothesAttribute newAttr = ClothesAttribute.createClothesAttribute(definition, dto.value());
                     clothes.addAttribute(newAttr);
@@ -1,23 +1,39 @@
 package com.samsamotot.otboo.clothes.util;
 
 import com.samsamotot.otboo.clothes.exception.ClothesExtractionFailedException;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.InetAddress;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.UnknownHostException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ClothesExtractHelper {
     private static final String SERVICE_NAME = "[ClothesExtractHelper] ";
 
@@ -48,15 +64,32 @@ public class ClothesExtractHelper {
         "0."    // 0.0.0.0/8 - 예약됨
     );
 
-    private static final OkHttpClient HTTP_CLIENT = new OkHttpClient.Builder()
-        .connectTimeout(10, java.util.concurrent.TimeUnit.SECONDS)
-        .readTimeout(10, java.util.concurrent.TimeUnit.SECONDS)
-        .writeTimeout(10, java.util.concurrent.TimeUnit.SECONDS)
-        .build();
+    // 상품과 무관한 유입 추적용 쿼리 파라미터 (캐시 키에서 제외)
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+        "fbclid", "gclid", "igshid", "ref", "referrer", "NaPm", "n_media", "n_query", "n_rank", "n_ad_group", "n_ad"
+    );
+    private static final List<String> TRACKING_PARAM_PREFIXES = List.of("utm_", "nt_", "nv_ad");
+
+    // 이미지 다운로드와 커넥션 풀을 공유하는 추출용 클라이언트 (OkHttpConfig)
+    private final OkHttpClient extractionHttpClient;
+
+    // 상품 페이지 요청 시 따라갈 최대 리다이렉트 횟수
+    private static final int MAX_REDIRECTS = 5;
 
-    // 에이블리처럼 Cloudflare 보호가 있는 사이트는 Jsoup.connect()만으로는 안 됨 (403 뜸)
-    // Jsoup 대신 쿠키/헤더/Referer까지 세팅해서 HTTP 클라이언트(OkHttp / Jsoup+Cookies) 로 접근하기
-    public String fetchHtml(String url) throws IOException {
+    // 상품 페이지는 수 MB 에 달하기도 하므로 본문은 이 크기까지만 읽는다
+    @Value("${clothes.extraction.html.max-bytes:1048576}")
+    private long maxHtmlBytes;
+
+    /**
+     * 상품 페이지 본문을 문자열로 모으지 않고 스트림으로 연다.
+     * 에이블리처럼 Cloudflare 보호가 있는 사이트는 Jsoup.connect()만으로는 안 되므로(403)
+     * 헤더/Referer 까지 세팅한 OkHttp 로 요청한다.
+     * 본문은 {@code clothes.extraction.html.max-bytes} 까지만 읽히며, 호출자가 필요한 값을 찾는 즉시
+     * Reader 를 닫으면 나머지 본문은 내려받지 않는다.
+     *
+     * @return 응답 본문 Reader (닫으면 HTTP 응답도 함께 닫힘)
+     */
+    public Reader openHtml(String url) throws IOException {
         Request request = new Request.Builder()
             .url(url)
             .header("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)")
@@ -65,11 +98,113 @@ public class ClothesExtractHelper {
             .header("Accept-Language", "ko,en;q=0.9")
             .build();
 
-        try (Response response = HTTP_CLIENT.newCall(request).execute()) {
-            if (!response.isSuccessful())
+        // 공용 클라이언트는 리다이렉트를 따라가지 않으므로, 이동할 주소를 매번 검증한 뒤 직접 따라간다
+        Response response = extractionHttpClient.newCall(request).execute();
+        for (int redirects = 0; isRedirectResponse(response.code()); redirects++) {
+            HttpUrl location = response.header("Location") == null
+                ? null
+                : response.request().url().resolve(response.header("Location"));
+            response.close();
+            if (location == null || redirects >= MAX_REDIRECTS) {
                 throw new IOException("HTTP error: " + response.code());
-            return response.body().string();
+            }
+            validate(location.toString());
+            response = extractionHttpClient.newCall(request.newBuilder().url(location).build()).execute();
+        }
+
+        if (!response.isSuccessful()) {
+            response.close();
+            throw new IOException("HTTP error: " + response.code());
         }
+
+        ResponseBody body = response.body();
+        MediaType mediaType = body.contentType();
+        Charset charset = mediaType != null ? mediaType.charset(StandardCharsets.UTF_8) : StandardCharsets.UTF_8;
+        return new InputStreamReader(new LimitedInputStream(body.byteStream(), maxHtmlBytes), charset);
+    }
+
+    /**
+     * 상한까지만 읽고 이후에는 본문 끝(-1)을 돌려주는 InputStream
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+    }
+
+    /**
+     * 추출 결과 캐시 키로 사용할 정규화된 상품 URL 을 만든다.
+     * 스킴/호스트 대소문자, www 접두사, 기본 포트, 프래그먼트, 끝 슬래시, 추적용 파라미터를 제거하고
+     * 나머지 쿼리 파라미터는 이름순으로 정렬한다.
+     *
+     * @param urlString {@link #validate(String)} 를 통과한 URL
+     * @return 같은 상품을 가리키는 링크라면 같은 값
+     */
+    public String canonicalize(String urlString) {
+        URI uri = URI.create(urlString.trim());
+
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (host.startsWith("www.")) {
+            host = host.substring("www.".length());
+        }
+
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        StringBuilder canonical = new StringBuilder("https://").append(host).append(path);
+
+        String query = uri.getRawQuery();
+        if (query != null && !query.isBlank()) {
+            String filtered = Arrays.stream(query.split("&"))
+                .filter(param -> !param.isBlank() && !isTrackingParam(param.split("=", 2)[0]))
+                .sorted()
+                .collect(Collectors.joining("&"));
+            if (!filtered.isEmpty()) {
+                canonical.append('?').append(filtered);
+            }
+        }
+        return canonical.toString();
+    }
+
+    private boolean isTrackingParam(String name) {
+        if (TRACKING_PARAMS.contains(name)) {
+            return true;
+        }
+        for (String prefix : TRACKING_PARAM_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
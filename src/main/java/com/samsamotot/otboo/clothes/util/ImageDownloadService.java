@@ -1,17 +1,21 @@
 package com.samsamotot.otboo.clothes.util;
 
 import com.samsamotot.otboo.common.storage.S3ImageStorage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @Service
@@ -21,57 +25,44 @@ public class ImageDownloadService {
 
     private final S3ImageStorage s3ImageStorage;
     private final ClothesExtractHelper clothesExtractHelper;
+    private final OkHttpClient extractionHttpClient;
 
     @Async("imageTaskExecutor")
     public CompletableFuture<String> downloadAndUploadAsync(String imageUrl, String folderPath) {
-        int CONNECT_TIMEOUT_VALUE = 5000;
-        int READ_TIMEOUT_VALUE = 10000;
-
         try {
             // URL 검증 먼저 진행
             clothesExtractHelper.validate(imageUrl);
 
-            HttpURLConnection conn = (HttpURLConnection) new URL(imageUrl).openConnection();
-            conn.setConnectTimeout(CONNECT_TIMEOUT_VALUE);
-            conn.setReadTimeout(READ_TIMEOUT_VALUE);
-            conn.setInstanceFollowRedirects(false);
-
-            // 응답 코드 검증 (리다이렉트 차단)
-            int responseCode = conn.getResponseCode();
-            if (clothesExtractHelper.isRedirectResponse(responseCode)) {
-                throw new IOException("리다이렉트는 허용되지 않습니다: " + responseCode);
-            }
-            if (responseCode != 200) {
-                throw new IOException("유효하지 않은 응답 코드: " + responseCode);
-            }
-
-            // Content-Type 검증 사전 수행
-            String contentType = conn.getContentType();
-            if (contentType == null ||
-                (!contentType.startsWith("image/jpeg") &&
-                    !contentType.startsWith("image/png") &&
-                    !contentType.startsWith("image/webp"))) {
-                throw new IOException("지원하지 않는 Content-Type: " + contentType);
-            }
-
-            try (InputStream in = conn.getInputStream()) {
-                final int MAX_BYTES = 5 * 1024 * 1024; // 5MB
-                byte[] buf = new byte[8192];
-                int n, total = 0;
-                ByteArrayOutputStream out = new ByteArrayOutputStream();
+            // 추출 전용 공용 클라이언트로 요청 (같은 CDN 호스트는 keep-alive 커넥션 재사용, 리다이렉트는 따라가지 않음)
+            Request request = new Request.Builder()
+                .url(imageUrl)
+                .header("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)")
+                .build();
+
+            String ext;
+            String finalContentType;
+            Path tempFile;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (Response response = extractionHttpClient.newCall(request).execute()) {
+                // 응답 코드 검증 (리다이렉트 차단)
+                int responseCode = response.code();
+                if (clothesExtractHelper.isRedirectResponse(responseCode)) {
+                    throw new IOException("리다이렉트는 허용되지 않습니다: " + responseCode);
+                }
+                if (responseCode != 200) {
+                    throw new IOException("유효하지 않은 응답 코드: " + responseCode);
+                }
 
-                while ((n = in.read(buf)) != -1) {
-                    total += n;
-                    if (total > MAX_BYTES) {
-                        throw new IOException("이미지 크기 초과: " + total + " bytes");
-                    }
-                    out.write(buf, 0, n);
+                // Content-Type 검증 사전 수행
+                String contentType = response.header("Content-Type");
+                if (contentType == null ||
+                    (!contentType.startsWith("image/jpeg") &&
+                        !contentType.startsWith("image/png") &&
+                        !contentType.startsWith("image/webp"))) {
+                    throw new IOException("지원하지 않는 Content-Type: " + contentType);
                 }
-                byte[] bytes = out.toByteArray();
 
                 // 확장자 결정
-                String ext;
-
                 // Content-Type 기반으로 우선 추출
                 if (contentType.equalsIgnoreCase("image/jpeg")) {
                     ext = "jpg";
@@ -83,21 +74,37 @@ public class ImageDownloadService {
                     ext = "bin";
                 }
 
-                String finalContentType = ("bin".equals(ext)) ? "application/octet-stream" : ("image/" + ("jpg".equals(ext) ? "jpeg" : ext));
-
-                MultipartFile file = new SimpleMultipartFile(
-                    "file",
-                    "downloaded." + ext,
-                    finalContentType,
-                    bytes
-                );
+                finalContentType = ("bin".equals(ext)) ? "application/octet-stream" : ("image/" + ("jpg".equals(ext) ? "jpeg" : ext));
+
+                // 힙에 버퍼링하지 않고 고정 크기 버퍼로 임시 파일에 기록 (크기 상한 검사 포함)
+                // 기록하면서 내용 해시를 계산해 같은 이미지는 한 번만 저장한다
+                tempFile = S3ImageStorage.createTempFile();
+                try (InputStream in = response.body().byteStream();
+                     OutputStream out = Files.newOutputStream(tempFile)) {
+                    final int MAX_BYTES = 5 * 1024 * 1024; // 5MB
+                    byte[] buf = new byte[8192];
+                    int n, total = 0;
+
+                    while ((n = in.read(buf)) != -1) {
+                        total += n;
+                        if (total > MAX_BYTES) {
+                            throw new IOException("이미지 크기 초과: " + total + " bytes");
+                        }
+                        out.write(buf, 0, n);
+                        digest.update(buf, 0, n);
+                    }
+                } catch (IOException e) {
+                    S3ImageStorage.deleteTempFile(tempFile);
+                    throw e;
+                }
+            }
 
-                // 업로드
-                String s3Url = s3ImageStorage.uploadImage(file, folderPath);
+            // 업로드 (임시 파일은 저장소가 정리, 같은 해시의 객체가 있으면 재사용)
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            String s3Url = s3ImageStorage.uploadImageIfAbsent(tempFile, finalContentType, "downloaded." + ext, folderPath, contentHash);
 
-                log.info(SERVICE_NAME + "UPLOAD SUCCESS: {} → {}", imageUrl, s3Url);
-                return CompletableFuture.completedFuture(s3Url);
-            }
+            log.info(SERVICE_NAME + "UPLOAD SUCCESS: {} → {}", imageUrl, s3Url);
+            return CompletableFuture.completedFuture(s3Url);
 
         } catch (Exception e) {
             log.error(SERVICE_NAME + "UPLOAD FAILED: {}, errorMessage: ({})", imageUrl, e.getMessage());
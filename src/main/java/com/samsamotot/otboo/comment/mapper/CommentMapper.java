@@ -2,6 +2,7 @@ package com.samsamotot.otboo.comment.mapper;
 
 import com.samsamotot.otboo.comment.dto.CommentDto;
 import com.samsamotot.otboo.comment.entity.Comment;
+import com.samsamotot.otboo.user.dto.AuthorDto;
 import com.samsamotot.otboo.user.mapper.UserMapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -12,4 +13,9 @@ public interface CommentMapper {
     @Mapping(source = "author", target = "author",  qualifiedByName = "toAuthorDto")
     @Mapping(source = "feed.id", target = "feedId")
     CommentDto toDto(Comment comment);
+
+    // 작성자 정보를 이미 조회한 경우 (작성자/피드 프록시를 초기화하지 않음)
+    @Mapping(source = "author", target = "author")
+    @Mapping(source = "comment.feed.id", target = "feedId")
+    CommentDto toDto(Comment comment, AuthorDto author);
 }
@@ -10,11 +10,11 @@ import com.samsamotot.otboo.common.dto.CursorResponse;
 import com.samsamotot.otboo.common.exception.ErrorCode;
 import com.samsamotot.otboo.common.exception.OtbooException;
 import com.samsamotot.otboo.common.type.SortDirection;
-import com.samsamotot.otboo.feed.dto.event.FeedSyncEvent;
+import com.samsamotot.otboo.feed.dto.event.FeedCommentCountChangedEvent;
 import com.samsamotot.otboo.feed.entity.Feed;
 import com.samsamotot.otboo.feed.repository.FeedRepository;
 import com.samsamotot.otboo.notification.dto.event.CommentCreatedEvent;
-import com.samsamotot.otboo.user.entity.User;
+import com.samsamotot.otboo.user.dto.AuthorDto;
 import com.samsamotot.otboo.user.repository.UserRepository;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
@@ -62,14 +62,16 @@ public class CommentServiceImpl implements CommentService {
 
         log.debug(SERVICE + "댓글 생성 시작: authorId = {}, feedId = {}", authorId, feedId);
 
-        User user = userRepository.findById(authorId)
+        AuthorDto author = userRepository.findAuthorById(authorId)
             .orElseThrow(() -> new OtbooException(ErrorCode.USER_NOT_FOUND));
-        Feed feed = feedRepository.findByIdAndIsDeletedFalse(feedId)
-            .orElseThrow(() -> new OtbooException(ErrorCode.FEED_NOT_FOUND));
+        if (!feedRepository.existsByIdAndIsDeletedFalse(feedId)) {
+            throw new OtbooException(ErrorCode.FEED_NOT_FOUND);
+        }
 
+        // 작성자/피드는 외래 키만 필요하므로 엔티티를 로딩하지 않고 참조 프록시로 연결
         Comment comment = Comment.builder()
-            .author(user)
-            .feed(feed)
+            .author(userRepository.getReferenceById(authorId))
+            .feed(feedRepository.getReferenceById(feedId))
             .content(content)
             .build();
 
@@ -77,10 +79,10 @@ public class CommentServiceImpl implements CommentService {
 
         feedRepository.incrementCommentCount(feedId); // 댓글 수 증가
 
-        CommentDto result = commentMapper.toDto(saved);
+        CommentDto result = commentMapper.toDto(saved, author);
 
-        // ElasticSearch 피드 동기화 이벤트 발행
-        eventPublisher.publishEvent(new FeedSyncEvent(feedId));
+        // ElasticSearch 에는 변경된 댓글 수만 반영
+        eventPublisher.publishEvent(new FeedCommentCountChangedEvent(feedId, 1));
 
         log.debug(SERVICE + "댓글 생성 완료: commentId = {}", saved.getId());
 
@@ -1,8 +1,13 @@
 package com.samsamotot.otboo.common.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,7 +21,10 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -25,29 +33,69 @@ import org.springframework.security.core.context.SecurityContextHolder;
 public class AsyncConfig implements AsyncConfigurer {
 
     private static final String CONFIG = "[AsyncConfig] ";
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
 
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    /**
+     * 풀과 큐가 모두 가득 찼을 때의 처리 방식
+     */
+    public enum OverloadPolicy {
+        /** 제출한 스레드(Tomcat, Kafka 등)에서 직접 실행 */
+        CALLER_RUNS,
+        /**
+         * 큐에 자리가 날 때까지 defer-timeout-ms 동안 기다린 뒤, 그래도 없으면 거절.
+         * 제출한 스레드가 그동안 멈추므로 배치/스케줄러 스레드에서만 제출되는 풀에 사용합니다.
+         */
+        DEFER,
+        /** 즉시 거절 (TaskRejectedException) */
+        SHED
+    }
+
     /**
      * 스레드 풀 실행자를 생성하는 공통 메소드입니다.
      *
+     * <p>큐 대기 수/활성 스레드 수는 Spring Boot Actuator 가 ThreadPoolTaskExecutor 빈을 자동으로
+     * {@code executor.*} 메트릭으로 노출하며, 여기서는 같은 {@code name} 태그로 다음 메트릭을 추가합니다.</p>
+     * <ul>
+     *   <li>{@code executor.task.wait} - 제출부터 실행 시작까지 큐에서 기다린 시간</li>
+     *   <li>{@code executor.task.execution} - 작업 실행 시간</li>
+     *   <li>{@code executor.overload} - 포화 시 처리 결과 (outcome: caller_runs, deferred, rejected)</li>
+     * </ul>
+     *
      * @param core 코어 스레드 수
      * @param max 최대 스레드 수
      * @param queue 큐 용량
      * @param keepAlive 유휴 스레드 유지 시간 (초)
      * @param prefix 스레드 이름 접두사
+     * @param name 메트릭 name 태그 (Actuator 가 빈 이름에서 TaskExecutor 를 뗀 이름과 동일)
+     * @param virtualThreads 플랫폼 스레드 대신 가상 스레드 사용 여부 (Java 21 이상 런타임 필요)
+     * @param policy 포화 시 처리 방식
+     * @param deferTimeoutMs DEFER 정책에서 큐 자리를 기다리는 최대 시간 (밀리초)
      * @return 구성된 ThreadPoolTaskExecutor
      * @throws IllegalArgumentException 잘못된 설정값이 제공된 경우
+     * @throws IllegalStateException 가상 스레드를 지원하지 않는 런타임에서 가상 스레드를 사용하려는 경우
      */
-    private ThreadPoolTaskExecutor buildExecutor(int core, int max, int queue, int keepAlive, String prefix) {
+    private ThreadPoolTaskExecutor buildExecutor(int core, int max, int queue, int keepAlive, String prefix,
+                                                 String name, boolean virtualThreads,
+                                                 OverloadPolicy policy, long deferTimeoutMs) {
 
-        if (core <= 0 || max <= 0 || queue < 0 || keepAlive < 0) {
+        if (core <= 0 || max <= 0 || queue < 0 || keepAlive < 0 || deferTimeoutMs < 0) {
             throw new IllegalArgumentException("ThreadPool 설정값은 양수여야 합니다.");
         }
         if (core > max) {
             throw new IllegalArgumentException("Core Pool Size는 Max Pool Size보다 클 수 없습니다.");
         }
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException(
+                "가상 스레드는 Java 21 이상에서만 사용할 수 있습니다. (" + prefix + ", 현재 " + Runtime.version().feature() + ")");
+        }
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
 
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
@@ -56,14 +104,19 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setQueueCapacity(queue);
         executor.setKeepAliveSeconds(keepAlive);
         executor.setThreadNamePrefix(prefix + "-");
+        // 가상 스레드여도 풀 크기(max)가 곧 외부 API 동시 호출 상한이 되도록 ThreadPoolExecutor 구조는 유지
+        executor.setVirtualThreads(virtualThreads);
 
-        executor.setTaskDecorator(new SecurityContextTaskDecorator());
+        executor.setTaskDecorator(new InstrumentedTaskDecorator(new SecurityContextTaskDecorator(), registry, name));
 
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setRejectedExecutionHandler(new OverloadPolicyHandler(policy, deferTimeoutMs, registry, name));
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
         executor.initialize();
 
+        log.info(CONFIG + "{} 실행자 생성 - core: {}, max: {}, queue: {}, 가상 스레드: {}, 포화 정책: {}",
+            name, core, max, queue, virtualThreads, policy);
+
         return executor;
     }
 
@@ -84,6 +137,8 @@ public class AsyncConfig implements AsyncConfigurer {
      * @param max 최대 스레드 수 (기본값: 4)
      * @param queue 큐 용량 (기본값: 100)
      * @param keepAlive 유휴 스레드 유지 시간 (기본값: 60초)
+     * @param policy 포화 시 처리 방식 (기본값: CALLER_RUNS)
+     * @param deferTimeoutMs DEFER 정책의 최대 대기 시간 (기본값: 0ms)
      * @return 메인 작업용 ThreadPoolTaskExecutor
      */
     @Bean(name = "mainTaskExecutor")
@@ -91,9 +146,11 @@ public class AsyncConfig implements AsyncConfigurer {
             @Value("${async.executors.main.core-size:2}") int core,
             @Value("${async.executors.main.max-size:4}") int max,
             @Value("${async.executors.main.queue-capacity:100}") int queue,
-            @Value("${async.executors.main.keep-alive-seconds:60}") int keepAlive
+            @Value("${async.executors.main.keep-alive-seconds:60}") int keepAlive,
+            @Value("${async.executors.main.overload-policy:CALLER_RUNS}") OverloadPolicy policy,
+            @Value("${async.executors.main.defer-timeout-ms:0}") long deferTimeoutMs
     ) {
-        return buildExecutor(core, max, queue, keepAlive, "main-exec");
+        return buildExecutor(core, max, queue, keepAlive, "main-exec", "main", false, policy, deferTimeoutMs);
     }
 
     /**
@@ -103,6 +160,9 @@ public class AsyncConfig implements AsyncConfigurer {
      * @param max 최대 스레드 수 (기본값: 4)
      * @param queue 큐 용량 (기본값: 100)
      * @param keepAlive 유휴 스레드 유지 시간 (기본값: 60초)
+     * @param virtualThreads 가상 스레드 사용 여부 (기본값: false, I/O 대기 위주 작업용)
+     * @param policy 포화 시 처리 방식 (기본값: CALLER_RUNS)
+     * @param deferTimeoutMs DEFER 정책의 최대 대기 시간 (기본값: 0ms)
      * @return 기상청 Open API 데이터 호출 처리용 ThreadPoolTaskExecutor
      */
     @Bean(name = "weatherApiTaskExecutor")
@@ -110,9 +170,12 @@ public class AsyncConfig implements AsyncConfigurer {
             @Value("${async.executors.weather.core-size:2}") int core,
             @Value("${async.executors.weather.max-size:4}") int max,
             @Value("${async.executors.weather.queue-capacity:100}") int queue,
-            @Value("${async.executors.weather.keep-alive-seconds:60}") int keepAlive
+            @Value("${async.executors.weather.keep-alive-seconds:60}") int keepAlive,
+            @Value("${async.executors.weather.virtual-threads:false}") boolean virtualThreads,
+            @Value("${async.executors.weather.overload-policy:CALLER_RUNS}") OverloadPolicy policy,
+            @Value("${async.executors.weather.defer-timeout-ms:0}") long deferTimeoutMs
     ) {
-        return buildExecutor(core, max, queue, keepAlive, "weather-exec");
+        return buildExecutor(core, max, queue, keepAlive, "weather-exec", "weatherApi", virtualThreads, policy, deferTimeoutMs);
     }
 
     /**
@@ -125,6 +188,9 @@ public class AsyncConfig implements AsyncConfigurer {
      * @param max 최대 스레드 수 (기본값: 10)
      * @param queue 큐 용량 (기본값: 100)
      * @param keepAlive 유휴 스레드 유지 시간 (기본값: 60초)
+     * @param virtualThreads 가상 스레드 사용 여부 (기본값: false, I/O 대기 위주 작업용)
+     * @param policy 포화 시 처리 방식 (기본값: CALLER_RUNS)
+     * @param deferTimeoutMs DEFER 정책의 최대 대기 시간 (기본값: 0ms)
      * @return 이미지 다운로드 전용 ThreadPoolTaskExecutor
      */
     @Bean(name = "imageTaskExecutor")
@@ -132,9 +198,66 @@ public class AsyncConfig implements AsyncConfigurer {
         @Value("${async.executors.image.core-size:3}") int core,
         @Value("${async.executors.image.max-size:10}") int max,
         @Value("${async.executors.image.queue-capacity:100}") int queue,
-        @Value("${async.executors.image.keep-alive-seconds:60}") int keepAlive
+        @Value("${async.executors.image.keep-alive-seconds:60}") int keepAlive,
+        @Value("${async.executors.image.virtual-threads:false}") boolean virtualThreads,
+        @Value("${async.executors.image.overload-policy:CALLER_RUNS}") OverloadPolicy policy,
+        @Value("${async.executors.image.defer-timeout-ms:0}") long deferTimeoutMs
     ) {
-        return buildExecutor(core, max, queue, keepAlive, "image-exec");
+        return buildExecutor(core, max, queue, keepAlive, "image-exec", "image", virtualThreads, policy, deferTimeoutMs);
+    }
+
+    /**
+     * 고아 S3 이미지 삭제를 위한 스레드 풀 실행자를 생성합니다.
+     *
+     * <p>삭제 요청이 버려지면 S3 에 고아 객체가 남으므로 업로드/변형 작업(image)과 풀을 분리하고,
+     * 포화 시에도 거절하지 않도록 기본 정책을 CALLER_RUNS 로 둡니다. (제출한 스레드가 직접 삭제하며 자연스럽게 속도 조절)</p>
+     *
+     * @param core 코어 스레드 수 (기본값: 2)
+     * @param max 최대 스레드 수 (기본값: 4)
+     * @param queue 큐 용량 (기본값: 500)
+     * @param keepAlive 유휴 스레드 유지 시간 (기본값: 60초)
+     * @param policy 포화 시 처리 방식 (기본값: CALLER_RUNS)
+     * @param deferTimeoutMs DEFER 정책의 최대 대기 시간 (기본값: 0ms)
+     * @return 이미지 삭제 전용 ThreadPoolTaskExecutor
+     */
+    @Bean(name = "imageDeleteTaskExecutor")
+    public ThreadPoolTaskExecutor imageDeleteTaskExecutor(
+        @Value("${async.executors.image-delete.core-size:2}") int core,
+        @Value("${async.executors.image-delete.max-size:4}") int max,
+        @Value("${async.executors.image-delete.queue-capacity:500}") int queue,
+        @Value("${async.executors.image-delete.keep-alive-seconds:60}") int keepAlive,
+        @Value("${async.executors.image-delete.overload-policy:CALLER_RUNS}") OverloadPolicy policy,
+        @Value("${async.executors.image-delete.defer-timeout-ms:0}") long deferTimeoutMs
+    ) {
+        return buildExecutor(core, max, queue, keepAlive, "image-delete-exec", "imageDelete", false, policy, deferTimeoutMs);
+    }
+
+    /**
+     * 구매 링크 의상 정보 추출(상품 페이지 요청 및 파싱)을 위한 스레드 풀 실행자를 생성합니다.
+     *
+     * <p>외부 쇼핑몰 응답을 기다리는 동안 요청(Tomcat) 스레드를 점유하지 않도록 별도 풀에서 처리하며,
+     * 동시 추출 수는 이 풀의 크기와 큐 용량으로 제한됩니다.</p>
+     *
+     * @param core 코어 스레드 수 (기본값: 2)
+     * @param max 최대 스레드 수 (기본값: 8)
+     * @param queue 큐 용량 (기본값: 50)
+     * @param keepAlive 유휴 스레드 유지 시간 (기본값: 60초)
+     * @param virtualThreads 가상 스레드 사용 여부 (기본값: false, I/O 대기 위주 작업용)
+     * @param policy 포화 시 처리 방식 (기본값: CALLER_RUNS)
+     * @param deferTimeoutMs DEFER 정책의 최대 대기 시간 (기본값: 0ms)
+     * @return 의상 정보 추출 전용 ThreadPoolTaskExecutor
+     */
+    @Bean(name = "extractTaskExecutor")
+    public ThreadPoolTaskExecutor extractTaskExecutor(
+        @Value("${async.executors.extract.core-size:2}") int core,
+        @Value("${async.executors.extract.max-size:8}") int max,
+        @Value("${async.executors.extract.queue-capacity:50}") int queue,
+        @Value("${async.executors.extract.keep-alive-seconds:60}") int keepAlive,
+        @Value("${async.executors.extract.virtual-threads:false}") boolean virtualThreads,
+        @Value("${async.executors.extract.overload-policy:CALLER_RUNS}") OverloadPolicy policy,
+        @Value("${async.executors.extract.defer-timeout-ms:0}") long deferTimeoutMs
+    ) {
+        return buildExecutor(core, max, queue, keepAlive, "extract-exec", "extract", virtualThreads, policy, deferTimeoutMs);
     }
 
     /**
@@ -176,6 +299,106 @@ public class AsyncConfig implements AsyncConfigurer {
             }
         }
     }
+
+    /**
+     * 포화(풀과 큐가 모두 가득 참) 시 설정된 정책에 따라 작업을 처리하는 핸들러입니다.
+     *
+     * <p>거절된 작업은 RejectedExecutionException 으로 제출한 쪽에 알려지며(@Async 호출 시 TaskRejectedException),
+     * AFTER_COMMIT 이벤트 리스너에서는 Spring 이 예외를 로그로 남기고 작업을 버립니다.</p>
+     */
+    private static class OverloadPolicyHandler implements RejectedExecutionHandler {
+
+        private final OverloadPolicy policy;
+        private final long deferTimeoutMs;
+        private final String name;
+        private final Counter callerRuns;
+        private final Counter deferred;
+        private final Counter rejected;
+
+        OverloadPolicyHandler(OverloadPolicy policy, long deferTimeoutMs, MeterRegistry registry, String name) {
+            this.policy = policy;
+            this.deferTimeoutMs = deferTimeoutMs;
+            this.name = name;
+            this.callerRuns = overloadCounter(registry, name, "caller_runs");
+            this.deferred = overloadCounter(registry, name, "deferred");
+            this.rejected = overloadCounter(registry, name, "rejected");
+        }
+
+        private static Counter overloadCounter(MeterRegistry registry, String name, String outcome) {
+            return Counter.builder("executor.overload")
+                .description("실행자 포화 시 처리 결과")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(registry);
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                reject(executor, "종료된 실행자");
+            }
+
+            switch (policy) {
+                case CALLER_RUNS -> {
+                    callerRuns.increment();
+                    task.run();
+                }
+                case DEFER -> {
+                    try {
+                        if (executor.getQueue().offer(task, deferTimeoutMs, TimeUnit.MILLISECONDS)) {
+                            deferred.increment();
+                            return;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    reject(executor, deferTimeoutMs + "ms 대기 후에도 큐 포화");
+                }
+                case SHED -> reject(executor, "큐 포화");
+            }
+        }
+
+        private void reject(ThreadPoolExecutor executor, String reason) {
+            rejected.increment();
+            log.warn(CONFIG + "{} 작업 거절 - {} (active: {}, queued: {})",
+                name, reason, executor.getActiveCount(), executor.getQueue().size());
+            throw new RejectedExecutionException(CONFIG + name + " 작업 거절 - " + reason);
+        }
+    }
+
+    /**
+     * 작업의 큐 대기 시간과 실행 시간을 기록하는 TaskDecorator입니다.
+     */
+    private static class InstrumentedTaskDecorator implements TaskDecorator {
+
+        private final TaskDecorator delegate;
+        private final Timer waitTimer;
+        private final Timer executionTimer;
+
+        InstrumentedTaskDecorator(TaskDecorator delegate, MeterRegistry registry, String name) {
+            this.delegate = delegate;
+            this.waitTimer = Timer.builder("executor.task.wait")
+                .description("작업 제출부터 실행 시작까지의 대기 시간")
+                .tag("name", name)
+                .register(registry);
+            this.executionTimer = Timer.builder("executor.task.execution")
+                .description("작업 실행 시간")
+                .tag("name", name)
+                .register(registry);
+        }
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            Runnable decorated = delegate.decorate(runnable);
+            long submittedAt = System.nanoTime();
+
+            return () -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                executionTimer.record(decorated);
+            };
+        }
+    }
+
     /**
      * SecurityContext를 비동기 스레드에 전파하는 TaskDecorator입니다.
      *
@@ -0,0 +1,110 @@
+package com.samsamotot.otboo.common.config;
+
+import com.samsamotot.otboo.clothes.util.ClothesExtractHelper;
+import com.samsamotot.otboo.clothes.util.ImageDownloadService;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 의상 정보 추출(상품 페이지, 상품 이미지) 외부 요청용 OkHttpClient 설정
+ *
+ * <p>상품 페이지 요청({@link ClothesExtractHelper})과 이미지 다운로드({@link ImageDownloadService})가
+ * 하나의 커넥션 풀을 공유하므로, 같은 쇼핑몰/CDN 호스트로 이어지는 요청은 TCP/TLS 핸드셰이크 없이
+ * keep-alive 커넥션(HTTP/2 협상 시 멀티플렉싱)을 재사용합니다.</p>
+ *
+ * <ul>
+ *   <li>리다이렉트는 따라가지 않음 (SSRF 방어, 3xx 응답은 호출자가 거부)</li>
+ *   <li>호스트별 동시 요청 수 제한 (한 쇼핑몰로 요청이 몰려 차단되는 것을 방지)</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+public class OkHttpConfig {
+    private static final String CONFIG_NAME = "[OkHttpConfig] ";
+
+    @Value("${clothes.extraction.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${clothes.extraction.http.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    @Value("${clothes.extraction.http.call-timeout-ms:30000}")
+    private long callTimeoutMs;
+
+    @Value("${clothes.extraction.http.max-idle-connections:10}")
+    private int maxIdleConnections;
+
+    @Value("${clothes.extraction.http.keep-alive-seconds:300}")
+    private long keepAliveSeconds;
+
+    @Value("${clothes.extraction.http.max-requests-per-host:5}")
+    private int maxRequestsPerHost;
+
+    @Bean
+    public OkHttpClient extractionHttpClient() {
+        log.info(CONFIG_NAME + "추출용 HTTP 클라이언트 생성 - 유휴 커넥션: {}, keep-alive: {}초, 호스트별 동시 요청: {}",
+            maxIdleConnections, keepAliveSeconds, maxRequestsPerHost);
+
+        return new OkHttpClient.Builder()
+            .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
+            .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            .followRedirects(false)
+            .followSslRedirects(false)
+            .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+            .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+            .writeTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+            .callTimeout(callTimeoutMs, TimeUnit.MILLISECONDS)
+            .addInterceptor(new PerHostLimitInterceptor(maxRequestsPerHost, callTimeoutMs))
+            .build();
+    }
+
+    /**
+     * 호스트별 동시 요청 수를 제한하는 인터셉터
+     * OkHttp Dispatcher 의 호스트별 제한은 비동기(enqueue) 호출에만 적용되므로, 동기 호출은 여기서 제한합니다.
+     * 허가는 응답 헤더를 받을 때까지 유지되며, 본문 수신 동시성은 호출 측 Executor 크기로 제한됩니다.
+     */
+    static final class PerHostLimitInterceptor implements Interceptor {
+        private final int maxRequestsPerHost;
+        private final long waitTimeoutMs;
+        private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+        PerHostLimitInterceptor(int maxRequestsPerHost, long waitTimeoutMs) {
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            this.waitTimeoutMs = waitTimeoutMs;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            String host = chain.request().url().host();
+            Semaphore semaphore = permits.computeIfAbsent(host, h -> new Semaphore(maxRequestsPerHost));
+            try {
+                if (!semaphore.tryAcquire(waitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new IOException("호스트 동시 요청 한도 초과: " + host);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("호스트 동시 요청 대기 중 인터럽트: " + host);
+            }
+
+            try {
+                return chain.proceed(chain.request());
+            } finally {
+                semaphore.release();
+            }
+        }
+    }
+}
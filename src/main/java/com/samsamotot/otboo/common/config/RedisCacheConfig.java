@@ -1,6 +1,9 @@
 package com.samsamotot.otboo.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionDto;
 import com.samsamotot.otboo.common.util.CacheNames;
+import com.samsamotot.otboo.profile.dto.ProfileDto;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,6 +19,7 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Slf4j
@@ -26,15 +30,20 @@ public class RedisCacheConfig {
 
     private static final String CONFIG_NAME = "[RedisCacheConfig] ";
 
+    // 타입 지정 캐시의 키 접두사 (이전 형식으로 저장된 값을 읽지 않도록 분리)
+    private static final String TYPED_KEY_PREFIX = "v2:";
+
     /**
      * @Cacheable 어노테이션이 사용할 CacheManager를 설정하고 Bean으로 등록합니다.
+     * 값 타입이 고정된 캐시(profile, weather_daily, recommendation_reason, clothes_extraction)는 타입 정보 없는 Serializer를 사용합니다.
      * @param redisConnectionFactory 스프링이 자동으로 주입해주는 Redis 연결 정보
      * @return 설정이 적용된 RedisCacheManager
      */
     @Bean
     public CacheManager redisCacheManager(
             RedisConnectionFactory redisConnectionFactory,
-            @Qualifier("redisSerializer") GenericJackson2JsonRedisSerializer redisSerializer
+            @Qualifier("redisSerializer") GenericJackson2JsonRedisSerializer redisSerializer,
+            ObjectMapper objectMapper
     ) {
         log.info(CONFIG_NAME + "RedisCacheManager 초기화 시작");
 
@@ -49,12 +58,21 @@ public class RedisCacheConfig {
                 // DB 조회 결과가 null일 경우, 그 null 값을 캐싱하지 않음
                 .disableCachingNullValues();
 
-        // 특정 캐시 그룹별로 다른 TTL 적용하는 Map
+        ObjectMapper compactObjectMapper = RedisSerializers.compactObjectMapper(objectMapper);
+
+        // 특정 캐시 그룹별로 다른 TTL 및 타입 지정 Serializer 적용하는 Map
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        cacheConfigurations.put(CacheNames.WEATHER_DAILY, defaultConfig.entryTtl(Duration.ofHours(24)));
-        cacheConfigurations.put(CacheNames.PROFILE, defaultConfig.entryTtl(Duration.ofMinutes(30)));
+        cacheConfigurations.put(CacheNames.WEATHER_DAILY, typedConfig(defaultConfig,
+                RedisSerializers.typed(compactObjectMapper, Double.class)).entryTtl(Duration.ofHours(24)));
+        cacheConfigurations.put(CacheNames.PROFILE, typedConfig(defaultConfig,
+                RedisSerializers.typed(compactObjectMapper, ProfileDto.class)).entryTtl(Duration.ofMinutes(30)));
+        cacheConfigurations.put(CacheNames.RECOMMENDATION_REASON, typedConfig(defaultConfig,
+                RedisSerializer.string()).entryTtl(Duration.ofHours(6)));
+        cacheConfigurations.put(CacheNames.CLOTHES_EXTRACTION, typedConfig(defaultConfig,
+                RedisSerializers.typed(compactObjectMapper, ClothesExtractionDto.class)).entryTtl(Duration.ofHours(24)));
 
-        log.info(CONFIG_NAME + "캐시 그룹별 TTL 설정: weather_daily(24시간), profile(30분)");
+        log.info(CONFIG_NAME + "캐시 그룹별 TTL 설정: weather_daily(24시간), profile(30분), recommendation_reason(6시간), clothes_extraction(24시간)");
+        log.info(CONFIG_NAME + "타입 지정 Serializer 적용: weather_daily(Double), profile(ProfileDto), recommendation_reason(String), clothes_extraction(ClothesExtractionDto)");
 
         // 최종 CacheManager
         RedisCacheManager cacheManager = RedisCacheManager.RedisCacheManagerBuilder
@@ -66,4 +84,13 @@ public class RedisCacheConfig {
         log.info(CONFIG_NAME + "RedisCacheManager 초기화 완료");
         return cacheManager;
     }
+
+    /**
+     * 값 타입이 고정된 캐시용 설정을 생성합니다. (타입 정보 없는 Serializer + 별도 키 접두사)
+     */
+    private static RedisCacheConfiguration typedConfig(RedisCacheConfiguration base, RedisSerializer<?> valueSerializer) {
+        return base
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer))
+                .computePrefixWith(cacheName -> TYPED_KEY_PREFIX + cacheName + "::");
+    }
 }
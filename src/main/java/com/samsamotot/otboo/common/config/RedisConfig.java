@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.samsamotot.otboo.directmessage.listener.DirectMessageRedisListener;
+import com.samsamotot.otboo.directmessage.relay.DirectMessageRelay;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
 import java.time.Duration;
@@ -21,6 +23,8 @@ import org.springframework.data.redis.connection.lettuce.LettuceClientConfigurat
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -102,21 +106,36 @@ public class RedisConfig {
     }
 
     /**
-     * Redis Pub/Sub 메시지 리스너 컨테이너 (SSE용)
-     * Kafka Fallback용으로 활성화
+     * 값이 문자열/숫자로 고정된 키 그룹(추천 상태, 추천 이유)용 StringRedisTemplate을 등록합니다.
+     * 타입 정보가 포함된 JSON 대신 원시 문자열로 저장하여 INCR 등 Redis 명령과 호환됩니다.
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * Redis Pub/Sub 메시지 리스너 컨테이너
+     * - SSE: Kafka Fallback용 (알림, 알림 이외의 이벤트)
+     * - DM: 이 노드 전용 채널로 중계된 STOMP 메시지 수신
      */
     @Bean
     @Profile("!test")
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            com.samsamotot.otboo.sse.listener.SseRedisMessageListener sseRedisMessageListener) {
+            com.samsamotot.otboo.sse.listener.SseRedisMessageListener sseRedisMessageListener,
+            DirectMessageRedisListener directMessageRedisListener,
+            DirectMessageRelay directMessageRelay) {
 
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
         container.addMessageListener(sseRedisMessageListener, new PatternTopic("sse:notification:*"));
+        container.addMessageListener(sseRedisMessageListener, new PatternTopic("sse:event:*"));
+        container.addMessageListener(directMessageRedisListener, new ChannelTopic(directMessageRelay.nodeChannel()));
 
-        log.info("[Redis SSE Message Listener Container] initialized (Fallback for Kafka)");
+        log.info("[Redis SSE Message Listener Container] initialized (Fallback for Kafka), dm channel: {}",
+            directMessageRelay.nodeChannel());
         return container;
     }
 
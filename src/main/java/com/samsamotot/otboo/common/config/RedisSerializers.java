@@ -0,0 +1,38 @@
+package com.samsamotot.otboo.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 캐시/키 그룹별로 값 타입이 고정된 경우 사용하는 타입 지정 Redis Serializer 모음입니다.
+ * <p>
+ * 기본 redisSerializer(DefaultTyping.EVERYTHING)는 모든 노드에 클래스명을 기록하므로,
+ * 값 타입이 정해진 캐시는 타입 정보 없는 JSON으로 저장해 크기와 (역)직렬화 비용을 줄입니다.
+ * </p>
+ */
+public final class RedisSerializers {
+
+    private RedisSerializers() {
+        throw new AssertionError("RedisSerializers 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    /**
+     * 타입 정보를 기록하지 않는 Redis 전용 ObjectMapper를 생성합니다.
+     */
+    public static ObjectMapper compactObjectMapper(ObjectMapper objectMapper) {
+        ObjectMapper compact = objectMapper.copy();
+        compact.registerModule(new JavaTimeModule());
+        compact.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return compact;
+    }
+
+    /**
+     * 지정한 타입으로만 (역)직렬화하는 Serializer를 생성합니다.
+     */
+    public static <T> RedisSerializer<T> typed(ObjectMapper compactObjectMapper, Class<T> type) {
+        return new Jackson2JsonRedisSerializer<>(compactObjectMapper, type);
+    }
+}
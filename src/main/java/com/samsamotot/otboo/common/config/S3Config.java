@@ -7,7 +7,10 @@ import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 /**
  * S3Client를 Bean으로 등록하는 설정 클래스
@@ -27,6 +30,18 @@ public class S3Config {
     @Value("${otboo.storage.s3.region}")
     private String region;
 
+    // 이 크기를 넘는 업로드는 멀티파트로 나누어 파트를 병렬 전송한다
+    @Value("${otboo.storage.s3.multipart.threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
+    // S3 멀티파트 최소 파트 크기는 5MB
+    @Value("${otboo.storage.s3.multipart.part-size-bytes:5242880}")
+    private long multipartPartSizeBytes;
+
+    // 업로드 하나가 동시에 메모리에 올리는 파트 버퍼의 상한
+    @Value("${otboo.storage.s3.multipart.buffer-bytes:15728640}")
+    private long multipartBufferBytes;
+
     // S3 빈 설정
     @Bean
     public S3Client s3Client() {
@@ -36,4 +51,30 @@ public class S3Config {
             .credentialsProvider(StaticCredentialsProvider.create(credentials))
             .build();
     }
+
+    // 원본 이미지 업로드용 비동기 클라이언트 (임계값 초과 시 멀티파트 업로드)
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+        return S3AsyncClient.builder()
+            .region(Region.of(region))
+            .credentialsProvider(StaticCredentialsProvider.create(credentials))
+            .multipartEnabled(true)
+            .multipartConfiguration(MultipartConfiguration.builder()
+                .thresholdInBytes(multipartThresholdBytes)
+                .minimumPartSizeInBytes(multipartPartSizeBytes)
+                .apiCallBufferSizeInBytes(multipartBufferBytes)
+                .build())
+            .build();
+    }
+
+    // 클라이언트 직접 업로드용 presigned URL 발급기
+    @Bean
+    public S3Presigner s3Presigner() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+        return S3Presigner.builder()
+            .region(Region.of(region))
+            .credentialsProvider(StaticCredentialsProvider.create(credentials))
+            .build();
+    }
 }
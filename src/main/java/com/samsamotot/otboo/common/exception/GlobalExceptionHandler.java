@@ -1,6 +1,7 @@
 package com.samsamotot.otboo.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -158,6 +159,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ErrorCode.INVALID_INPUT_VALUE.getHttpStatus()).body(errorResponse);
     }
 
+    /**
+     * 비동기 실행자 포화로 작업이 거절된 경우 처리
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException e) {
+        log.warn("TaskRejectedException: {}", e.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.SERVER_BUSY);
+        return ResponseEntity.status(ErrorCode.SERVER_BUSY.getHttpStatus()).body(errorResponse);
+    }
+
     /**
      * 잘못된 인수 예외 처리 (IllegalArgumentException)
      */
@@ -7,6 +7,7 @@ import com.samsamotot.otboo.common.oauth2.repository.HttpCookieOAuth2Authorizati
 import com.samsamotot.otboo.common.oauth2.service.OAuth2UserService;
 import com.samsamotot.otboo.common.security.csrf.SpaCsrfTokenRequestHandler;
 import com.samsamotot.otboo.common.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -148,6 +149,8 @@ public class SecurityConfig {
 
             // 요청별 권한 설정
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(CompletableFuture 등)의 재디스패치는 최초 요청에서 이미 인가되었으므로 허용
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                 .requestMatchers(
                     "/",                    // 루트 경로
@@ -0,0 +1,68 @@
+package com.samsamotot.otboo.common.storage;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드된 원본 이미지로부터 생성되는 축소 이미지 종류.
+ * <p>
+ * 변형 이미지는 원본과 같은 경로에 {@code <이름>_<접미사>.jpg} 키로 저장된다.
+ * 변형 생성 대상 원본은 파일명 끝에 {@value #SOURCE_MARKER} 표시가 붙으며,
+ * 표시가 없는 URL(기존 업로드, 외부 URL)은 원본 URL을 그대로 사용한다.
+ * </p>
+ */
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", 200),
+    MEDIUM("medium", 640);
+
+    public static final String SOURCE_MARKER = "_orig";
+
+    private static final Pattern SOURCE_FILE = Pattern.compile("^(.*/)?([^/?#]+)" + SOURCE_MARKER + "\\.[A-Za-z0-9]+$");
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 긴 변 기준 최대 픽셀 수
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 변형 생성 대상 원본의 S3 key 혹은 URL 인지 여부
+     */
+    public static boolean isSource(String keyOrUrl) {
+        return keyOrUrl != null && SOURCE_FILE.matcher(keyOrUrl).matches();
+    }
+
+    /**
+     * 원본 파일명(UUID.ext)에 변형 생성 대상 표시를 붙인다.
+     */
+    public static String markSource(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return fileName.substring(0, dot) + SOURCE_MARKER + fileName.substring(dot);
+    }
+
+    /**
+     * 원본 key 혹은 URL 로부터 변형 이미지의 key 혹은 URL 을 계산한다.
+     * 변형 생성 대상이 아니면 입력값을 그대로 반환한다.
+     */
+    public String of(String sourceKeyOrUrl) {
+        if (sourceKeyOrUrl == null) {
+            return null;
+        }
+        Matcher matcher = SOURCE_FILE.matcher(sourceKeyOrUrl);
+        if (!matcher.matches()) {
+            return sourceKeyOrUrl;
+        }
+        String directory = matcher.group(1) == null ? "" : matcher.group(1);
+        return directory + matcher.group(2) + "_" + suffix + ".jpg";
+    }
+}
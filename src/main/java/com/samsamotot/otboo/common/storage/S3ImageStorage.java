@@ -1,21 +1,50 @@
 package com.samsamotot.otboo.common.storage;
 
+import com.samsamotot.otboo.common.storage.dto.ImageUploadUrlResponse;
+import com.samsamotot.otboo.common.storage.event.ImageDirectUploadedEvent;
+import com.samsamotot.otboo.common.storage.event.ImageUploadedEvent;
+import com.samsamotot.otboo.common.storage.event.ImageVariantsReadyEvent;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 /**
  * S3 버킷에서 이미지를 관리하기 위한 컴포넌트
@@ -26,7 +55,20 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 public class S3ImageStorage {
     private static final String CLASS_NAME = "[S3ImageStorage] ";
 
+    // presigned URL 로 올라온 객체는 확인 전까지 이 경로 아래에 머문다 (확인되지 않은 객체는 주기적으로 정리)
+    static final String DIRECT_UPLOAD_PREFIX = "uploads/";
+
+    // 직접 업로드 허용 Content-Type 과 저장 확장자
+    private static final Map<String, String> DIRECT_UPLOAD_EXTENSIONS = Map.of(
+        "image/jpeg", ".jpg",
+        "image/png", ".png",
+        "image/webp", ".webp"
+    );
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${otboo.storage.s3.bucket}")
     private String bucketName;
@@ -34,8 +76,23 @@ public class S3ImageStorage {
     @Value("${otboo.storage.s3.region}")
     private String region;
 
-    public S3ImageStorage(S3Client s3Client) {
+    @Value("${otboo.storage.s3.presign.expiration-seconds:300}")
+    private long presignExpirationSeconds;
+
+    // multipart 업로드 한도(spring.servlet.multipart.maxFileSize)와 동일하게 맞춘다
+    @Value("${otboo.storage.s3.presign.max-bytes:10485760}")
+    private long presignMaxBytes;
+
+    public S3ImageStorage(
+        S3Client s3Client,
+        S3AsyncClient s3AsyncClient,
+        S3Presigner s3Presigner,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -58,32 +115,100 @@ public class S3ImageStorage {
         if (originalFileName == null || originalFileName.isBlank()) {
             originalFileName = "defaultImage.jpg";
         }
-        String fileName = createFileName(originalFileName);
 
-        // 경로 설정
-        String s3Key = folderPath + fileName;
+        // 요청이 끝나면 업로드 파일이 정리되므로 힙에 올리지 않고 임시 파일로 옮겨둔다
+        Path tempFile;
+        try {
+            tempFile = createTempFile();
+        } catch (IOException e) {
+            log.error(CLASS_NAME + "임시 파일 생성 실패 - 오류: {}", e.getMessage(), e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드 중 오류가 발생했습니다.");
+        }
+        try {
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            deleteTempFile(tempFile);
+            log.error(CLASS_NAME + "이미지 업로드 실패 - 파일명: {}, 오류: {}", originalFileName, e.getMessage(), e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드 중 오류가 발생했습니다.");
+        }
 
-        // 요청 객체 생성
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-            .bucket(bucketName)
-            .key(s3Key)
-            .contentType(file.getContentType())
-            .contentLength(file.getSize())
-            .build();
+        return uploadImage(tempFile, file.getContentType(), originalFileName, folderPath);
+    }
 
+    /**
+     * 디스크에 있는 이미지 파일을 S3에 스트리밍 업로드한다.
+     * 크기가 멀티파트 임계값을 넘으면 비동기 클라이언트가 파트를 나누어 병렬 전송하며,
+     * 업로드 하나가 쓰는 메모리는 파트 버퍼 크기로 제한된다.
+     * <p>
+     * 호출 후 파일의 소유권은 이 컴포넌트로 넘어가며, 업로드(변형 생성 대상이면 변형 생성)가 끝나면 삭제된다.
+     * </p>
+     */
+    public String uploadImage(Path file, String contentType, String originalFileName, String folderPath) {
+        return store(file, contentType, originalFileName, folderPath, UUID.randomUUID().toString(), false);
+    }
+
+    /**
+     * 내용 해시를 파일명으로 사용해 같은 이미지를 한 번만 저장한다.
+     * 같은 객체가 이미 있으면 업로드 없이 기존 URL 을 반환하므로, 이 경로의 객체는 여러 곳에서 공유될 수 있다.
+     * 파일 소유권은 {@link #uploadImage(Path, String, String, String)} 와 같다.
+     */
+    public String uploadImageIfAbsent(Path file, String contentType, String originalFileName, String folderPath, String contentHash) {
+        return store(file, contentType, originalFileName, folderPath, contentHash, true);
+    }
+
+    private String store(
+        Path file,
+        String contentType,
+        String originalFileName,
+        String folderPath,
+        String baseName,
+        boolean skipIfExists
+    ) {
+        boolean handedOver = false;
         try {
-            s3Client.putObject(
-                putObjectRequest,
-                RequestBody.fromInputStream(file.getInputStream(), file.getSize())
-            );
+            // 폴더 경로 검증
+            if (folderPath == null || folderPath.isBlank()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "S3 업로드 경로(folderPath)가 비어있습니다.");
+            }
+
+            String fileName = baseName.concat(getFileExtension(originalFileName));
+
+            // JDK 로 디코딩 가능한 이미지만 변형(썸네일/중간 크기) 생성 대상으로 표시
+            boolean withVariants = ImageResizer.isDecodable(file);
+            if (withVariants) {
+                fileName = ImageVariant.markSource(fileName);
+            }
+
+            // 경로 설정
+            String s3Key = folderPath + fileName;
+
+            // 같은 내용의 객체가 이미 있으면 재사용 (변형 이미지도 함께 생성되어 있음)
+            if (skipIfExists && objectExists(s3Key)) {
+                log.info(CLASS_NAME + "동일한 이미지가 이미 존재하여 업로드 생략 - 경로: {}", s3Key);
+                return generatePublicUrl(s3Key);
+            }
+
+            // 요청 객체 생성
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(contentType)
+                .contentLength(Files.size(file))
+                .build();
 
+            s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromFile(file)).join();
             log.info(CLASS_NAME + "이미지 업로드 성공 - 경로: {}", s3Key);
 
+            if (withVariants) {
+                handedOver = publishVariantEvent(new ImageUploadedEvent(s3Key, file), s3Key);
+            }
+
             // 업로드된 객체의 공개 URL 반환
             return generatePublicUrl(s3Key);
 
-        } catch (S3Exception | SdkClientException e) {
-            log.error(CLASS_NAME + "S3 업로드 실패 - 경로: {}, 오류: {}", s3Key, e.getMessage());
+        } catch (CompletionException | S3Exception | SdkClientException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error(CLASS_NAME + "S3 업로드 실패 - 파일명: {}, 오류: {}", originalFileName, cause.getMessage());
             throw new ResponseStatusException(
                 HttpStatus.SERVICE_UNAVAILABLE,
                 "S3 업로드 중 외부 서비스 오류가 발생했습니다."
@@ -94,6 +219,236 @@ public class S3ImageStorage {
                 HttpStatus.INTERNAL_SERVER_ERROR,
                 "이미지 업로드 중 오류가 발생했습니다."
             );
+        } finally {
+            if (!handedOver) {
+                deleteTempFile(file);
+            }
+        }
+    }
+
+    public static Path createTempFile() throws IOException {
+        return Files.createTempFile("otboo-upload-", ".tmp");
+    }
+
+    public static void deleteTempFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn(CLASS_NAME + "임시 파일 삭제 실패 - 경로: {}, 오류: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 원본으로부터 생성한 변형 이미지(JPEG)를 업로드한다.
+     */
+    public void uploadVariant(String s3Key, byte[] jpegBytes) {
+        putObject(s3Key, "image/jpeg", jpegBytes);
+        log.debug(CLASS_NAME + "변형 이미지 업로드 성공 - 경로: {}", s3Key);
+    }
+
+    private void putObject(String s3Key, String contentType, byte[] bytes) {
+        // 요청 객체 생성
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(s3Key)
+            .contentType(contentType)
+            .contentLength((long) bytes.length)
+            .build();
+
+        try {
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+        } catch (S3Exception | SdkClientException e) {
+            log.error(CLASS_NAME + "S3 업로드 실패 - 경로: {}, 오류: {}", s3Key, e.getMessage());
+            throw new ResponseStatusException(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "S3 업로드 중 외부 서비스 오류가 발생했습니다."
+            );
+        }
+    }
+
+    // ========== 클라이언트 직접 업로드 로직 ========== //
+
+    /**
+     * 클라이언트가 S3에 직접 PUT 할 수 있는 presigned URL 을 발급한다.
+     * 객체 키는 임시 경로 {@code uploads/<folderPath><ownerId>/} 아래에 만들어져 확인 단계에서 소유자를 검증할 수 있다.
+     */
+    public ImageUploadUrlResponse createPresignedUpload(String folderPath, UUID ownerId, String contentType, long contentLength) {
+        String ext = DIRECT_UPLOAD_EXTENSIONS.get(contentType);
+        if (ext == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 이미지 형식입니다: " + contentType);
+        }
+        if (contentLength <= 0 || contentLength > presignMaxBytes) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "허용된 이미지 크기를 초과했습니다.");
+        }
+
+        String fileName = UUID.randomUUID() + ext;
+        // WebP 는 JDK 로 디코딩할 수 없으므로 변형 생성 대상에서 제외
+        if (!".webp".equals(ext)) {
+            fileName = ImageVariant.markSource(fileName);
+        }
+        String s3Key = DIRECT_UPLOAD_PREFIX + folderPath + ownerId + "/" + fileName;
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(s3Key)
+            .contentType(contentType)
+            .contentLength(contentLength)
+            .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(r -> r
+            .signatureDuration(Duration.ofSeconds(presignExpirationSeconds))
+            .putObjectRequest(putObjectRequest));
+
+        log.info(CLASS_NAME + "직접 업로드 URL 발급 - 경로: {}, 만료: {}", s3Key, presigned.expiration());
+        return new ImageUploadUrlResponse(presigned.url().toString(), s3Key, presigned.expiration());
+    }
+
+    /**
+     * 클라이언트가 직접 업로드한 객체를 확인하고 공개 URL 을 반환한다.
+     * 요청자 소유 경로인지, 크기와 Content-Type 이 허용 범위인지 검증하며, 규칙을 어긴 객체는 삭제한다.
+     * 확인된 객체는 임시 경로에서 {@code <folderPath><ownerId>/} 아래로 옮겨진다.
+     */
+    public String confirmDirectUpload(String imageKey, String folderPath, UUID ownerId) {
+        String ownerPrefix = DIRECT_UPLOAD_PREFIX + folderPath + ownerId + "/";
+        if (imageKey == null || !imageKey.startsWith(ownerPrefix) || imageKey.contains("..")
+            || imageKey.indexOf('/', ownerPrefix.length()) >= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 이미지 키입니다.");
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(imageKey).build());
+        } catch (NoSuchKeyException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "업로드된 이미지를 찾을 수 없습니다.");
+        } catch (S3Exception | SdkClientException e) {
+            log.error(CLASS_NAME + "업로드 확인 실패 - 경로: {}, 오류: {}", imageKey, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "S3 업로드 확인 중 외부 서비스 오류가 발생했습니다.");
+        }
+
+        Long size = head.contentLength();
+        if (size == null || size <= 0 || size > presignMaxBytes
+            || !DIRECT_UPLOAD_EXTENSIONS.containsKey(head.contentType())) {
+            log.warn(CLASS_NAME + "허용되지 않은 직접 업로드 객체 삭제 - 경로: {}, 크기: {}, 타입: {}",
+                imageKey, size, head.contentType());
+            try {
+                deleteObject(imageKey);
+            } catch (Exception e) {
+                log.warn(CLASS_NAME + "허용되지 않은 객체 삭제 실패 - 경로: {}, 오류: {}", imageKey, e.getMessage());
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "허용되지 않은 이미지입니다.");
+        }
+
+        String confirmedKey = imageKey.substring(DIRECT_UPLOAD_PREFIX.length());
+        try {
+            s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucketName)
+                .sourceKey(imageKey)
+                .destinationBucket(bucketName)
+                .destinationKey(confirmedKey)
+                .build());
+        } catch (S3Exception | SdkClientException e) {
+            log.error(CLASS_NAME + "업로드 확정 실패 - 경로: {}, 오류: {}", imageKey, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "S3 업로드 확인 중 외부 서비스 오류가 발생했습니다.");
+        }
+        try {
+            deleteObject(imageKey);
+        } catch (Exception e) {
+            // 남은 임시 객체는 deleteStaleDirectUploads 가 정리
+            log.warn(CLASS_NAME + "임시 업로드 객체 삭제 실패 - 경로: {}, 오류: {}", imageKey, e.getMessage());
+        }
+
+        if (ImageVariant.isSource(confirmedKey)) {
+            publishVariantEvent(new ImageDirectUploadedEvent(confirmedKey), confirmedKey);
+        }
+        return generatePublicUrl(confirmedKey);
+    }
+
+    /**
+     * presigned URL 로 업로드만 되고 확인되지 않은 임시 객체를 삭제한다.
+     *
+     * @param olderThan 마지막 수정 이후 이 시간이 지난 객체만 삭제 (확인 중인 업로드를 지우지 않도록 URL 만료 시간보다 길게)
+     * @return 삭제한 객체 수
+     */
+    public int deleteStaleDirectUploads(Duration olderThan) {
+        Instant threshold = Instant.now().minus(olderThan);
+        int deleted = 0;
+        String continuationToken = null;
+        do {
+            ListObjectsV2Response page = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(DIRECT_UPLOAD_PREFIX)
+                .continuationToken(continuationToken)
+                .build());
+
+            List<ObjectIdentifier> stale = page.contents().stream()
+                .filter(object -> object.lastModified().isBefore(threshold))
+                .map(object -> ObjectIdentifier.builder().key(object.key()).build())
+                .toList();
+            if (!stale.isEmpty()) {
+                // 목록 한 페이지(최대 1000개)는 DeleteObjects 한 번의 한도와 같다
+                s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(d -> d.objects(stale).quiet(true))
+                    .build());
+                deleted += stale.size();
+            }
+
+            continuationToken = page.nextContinuationToken();
+        } while (continuationToken != null);
+
+        return deleted;
+    }
+
+    /**
+     * 변형 이미지 생성 이벤트를 발행한다.
+     * 이미지 실행자가 포화되어 작업이 거절되면 원본 업로드는 그대로 성공시키고 변형 생성만 건너뛴다.
+     *
+     * @return 이벤트가 리스너에 전달되었으면 true (임시 파일 소유권이 리스너로 넘어감)
+     */
+    private boolean publishVariantEvent(Object event, String s3Key) {
+        try {
+            eventPublisher.publishEvent(event);
+            return true;
+        } catch (TaskRejectedException e) {
+            log.error(CLASS_NAME + "이미지 실행자 포화로 변형 이미지 생성 생략 - 경로: {}, 오류: {}", s3Key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 원본을 참조하는 엔티티가 커밋된 뒤 호출한다. 변형 이미지가 이미 모두 만들어져 있으면 생성 완료 이벤트를 다시 발행한다.
+     * 변형 생성이 엔티티 커밋보다 먼저 끝나 리스너의 완료 표시가 아직 없는 행에 적용되지 못한 경우를 보완한다.
+     */
+    public void publishVariantsReadyIfGenerated(String imageUrl) {
+        if (!ImageVariant.isSource(imageUrl)) {
+            return;
+        }
+        try {
+            String s3Key = extractKey(imageUrl);
+            for (ImageVariant variant : ImageVariant.values()) {
+                if (!objectExists(variant.of(s3Key))) {
+                    return;
+                }
+            }
+            eventPublisher.publishEvent(new ImageVariantsReadyEvent(imageUrl));
+        } catch (Exception e) {
+            // 표시가 늦어져도 원본 URL 로 표시되므로 요청은 그대로 성공시킨다
+            log.warn(CLASS_NAME + "변형 이미지 확인 실패 - URL: {}, 오류: {}", imageUrl, e.getMessage());
+        }
+    }
+
+    /**
+     * 원본 객체를 임시 파일로 내려받는다. 반환된 파일은 호출자가 삭제해야 한다.
+     */
+    public Path downloadToTempFile(String s3Key) throws IOException {
+        Path tempFile = createTempFile();
+        GetObjectRequest request = GetObjectRequest.builder().bucket(bucketName).key(s3Key).build();
+        try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request)) {
+            Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return tempFile;
+        } catch (IOException | RuntimeException e) {
+            deleteTempFile(tempFile);
+            throw e;
         }
     }
 
@@ -125,7 +480,7 @@ public class S3ImageStorage {
     }
 
     // 퍼블릭 URL 생성
-    private String generatePublicUrl(String s3Key) {
+    public String generatePublicUrl(String s3Key) {
         return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, s3Key);
     }
 
@@ -141,15 +496,15 @@ public class S3ImageStorage {
             String s3Key = extractKey(imageUrl);
             log.info(CLASS_NAME + "삭제하려는 이미지: {}", s3Key);
 
-            // 요청 객체 생성
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                .bucket(bucketName)
-                .key(s3Key)
-                .build();
-
             try{
                 log.debug(CLASS_NAME + "이미지 삭제 작업 시작");
-                s3Client.deleteObject(deleteObjectRequest);
+                deleteObject(s3Key);
+                // 원본과 함께 생성된 변형 이미지도 삭제
+                if (ImageVariant.isSource(s3Key)) {
+                    for (ImageVariant variant : ImageVariant.values()) {
+                        deleteObject(variant.of(s3Key));
+                    }
+                }
                 log.debug(CLASS_NAME + "이미지 삭제 성공");
             }
             catch (Exception e) {
@@ -163,6 +518,24 @@ public class S3ImageStorage {
         }
     }
 
+    private boolean objectExists(String s3Key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(s3Key).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    private void deleteObject(String s3Key) {
+        // 요청 객체 생성
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+            .bucket(bucketName)
+            .key(s3Key)
+            .build();
+        s3Client.deleteObject(deleteObjectRequest);
+    }
+
     // s3 key 추출 메서드
     private String extractKey(String url) {
         String baseUrl = String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region);
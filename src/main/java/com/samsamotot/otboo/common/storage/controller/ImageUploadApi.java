@@ -0,0 +1,33 @@
+package com.samsamotot.otboo.common.storage.controller;
+
+import com.samsamotot.otboo.common.exception.ErrorResponse;
+import com.samsamotot.otboo.common.storage.dto.ImageUploadUrlRequest;
+import com.samsamotot.otboo.common.storage.dto.ImageUploadUrlResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * 이미지 직접 업로드 Springdoc 어노테이션 매핑
+ */
+@Tag(name = "이미지 업로드", description = "이미지 직접 업로드 API")
+public interface ImageUploadApi {
+
+    @Operation(summary = "이미지 업로드 URL 발급", description = "S3에 직접 업로드할 수 있는 presigned PUT URL 발급 API")
+    @ApiResponses(
+        value = {
+            @ApiResponse(responseCode = "201", description = "업로드 URL 발급 성공",
+                content = @Content(schema = @Schema(implementation = ImageUploadUrlResponse.class))),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식이거나 허용 크기 초과",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        }
+    )
+    @PostMapping
+    ResponseEntity<ImageUploadUrlResponse> createUploadUrl(@RequestBody ImageUploadUrlRequest request);
+}
@@ -0,0 +1,46 @@
+package com.samsamotot.otboo.common.storage.controller;
+
+import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import com.samsamotot.otboo.common.storage.dto.ImageUploadUrlRequest;
+import com.samsamotot.otboo.common.storage.dto.ImageUploadUrlResponse;
+import com.samsamotot.otboo.common.util.AuthUtil;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이미지 바이트가 애플리케이션 서버를 거치지 않도록 S3 직접 업로드 URL 을 발급하는 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/images/upload-urls")
+@ConditionalOnProperty(name = "otboo.storage.type", havingValue = "s3")
+public class ImageUploadController implements ImageUploadApi {
+    private static final String CONTROLLER_NAME = "[ImageUploadController] ";
+
+    private final S3ImageStorage s3ImageStorage;
+
+    @Override
+    @PostMapping
+    public ResponseEntity<ImageUploadUrlResponse> createUploadUrl(@Valid @RequestBody ImageUploadUrlRequest request) {
+        UUID userId = AuthUtil.getAuthenticatedUserId();
+        log.debug(CONTROLLER_NAME + "업로드 URL 발급 요청 - target: {}, contentType: {}, size: {}",
+            request.target(), request.contentType(), request.contentLength());
+
+        ImageUploadUrlResponse response = s3ImageStorage.createPresignedUpload(
+            request.target().folderPath(), userId, request.contentType(), request.contentLength());
+
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .body(response);
+    }
+}
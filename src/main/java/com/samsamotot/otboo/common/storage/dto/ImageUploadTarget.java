@@ -0,0 +1,20 @@
+package com.samsamotot.otboo.common.storage.dto;
+
+/**
+ * 직접 업로드 대상 이미지 종류와 S3 저장 경로
+ */
+public enum ImageUploadTarget {
+
+    CLOTHES("clothes/"),
+    PROFILE("profile/");
+
+    private final String folderPath;
+
+    ImageUploadTarget(String folderPath) {
+        this.folderPath = folderPath;
+    }
+
+    public String folderPath() {
+        return folderPath;
+    }
+}
@@ -0,0 +1,19 @@
+package com.samsamotot.otboo.common.storage.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record ImageUploadUrlRequest(
+    @NotNull(message = "업로드 대상은 필수입니다.")
+    ImageUploadTarget target,
+
+    @NotBlank(message = "Content-Type 은 필수입니다.")
+    String contentType,
+
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    Long contentLength
+) {
+
+}
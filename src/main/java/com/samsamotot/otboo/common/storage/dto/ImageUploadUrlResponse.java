@@ -0,0 +1,16 @@
+package com.samsamotot.otboo.common.storage.dto;
+
+import java.time.Instant;
+
+/**
+ * 클라이언트 직접 업로드 정보.
+ * 클라이언트는 uploadUrl 로 요청한 Content-Type/Content-Length 그대로 PUT 한 뒤,
+ * 의상/프로필 등록·수정 요청에 imageKey 를 전달한다.
+ */
+public record ImageUploadUrlResponse(
+    String uploadUrl,
+    String imageKey,
+    Instant expiresAt
+) {
+
+}
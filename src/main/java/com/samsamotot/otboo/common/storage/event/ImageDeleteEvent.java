@@ -0,0 +1,9 @@
+package com.samsamotot.otboo.common.storage.event;
+
+/**
+ * 더 이상 참조되지 않는 S3 이미지의 삭제 요청 이벤트.
+ * 트랜잭션 안에서 발행되면 커밋 이후에, 트랜잭션 밖에서 발행되면 즉시 처리된다.
+ */
+public record ImageDeleteEvent(String imageUrl) {
+
+}
@@ -0,0 +1,9 @@
+package com.samsamotot.otboo.common.storage.event;
+
+/**
+ * 클라이언트가 presigned URL 로 직접 올린 원본이 확인되었음을 알리는 이벤트.
+ * 변형 이미지 생성을 위해 수신자가 S3에서 원본을 내려받는다.
+ */
+public record ImageDirectUploadedEvent(String s3Key) {
+
+}
@@ -0,0 +1,11 @@
+package com.samsamotot.otboo.common.storage.event;
+
+import java.nio.file.Path;
+
+/**
+ * 변형 이미지 생성 대상 원본이 S3에 업로드되었음을 알리는 이벤트.
+ * 원본이 담긴 임시 파일의 소유권은 이벤트 수신자에게 넘어가며, 수신자가 처리 후 삭제한다.
+ */
+public record ImageUploadedEvent(String s3Key, Path file) {
+
+}
@@ -0,0 +1,9 @@
+package com.samsamotot.otboo.common.storage.event;
+
+/**
+ * 원본 이미지의 썸네일/중간 크기 변형이 모두 S3에 저장되었음을 알리는 이벤트.
+ * 수신자는 이 이미지를 쓰는 엔티티에 변형 이미지 사용 가능 표시를 남긴다.
+ */
+public record ImageVariantsReadyEvent(String imageUrl) {
+
+}
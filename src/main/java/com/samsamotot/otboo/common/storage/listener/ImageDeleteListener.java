@@ -0,0 +1,93 @@
+package com.samsamotot.otboo.common.storage.listener;
+
+import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import com.samsamotot.otboo.common.storage.event.ImageDeleteEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * PackageName  : com.samsamotot.otboo.common.storage.listener
+ * FileName     : ImageDeleteListener
+ * Description  : 커밋된 변경으로 고아가 된 S3 이미지를 비동기로 삭제 (실패 시 재시도)
+ *                삭제는 전용 실행자(imageDeleteTaskExecutor)로 넘기며, 제출이 거절되어도 발행한 쪽으로 예외를 전파하지 않고
+ *                정리 대상 URL 을 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "otboo.storage.type", havingValue = "s3")
+public class ImageDeleteListener {
+
+    private static final String IMAGE_DELETE_LISTENER = "[ImageDeleteListener] ";
+
+    private final S3ImageStorage s3ImageStorage;
+    private final TaskExecutor imageDeleteTaskExecutor;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public ImageDeleteListener(
+        S3ImageStorage s3ImageStorage,
+        @Qualifier("imageDeleteTaskExecutor") TaskExecutor imageDeleteTaskExecutor,
+        @Value("${otboo.storage.s3.delete.max-attempts:3}") int maxAttempts,
+        @Value("${otboo.storage.s3.delete.backoff-millis:500}") long backoffMillis
+    ) {
+        this.s3ImageStorage = s3ImageStorage;
+        this.imageDeleteTaskExecutor = imageDeleteTaskExecutor;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(0, backoffMillis);
+    }
+
+    // 롤백된 트랜잭션에서 발행된 삭제 요청은 버린다. 트랜잭션 밖에서 발행된 요청(업로드 보상 삭제)은 즉시 처리한다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImageDelete(ImageDeleteEvent event) {
+        String imageUrl = event.imageUrl();
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return;
+        }
+
+        try {
+            imageDeleteTaskExecutor.execute(() -> deleteWithRetry(imageUrl));
+        } catch (TaskRejectedException e) {
+            // 실행자 종료 등으로 거절된 경우: 발행한 요청은 실패시키지 않고, 고아 객체 정리를 위해 URL 을 남긴다
+            log.error(IMAGE_DELETE_LISTENER + "이미지 삭제 작업 거절, 고아 이미지 정리 필요 - url: {}, 사유: {}",
+                imageUrl, e.getMessage());
+        }
+    }
+
+    private void deleteWithRetry(String imageUrl) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                s3ImageStorage.deleteImage(imageUrl);
+                return;
+            } catch (Exception e) {
+                if (attempt == maxAttempts) {
+                    log.error(IMAGE_DELETE_LISTENER + "이미지 삭제 최종 실패 - url: {}, 시도: {}회", imageUrl, attempt, e);
+                    return;
+                }
+                log.warn(IMAGE_DELETE_LISTENER + "이미지 삭제 실패, 재시도 예정 - url: {}, 시도: {}/{}, err: {}",
+                    imageUrl, attempt, maxAttempts, e.getMessage());
+                if (!sleepBeforeRetry(attempt)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // 시도 횟수에 비례해 대기 시간을 늘린다 (선형 백오프)
+    private boolean sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(backoffMillis * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn(IMAGE_DELETE_LISTENER + "재시도 대기 중 인터럽트 발생, 삭제 중단");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.samsamotot.otboo.common.storage.listener;
+
+import com.samsamotot.otboo.common.storage.ImageResizer;
+import com.samsamotot.otboo.common.storage.ImageVariant;
+import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import com.samsamotot.otboo.common.storage.event.ImageDirectUploadedEvent;
+import com.samsamotot.otboo.common.storage.event.ImageUploadedEvent;
+import com.samsamotot.otboo.common.storage.event.ImageVariantsReadyEvent;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName  : com.samsamotot.otboo.common.storage.listener
+ * FileName     : ImageVariantListener
+ * Description  : 업로드된 원본으로부터 목록 화면용 축소 이미지(썸네일/중간 크기)를 생성해 S3에 저장하고,
+ *                모두 저장되면 {@link ImageVariantsReadyEvent} 를 발행해 엔티티가 변형 URL 을 쓰도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "otboo.storage.type", havingValue = "s3")
+public class ImageVariantListener {
+
+    private static final String IMAGE_VARIANT_LISTENER = "[ImageVariantListener] ";
+
+    private final S3ImageStorage s3ImageStorage;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Async("imageTaskExecutor")
+    @EventListener
+    public void onImageUploaded(ImageUploadedEvent event) {
+        try {
+            generateVariants(event.s3Key(), event.file());
+        } finally {
+            S3ImageStorage.deleteTempFile(event.file());
+        }
+    }
+
+    // 클라이언트가 직접 올린 원본은 S3에서 내려받아 변형을 만든다
+    @Async("imageTaskExecutor")
+    @EventListener
+    public void onImageDirectUploaded(ImageDirectUploadedEvent event) {
+        Path file;
+        try {
+            file = s3ImageStorage.downloadToTempFile(event.s3Key());
+        } catch (Exception e) {
+            log.warn(IMAGE_VARIANT_LISTENER + "원본 다운로드 실패 - key: {}, err: {}", event.s3Key(), e.getMessage(), e);
+            return;
+        }
+        try {
+            generateVariants(event.s3Key(), file);
+        } finally {
+            S3ImageStorage.deleteTempFile(file);
+        }
+    }
+
+    private void generateVariants(String s3Key, Path file) {
+        try {
+            // 가장 큰 변형 크기만큼만 해상도를 남기고 디코딩
+            BufferedImage source = ImageResizer.read(file, ImageVariant.MEDIUM.maxSize());
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] resized = ImageResizer.resizeToJpeg(source, variant.maxSize());
+                s3ImageStorage.uploadVariant(variant.of(s3Key), resized);
+            }
+            log.debug(IMAGE_VARIANT_LISTENER + "변형 이미지 생성 완료 - key: {}", s3Key);
+        } catch (Exception e) {
+            // 원본 업로드는 이미 끝났으므로 변형 생성 실패는 경고만 남긴다 (완료 표시가 없어 원본 URL 로 계속 표시)
+            log.warn(IMAGE_VARIANT_LISTENER + "변형 이미지 생성 실패 - key: {}, err: {}", s3Key, e.getMessage(), e);
+            return;
+        }
+
+        try {
+            eventPublisher.publishEvent(new ImageVariantsReadyEvent(s3ImageStorage.generatePublicUrl(s3Key)));
+        } catch (Exception e) {
+            log.warn(IMAGE_VARIANT_LISTENER + "변형 이미지 완료 표시 실패 - key: {}, err: {}", s3Key, e.getMessage(), e);
+        }
+    }
+}
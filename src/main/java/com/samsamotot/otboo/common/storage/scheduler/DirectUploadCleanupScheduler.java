@@ -0,0 +1,40 @@
+package com.samsamotot.otboo.common.storage.scheduler;
+
+import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName  : com.samsamotot.otboo.common.storage.scheduler
+ * FileName     : DirectUploadCleanupScheduler
+ * Description  : presigned URL 로 업로드만 되고 의상/프로필 저장으로 확인되지 않은 임시 이미지를 주기적으로 삭제한다.
+ *                (버킷에 uploads/ 경로 만료 수명 주기 규칙을 두는 것과 같은 역할)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "otboo.storage.type", havingValue = "s3")
+public class DirectUploadCleanupScheduler {
+
+    private static final String SCHEDULER_NAME = "[DirectUploadCleanupScheduler] ";
+
+    private final S3ImageStorage s3ImageStorage;
+
+    @Value("${otboo.storage.s3.presign.stale-after-hours:24}")
+    private long staleAfterHours;
+
+    @Scheduled(cron = "${otboo.storage.s3.presign.cleanup-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void deleteStaleDirectUploads() {
+        try {
+            int deleted = s3ImageStorage.deleteStaleDirectUploads(Duration.ofHours(staleAfterHours));
+            log.info(SCHEDULER_NAME + "확인되지 않은 직접 업로드 이미지 정리 완료 - 삭제 수: {}", deleted);
+        } catch (Exception e) {
+            log.error(SCHEDULER_NAME + "직접 업로드 이미지 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -15,4 +15,6 @@ public class CacheNames {
 
     public static final String PROFILE = "profile";
     public static final String WEATHER_DAILY = "weather_daily";
+    public static final String RECOMMENDATION_REASON = "recommendation_reason";
+    public static final String CLOTHES_EXTRACTION = "clothes_extraction";
 }
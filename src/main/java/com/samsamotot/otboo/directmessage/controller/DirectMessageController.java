@@ -4,10 +4,11 @@ import com.samsamotot.otboo.common.security.service.CustomUserDetails;
 import com.samsamotot.otboo.directmessage.controller.api.DirectMessageApi;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageDto;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageListResponse;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListRequest;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListResponse;
-import com.samsamotot.otboo.directmessage.dto.DmTopicKey;
 import com.samsamotot.otboo.directmessage.dto.MessageRequest;
 import com.samsamotot.otboo.directmessage.dto.SendDmRequest;
+import com.samsamotot.otboo.directmessage.relay.DirectMessageRelay;
 import com.samsamotot.otboo.directmessage.service.DirectMessageService;
 import jakarta.validation.Valid;
 import java.security.Principal;
@@ -17,11 +18,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -41,7 +43,7 @@ public class DirectMessageController implements DirectMessageApi {
     private static final String DM_CONTROLLER = "[DirectMessageController]";
 
     private final DirectMessageService directMessageService;
-    private final SimpMessagingTemplate template;
+    private final DirectMessageRelay relay;
 
     /**
      * DM 목록을 조회하는 API
@@ -64,16 +66,35 @@ public class DirectMessageController implements DirectMessageApi {
     }
 
     /**
-     * 현재 사용자의 모든 대화방 목록을 조회하는 API
+     * 현재 사용자의 대화방 목록을 마지막 활동 순으로 조회하는 API
      *
      * @param userDetails 현재 로그인한 사용자 정보
-     * @return 대화방 목록 및 마지막 메시지 정보
+     * @param cursor      커서 기반 페이지네이션을 위한 마지막 활동 시각(선택)
+     * @param idAfter     동일 시각일 경우 이어지는 대화방 기준 ID(선택)
+     * @param limit       조회할 대화방 개수(선택, 기본 20)
+     * @return 대화방 목록, 마지막 메시지 정보 및 페이지네이션 정보
      */
     @GetMapping("/rooms")
     public ResponseEntity<DirectMessageRoomListResponse> getConversationRooms(
-        @AuthenticationPrincipal CustomUserDetails userDetails
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam(required = false) Instant cursor,
+        @RequestParam(required = false) UUID idAfter,
+        @RequestParam(required = false) Integer limit
     ) {
-        return ResponseEntity.ok().body(directMessageService.getConversationList());
+        DirectMessageRoomListRequest request = new DirectMessageRoomListRequest(cursor, idAfter, limit);
+        return ResponseEntity.ok().body(directMessageService.getConversationList(request));
+    }
+
+    /**
+     * 대화방 읽음 처리 API (안 읽은 메시지 수를 0으로 초기화)
+     *
+     * @param partnerId 대화 상대 사용자 ID
+     * @return 204 No Content
+     */
+    @PostMapping("/rooms/{partnerId}/read")
+    public ResponseEntity<Void> markAsRead(@PathVariable UUID partnerId) {
+        directMessageService.markAsRead(partnerId);
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -82,9 +103,8 @@ public class DirectMessageController implements DirectMessageApi {
      * <p>흐름:
      * 1. 인증 Principal을 확인한다 (없으면 null 반환).
      * 2. 요청을 서비스 계층에 위임해 메시지를 저장하고 DTO를 얻는다.
-     * 3. 대화 상대 두 명(me, receiverId)에 대한 STOMP destination을 계산한다.
-     * 4. SimpMessaging
-     * Template을 이용해 해당 destination으로 브로드캐스트한다.
+     * 3. DirectMessageRelay를 통해 대화 채널로 전달한다.
+     *    (로컬 세션에는 즉시, 다른 노드에 연결된 세션에는 해당 노드로만 중계)
      *
      * @param request   전송 요청 (수신자 ID, 내용 등)
      * @param principal 인증 정보 (현재 WebSocket 세션 사용자)
@@ -103,8 +123,7 @@ public class DirectMessageController implements DirectMessageApi {
 
         DirectMessageDto response = directMessageService.sendMessage(me, request);
 
-        String destination = DmTopicKey.destination(me, request.receiverId());
-        template.convertAndSend(destination, response);
+        relay.publish(me, request.receiverId(), response);
 
         return response;
     }
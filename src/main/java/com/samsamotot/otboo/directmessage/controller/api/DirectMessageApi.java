@@ -14,6 +14,8 @@ import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListResponse; // Added
 import org.springframework.security.core.annotation.AuthenticationPrincipal; // Added
@@ -58,7 +60,7 @@ public interface DirectMessageApi {
         @RequestParam Integer limit
     );
 
-    @Operation(summary = "대화방 목록 조회", description = "현재 사용자의 모든 대화방 목록과 각 대화방의 마지막 메시지 정보를 조회합니다.")
+    @Operation(summary = "대화방 목록 조회", description = "현재 사용자의 대화방 목록과 각 대화방의 마지막 메시지 정보를 마지막 활동 순으로 커서 기반 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
@@ -77,6 +79,26 @@ public interface DirectMessageApi {
     })
     @GetMapping("/rooms")
     ResponseEntity<DirectMessageRoomListResponse> getConversationRooms(
-        @AuthenticationPrincipal CustomUserDetails userDetails
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam(required = false) Instant cursor,
+        @RequestParam(required = false) UUID idAfter,
+        @RequestParam(required = false) Integer limit
     );
+
+    @Operation(summary = "대화방 읽음 처리", description = "대화 상대와의 대화방에서 안 읽은 메시지 수를 0으로 초기화합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "읽음 처리 성공"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PostMapping("/rooms/{partnerId}/read")
+    ResponseEntity<Void> markAsRead(@PathVariable UUID partnerId);
 }
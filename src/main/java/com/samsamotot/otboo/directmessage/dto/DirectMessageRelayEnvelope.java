@@ -0,0 +1,12 @@
+package com.samsamotot.otboo.directmessage.dto;
+
+/**
+ * PackageName  : com.samsamotot.otboo.directmessage.dto
+ * FileName     : DirectMessageRelayEnvelope
+ * Description  : 노드 간 DM 중계 시 Redis Pub/Sub로 전달되는 메시지 (STOMP destination + 메시지 본문)
+ */
+public record DirectMessageRelayEnvelope(
+    String destination,
+    DirectMessageDto message
+) {
+}
@@ -12,6 +12,8 @@ public record DirectMessageRoomDto(
     String lastMessage,
 
     @JsonFormat(shape = JsonFormat.Shape.STRING)
-    Instant lastMessageSentAt
+    Instant lastMessageSentAt,
+
+    int unreadCount
 ) {
 }
@@ -0,0 +1,27 @@
+package com.samsamotot.otboo.directmessage.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * PackageName  : com.samsamotot.otboo.directmessage.dto
+ * FileName     : DirectMessageRoomListRequest
+ * Description  : 대화방 목록 커서 조회 요청 (cursor = 마지막 활동 시각, idAfter = 동일 시각 타이브레이커 대화방 ID)
+ */
+public record DirectMessageRoomListRequest(
+    Instant cursor,
+
+    UUID idAfter,
+
+    @Min(1)
+    @Max(100)
+    Integer limit
+) {
+    @AssertTrue(message = "cursor와 idAfter는 둘 다 null이거나 둘 다 값이 있어야 합니다.")
+    public boolean isCursorPairConsistent() {
+        return (cursor == null && idAfter == null) || (cursor != null && idAfter != null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.samsamotot.otboo.directmessage.dto;
+
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * PackageName  : com.samsamotot.otboo.directmessage.dto
+ * FileName     : DirectMessageUnreadDto
+ * Description  : 대화방별 안 읽은 메시지 수 (SSE "direct-message-unread" 이벤트 본문)
+ */
+@Builder
+public record DirectMessageUnreadDto(
+    UUID partnerId,
+    int unreadCount
+) {
+}
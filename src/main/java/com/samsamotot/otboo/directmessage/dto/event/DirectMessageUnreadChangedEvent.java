@@ -0,0 +1,11 @@
+package com.samsamotot.otboo.directmessage.dto.event;
+
+import java.util.UUID;
+
+/**
+ * PackageName  : com.samsamotot.otboo.directmessage.dto.event
+ * FileName     : DirectMessageUnreadChangedEvent
+ * Description  : owner 기준 partner와의 대화방 안 읽은 메시지 수가 바뀌었을 때 발행
+ */
+public record DirectMessageUnreadChangedEvent(UUID ownerId, UUID partnerId, int unreadCount) {
+}
@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.UUID;
+
 /**
  * PackageName  : com.samsamotot.otboo.directmessage.entity
  * FileName     : DirectMessage
@@ -15,7 +17,12 @@ import lombok.NoArgsConstructor;
  * Date         : 2025. 9. 12.
  */
 @Entity
-@Table(name = "direct_messages")
+@Table(
+    name = "direct_messages",
+    indexes = {
+        @Index(name = "idx_dm_conversation_created_at", columnList = "conversation_key, created_at DESC, id DESC")
+    }
+)
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -32,4 +39,24 @@ public class DirectMessage extends BaseEntity {
 
     @Column(nullable = false, columnDefinition = "TEXT")
     String message;
+
+    // 두 사용자 ID를 정렬해 만든 대화 키 (방향과 무관하게 같은 대화는 같은 키)
+    @Column(name = "conversation_key", nullable = false, updatable = false, length = 73)
+    String conversationKey;
+
+    @PrePersist
+    void assignConversationKey() {
+        if (conversationKey == null && sender != null && receiver != null) {
+            conversationKey = conversationKeyOf(sender.getId(), receiver.getId());
+        }
+    }
+
+    /**
+     * 두 사용자 간 대화 키를 생성한다. 문자열 사전순(작은 ID:큰 ID)으로 정렬한다.
+     */
+    public static String conversationKeyOf(UUID userA, UUID userB) {
+        String a = userA.toString();
+        String b = userB.toString();
+        return a.compareTo(b) <= 0 ? a + ":" + b : b + ":" + a;
+    }
 }
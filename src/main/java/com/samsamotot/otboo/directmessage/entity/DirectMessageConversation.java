@@ -0,0 +1,52 @@
+package com.samsamotot.otboo.directmessage.entity;
+
+import com.samsamotot.otboo.common.entity.BaseEntity;
+import com.samsamotot.otboo.user.entity.User;
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 대화방 요약 (owner 기준으로 partner와의 마지막 메시지 정보)
+ * 대화 한 쌍마다 양쪽 사용자 각각 한 행씩 보관하며, sendMessage 트랜잭션에서 함께 갱신된다.
+ */
+@Entity
+@Table(
+    name = "dm_conversations",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uq_dm_conversations_owner_partner", columnNames = {"owner_id", "partner_id"})
+    },
+    indexes = {
+        @Index(name = "idx_dm_conversations_owner_last", columnList = "owner_id, last_message_at DESC, id DESC")
+    }
+)
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+public class DirectMessageConversation extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "owner_id", nullable = false)
+    private User owner; // 대화방 목록의 주인
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "partner_id", nullable = false)
+    private User partner; // 대화 상대
+
+    @Column(name = "last_message_id", nullable = false)
+    private UUID lastMessageId;
+
+    @Column(name = "last_message", nullable = false, columnDefinition = "TEXT")
+    private String lastMessage; // 미리보기 (잘린 본문)
+
+    @Column(name = "last_message_at", nullable = false)
+    private Instant lastMessageAt;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount; // owner가 아직 읽지 않은 partner의 메시지 수
+}
@@ -0,0 +1,40 @@
+package com.samsamotot.otboo.directmessage.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageRelayEnvelope;
+import com.samsamotot.otboo.directmessage.relay.DirectMessageRelay;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName  : com.samsamotot.otboo.directmessage.listener
+ * FileName     : DirectMessageRedisListener
+ * Description  : 다른 노드에서 이 노드 채널로 중계된 DM을 수신해 로컬 STOMP 브로커로 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectMessageRedisListener implements MessageListener {
+
+    private static final String DM_REDIS_LISTENER = "[DirectMessageRedisListener] ";
+
+    private final DirectMessageRelay relay;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            DirectMessageRelayEnvelope envelope = objectMapper.readValue(
+                new String(message.getBody(), StandardCharsets.UTF_8), DirectMessageRelayEnvelope.class);
+            relay.deliverLocal(envelope);
+        } catch (Exception e) {
+            log.error(DM_REDIS_LISTENER + "메시지 처리 실패 - channel: {}, bytes: {}",
+                new String(message.getChannel(), StandardCharsets.UTF_8),
+                message.getBody().length, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.samsamotot.otboo.directmessage.listener;
+
+import com.samsamotot.otboo.directmessage.relay.DirectMessageRelay;
+import java.security.Principal;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * PackageName  : com.samsamotot.otboo.directmessage.listener
+ * FileName     : DirectMessageSessionListener
+ * Description  : STOMP 세션 연결/종료 시 사용자 presence를 DirectMessageRelay에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectMessageSessionListener {
+
+    private final DirectMessageRelay relay;
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        UUID userId = userIdOf(event);
+        if (userId != null) {
+            relay.registerSession(userId, SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders()));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        UUID userId = userIdOf(event);
+        if (userId != null) {
+            relay.unregisterSession(userId, event.getSessionId());
+        }
+    }
+
+    private UUID userIdOf(AbstractSubProtocolEvent event) {
+        Principal user = event.getUser();
+        return user == null ? null : UUID.fromString(user.getName());
+    }
+}
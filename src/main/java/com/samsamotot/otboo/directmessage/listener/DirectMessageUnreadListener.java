@@ -0,0 +1,45 @@
+package com.samsamotot.otboo.directmessage.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageUnreadDto;
+import com.samsamotot.otboo.directmessage.dto.event.DirectMessageUnreadChangedEvent;
+import com.samsamotot.otboo.sse.service.SseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * PackageName  : com.samsamotot.otboo.directmessage.listener
+ * FileName     : DirectMessageUnreadListener
+ * Description  : 커밋된 안 읽은 메시지 수 변경을 SSE로 전달 (클라이언트 배지 갱신용)
+ *                수신자의 SSE 연결은 다른 노드에 있을 수 있으므로 분산 전송(Kafka -> Redis)으로 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectMessageUnreadListener {
+
+    public static final String SSE_EVENT_NAME = "direct-message-unread";
+
+    private static final String DM_UNREAD_LISTENER = "[DirectMessageUnreadListener] ";
+
+    private final SseService sseService;
+    private final ObjectMapper objectMapper;
+
+    @Async("mainTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUnreadChanged(DirectMessageUnreadChangedEvent e) {
+        try {
+            String data = objectMapper.writeValueAsString(
+                new DirectMessageUnreadDto(e.partnerId(), e.unreadCount()));
+            // 알림 재전송(Last-Event-ID) 흐름과 섞이지 않도록 이벤트 ID 없이 전송한다.
+            sseService.sendEvent(e.ownerId(), SSE_EVENT_NAME, data);
+        } catch (Exception ex) {
+            log.warn(DM_UNREAD_LISTENER + "안 읽은 메시지 수 전송 실패 - ownerId: {}, partnerId: {}",
+                e.ownerId(), e.partnerId(), ex);
+        }
+    }
+}
@@ -3,7 +3,8 @@ package com.samsamotot.otboo.directmessage.mapper;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageDto;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomDto;
 import com.samsamotot.otboo.directmessage.entity.DirectMessage;
-import com.samsamotot.otboo.user.entity.User;
+import com.samsamotot.otboo.directmessage.entity.DirectMessageConversation;
+import com.samsamotot.otboo.profile.entity.Profile;
 import com.samsamotot.otboo.user.mapper.UserMapper;
 import java.util.Map;
 import java.util.UUID;
@@ -27,13 +28,13 @@ public interface DirectMessageMapper {
     @Mapping(source = "createdAt",   target = "createdAt")
     DirectMessageDto toDto(DirectMessage entity);
 
-    @Mapping(target = "partner", expression = "java(userMapper.toAuthorDto(partner, profileUrlMap))")
-    @Mapping(source = "dm.message", target = "lastMessage")
-    @Mapping(source = "dm.createdAt", target = "lastMessageSentAt")
+    @Mapping(target = "partner", expression = "java(userMapper.toAuthorDto(conversation.getPartner(), profileMap))")
+    @Mapping(source = "lastMessage", target = "lastMessage")
+    @Mapping(source = "lastMessageAt", target = "lastMessageSentAt")
+    @Mapping(source = "unreadCount", target = "unreadCount")
     DirectMessageRoomDto toRoomDto(
-        User partner,
-        DirectMessage dm,
-        @Context Map<UUID, String> profileUrlMap
+        DirectMessageConversation conversation,
+        @Context Map<UUID, Profile> profileMap
     );
 }
 
@@ -0,0 +1,253 @@
+package com.samsamotot.otboo.directmessage.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageDto;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageRelayEnvelope;
+import com.samsamotot.otboo.directmessage.dto.DmTopicKey;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName  : com.samsamotot.otboo.directmessage.relay
+ * FileName     : DirectMessageRelay
+ * Description  : 여러 WebSocket 노드 간 DM 중계
+ *
+ * <p>각 노드는 자신에게 연결된 사용자를 Redis Set({@code ws:presence:{userId}})에 노드 ID로 등록한다.
+ * 메시지 전송 시 로컬 브로커로 먼저 전달하고, 발신자/수신자 세션을 가진 다른 노드에만
+ * 노드 전용 채널({@code ws:dm:node:{nodeId}})로 발행한다.
+ *
+ * <p>각 노드는 하트비트 키({@code ws:node:alive:{nodeId}})를 짧은 TTL로 갱신한다. 하트비트가 만료된 노드는
+ * 비정상 종료된 것으로 보고 중계 대상에서 빼면서 presence Set에서 제거한다.
+ * 중계가 비활성화되었거나(websocket.relay.enabled=false) Redis 호출이 실패한 뒤 하트비트가 복구되기 전까지는
+ * 로컬 브로커 전달만 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectMessageRelay {
+
+    private static final String RELAY = "[DirectMessageRelay] ";
+    private static final String PRESENCE_KEY_PREFIX = "ws:presence:";
+    private static final String NODE_CHANNEL_PREFIX = "ws:dm:node:";
+    private static final String NODE_HEARTBEAT_PREFIX = "ws:node:alive:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${websocket.presence.ttl.hours:24}")
+    private long presenceTtlHours;
+
+    @Value("${websocket.relay.enabled:true}")
+    private boolean relayEnabled;
+
+    @Value("${websocket.node.heartbeat-ttl-ms:90000}")
+    private long heartbeatTtlMs;
+
+    // 마지막 Redis 호출 결과 (실패 시 false, 하트비트 성공 시 true)
+    private volatile boolean redisHealthy = true;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 이 노드에 연결된 사용자별 STOMP 세션 ID (같은 사용자의 여러 탭/기기)
+    private final Map<UUID, Set<String>> localSessions = new ConcurrentHashMap<>();
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 이 노드가 구독하는 Redis 채널 이름
+     */
+    public String nodeChannel() {
+        return NODE_CHANNEL_PREFIX + nodeId;
+    }
+
+    /**
+     * 두 사용자 간 대화 채널로 메시지를 전달한다.
+     * 로컬 세션에는 즉시 전달하고, 다른 노드에 세션이 있으면 해당 노드 채널로만 발행한다.
+     *
+     * @param senderId   발신자 ID
+     * @param receiverId 수신자 ID
+     * @param message    전달할 메시지
+     */
+    public void publish(UUID senderId, UUID receiverId, DirectMessageDto message) {
+        String destination = DmTopicKey.destination(senderId, receiverId);
+        messagingTemplate.convertAndSend(destination, message);
+
+        if (!isRedisAvailable()) {
+            return;
+        }
+
+        try {
+            Set<String> nodes = stringRedisTemplate.opsForSet()
+                .union(presenceKey(senderId), presenceKey(receiverId));
+            if (nodes == null || nodes.isEmpty()) {
+                return;
+            }
+
+            List<String> remoteNodes = nodes.stream()
+                .filter(node -> !nodeId.equals(node))
+                .toList();
+            if (remoteNodes.isEmpty()) {
+                return;
+            }
+
+            List<String> heartbeats = stringRedisTemplate.opsForValue()
+                .multiGet(remoteNodes.stream().map(this::heartbeatKey).toList());
+
+            String payload = null;
+            for (int i = 0; i < remoteNodes.size(); i++) {
+                String node = remoteNodes.get(i);
+                if (heartbeats == null || heartbeats.get(i) == null) {
+                    removeStaleNode(node, senderId, receiverId);
+                    continue;
+                }
+                if (payload == null) {
+                    payload = objectMapper.writeValueAsString(new DirectMessageRelayEnvelope(destination, message));
+                }
+                stringRedisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + node, payload);
+            }
+        } catch (DataAccessException e) {
+            markUnhealthy("원격 노드 중계", e);
+        } catch (Exception e) {
+            log.warn(RELAY + "원격 노드 중계 실패 - destination: {}, error: {}", destination, e.getMessage());
+        }
+    }
+
+    // 하트비트가 만료된 노드를 두 사용자의 presence에서 제거한다.
+    private void removeStaleNode(String node, UUID senderId, UUID receiverId) {
+        log.info(RELAY + "하트비트가 만료된 노드를 presence에서 제거 - node: {}", node);
+        stringRedisTemplate.opsForSet().remove(presenceKey(senderId), node);
+        stringRedisTemplate.opsForSet().remove(presenceKey(receiverId), node);
+    }
+
+    /**
+     * 다른 노드에서 중계된 메시지를 로컬 브로커로 전달한다.
+     */
+    public void deliverLocal(DirectMessageRelayEnvelope envelope) {
+        messagingTemplate.convertAndSend(envelope.destination(), envelope.message());
+    }
+
+    /**
+     * 사용자 세션이 이 노드에 연결되었을 때 호출된다. 첫 세션이면 presence에 노드를 등록한다.
+     */
+    public void registerSession(UUID userId, String sessionId) {
+        Set<String> sessions = localSessions.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet());
+        if (sessions.add(sessionId) && sessions.size() == 1) {
+            addPresence(userId);
+        }
+    }
+
+    /**
+     * 사용자 세션이 종료되었을 때 호출된다. 마지막 세션이면 presence에서 노드를 제거한다.
+     * 종료 이벤트는 같은 세션에 대해 여러 번 발생할 수 있으므로 세션 ID 기준으로 멱등하게 처리한다.
+     */
+    public void unregisterSession(UUID userId, String sessionId) {
+        Set<String> remaining = localSessions.computeIfPresent(userId, (id, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        if (remaining != null || !isRedisAvailable()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForSet().remove(presenceKey(userId), nodeId);
+        } catch (DataAccessException e) {
+            markUnhealthy("presence 제거", e);
+        }
+    }
+
+    /**
+     * 연결 중인 사용자의 presence를 주기적으로 재등록한다.
+     * TTL 만료나 Redis 재시작으로 유실된 항목을 복구한다. 비정상 종료된 노드의 항목은 하트비트 만료 후 중계 시 정리된다.
+     */
+    @Scheduled(fixedDelayString = "${websocket.presence.refresh-ms:600000}")
+    public void refreshPresence() {
+        localSessions.keySet().forEach(this::addPresence);
+    }
+
+    /**
+     * 이 노드의 하트비트를 갱신한다. Redis 상태 확인을 겸하며, 실패 후 복구되면 presence를 다시 등록한다.
+     */
+    @Scheduled(fixedDelayString = "${websocket.node.heartbeat-ms:30000}")
+    public void heartbeat() {
+        if (!relayEnabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(heartbeatKey(nodeId), "1", Duration.ofMillis(heartbeatTtlMs));
+        } catch (DataAccessException e) {
+            markUnhealthy("하트비트 갱신", e);
+            return;
+        }
+        if (!redisHealthy) {
+            redisHealthy = true;
+            log.info(RELAY + "Redis 복구 - presence 재등록, 연결 사용자 수: {}", localSessions.size());
+            refreshPresence();
+        }
+    }
+
+    /**
+     * 정상 종료 시 하트비트와 이 노드의 presence를 제거한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!isRedisAvailable()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(heartbeatKey(nodeId));
+            localSessions.keySet().forEach(userId ->
+                stringRedisTemplate.opsForSet().remove(presenceKey(userId), nodeId));
+        } catch (DataAccessException e) {
+            log.warn(RELAY + "종료 시 presence 정리 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private void addPresence(UUID userId) {
+        if (!isRedisAvailable()) {
+            return;
+        }
+        try {
+            String key = presenceKey(userId);
+            stringRedisTemplate.opsForSet().add(key, nodeId);
+            stringRedisTemplate.expire(key, Duration.ofHours(presenceTtlHours));
+        } catch (DataAccessException e) {
+            markUnhealthy("presence 등록", e);
+        }
+    }
+
+    private boolean isRedisAvailable() {
+        return relayEnabled && redisHealthy;
+    }
+
+    // 다음 하트비트가 성공할 때까지 Redis 호출을 건너뛴다 (메시지마다 연결 타임아웃을 기다리지 않도록)
+    private void markUnhealthy(String action, DataAccessException e) {
+        if (redisHealthy) {
+            log.warn(RELAY + "{} 실패, 하트비트 복구 전까지 로컬 전달만 수행 - error: {}", action, e.getMessage());
+        }
+        redisHealthy = false;
+    }
+
+    private String heartbeatKey(String node) {
+        return NODE_HEARTBEAT_PREFIX + node;
+    }
+
+    private String presenceKey(UUID userId) {
+        return PRESENCE_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,99 @@
+package com.samsamotot.otboo.directmessage.repository;
+
+import com.samsamotot.otboo.directmessage.entity.DirectMessageConversation;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DirectMessageConversationRepository extends JpaRepository<DirectMessageConversation, UUID> {
+
+    /**
+     * 사용자의 대화방 목록 첫 페이지를 마지막 활동 순으로 조회합니다.
+     * idx_dm_conversations_owner_last (owner_id, last_message_at DESC, id DESC) 범위 스캔 한 번으로 처리됩니다.
+     */
+    @Query("""
+        SELECT c FROM DirectMessageConversation c
+        JOIN FETCH c.partner
+        WHERE c.owner.id = :ownerId
+        ORDER BY c.lastMessageAt DESC, c.id DESC
+        """)
+    List<DirectMessageConversation> findInbox(@Param("ownerId") UUID ownerId, Pageable pageable);
+
+    /**
+     * (lastMessageAt, id) 커서 이후의 대화방 목록을 마지막 활동 순으로 조회합니다.
+     * 같은 인덱스에서 커서 위치부터 이어서 범위 스캔합니다. (OFFSET 없음)
+     */
+    @Query("""
+        SELECT c FROM DirectMessageConversation c
+        JOIN FETCH c.partner
+        WHERE c.owner.id = :ownerId
+          AND c.lastMessageAt <= :cursor
+          AND ( c.lastMessageAt < :cursor
+             OR (c.lastMessageAt = :cursor AND c.id < :idAfter)
+          )
+        ORDER BY c.lastMessageAt DESC, c.id DESC
+        """)
+    List<DirectMessageConversation> findInboxNextPage(
+        @Param("ownerId") UUID ownerId,
+        @Param("cursor") Instant cursor,
+        @Param("idAfter") UUID idAfter,
+        Pageable pageable);
+
+    /**
+     * 송신자/수신자 양쪽의 대화방 요약을 한 문장으로 생성 또는 갱신합니다.
+     * 동시 전송 시에도 unique(owner_id, partner_id) 충돌 없이 처리되며, 더 오래된 메시지로 덮어쓰지 않습니다.
+     * 수신자 행의 안 읽은 메시지 수는 메시지 순서와 무관하게 항상 1 증가합니다.
+     *
+     * @return 갱신 후 수신자 대화방의 안 읽은 메시지 수 (RETURNING 으로 받아 별도 조회 없음)
+     */
+    @Query(value = """
+        WITH upserted AS (
+            INSERT INTO dm_conversations (id, owner_id, partner_id, last_message_id, last_message, last_message_at, unread_count, created_at)
+            VALUES (gen_random_uuid(), :senderId, :receiverId, :messageId, :preview, :sentAt, 0, :sentAt),
+                   (gen_random_uuid(), :receiverId, :senderId, :messageId, :preview, :sentAt, 1, :sentAt)
+            ON CONFLICT (owner_id, partner_id) DO UPDATE
+            SET last_message_id = CASE WHEN dm_conversations.last_message_at <= EXCLUDED.last_message_at
+                                       THEN EXCLUDED.last_message_id ELSE dm_conversations.last_message_id END,
+                last_message = CASE WHEN dm_conversations.last_message_at <= EXCLUDED.last_message_at
+                                    THEN EXCLUDED.last_message ELSE dm_conversations.last_message END,
+                last_message_at = GREATEST(dm_conversations.last_message_at, EXCLUDED.last_message_at),
+                unread_count = dm_conversations.unread_count + EXCLUDED.unread_count
+            RETURNING owner_id, unread_count
+        )
+        SELECT unread_count FROM upserted WHERE owner_id = :receiverId
+        """, nativeQuery = true)
+    int upsertLastMessage(
+        @Param("senderId") UUID senderId,
+        @Param("receiverId") UUID receiverId,
+        @Param("messageId") UUID messageId,
+        @Param("preview") String preview,
+        @Param("sentAt") Instant sentAt);
+
+    /**
+     * owner 기준 partner와의 대화방에서 안 읽은 메시지 수를 조회합니다.
+     * uq_dm_conversations_owner_partner 유니크 인덱스로 단건 조회됩니다.
+     */
+    @Query("""
+        SELECT c.unreadCount FROM DirectMessageConversation c
+        WHERE c.owner.id = :ownerId AND c.partner.id = :partnerId
+        """)
+    Optional<Integer> findUnreadCount(@Param("ownerId") UUID ownerId, @Param("partnerId") UUID partnerId);
+
+    /**
+     * owner 기준 partner와의 대화방을 모두 읽음 처리합니다. 이미 0이면 갱신하지 않습니다.
+     *
+     * @return 갱신된 행 수 (0이면 대화방이 없거나 이미 읽음 상태)
+     */
+    @Modifying
+    @Query("""
+        UPDATE DirectMessageConversation c SET c.unreadCount = 0
+        WHERE c.owner.id = :ownerId AND c.partner.id = :partnerId AND c.unreadCount > 0
+        """)
+    int markAsRead(@Param("ownerId") UUID ownerId, @Param("partnerId") UUID partnerId);
+}
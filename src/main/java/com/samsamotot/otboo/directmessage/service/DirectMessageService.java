@@ -4,6 +4,7 @@ import com.samsamotot.otboo.directmessage.dto.DirectMessageDto;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageListResponse;
 import com.samsamotot.otboo.directmessage.dto.MessageRequest;
 import com.samsamotot.otboo.directmessage.dto.SendDmRequest;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListRequest;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListResponse; // Added
 import jakarta.validation.Valid;
 import org.springframework.validation.annotation.Validated;
@@ -22,5 +23,7 @@ public interface DirectMessageService {
 
     DirectMessageDto sendMessage(UUID senderId, SendDmRequest request);
 
-    DirectMessageRoomListResponse getConversationList();
+    DirectMessageRoomListResponse getConversationList(@Valid DirectMessageRoomListRequest request);
+
+    void markAsRead(UUID partnerId);
 }
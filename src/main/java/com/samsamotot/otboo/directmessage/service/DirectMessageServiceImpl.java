@@ -1,18 +1,20 @@
 package com.samsamotot.otboo.directmessage.service;
 
-import static java.util.function.UnaryOperator.identity;
-
 import com.samsamotot.otboo.common.exception.ErrorCode;
 import com.samsamotot.otboo.common.exception.OtbooException;
 import com.samsamotot.otboo.common.security.service.CustomUserDetails;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageDto;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageListResponse;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomDto;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListRequest;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListResponse;
 import com.samsamotot.otboo.directmessage.dto.MessageRequest;
 import com.samsamotot.otboo.directmessage.dto.SendDmRequest;
+import com.samsamotot.otboo.directmessage.dto.event.DirectMessageUnreadChangedEvent;
 import com.samsamotot.otboo.directmessage.entity.DirectMessage;
+import com.samsamotot.otboo.directmessage.entity.DirectMessageConversation;
 import com.samsamotot.otboo.directmessage.mapper.DirectMessageMapper;
+import com.samsamotot.otboo.directmessage.repository.DirectMessageConversationRepository;
 import com.samsamotot.otboo.directmessage.repository.DirectMessageRepository;
 import com.samsamotot.otboo.notification.dto.event.DirectMessageReceivedEvent;
 import com.samsamotot.otboo.profile.entity.Profile;
@@ -21,6 +23,7 @@ import com.samsamotot.otboo.user.entity.User;
 import com.samsamotot.otboo.user.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -28,7 +31,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -54,8 +56,15 @@ import org.springframework.validation.annotation.Validated;
 public class DirectMessageServiceImpl implements DirectMessageService {
     private static final String DM_SERVICE = "[DirectMessageService] ";
 
+    private static final int PREVIEW_MAX_LENGTH = 100;
+
+    // 대화방 목록 limit 미지정 시 기본 페이지 크기
+    private static final int DEFAULT_ROOM_LIMIT = 20;
+
     private final DirectMessageRepository directMessageRepository;
 
+    private final DirectMessageConversationRepository conversationRepository;
+
     private final UserRepository userRepository;
 
     private final ProfileRepository profileRepository;
@@ -98,11 +107,13 @@ public class DirectMessageServiceImpl implements DirectMessageService {
         UUID idAfter = request.idAfter();
         int limit = Math.max(1, request.limit());
 
+        String conversationKey = DirectMessage.conversationKeyOf(myId, otherId);
+
         List<DirectMessage> rows;
         if (cursor == null) {
-            rows = directMessageRepository.findFirstPage(myId, otherId, PageRequest.of(0, limit + 1));
+            rows = directMessageRepository.findFirstPage(conversationKey, PageRequest.of(0, limit + 1));
         } else {
-            rows = directMessageRepository.findNextPage(myId, otherId, cursor, idAfter, PageRequest.of(0, limit + 1));
+            rows = directMessageRepository.findNextPage(conversationKey, cursor, idAfter, PageRequest.of(0, limit + 1));
         }
 
         boolean hasNext = rows.size() > limit;
@@ -117,7 +128,7 @@ public class DirectMessageServiceImpl implements DirectMessageService {
             nextIdAfter = last.getId();
         }
 
-        long total = directMessageRepository.countBetween(myId, otherId);
+        long total = directMessageRepository.countByConversationKey(conversationKey);
 
         log.info(DM_SERVICE + "DM 목록 조회 완료 - total: {}, hasNext: {}", total, hasNext);
 
@@ -133,92 +144,82 @@ public class DirectMessageServiceImpl implements DirectMessageService {
     }
 
     /**
-     * 현재 사용자의 모든 대화방 목록을 조회하는 서비스 메서드.
+     * 현재 사용자의 대화방 목록을 커서 기반으로 조회하는 서비스 메서드.
      *
      * <p>흐름:
      * 1. 현재 사용자 ID를 인증 컨텍스트에서 조회한다.
-     * 2. DirectMessageRepository를 통해 대화방 목록을 조회한다.
-     * 3. 각 대화방에 대해 상대방 정보와 마지막 메시지를 포함한 DTO로 변환한다.
-     * 4. 변환된 DTO 리스트를 응답 객체에 담아 반환한다.
+     * 2. 대화방 요약(dm_conversations)을 (lastMessageAt, id) 커서 기준 마지막 활동 순으로 limit + 1개 조회한다.
+     *    (전체 메시지 이력 스캔 없음, 초과분으로 다음 페이지 존재 여부 판단)
+     * 3. 대화 상대들의 프로필 이미지를 배치 조회한다.
+     * 4. 변환된 DTO 리스트와 다음 커서를 응답 객체에 담아 반환한다.
      *
-     * @return 대화방 목록 및 마지막 메시지 정보를 담은 응답 객체
+     * @param request 커서(cursor, idAfter)와 페이지 크기(limit, 미지정 시 20)
+     * @return 대화방 목록, 마지막 메시지 정보 및 페이지네이션 정보를 담은 응답 객체
      */
     @Override
-    public DirectMessageRoomListResponse getConversationList() {
+    public DirectMessageRoomListResponse getConversationList(DirectMessageRoomListRequest request) {
         UUID myId = currentUserId();
-        log.info(DM_SERVICE + "대화방 목록 조회 시작 - userId: {}", myId);
-
-        // 마지막 메시지 ID 목록
-        List<UUID> lastMessageIds = Optional
-            .ofNullable(directMessageRepository.findLastMessageIdsOfConversations(myId))
-            .orElseGet(List::of);
+        log.info(DM_SERVICE + "대화방 목록 조회 시작 - userId: {}, request: {}", myId, request);
 
-        if (lastMessageIds.isEmpty()) {
-            return new DirectMessageRoomListResponse(List.of());
-        }
+        int limit = request.limit() != null ? Math.max(1, request.limit()) : DEFAULT_ROOM_LIMIT;
+        PageRequest page = PageRequest.of(0, limit + 1);
 
-        // 메시지 + 유저 로드 (JOIN FETCH)
-        List<DirectMessage> conversations = Optional
-            .ofNullable(directMessageRepository.findWithUsersByIds(lastMessageIds))
+        List<DirectMessageConversation> rows = Optional
+            .ofNullable(request.cursor() == null
+                ? conversationRepository.findInbox(myId, page)
+                : conversationRepository.findInboxNextPage(myId, request.cursor(), request.idAfter(), page))
             .orElseGet(List::of);
 
-        if (conversations.isEmpty()) {
-            return new DirectMessageRoomListResponse(List.of());
+        if (rows.isEmpty()) {
+            return DirectMessageRoomListResponse.builder()
+                .rooms(List.of())
+                .hasNext(false)
+                .build();
         }
 
-        // 마지막 메시지 ID 순서대로 정렬
-        Map<UUID, DirectMessage> dmById = conversations.stream()
-            .collect(Collectors.toMap(DirectMessage::getId, Function.identity()));
-        List<DirectMessage> ordered = lastMessageIds.stream()
-            .map(dmById::get)
-            .filter(Objects::nonNull)
-            .toList();
-
-        if (ordered.isEmpty()) {
-            log.warn(DM_SERVICE + "lastMessageIds는 있으나 조회 결과가 비어 재정렬 실패 - size={}", lastMessageIds.size());
-            return new DirectMessageRoomListResponse(List.of());
-        }
+        boolean hasNext = rows.size() > limit;
+        List<DirectMessageConversation> conversations = hasNext ? rows.subList(0, limit) : rows;
 
         // 대화 상대 userId 수집
-        Set<UUID> partnerIds = ordered.stream()
-            .map(dm -> {
-                User partner = partnerOf(dm, myId);
-                return partner != null ? partner.getId() : null;
-            })
+        Set<UUID> partnerIds = conversations.stream()
+            .map(DirectMessageConversation::getPartner)
             .filter(Objects::nonNull)
+            .map(User::getId)
             .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        // 파트너가 하나도 없으면 프로필 조회 생략 후 바로 매핑
-        if (partnerIds.isEmpty()) {
-            log.info(DM_SERVICE + "파트너가 없어 프로필 조회 생략 - userId: {}", myId);
-
-            List<DirectMessageRoomDto> rooms = toRooms(ordered, myId, Map.of());
-
-            log.info(DM_SERVICE + "대화방 목록 조회 완료 - rooms count: {}", rooms.size());
-            return new DirectMessageRoomListResponse(rooms);
-        }
-
         // 프로필 배치 조회
         List<Profile> profiles = Optional
             .ofNullable(profileRepository.findByUserIdIn(partnerIds))
             .orElseGet(List::of);
 
-        // userId -> profileImageUrl 맵 구성
-        Map<UUID, String> profileUrlMap = partnerIds.stream()
-            .collect(Collectors.toMap(identity(), id -> ""));
-
+        // userId -> 프로필 맵 구성 (이미지 URL 과 변형 이미지 완료 여부를 함께 사용)
+        Map<UUID, Profile> profileMap = new HashMap<>();
         for (Profile p : profiles) {
             if (p != null && p.getUser() != null && p.getUser().getId() != null) {
-                profileUrlMap.put(p.getUser().getId(),
-                    Optional.ofNullable(p.getProfileImageUrl()).orElse(""));
+                profileMap.put(p.getUser().getId(), p);
             }
         }
 
         // DTO 매핑
-        List<DirectMessageRoomDto> rooms = toRooms(ordered, myId, profileUrlMap);
+        List<DirectMessageRoomDto> rooms = conversations.stream()
+            .map(conversation -> directMessageMapper.toRoomDto(conversation, profileMap))
+            .toList();
+
+        String nextCursor = null;
+        UUID nextIdAfter = null;
+        if (hasNext) {
+            DirectMessageConversation last = conversations.get(conversations.size() - 1);
+            nextCursor = last.getLastMessageAt().toString();
+            nextIdAfter = last.getId();
+        }
 
-        log.info(DM_SERVICE + "대화방 목록 조회 완료 - rooms count: {}", rooms.size());
-        return new DirectMessageRoomListResponse(rooms);
+        log.info(DM_SERVICE + "대화방 목록 조회 완료 - rooms count: {}, hasNext: {}", rooms.size(), hasNext);
+        return DirectMessageRoomListResponse.builder()
+            .rooms(rooms)
+            .nextCursor(nextCursor)
+            .nextIdAfter(nextIdAfter)
+            .hasNext(hasNext)
+            .build();
     }
 
     /**
@@ -227,8 +228,11 @@ public class DirectMessageServiceImpl implements DirectMessageService {
      * <p>흐름:
      * 1. 송신자/수신자 엔티티 레퍼런스를 조회한다.
      * 2. DirectMessage 엔티티를 생성해 DB에 저장한다.
-     * 3. 알림(Notification)을 발송하기 위해 내용을 10자 이내로 잘라 전달한다.
-     * 4. 저장된 엔티티를 DTO로 변환해 반환한다.
+     * 3. 송신자/수신자 양쪽의 대화방 요약(마지막 메시지 ID, 시각, 미리보기)과
+     *    수신자의 안 읽은 메시지 수를 같은 트랜잭션에서 갱신한다.
+     * 4. 알림(Notification)을 발송하기 위해 내용을 10자 이내로 잘라 전달한다.
+     * 5. 수신자의 갱신된 안 읽은 메시지 수를 커밋 후 SSE로 전달하도록 이벤트를 발행한다.
+     * 6. 저장된 엔티티를 DTO로 변환해 반환한다.
      *
      * @param senderId 송신자 사용자 ID
      * @param request  메시지 전송 요청 (수신자 ID, 내용)
@@ -249,19 +253,45 @@ public class DirectMessageServiceImpl implements DirectMessageService {
             .sender(sender)
             .receiver(receiver)
             .message(content)
+            .conversationKey(DirectMessage.conversationKeyOf(senderId, request.receiverId()))
             .build();
 
         DirectMessage savedEntity = directMessageRepository.save(directMessage);
         log.info(DM_SERVICE + "DM 저장 완료 - id: {}, createdAt: {}",
             savedEntity.getId(), savedEntity.getCreatedAt());
 
+        // 갱신된 수신자의 안 읽은 메시지 수를 같은 문장에서 돌려받음
+        int unreadCount = conversationRepository.upsertLastMessage(
+            senderId, request.receiverId(), savedEntity.getId(), preview(content), savedEntity.getCreatedAt());
+
         eventPublisher.publishEvent(new DirectMessageReceivedEvent(senderId,request.receiverId(), content));
 
+        eventPublisher.publishEvent(new DirectMessageUnreadChangedEvent(request.receiverId(), senderId, unreadCount));
+
         DirectMessageDto response = directMessageMapper.toDto(savedEntity);
         log.info(DM_SERVICE + "DM 전송 완료 - id: {}", response.id());
         return response;
     }
 
+    /**
+     * 현재 사용자 기준 partner와의 대화방을 읽음 처리한다.
+     * 안 읽은 메시지가 있었던 경우에만 0으로 갱신하고, 다른 기기의 배지도 지우도록 SSE 이벤트를 발행한다.
+     *
+     * @param partnerId 대화 상대 사용자 ID
+     */
+    @Override
+    @Transactional
+    public void markAsRead(UUID partnerId) {
+        UUID myId = currentUserId();
+
+        int updated = conversationRepository.markAsRead(myId, partnerId);
+        log.info(DM_SERVICE + "대화방 읽음 처리 - userId: {}, partnerId: {}, updated: {}", myId, partnerId, updated);
+
+        if (updated > 0) {
+            eventPublisher.publishEvent(new DirectMessageUnreadChangedEvent(myId, partnerId, 0));
+        }
+    }
+
     private UUID currentUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
@@ -283,24 +313,11 @@ public class DirectMessageServiceImpl implements DirectMessageService {
         throw new OtbooException(ErrorCode.UNAUTHORIZED);
     }
 
-    private List<DirectMessageRoomDto> toRooms(List<DirectMessage> ordered, UUID myId, Map<UUID,String> profileUrlMap) {
-        return ordered.stream()
-            .map(dm -> {
-                User partner = partnerOf(dm, myId);
-                if (partner == null) {
-                    log.warn(DM_SERVICE + "partner is null. dmId={}", dm.getId());
-                    return null;
-                }
-                return directMessageMapper.toRoomDto(partner, dm, profileUrlMap);
-            })
-            .filter(Objects::nonNull)
-            .toList();
-    }
-
-    private User partnerOf(DirectMessage dm, UUID myId) {
-        User s = dm.getSender();
-        User r = dm.getReceiver();
-        if (s != null && myId.equals(s.getId())) return r;
-        return s;
+    // 코드 포인트 기준으로 자르므로 이모지 등 서로게이트 쌍이 중간에서 잘리지 않는다.
+    private String preview(String content) {
+        if (content.codePointCount(0, content.length()) <= PREVIEW_MAX_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_MAX_LENGTH));
     }
 }
@@ -0,0 +1,7 @@
+package com.samsamotot.otboo.feed.dto.event;
+
+import java.util.UUID;
+
+public record FeedCommentCountChangedEvent(UUID feedId, long delta) {
+
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -26,7 +27,13 @@ import org.springframework.data.annotation.LastModifiedDate;
 
 @Builder(toBuilder = true)
 @Entity
-@Table(name = "feeds")
+@Table(
+    name = "feeds",
+    indexes = {
+        @Index(name = "idx_feeds_author_created_id_desc", columnList = "author_id, created_at DESC, id DESC"),
+        @Index(name = "idx_feeds_weather", columnList = "weather_id")
+    }
+)
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -4,6 +4,7 @@ import com.samsamotot.otboo.clothes.entity.Clothes;
 import com.samsamotot.otboo.common.entity.BaseEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,6 +19,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "feed_clothes", uniqueConstraints = {
     @UniqueConstraint(name = "uq_feed_clothes", columnNames = {"feed_id", "clothes_id"})
+}, indexes = {
+    @Index(name = "idx_feed_clothes_clothes", columnList = "clothes_id")
 })
 @Getter
 @AllArgsConstructor
@@ -4,6 +4,7 @@ import com.samsamotot.otboo.common.entity.BaseEntity;
 import com.samsamotot.otboo.user.entity.User;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,6 +19,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "feed_likes", uniqueConstraints = {
     @UniqueConstraint(name = "uq_feed_likes", columnNames = {"feed_id", "user_id"})
+}, indexes = {
+    @Index(name = "idx_feed_likes_user_feed", columnList = "user_id, feed_id")
 })
 @Getter
 @AllArgsConstructor
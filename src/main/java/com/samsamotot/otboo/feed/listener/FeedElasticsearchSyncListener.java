@@ -1,6 +1,7 @@
 package com.samsamotot.otboo.feed.listener;
 
 import com.samsamotot.otboo.feed.dto.FeedDto;
+import com.samsamotot.otboo.feed.dto.event.FeedCommentCountChangedEvent;
 import com.samsamotot.otboo.feed.dto.event.FeedDeleteEvent;
 import com.samsamotot.otboo.feed.dto.event.FeedSyncEvent;
 import com.samsamotot.otboo.feed.entity.Feed;
@@ -37,6 +38,16 @@ public class FeedElasticsearchSyncListener {
         }
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFeedCommentCountChangedEvent(FeedCommentCountChangedEvent event) {
+        try {
+            log.debug(LISTENER + "피드 댓글 수 Elasticsearch 동기화 이벤트 시작");
+            feedDataSyncService.updateCommentCount(event.feedId(), event.delta());
+        } catch (Exception e) {
+            log.warn(LISTENER + "댓글 수 동기화 실패: feedId=" + event.feedId(), e);
+        }
+    }
+
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onFeedDeleteEvent(FeedDeleteEvent event) {
         log.debug(LISTENER + "피드 Elasticsearch 논리삭제 이벤트 시작");
@@ -18,6 +18,9 @@ public interface FeedRepository extends JpaRepository<Feed, UUID>, FeedRepositor
     // 논리적으로 삭제되지 않는 피드를 id로 조회합니다.
     Optional<Feed> findByIdAndIsDeletedFalse(UUID id);
 
+    // 논리적으로 삭제되지 않은 피드가 존재하는지 확인합니다.
+    boolean existsByIdAndIsDeletedFalse(UUID id);
+
     // 특정 피드의 좋아요 수를 1 증가시킵니다.
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query(value = """
@@ -40,7 +43,8 @@ public interface FeedRepository extends JpaRepository<Feed, UUID>, FeedRepositor
     int decrementLikeCount(@Param("feedId") UUID feedId);
 
     // 특정 피드의 댓글 수를 1 증가시킵니다.
-    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    // 댓글 작성 경로는 피드 엔티티를 로딩하지 않으므로 영속성 컨텍스트를 비우지 않습니다.
+    @Modifying
     @Query(value = """
         update feeds
            set comment_count = comment_count + 1,
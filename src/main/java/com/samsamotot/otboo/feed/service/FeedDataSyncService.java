@@ -6,10 +6,14 @@ import com.samsamotot.otboo.feed.mapper.FeedMapper;
 import com.samsamotot.otboo.feed.repository.FeedRepository;
 import com.samsamotot.otboo.feed.repository.FeedSearchRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +27,7 @@ public class FeedDataSyncService {
     private final FeedRepository feedRepository;
     private final FeedSearchRepository feedSearchRepository;
     private final FeedMapper feedMapper;
+    private final ElasticsearchOperations operations;
 
     @Transactional(readOnly = true)
     public void syncAllFeedsToElasticsearch() {
@@ -49,6 +54,24 @@ public class FeedDataSyncService {
         log.debug(SERVICE + "Elasticsearch 동기화: {}", feedDto.id());
     }
 
+    /**
+     * 피드 문서 전체를 다시 색인하지 않고 댓글 수만 부분 갱신합니다.
+     *
+     * @param feedId 대상 피드 ID
+     * @param delta  댓글 수 변화량
+     */
+    public void updateCommentCount(UUID feedId, long delta) {
+        UpdateQuery query = UpdateQuery.builder(feedId.toString())
+            .withScriptType(ScriptType.INLINE)
+            .withLang("painless")
+            .withScript("ctx._source.commentCount += params.delta")
+            .withParams(Map.of("delta", delta))
+            .withRetryOnConflict(3)
+            .build();
+        operations.update(query, operations.getIndexCoordinatesFor(FeedDocument.class));
+        log.debug(SERVICE + "Elasticsearch 댓글 수 갱신: {}, delta = {}", feedId, delta);
+    }
+
     public void deleteFeedFromElasticsearch(UUID feedId) {
         feedSearchRepository.deleteById(feedId);
         log.debug(SERVICE + "Elasticsearch에서 피드 삭제: {}", feedId);
@@ -19,6 +19,10 @@ import lombok.NoArgsConstructor;
     name = "follows",
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"follower_id", "followee_id"})
+    },
+    indexes = {
+        @Index(name = "idx_follows_follower_created_id_desc", columnList = "follower_id, created_at DESC, id DESC"),
+        @Index(name = "idx_follows_followee_created_id_desc", columnList = "followee_id, created_at DESC, id DESC")
     }
 )
 @AllArgsConstructor
@@ -3,6 +3,7 @@ package com.samsamotot.otboo.follow.repository;
 import com.samsamotot.otboo.follow.entity.Follow;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -27,6 +28,24 @@ public interface FollowRepository extends JpaRepository<Follow, UUID>, FollowRep
 
     Optional<Follow> findByFollowerIdAndFolloweeId(UUID followerId, UUID followeeId);
 
+    /**
+     * 두 사용자 사이의 양방향 팔로우 관계(최대 2건)를 한 번에 조회한다.
+     * 방향마다 uq_follows(follower_id, followee_id) 유니크 인덱스를 사용한다.
+     */
+    @Query("""
+        SELECT f FROM Follow f
+        WHERE (f.follower.id = :a AND f.followee.id = :b)
+           OR (f.follower.id = :b AND f.followee.id = :a)
+        """)
+    List<Follow> findBetween(@Param("a") UUID a, @Param("b") UUID b);
+
+    /**
+     * 팔로우 관계를 삭제하고 실제 삭제된 행 수를 반환한다. (동시 언팔로우 시 카운터 중복 감소 방지)
+     */
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.id = :followId")
+    int deleteFollowById(@Param("followId") UUID followId);
+
     @Query("SELECT f.follower.id FROM Follow f WHERE f.followee.id = :followeeId")
     List<UUID> findFollowerIdsByFolloweeId(@Param("followeeId") UUID followeeId);
 }
\ No newline at end of file
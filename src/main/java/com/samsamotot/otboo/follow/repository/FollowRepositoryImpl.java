@@ -84,9 +84,9 @@ public class FollowRepositoryImpl implements FollowRepositoryCustom {
         BooleanBuilder baseWhere = new BooleanBuilder()
             .and(follow.follower.id.eq(request.followerId()));
 
-        // nameLike 조건
+        // nameLike 조건 (fetch join 별칭 기준 lower(username) LIKE → idx_users_username_trgm 사용 가능)
         if (request.nameLike() != null && !request.nameLike().isBlank()) {
-            baseWhere.and(follow.followee.username.containsIgnoreCase(request.nameLike()));
+            baseWhere.and(followee.username.containsIgnoreCase(request.nameLike()));
         }
 
         // 타이 브레이커
@@ -94,9 +94,11 @@ public class FollowRepositoryImpl implements FollowRepositoryCustom {
         Instant cursorCreatedAt = parseCursorToInstant(request.cursor());
         UUID cursorId = request.idAfter();
         if (cursorCreatedAt != null && cursorId != null) {
+            // createdAt <= cursor 를 선행 조건으로 두어 (…, created_at DESC, id DESC) 인덱스 범위 스캔의 시작점으로 사용
+            where.and(follow.createdAt.loe(cursorCreatedAt));
             where.and(
                 follow.createdAt.lt(cursorCreatedAt)
-                    .or(follow.createdAt.eq(cursorCreatedAt).and(follow.id.lt(cursorId)))
+                    .or(follow.id.lt(cursorId))
             );
         } else if (cursorCreatedAt != null) {
             where.and(follow.createdAt.lt(cursorCreatedAt));
@@ -175,18 +177,20 @@ public class FollowRepositoryImpl implements FollowRepositoryCustom {
         BooleanBuilder baseWhere = new BooleanBuilder()
             .and(follow.followee.id.eq(request.followerId()));
 
-        // 이름 검색은 '팔로워'의 username 에 적용
+        // 이름 검색은 '팔로워'의 username 에 적용 (fetch join 별칭 기준 lower(username) LIKE → idx_users_username_trgm 사용 가능)
         if (request.nameLike() != null && !request.nameLike().isBlank()) {
-            baseWhere.and(follow.follower.username.containsIgnoreCase(request.nameLike()));
+            baseWhere.and(follower.username.containsIgnoreCase(request.nameLike()));
         }
 
         BooleanBuilder where = new BooleanBuilder().and(baseWhere);
         Instant cursorCreatedAt = parseCursorToInstant(request.cursor());
         UUID cursorId = request.idAfter();
         if (cursorCreatedAt != null && cursorId != null) {
+            // createdAt <= cursor 를 선행 조건으로 두어 (…, created_at DESC, id DESC) 인덱스 범위 스캔의 시작점으로 사용
+            where.and(follow.createdAt.loe(cursorCreatedAt));
             where.and(
                 follow.createdAt.lt(cursorCreatedAt)
-                    .or(follow.createdAt.eq(cursorCreatedAt).and(follow.id.lt(cursorId)))
+                    .or(follow.id.lt(cursorId))
             );
         } else if (cursorCreatedAt != null) {
             where.and(follow.createdAt.lt(cursorCreatedAt));
@@ -0,0 +1,54 @@
+package com.samsamotot.otboo.follow.scheduler;
+
+import com.samsamotot.otboo.user.repository.UserRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PackageName  : com.samsamotot.otboo.follow.scheduler
+ * FileName     : FollowCountScheduler
+ * Description  : users 테이블의 팔로워/팔로잉 수를 follows 테이블 기준으로 주기적으로 보정한다.
+ *                (사용자 삭제 시 CASCADE로 지워진 팔로우 등 카운터 갱신을 거치지 않은 변경 복구)
+ *
+ * <p>어긋난 사용자를 먼저 잠금 없이 찾은 뒤, 배치 단위 트랜잭션에서 행을 잠그고 나서 개수를 다시 센다.
+ * 잠금 이후 문장에서 세기 때문에 보정 중 커밋된 팔로우/언팔로우의 증감이 덮어써지지 않는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowCountScheduler {
+
+    private static final String SCHEDULER_NAME = "[FollowCountScheduler] ";
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${follow.reconcile.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${follow.reconcile.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcileFollowCounts() {
+        try {
+            List<UUID> candidates = userRepository.findFollowCountMismatchedUserIds();
+
+            int repaired = 0;
+            for (int from = 0; from < candidates.size(); from += batchSize) {
+                List<UUID> batch = candidates.subList(from, Math.min(from + batchSize, candidates.size()));
+                Integer updated = transactionTemplate.execute(status -> {
+                    userRepository.lockUsersForUpdate(batch);
+                    return userRepository.recalculateFollowCounts(batch);
+                });
+                repaired += updated != null ? updated : 0;
+            }
+            log.info(SCHEDULER_NAME + "팔로우 수 보정 완료 - 후보: {}, 보정된 사용자 수: {}", candidates.size(), repaired);
+        } catch (Exception e) {
+            log.error(SCHEDULER_NAME + "팔로우 수 보정 중 오류 발생", e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.samsamotot.otboo.follow.service;
 
 import com.samsamotot.otboo.common.exception.ErrorCode;
 import com.samsamotot.otboo.common.exception.OtbooException;
+import com.samsamotot.otboo.common.security.service.CustomUserDetails;
 import com.samsamotot.otboo.follow.dto.*;
 import com.samsamotot.otboo.follow.entity.Follow;
 import com.samsamotot.otboo.follow.mapper.FollowMapper;
@@ -55,7 +56,8 @@ public class FollowServiceImpl implements FollowService {
      * 2. 팔로워(follower)와 팔로위(followee) 사용자가 실제로 존재하는지 조회한다.
      * 3. 두 사용자 중 하나라도 잠금 상태(locked)라면 예외를 발생시킨다.
      * 4. 팔로우 엔티티를 생성하여 DB에 저장한다.
-     * 5. 저장된 팔로우 엔티티를 DTO로 변환하여 반환한다.
+     * 5. 같은 트랜잭션에서 팔로워의 팔로잉 수와 팔로위의 팔로워 수를 원자적으로 증가시킨다.
+     * 6. 저장된 팔로우 엔티티를 DTO로 변환하여 반환한다.
      *
      * 예외 처리:
      * - 중복 팔로우 요청
@@ -108,6 +110,8 @@ public class FollowServiceImpl implements FollowService {
 
         try {
             Follow savedFollow = followRepository.save(follow);
+            // 팔로우 INSERT를 먼저 flush한 뒤 카운터를 갱신하므로 중복 팔로우는 아래 catch에서 처리된다.
+            userRepository.incrementFollowCounts(follower.getId(), followee.getId());
             log.info(FOLLOW_SERVICE + "팔로우 생성 완료: followId={}, followerId={}, followeeId={}",
                 savedFollow.getId(), follower.getId(), followee.getId());
 
@@ -129,13 +133,21 @@ public class FollowServiceImpl implements FollowService {
     }
 
 
+    /**
+     * 대상 사용자의 팔로우 요약 정보를 조회한다.
+     *
+     * 팔로워/팔로잉 수는 users 테이블에 비정규화된 값을 사용하므로 COUNT 쿼리 없이 사용자 단건 조회로 처리된다.
+     * 현재 사용자 ID와 잠금 여부는 인증 Principal에서 가져오고, 양방향 팔로우 관계는 한 번의 쿼리로 조회한다.
+     *
+     * @param userId 대상 사용자 ID
+     * @return 팔로워/팔로잉 수와 현재 사용자와의 팔로우 관계
+     */
     @Override
     public FollowSummaryDto findFollowSummaries(UUID userId) {
         log.info(FOLLOW_SERVICE + "팔로우 요약 조회 시작: targetUserId={}", userId);
-        UUID loggedInUserId = currentUserId();
-
+        CustomUserDetails loggedInUser = currentUser();
+        UUID loggedInUserId = loggedInUser.getId();
 
-        User loggedInUser = userRepository.findById(loggedInUserId).orElseThrow(() -> new OtbooException(ErrorCode.USER_NOT_FOUND));
         if(loggedInUser.isLocked()) {
             throw new OtbooException(ErrorCode.USER_LOCKED);
         }
@@ -144,16 +156,23 @@ public class FollowServiceImpl implements FollowService {
             throw new OtbooException(ErrorCode.USER_LOCKED);
         }
 
-        boolean isFollowed  = followRepository.existsByFollowerIdAndFolloweeId(userId, loggedInUserId);
-
-        UUID followedByMeId = followRepository.findByFollowerIdAndFolloweeId(loggedInUserId, userId)
-            .map(follow -> follow.getId())
-            .orElse(null);
+        boolean isFollowed = false;
+        UUID followedByMeId = null;
+        for (Follow follow : followRepository.findBetween(loggedInUserId, userId)) {
+            UUID followerId = follow.getFollower().getId();
+            UUID followeeId = follow.getFollowee().getId();
+            if (followerId.equals(loggedInUserId) && followeeId.equals(userId)) {
+                followedByMeId = follow.getId();
+            }
+            if (followerId.equals(userId) && followeeId.equals(loggedInUserId)) {
+                isFollowed = true;
+            }
+        }
 
         boolean isFollowing = (followedByMeId != null);
 
-        long followerCount  = followRepository.countByFolloweeId(userId);
-        long followingCount = followRepository.countByFollowerId(userId);
+        long followerCount  = targetUser.getFollowerCount();
+        long followingCount = targetUser.getFollowingCount();
 
         FollowSummaryDto response = FollowSummaryDto.builder()
             .followeeId(targetUser.getId())
@@ -177,6 +196,7 @@ public class FollowServiceImpl implements FollowService {
      * 2. 해당 사용자가 잠금 계정일 경우 예외를 발생시킨다.
      * 3. QueryDSL 기반으로 팔로잉 목록을 조회하고, limit + 1 방식으로 다음 페이지 여부(hasNext)를 판별한다.
      * 4. 조회 결과를 기반으로 totalCount, nextCursor, nextIdAfter 등을 계산하여 응답 객체를 구성한다.
+     *    totalCount는 이름 검색이 없으면 users.following_count를 사용하고, 검색 시에만 COUNT 쿼리를 실행한다.
      * 5. DTO 매핑을 통해 클라이언트에 반환할 데이터를 생성한다.
      *
      * @param request 팔로잉 목록 조회 요청 DTO
@@ -214,7 +234,9 @@ public class FollowServiceImpl implements FollowService {
         boolean hasNext = follows.size() > limit;
 
         /* 3-4. totalCount*/
-        long totalCount = followRepository.countTotalFollowings(request.followerId(), request.nameLike());
+        long totalCount = hasNameFilter(request)
+            ? followRepository.countTotalFollowings(request.followerId(), request.nameLike())
+            : user.getFollowingCount();
 
         /*3-5 nextCursor n nextIdAfter*/
         List<Follow> pageRows = hasNext ? follows.subList(0, limit) : follows;
@@ -253,7 +275,7 @@ public class FollowServiceImpl implements FollowService {
      * 1. 커서 문자열 유효성 검사(형식 불일치 시 경고 로그만 출력)
      * 2. 대상 사용자(=followee) 존재/잠금 여부 확인
      * 3. QueryDSL로 (limit+1)개 행 조회하여 hasNext 계산
-     * 4. totalCount, nextCursor(createdAt), nextIdAfter(UUID) 계산
+     * 4. totalCount(이름 검색이 없으면 users.follower_count 사용), nextCursor(createdAt), nextIdAfter(UUID) 계산
      * 5. DTO 매핑 및 응답 구성
      *
      * @param request 팔로워 목록 조회 요청 DTO
@@ -287,7 +309,9 @@ public class FollowServiceImpl implements FollowService {
         int limit = Math.max(1, request.limit());
         boolean hasNext = follows.size() > limit;
 
-        long totalCount = followRepository.countTotalFollowers(request.followerId(), request.nameLike());
+        long totalCount = hasNameFilter(request)
+            ? followRepository.countTotalFollowers(request.followerId(), request.nameLike())
+            : user.getFollowerCount();
 
         List<Follow> pageRows = hasNext ? follows.subList(0, limit) : follows;
 
@@ -324,7 +348,8 @@ public class FollowServiceImpl implements FollowService {
      * 1. 전달된 followId(팔로우 관계 고유 ID)를 기준으로 존재 여부 확인
      *    - 존재하지 않으면 {@link OtbooException} 발생 (ErrorCode.FOLLOW_NOT_FOUND)
      * 2. 존재할 경우 해당 팔로우 관계를 삭제
-     * 3. 시작/완료 로그 기록
+     * 3. 실제로 삭제된 경우에만 팔로워/팔로위의 팔로잉·팔로워 수를 원자적으로 감소
+     * 4. 시작/완료 로그 기록
      *
      * @param followId 언팔로우할 팔로우 관계의 고유 ID
      * @throws OtbooException followId가 존재하지 않을 경우 발생
@@ -333,11 +358,16 @@ public class FollowServiceImpl implements FollowService {
     @Override
     public void unfollow(UUID followId) {
         log.info(FOLLOW_SERVICE + "언팔로우 시작: followeeId={}", followId);
-        if (!followRepository.existsById(followId)) {
+        Follow follow = followRepository.findById(followId)
+            .orElseThrow(() -> new OtbooException(ErrorCode.FOLLOW_NOT_FOUND));
+        UUID followerId = follow.getFollower().getId();
+        UUID followeeId = follow.getFollowee().getId();
+
+        if (followRepository.deleteFollowById(followId) == 0) {
             throw new OtbooException(ErrorCode.FOLLOW_NOT_FOUND);
         }
-        followRepository.deleteById(followId);
-        log.info(FOLLOW_SERVICE + "언팔로우 완료");
+        userRepository.decrementFollowCounts(followerId, followeeId);
+        log.info(FOLLOW_SERVICE + "언팔로우 완료: followerId={}, followeeId={}", followerId, followeeId);
     }
 
     private static Instant parseCursorToInstant(String cursor) {
@@ -359,19 +389,26 @@ public class FollowServiceImpl implements FollowService {
         return null;
     }
 
-    private UUID currentUserId() {
+    private static boolean hasNameFilter(FollowingRequest request) {
+        return request.nameLike() != null && !request.nameLike().isBlank();
+    }
+
+    /**
+     * 인증 Principal(CustomUserDetails)에서 현재 사용자를 가져온다.
+     * JwtAuthenticationFilter가 요청마다 사용자를 로드하므로 ID와 잠금 여부를 다시 조회하지 않는다.
+     */
+    private CustomUserDetails currentUser() {
         var auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated() || auth.getPrincipal() == null) {
             log.warn(FOLLOW_SERVICE + "인증 실패: Authentication 비어있음/미인증 (auth={}, principal={})", auth, (auth != null ? auth.getPrincipal() : null));
             throw new OtbooException(ErrorCode.UNAUTHORIZED);
         }
 
-        String email = auth.getName();
-        return userRepository.findByEmail(email)
-            .map(User::getId)
-            .orElseThrow(() -> {
-                log.warn(FOLLOW_SERVICE + "인증 사용자 조회 실패: email={} (DB에 없음)", email);
-                return new OtbooException(ErrorCode.UNAUTHORIZED);
-            });
+        if (auth.getPrincipal() instanceof CustomUserDetails userDetails && userDetails.getId() != null) {
+            return userDetails;
+        }
+
+        log.warn(FOLLOW_SERVICE + "인증 실패: 지원하지 않는 Principal 타입 (principal={})", auth.getPrincipal().getClass().getName());
+        throw new OtbooException(ErrorCode.UNAUTHORIZED);
     }
 }
@@ -17,6 +17,8 @@ import java.util.List;
             name = "uq_locations_lon_lat",
             columnNames = {"longitude", "latitude"}
         )
+}, indexes = {
+        @Index(name = "idx_locations_grid", columnList = "grid_id")
 })
 @Check(constraints = "latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180")
 @Getter
@@ -1,6 +1,8 @@
 package com.samsamotot.otboo.profile.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.samsamotot.otboo.common.storage.ImageVariant;
 import com.samsamotot.otboo.profile.entity.Gender;
 import com.samsamotot.otboo.weather.dto.WeatherAPILocation;
 import lombok.Builder;
@@ -17,7 +19,15 @@ public record ProfileDto (
         LocalDate birthDate,
         Double temperatureSensitivity,
         String profileImageUrl,
-        boolean weatherNotificationEnabled
+        boolean weatherNotificationEnabled,
+        boolean profileImageVariantsReady
 ) {
 
+    /**
+     * 프로필 화면 표시용 중간 크기 이미지 URL (변형 이미지 생성이 끝나지 않았으면 원본 URL)
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public String profileImageMediumUrl() {
+        return profileImageVariantsReady ? ImageVariant.MEDIUM.of(profileImageUrl) : profileImageUrl;
+    }
 }
@@ -10,10 +10,13 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDate;
+import java.util.Objects;
 
 @Builder
 @Entity
-@Table(name = "profiles")
+@Table(name = "profiles", indexes = {
+    @Index(name = "idx_profiles_location", columnList = "location_id")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,6 +49,11 @@ public class Profile extends BaseEntity {
     @Column(name = "profile_image_url")
     private String profileImageUrl;
 
+    // 썸네일/중간 크기 변형 이미지가 생성되어 있는지 여부 (false 면 원본 URL 사용)
+    @Builder.Default
+    @Column(name = "profile_image_variants_ready", nullable = false)
+    private boolean profileImageVariantsReady = false;
+
     @Setter
     @Builder.Default
     @Column(name = "weather_notification_enabled", nullable = false)
@@ -67,6 +75,9 @@ public class Profile extends BaseEntity {
             this.temperatureSensitivity = request.temperatureSensitivity();
         }
 
+        if (!Objects.equals(this.profileImageUrl, newImageUrl)) {
+            this.profileImageVariantsReady = false;
+        }
         this.profileImageUrl = newImageUrl;
     }
 }
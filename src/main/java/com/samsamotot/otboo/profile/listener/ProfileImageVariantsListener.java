@@ -0,0 +1,45 @@
+package com.samsamotot.otboo.profile.listener;
+
+import com.samsamotot.otboo.common.storage.event.ImageVariantsReadyEvent;
+import com.samsamotot.otboo.common.util.CacheNames;
+import com.samsamotot.otboo.profile.repository.ProfileRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName  : com.samsamotot.otboo.profile.listener
+ * FileName     : ProfileImageVariantsListener
+ * Description  : 변형 이미지 생성이 끝난 프로필 이미지에 완료 표시를 남기고, 캐시된 프로필을 비워 다음 조회부터 변형 URL 을 내려주도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileImageVariantsListener {
+
+    private static final String PROFILE_IMAGE_VARIANTS_LISTENER = "[ProfileImageVariantsListener] ";
+
+    private final ProfileRepository profileRepository;
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void onImageVariantsReady(ImageVariantsReadyEvent event) {
+        List<UUID> userIds = profileRepository.findUserIdsWaitingForImageVariants(event.imageUrl());
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        // 완료 표시가 커밋된 뒤 캐시를 비워야 이전 값이 다시 캐시되지 않는다
+        profileRepository.markImageVariantsReady(event.imageUrl());
+        Cache cache = cacheManager.getCache(CacheNames.PROFILE);
+        if (cache != null) {
+            userIds.forEach(cache::evict);
+        }
+        log.debug(PROFILE_IMAGE_VARIANTS_LISTENER + "변형 이미지 완료 표시 - URL: {}, 사용자 ID: {}", event.imageUrl(), userIds);
+    }
+}
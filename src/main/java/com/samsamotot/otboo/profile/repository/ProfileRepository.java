@@ -7,8 +7,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ProfileRepository extends JpaRepository<Profile, UUID> {
     Optional<Profile> findByUserId(UUID userId);
@@ -17,5 +19,18 @@ public interface ProfileRepository extends JpaRepository<Profile, UUID> {
 
     @Query("select p from Profile p where p.user.id in :userIds")
     List<Profile> findByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("select p.user.id from Profile p where p.profileImageUrl = :imageUrl and p.profileImageVariantsReady = false")
+    List<UUID> findUserIdsWaitingForImageVariants(@Param("imageUrl") String imageUrl);
+
+    /**
+     * 해당 이미지를 쓰는 프로필에 변형 이미지 생성 완료를 표시합니다.
+     *
+     * @return 갱신된 프로필 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update Profile p set p.profileImageVariantsReady = true where p.profileImageUrl = :imageUrl and p.profileImageVariantsReady = false")
+    int markImageVariantsReady(@Param("imageUrl") String imageUrl);
 }
 
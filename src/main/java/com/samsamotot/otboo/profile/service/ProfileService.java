@@ -14,5 +14,7 @@ public interface ProfileService {
 
     ProfileDto updateProfile(UUID userId, @Valid ProfileUpdateRequest request, MultipartFile profileImage);
 
+    ProfileDto updateProfileWithUploadedImage(UUID userId, @Valid ProfileUpdateRequest request, String imageKey);
+
     void updateNotificationEnabled(UUID userId, NotificationSettingUpdateRequest request);
 }
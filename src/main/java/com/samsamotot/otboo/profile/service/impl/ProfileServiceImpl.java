@@ -3,6 +3,7 @@ package com.samsamotot.otboo.profile.service.impl;
 import com.samsamotot.otboo.common.exception.ErrorCode;
 import com.samsamotot.otboo.common.exception.OtbooException;
 import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import com.samsamotot.otboo.common.storage.event.ImageDeleteEvent;
 import com.samsamotot.otboo.common.util.CacheNames;
 import com.samsamotot.otboo.location.entity.Location;
 import com.samsamotot.otboo.location.repository.LocationRepository;
@@ -21,12 +22,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * PackageName  : com.samsamotot.otboo.profile.service.impl
@@ -46,6 +53,8 @@ public class ProfileServiceImpl implements ProfileService {
     private final ProfileMapper profileMapper;
     private final S3ImageStorage s3ImageStorage;
     private final GridRepository gridRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 ID를 사용하여 특정 사용자의 프로필 정보를 조회합니다.
@@ -79,9 +88,10 @@ public class ProfileServiceImpl implements ProfileService {
     /**
      * 특정 사용자의 프로필 정보 및 프로필 이미지를 수정합니다.
      *
-     * 이 메서드는 @Transactional 환경에서 동작하며, JPA의 변경 감지(Dirty Checking) 기능을 통해
-     * 프로필 정보 변경 시 데이터베이스에 자동으로 반영됩니다.
-     * 새 프로필 이미지가 제공되면 기존 이미지를 S3에서 삭제하고 새 이미지를 업로드합니다.
+     * 새 프로필 이미지가 제공되면 트랜잭션을 열기 전에 S3에 먼저 업로드하여,
+     * 외부 I/O 동안 DB 커넥션을 점유하지 않도록 합니다.
+     * 프로필 변경은 별도 트랜잭션에서 JPA 변경 감지(Dirty Checking)로 반영되며,
+     * 기존 이미지는 커밋 이후 비동기로 삭제되고 DB 반영이 실패하면 새로 올린 이미지를 삭제합니다.
      *
      * @param userId       수정할 사용자의 고유 ID (UUID)
      * @param request      수정할 프로필 정보가 담긴 DTO (@Valid를 통해 유효성 검사)
@@ -90,26 +100,82 @@ public class ProfileServiceImpl implements ProfileService {
      * @throws OtbooException 사용자를 찾을 수 없을 때 발생하는 예외
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @CacheEvict(value = CacheNames.PROFILE, key = "#userId")
     public ProfileDto updateProfile(UUID userId, ProfileUpdateRequest request, MultipartFile profileImage) {
         log.info(SERVICE_NAME + "사용자 프로필 수정 시도 - 사용자 ID: {}, 사용자 이름: {}",
                 userId, request.name());
-        Profile existingProfile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new OtbooException(ErrorCode.PROFILE_NOT_FOUND));
 
-        // 1. 이미지 처리
-        String oldImageUrl = existingProfile.getProfileImageUrl();
-        String newImageUrl = processProfileImage(profileImage, oldImageUrl);
+        // 1. 이미지 업로드 (트랜잭션 밖)
+        String uploadedImageUrl = uploadProfileImage(profileImage);
+
+        return applyProfileUpdate(userId, request, uploadedImageUrl);
+    }
+
+    /**
+     * 클라이언트가 presigned URL 로 S3에 직접 업로드한 이미지로 프로필을 수정합니다.
+     *
+     * 업로드된 객체의 소유자 경로, 크기, 콘텐츠 타입을 확인한 뒤
+     * {@link #updateProfile(UUID, ProfileUpdateRequest, MultipartFile)} 와 같은 방식으로 반영합니다.
+     *
+     * @param userId   수정할 사용자의 고유 ID (UUID)
+     * @param request  수정할 프로필 정보가 담긴 DTO
+     * @param imageKey presigned 업로드 URL 발급 시 함께 받은 S3 객체 키
+     * @return 수정이 완료된 최신 프로필 정보가 담긴 ProfileDto
+     * @throws OtbooException 사용자를 찾을 수 없을 때 발생하는 예외
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = CacheNames.PROFILE, key = "#userId")
+    public ProfileDto updateProfileWithUploadedImage(UUID userId, ProfileUpdateRequest request, String imageKey) {
+        log.info(SERVICE_NAME + "직접 업로드 이미지로 사용자 프로필 수정 시도 - 사용자 ID: {}, 이미지 키: {}",
+                userId, imageKey);
+
+        String uploadedImageUrl = s3ImageStorage.confirmDirectUpload(imageKey, "profile/", userId);
 
-        // 2. 위치 정보 처리
-        Location location = findOrCreateLocation(request.location(), existingProfile.getLocation());
+        return applyProfileUpdate(userId, request, uploadedImageUrl);
+    }
+
+    private ProfileDto applyProfileUpdate(UUID userId, ProfileUpdateRequest request, String uploadedImageUrl) {
+        // 보상 삭제 시 현재 사용 중인 이미지를 지우지 않도록 기존 경로를 트랜잭션 밖에서도 참조
+        AtomicReference<String> oldImageUrlHolder = new AtomicReference<>();
+        ProfileDto updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                Profile existingProfile = profileRepository.findByUserId(userId)
+                        .orElseThrow(() -> new OtbooException(ErrorCode.PROFILE_NOT_FOUND));
+
+                String oldImageUrl = existingProfile.getProfileImageUrl();
+                oldImageUrlHolder.set(oldImageUrl);
+                String newImageUrl = uploadedImageUrl != null ? uploadedImageUrl : oldImageUrl;
+
+                // 2. 위치 정보 처리
+                Location location = findOrCreateLocation(request.location(), existingProfile.getLocation());
 
-        // 3. [저장] 프로필 업데이트
-        existingProfile.update(request, location, newImageUrl);
-        log.info(SERVICE_NAME + "사용자 프로필 수정 완료 - 프로필 ID: {}", existingProfile.getId());
+                // 3. [저장] 프로필 업데이트
+                existingProfile.update(request, location, newImageUrl);
+                log.info(SERVICE_NAME + "사용자 프로필 수정 완료 - 프로필 ID: {}", existingProfile.getId());
+
+                // 4. 기존 이미지 삭제 (커밋 이후 처리). 같은 이미지로 다시 저장한 경우는 제외
+                if (uploadedImageUrl != null && oldImageUrl != null && !oldImageUrl.isEmpty()
+                        && !Objects.equals(oldImageUrl, uploadedImageUrl)) {
+                    eventPublisher.publishEvent(new ImageDeleteEvent(oldImageUrl));
+                }
+
+                return profileMapper.toDto(existingProfile);
+            });
+        } catch (RuntimeException e) {
+            if (uploadedImageUrl != null && !Objects.equals(oldImageUrlHolder.get(), uploadedImageUrl)) {
+                publishCompensatingDelete(uploadedImageUrl, e);
+            }
+            throw e;
+        }
 
-        return profileMapper.toDto(existingProfile);
+        // 커밋 전에 변형 이미지 생성이 끝났다면 완료 표시를 다시 요청
+        if (uploadedImageUrl != null) {
+            s3ImageStorage.publishVariantsReadyIfGenerated(uploadedImageUrl);
+        }
+        return updated;
     }
 
     /**
@@ -152,21 +218,15 @@ public class ProfileServiceImpl implements ProfileService {
                     });
     }
 
-    private String processProfileImage(MultipartFile profileImage, String oldImageUrl) {
+    private String uploadProfileImage(MultipartFile profileImage) {
         if (profileImage == null || profileImage.isEmpty()) {
-            log.info(SERVICE_NAME + "기존 프로필 이미지 변경 없음 - oldImageUrl: {}", oldImageUrl);
-            return oldImageUrl;
+            log.info(SERVICE_NAME + "프로필 이미지 변경 없음");
+            return null;
         }
 
         log.info(SERVICE_NAME + "사용자 프로필 이미지 최신화...");
         String newImageUrl = s3ImageStorage.uploadImage(profileImage, "profile/");
         log.info(SERVICE_NAME + "사용자 프로필 업로드 완료. URL: {}", newImageUrl);
-
-        if (oldImageUrl != null && !oldImageUrl.isEmpty()) {
-            s3ImageStorage.deleteImage(oldImageUrl);
-            log.info(SERVICE_NAME + "기존 프로필 이미지 삭제 완료. URL: {}", oldImageUrl);
-        }
-
         return newImageUrl;
     }
 
@@ -196,4 +256,14 @@ public class ProfileServiceImpl implements ProfileService {
 
         log.info(SERVICE_NAME + "유저 프로필 날씨 알림 수신 여부 수정 완료");
     }
+
+    // DB 작업 실패 후 업로드된 이미지의 보상 삭제를 요청한다. 요청이 거절되어도 원래 예외가 클라이언트에 전달되도록 삼키고 URL 을 남긴다.
+    private void publishCompensatingDelete(String imageUrl, RuntimeException cause) {
+        try {
+            eventPublisher.publishEvent(new ImageDeleteEvent(imageUrl));
+        } catch (TaskRejectedException rejected) {
+            log.error(SERVICE_NAME + "보상 삭제 요청 거절, 고아 이미지 정리 필요 - url: {}", imageUrl, rejected);
+            cause.addSuppressed(rejected);
+        }
+    }
 }
@@ -4,6 +4,8 @@ import static com.samsamotot.otboo.common.util.AuthUtil.getAuthenticatedUserId;
 
 import com.samsamotot.otboo.recommendation.controller.api.RecommendationApi;
 import com.samsamotot.otboo.recommendation.dto.RecommendationDto;
+import com.samsamotot.otboo.recommendation.dto.RecommendationReasonDto;
+import com.samsamotot.otboo.recommendation.service.RecommendationReasonService;
 import com.samsamotot.otboo.recommendation.service.RecommendationService;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -26,6 +29,7 @@ public class RecommendationController implements RecommendationApi {
 
     private final static String CONTROLLER = "[RecommendationController] ";
     private final RecommendationService recommendationService;
+    private final RecommendationReasonService recommendationReasonService;
 
     /**
      * 주어진 날씨 ID에 대해 사용자에게 의상 추천 결과를 반환합니다.
@@ -48,4 +52,25 @@ public class RecommendationController implements RecommendationApi {
             .status(HttpStatus.OK)
             .body(recommendationDto);
     }
+
+    /**
+     * 추천 응답에 포함된 reasonId로 비동기 생성된 추천 이유를 조회합니다.
+     *
+     * @param reasonId 추천 이유 ID
+     * @return 추천 이유 (아직 생성 중이면 ready=false)
+     */
+    @Override
+    @GetMapping("/reasons/{reasonId}")
+    public ResponseEntity<RecommendationReasonDto> getRecommendationReason(
+        @PathVariable UUID reasonId
+    ) {
+        UUID userId = getAuthenticatedUserId();
+
+        log.debug(CONTROLLER + "추천 이유 조회 요청: reasonId={}, userId={}", reasonId, userId);
+        RecommendationReasonDto reasonDto = recommendationReasonService.getReason(userId, reasonId);
+
+        return ResponseEntity
+            .status(HttpStatus.OK)
+            .body(reasonDto);
+    }
 }
@@ -2,6 +2,7 @@ package com.samsamotot.otboo.recommendation.controller.api;
 
 import com.samsamotot.otboo.common.exception.ErrorResponse;
 import com.samsamotot.otboo.recommendation.dto.RecommendationDto;
+import com.samsamotot.otboo.recommendation.dto.RecommendationReasonDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.UUID;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "추천 관리", description = "추천 관련 API")
@@ -45,4 +47,19 @@ public interface RecommendationApi {
     ResponseEntity<RecommendationDto> getRecommendations(
         @RequestParam UUID weatherId
     );
+
+    @Operation(summary = "추천 이유 조회", description = "추천 응답의 reasonId로 비동기 생성된 추천 이유를 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "추천 이유 조회 성공 (생성 중이면 ready=false)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RecommendationReasonDto.class)
+            )
+        )
+    })
+    ResponseEntity<RecommendationReasonDto> getRecommendationReason(
+        @PathVariable UUID reasonId
+    );
 }
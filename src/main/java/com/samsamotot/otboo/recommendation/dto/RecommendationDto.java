@@ -11,7 +11,8 @@ public record RecommendationDto(
     UUID weatherId,
     UUID userId,
     List<OotdDto> clothes,
-    String reason
+    String reason,
+    UUID reasonId
 ) {
 
 }
@@ -0,0 +1,13 @@
+package com.samsamotot.otboo.recommendation.dto;
+
+import java.util.UUID;
+import lombok.Builder;
+
+@Builder
+public record RecommendationReasonDto(
+    UUID reasonId,
+    String reason,
+    boolean ready
+) {
+
+}
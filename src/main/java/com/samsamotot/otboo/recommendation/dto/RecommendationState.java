@@ -0,0 +1,10 @@
+package com.samsamotot.otboo.recommendation.dto;
+
+import com.samsamotot.otboo.clothes.entity.ClothesType;
+import java.util.Map;
+import java.util.UUID;
+
+public record RecommendationState(
+    long rollCounter,
+    Map<ClothesType, UUID> cooldownIdMap
+) {}
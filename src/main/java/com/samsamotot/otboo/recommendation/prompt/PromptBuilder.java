@@ -1,8 +1,10 @@
 package com.samsamotot.otboo.recommendation.prompt;
 
 import com.samsamotot.otboo.clothes.dto.OotdDto;
+import com.samsamotot.otboo.recommendation.type.Season;
 import java.time.Month;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -26,9 +28,14 @@ public class PromptBuilder {
         """;
 
     private final int maxLen;
+    private final double temperatureBucket;
 
-    public PromptBuilder(@Value("${llm.reason.max-length:60}") int maxLen) {
+    public PromptBuilder(
+        @Value("${llm.reason.max-length:60}") int maxLen,
+        @Value("${llm.reason.cache.temperature-bucket:3.0}") double temperatureBucket
+    ) {
         this.maxLen = Math.max(20, maxLen);
+        this.temperatureBucket = temperatureBucket > 0 ? temperatureBucket : 3.0;
     }
 
     /**
@@ -85,6 +92,56 @@ public class PromptBuilder {
         );
     }
 
+    /**
+     * 추천 이유 캐시 키를 생성합니다.
+     * 같은 키에는 같은 한 줄 설명을 재사용하므로, {@link #buildOneLiner}의 입력을 정규화합니다.
+     * <ul>
+     *   <li>체감온도: 구간(기본 3℃) 단위로 버킷팅 (민감도는 체감온도에 이미 반영됨)</li>
+     *   <li>날씨: 비/눈 여부</li>
+     *   <li>월: 계절 단위</li>
+     *   <li>아이템: 타입 + 프롬프트에 들어가는 모든 속성(두께, 방수, 스타일 등)을 정렬하여 순서 무관하게 처리</li>
+     * </ul>
+     *
+     * @return 정규화된 캐시 키 (예: {@code "fl:15|wet:0|s:FALL|BOTTOM:-,TOP:두께=얇음;방수=X;스타일=캐주얼"})
+     */
+    public String buildReasonCacheKey(
+        boolean isRainingOrSnowing,
+        Month currentMonth,
+        Double feelsLike,
+        List<OotdDto> recommendedItems
+    ) {
+        String fl = feelsLike == null
+            ? "-"
+            : String.valueOf((long) (Math.floor(feelsLike / temperatureBucket) * temperatureBucket));
+        String season = currentMonth == null ? "-" : Season.fromMonth(currentMonth).name();
+        String items = (recommendedItems == null || recommendedItems.isEmpty())
+            ? "-"
+            : recommendedItems.stream()
+                .filter(Objects::nonNull)
+                .map(item -> (item.type() != null ? item.type().name() : "-") + ":" + attributesOf(item))
+                .sorted()
+                .collect(Collectors.joining(","));
+
+        return "fl:" + fl + "|wet:" + (isRainingOrSnowing ? 1 : 0) + "|s:" + season + "|" + items;
+    }
+
+    /**
+     * 아이템의 속성을 {@code 정의명=값} 형태로 정의명 순 정렬해 추출합니다. (없으면 "-")
+     * {@link OotdDto#toSummaryStringWithDefs()}와 같은 기준(값이 비어 있지 않은 속성)으로 골라,
+     * 프롬프트에 들어가는 속성이 다르면 캐시 키도 달라지도록 합니다.
+     */
+    private static String attributesOf(OotdDto item) {
+        if (item.attributes() == null) return "-";
+        String attributes = item.attributes().stream()
+            .filter(Objects::nonNull)
+            .filter(attr -> attr.definitionName() != null)
+            .filter(attr -> attr.value() != null && !attr.value().isBlank())
+            .map(attr -> attr.definitionName().trim() + "=" + attr.value().trim())
+            .sorted()
+            .collect(Collectors.joining(";"));
+        return attributes.isEmpty() ? "-" : attributes;
+    }
+
     /**
      * 코드포인트 기준으로 문자열을 자릅니다.
      */
@@ -1,9 +1,7 @@
 package com.samsamotot.otboo.recommendation.service;
 
 import com.samsamotot.otboo.clothes.dto.OotdDto;
-import com.samsamotot.otboo.clothes.entity.Clothes;
 import com.samsamotot.otboo.clothes.entity.ClothesType;
-import com.samsamotot.otboo.clothes.mapper.ClothesMapper;
 import com.samsamotot.otboo.recommendation.dto.RecommendationContextDto;
 import com.samsamotot.otboo.recommendation.dto.RecommendationResult;
 import com.samsamotot.otboo.recommendation.type.RecommendationAttribute;
@@ -21,7 +19,6 @@ import java.util.Optional;
 import java.util.SplittableRandom;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -29,7 +26,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly=true)
 public class ItemSelectorEngine {
 
@@ -47,27 +43,25 @@ public class ItemSelectorEngine {
 
     private static final String ENGINE = "[ItemSelectorEngine] ";
 
-    private final ClothesMapper clothesMapper;
-
     private static final class Scored {
-        final Clothes c;
+        final OotdDto c;
         final double score; // [0,1]
         final Style style;
-        Scored(Clothes c, double score, Style style) { this.c = c; this.score = score; this.style = style; }
+        Scored(OotdDto c, double score, Style style) { this.c = c; this.score = score; this.style = style; }
     }
 
     /**
      * 옷장 목록에서 추천 후보를 추려 각 카테고리별로 softmax 샘플링으로 추천합니다.
      * 추천 실패 시 랜덤 추천으로 대체합니다.
      *
-     * @param clothes 사용자의 옷장에 있는 옷 목록
+     * @param clothes 사용자의 옷장에 있는 옷 목록 (추천용 프로젝션)
      * @param context 추천 컨텍스트(온도, 월, 강수 등)
      * @param rollCounter 샘플링용 시드값
      * @param cooldownIdMap 최근 추천된 옷(타입별) 맵
      * @return 추천된 OotdDto 리스트
      */
     public RecommendationResult createRecommendation(
-        List<Clothes> clothes,
+        List<OotdDto> clothes,
         RecommendationContextDto context,
         long rollCounter,
         Map<ClothesType, UUID> cooldownIdMap
@@ -75,28 +69,28 @@ public class ItemSelectorEngine {
         boolean usedRandom = false;
 
         // null-safety
-        final List<Clothes> safeClothes = (clothes == null) ? List.of() : clothes;
+        final List<OotdDto> safeClothes = (clothes == null) ? List.of() : clothes;
         final Map<ClothesType, UUID> safeCooldown =
             (cooldownIdMap == null) ? Map.of() : cooldownIdMap;
 
         // 전체 타입별 그룹화 (쿨다운 제외 X) - 랜덤 추천에서 사용
-        Map<ClothesType, List<Clothes>> typeGroupsAll = safeClothes.stream()
-            .collect(Collectors.groupingBy(Clothes::getType));
+        Map<ClothesType, List<OotdDto>> typeGroupsAll = safeClothes.stream()
+            .collect(Collectors.groupingBy(OotdDto::type));
 
         // 최근 추천된 옷 제외 - 정상 추천 경로에서 사용
-        List<Clothes> filtered = safeClothes.stream()
-            .filter(c -> !Objects.equals(safeCooldown.get(c.getType()), c.getId()))
+        List<OotdDto> filtered = safeClothes.stream()
+            .filter(c -> !Objects.equals(safeCooldown.get(c.type()), c.clothesId()))
             .toList();
 
-        Map<ClothesType, List<Clothes>> typeGroupsFiltered = filtered.stream()
-            .collect(Collectors.groupingBy(Clothes::getType));
+        Map<ClothesType, List<OotdDto>> typeGroupsFiltered = filtered.stream()
+            .collect(Collectors.groupingBy(OotdDto::type));
 
         // 점수 캐시 (중복 계산 방지)
         Map<UUID, Double> scoreCache = new HashMap<>();
 
         // TOP/BOTTOM 또는 DRESS 조합 우선 추천
         List<OotdDto> ootds = recommendTopBottomOrDress(typeGroupsFiltered, context, rollCounter, scoreCache);
-        Style anchorStyle = findAnchorStyle(ootds, typeGroupsFiltered);
+        Style anchorStyle = findAnchorStyle(ootds);
 
         // 나머지 타입 추천
         List<OotdDto> result = new ArrayList<>(ootds);
@@ -136,19 +130,19 @@ public class ItemSelectorEngine {
      * 속성이 없거나 변환 오류 시 기본값으로 처리합니다.
      */
     public double calculateScore(
-        Clothes clothes,
+        OotdDto clothes,
         double temperature,
         Month currentMonth,
         boolean isRainy
     ) {
         // 속성 리스트를 Map으로 변환 (변환 실패 시 null 키)
         Map<RecommendationAttribute, String> attributeMap =
-            Optional.ofNullable(clothes.getAttributes()).orElseGet(List::of).stream()
+            Optional.ofNullable(clothes.attributes()).orElseGet(List::of).stream()
                 .map(attr -> {
-                    if (attr == null || attr.getDefinition() == null) return null;
-                    String name = attr.getDefinition().getName();
+                    if (attr == null || attr.definitionName() == null || attr.value() == null) return null;
+                    String name = attr.definitionName();
                     try {
-                        return Map.entry(RecommendationAttribute.fromName(name), attr.getValue());
+                        return Map.entry(RecommendationAttribute.fromName(name), attr.value());
                     } catch (IllegalArgumentException e) {
                         log.warn(ENGINE + "의상 속성 변환 오류: name={}, err={}", name, e.getMessage());
                         return null;
@@ -156,7 +150,7 @@ public class ItemSelectorEngine {
                 })
                 .filter(Objects::nonNull)
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (oldV, newV) -> newV));
-        log.debug(ENGINE + "의상 속성 맵: id={}, type={}, attributes={}", clothes.getId(), clothes.getType(), attributeMap);
+        log.debug(ENGINE + "의상 속성 맵: id={}, type={}, attributes={}", clothes.clothesId(), clothes.type(), attributeMap);
 
         Season currentSeason = Season.fromMonth(currentMonth);
 
@@ -166,7 +160,7 @@ public class ItemSelectorEngine {
             thickness = Thickness.fromName(
                 attributeMap.getOrDefault(RecommendationAttribute.THICKNESS, Thickness.MEDIUM.getName()));
         } catch (Exception ex) {
-            log.warn(ENGINE + "두께 파싱 실패: value='{}', fallback=MEDIUM, id={}", attributeMap.get(RecommendationAttribute.THICKNESS), clothes.getId());
+            log.warn(ENGINE + "두께 파싱 실패: value='{}', fallback=MEDIUM, id={}", attributeMap.get(RecommendationAttribute.THICKNESS), clothes.clothesId());
             thickness = Thickness.MEDIUM;
         }
         boolean isWaterproof = Waterproof.TRUE.getName().equalsIgnoreCase(
@@ -176,7 +170,7 @@ public class ItemSelectorEngine {
             clothesSeason = Season.fromName(
                 attributeMap.getOrDefault(RecommendationAttribute.SEASON, Season.SPRING.getName()));
         } catch (Exception ex) {
-            log.warn(ENGINE + "계절 파싱 실패: value='{}', fallback=SPRING, id={}", attributeMap.get(RecommendationAttribute.SEASON), clothes.getId());
+            log.warn(ENGINE + "계절 파싱 실패: value='{}', fallback=SPRING, id={}", attributeMap.get(RecommendationAttribute.SEASON), clothes.clothesId());
             clothesSeason = Season.SPRING;
         }
 
@@ -245,7 +239,7 @@ public class ItemSelectorEngine {
      * TOP/BOTTOM 조합 또는 DRESS을 추천합니다.
      */
     private List<OotdDto> recommendTopBottomOrDress(
-        Map<ClothesType, List<Clothes>> typeGroups,
+        Map<ClothesType, List<OotdDto>> typeGroups,
         RecommendationContextDto context,
         long rollCounter,
         Map<UUID, Double> scoreCache
@@ -265,9 +259,9 @@ public class ItemSelectorEngine {
 
         // 조합 우선: TOP/BOTTOM 있으면, TOP 고르고 BOTTOM에 보너스 가산 후 softmax
         if (!topsOK.isEmpty() && !bottomsOK.isEmpty()) {
-            Clothes topPicked = softmaxPick(topsOK, mixSeed(rollCounter, ClothesType.TOP));
+            OotdDto topPicked = softmaxPick(topsOK, mixSeed(rollCounter, ClothesType.TOP));
             Style anchor = extractStyle(topPicked);
-            Clothes bottomPicked = softmaxPick(
+            OotdDto bottomPicked = softmaxPick(
                 withHarmonyBonus(bottomsOK, anchor, STYLE_WEIGHT),
                 mixSeed(rollCounter, ClothesType.BOTTOM)
             );
@@ -281,7 +275,7 @@ public class ItemSelectorEngine {
 
         // DRESS 단일
         if (!dressesOK.isEmpty()) {
-            Clothes d = softmaxPick(dressesOK, mixSeed(rollCounter, ClothesType.DRESS));
+            OotdDto d = softmaxPick(dressesOK, mixSeed(rollCounter, ClothesType.DRESS));
             addDtoIfNotNull(result, d);
             return result;
         }
@@ -303,10 +297,10 @@ public class ItemSelectorEngine {
     /**
      * 점수 목록을 생성합니다.
      */
-    private List<Scored> buildScored(List<Clothes> items, RecommendationContextDto ctx, Map<UUID, Double> cache) {
+    private List<Scored> buildScored(List<OotdDto> items, RecommendationContextDto ctx, Map<UUID, Double> cache) {
         if (items == null || items.isEmpty()) return List.of();
         List<Scored> out = new ArrayList<>(items.size());
-        for (Clothes c : items) {
+        for (OotdDto c : items) {
             double s = scoreOf(c, ctx, cache);
             out.add(new Scored(c, s, extractStyle(c)));
         }
@@ -341,7 +335,7 @@ public class ItemSelectorEngine {
     /**
      * softmax 선택
      */
-    private Clothes softmaxPick(List<Scored> scored, long seedSalt) {
+    private OotdDto softmaxPick(List<Scored> scored, long seedSalt) {
         if (scored.isEmpty()) return null;
         List<Double> arr = scored.stream().map(s -> s.score).toList();
         int idx = softmaxSample(arr, seedSalt);
@@ -356,16 +350,16 @@ public class ItemSelectorEngine {
      * - 모두 없으면 빈 리스트 반환
      */
     private List<OotdDto> fallbackRecommendTopBottomOrDress(
-        Map<ClothesType, List<Clothes>> typeGroups,
+        Map<ClothesType, List<OotdDto>> typeGroups,
         long rollCounter
     ) {
         log.debug(ENGINE + "랜덤 TOP/BOTTOM 또는 DRESS 추천 시작");
 
         List<OotdDto> result = new ArrayList<>();
 
-        List<Clothes> tops = typeGroups.getOrDefault(ClothesType.TOP, List.of());
-        List<Clothes> bottoms = typeGroups.getOrDefault(ClothesType.BOTTOM, List.of());
-        List<Clothes> dresses = typeGroups.getOrDefault(ClothesType.DRESS, List.of());
+        List<OotdDto> tops = typeGroups.getOrDefault(ClothesType.TOP, List.of());
+        List<OotdDto> bottoms = typeGroups.getOrDefault(ClothesType.BOTTOM, List.of());
+        List<OotdDto> dresses = typeGroups.getOrDefault(ClothesType.DRESS, List.of());
 
         boolean hasPair  = !tops.isEmpty() && !bottoms.isEmpty();
         boolean hasDress = !dresses.isEmpty();
@@ -414,7 +408,7 @@ public class ItemSelectorEngine {
      * (임계값 이상 후보가 없으면 스킵되며, 최종 결과가 비었을 때 상위 레벨의 랜덤 폴백이 적용됩니다.)
      */
     private List<OotdDto> recommendOthers(
-        Map<ClothesType, List<Clothes>> typeGroups,
+        Map<ClothesType, List<OotdDto>> typeGroups,
         RecommendationContextDto context,
         long rollCounter,
         Style anchorStyle,
@@ -423,7 +417,7 @@ public class ItemSelectorEngine {
         log.debug(ENGINE + "나머지 타입 추천 시작");
         List<OotdDto> result = new ArrayList<>();
 
-        for (Map.Entry<ClothesType, List<Clothes>> e : typeGroups.entrySet()) {
+        for (Map.Entry<ClothesType, List<OotdDto>> e : typeGroups.entrySet()) {
             ClothesType type = e.getKey();
             if (type == ClothesType.TOP || type == ClothesType.BOTTOM || type == ClothesType.DRESS) continue;
 
@@ -435,7 +429,7 @@ public class ItemSelectorEngine {
                 log.debug(ENGINE + "임계값 이상 후보 없음: type={}, threshold={}", type, scoreThreshold);
                 continue;
             }
-            Clothes pick = softmaxPick(ok, mixSeed(rollCounter, type));
+            OotdDto pick = softmaxPick(ok, mixSeed(rollCounter, type));
             addDtoIfNotNull(result, pick);
         }
         return result;
@@ -445,21 +439,21 @@ public class ItemSelectorEngine {
      * 나머지 타입을 랜덤으로 추천합니다.
      */
     private List<OotdDto> fallbackRecommendOthers(
-        Map<ClothesType, List<Clothes>> typeGroups,
+        Map<ClothesType, List<OotdDto>> typeGroups,
         long rollCounter
     ) {
         log.debug(ENGINE + "나머지 타입 랜덤 추천 시작");
         List<OotdDto> result = new ArrayList<>();
 
-        for (Map.Entry<ClothesType, List<Clothes>> entry : typeGroups.entrySet()) {
+        for (Map.Entry<ClothesType, List<OotdDto>> entry : typeGroups.entrySet()) {
             ClothesType type = entry.getKey();
             // 코어 타입 제외
             if (type == ClothesType.TOP || type == ClothesType.BOTTOM || type == ClothesType.DRESS) continue;
 
-            List<Clothes> candidates = entry.getValue();
+            List<OotdDto> candidates = entry.getValue();
             if (candidates == null || candidates.isEmpty()) continue;
 
-            Clothes picked = getRandomCandidate(candidates, mixSeed(rollCounter, type));
+            OotdDto picked = getRandomCandidate(candidates, mixSeed(rollCounter, type));
             addDtoIfNotNull(result, picked);
         }
 
@@ -472,7 +466,7 @@ public class ItemSelectorEngine {
     /**
      * 후보 중 랜덤으로 하나 반환
      */
-    private Clothes getRandomCandidate(List<Clothes> candidates, long seed) {
+    private OotdDto getRandomCandidate(List<OotdDto> candidates, long seed) {
         if (candidates == null || candidates.isEmpty()) return null;
         int idx = new SplittableRandom(seed).nextInt(candidates.size());
         return candidates.get(idx);
@@ -481,14 +475,13 @@ public class ItemSelectorEngine {
     /**
      * 옷의 스타일 속성 값을 추출합니다.
      */
-    private Style extractStyle(Clothes clothes) {
-        if (clothes == null || clothes.getAttributes() == null) return null;
-        return clothes.getAttributes().stream()
-            .filter(a -> a != null && a.getDefinition() != null
-                && a.getDefinition().getName() != null
-                && a.getDefinition().getName().equalsIgnoreCase(RecommendationAttribute.STYLE.getName()))
+    private Style extractStyle(OotdDto clothes) {
+        if (clothes == null || clothes.attributes() == null) return null;
+        return clothes.attributes().stream()
+            .filter(a -> a != null && a.definitionName() != null
+                && a.definitionName().equalsIgnoreCase(RecommendationAttribute.STYLE.getName()))
             .map(a -> {
-                try { return Style.fromName(a.getValue()); }
+                try { return Style.fromName(a.value()); }
                 catch (Exception ignored) { return null; }
             })
             .filter(Objects::nonNull)
@@ -498,8 +491,8 @@ public class ItemSelectorEngine {
     /**
      * 캐시된 점수가 없으면 계산 후 캐시에 저장합니다.
      */
-    private double scoreOf(Clothes c, RecommendationContextDto ctx, Map<UUID, Double> cache) {
-        UUID id = c.getId();
+    private double scoreOf(OotdDto c, RecommendationContextDto ctx, Map<UUID, Double> cache) {
+        UUID id = c.clothesId();
         if (id == null) {
             // 영속화 전/테스트 데이터 등 ID 없음: 캐시 미사용
             return calculateScore(c, ctx.adjustedTemperature(), ctx.currentMonth(), ctx.isRainingOrSnowing());
@@ -567,34 +560,22 @@ public class ItemSelectorEngine {
     }
 
     /**
-     * DTO 변환 및 null 체크 후 리스트에 추가
+     * null 체크 후 리스트에 추가
      */
-    private void addDtoIfNotNull(List<OotdDto> result, Clothes clothes) {
+    private void addDtoIfNotNull(List<OotdDto> result, OotdDto clothes) {
         if (clothes == null) return;
-        OotdDto dto = clothesMapper.toOotdDto(clothes);
-        if (dto != null) {
-            result.add(dto);
-            log.debug(ENGINE + "추천 성공: id={}, type={}, attributes={}", clothes.getId(), clothes.getType(), clothes.getAttributes());
-        } else {
-            log.error(ENGINE + "추천된 의상 DTO 변환 실패: id={}, type={}", clothes.getId(), clothes.getType());
-        }
+        result.add(clothes);
+        log.debug(ENGINE + "추천 성공: id={}, type={}, attributes={}", clothes.clothesId(), clothes.type(), clothes.attributes());
     }
 
     /**
      * TOP 또는 DRESS 중 먼저 나오는 아이템의 스타일을 기준점으로 삼습니다.
      */
-    private Style findAnchorStyle(List<OotdDto> ootds, Map<ClothesType, List<Clothes>> typeGroups) {
+    private Style findAnchorStyle(List<OotdDto> ootds) {
         for (OotdDto dto : ootds) {
             ClothesType type = dto.type();
             if (type == ClothesType.DRESS || type == ClothesType.TOP) {
-                List<Clothes> group = typeGroups.get(type);
-                if (group != null) {
-                    for (Clothes c : group) {
-                        if (dto.clothesId() != null && Objects.equals(c.getId(), dto.clothesId())) {
-                            return extractStyle(c);
-                        }
-                    }
-                }
+                return extractStyle(dto);
             }
         }
         return null;
@@ -1,6 +1,7 @@
 package com.samsamotot.otboo.recommendation.service;
 
 import com.samsamotot.otboo.clothes.dto.OotdDto;
+import com.samsamotot.otboo.common.util.CacheNames;
 import com.samsamotot.otboo.recommendation.prompt.PromptBuilder;
 import java.time.Month;
 import java.util.List;
@@ -8,8 +9,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StopWatch;
 
@@ -19,13 +22,15 @@ import org.springframework.util.StopWatch;
 public class OpenAIEngine {
 
     private final PromptBuilder promptBuilder;
-    private final OpenAiChatModel openAiChatModel;
+    private final ChatModel chatModel;
+    private final CacheManager cacheManager;
 
     private static final String ENGINE = "[OpenAIEngine] ";
 
     /**
      * 추천 결과에 대한 한 문장 설명을 생성합니다.
-     * 예외 발생시, 대체 문구를 반환합니다. (fallback)
+     * 정규화된 컨텍스트(체감온도 구간, 강수, 계절, 아이템 타입/속성)가 같으면 캐시된 문구를 재사용합니다.
+     * 예외 발생시, 대체 문구를 반환합니다. (fallback, 캐시하지 않음)
      */
     public String generateRecommendationReason(
         Double temperature,
@@ -35,6 +40,13 @@ public class OpenAIEngine {
         Double sensitivity,
         List<OotdDto> recommendedItems
     ) {
+        String cacheKey = promptBuilder.buildReasonCacheKey(isRainingOrSnowing, currentMonth, feelsLike, recommendedItems);
+        String cached = getCachedReason(cacheKey);
+        if (cached != null) {
+            log.debug(ENGINE + "추천 이유 캐시 적중: key={}", cacheKey);
+            return cached;
+        }
+
         try {
             StopWatch sw = new StopWatch();
             sw.start();
@@ -50,13 +62,15 @@ public class OpenAIEngine {
             );
             log.debug(ENGINE + "LLM 유저 프롬프트 생성 완료: {}", userPrompt);
 
-            var response = openAiChatModel.call(prompt);
+            var response = chatModel.call(prompt);
             String raw = response.getResult().getOutput().getText();
             log.trace(ENGINE + "LLM 응답 수신: {}", raw);
 
             String result = promptBuilder.postProcessOneLiner(raw);
             if (result == null || result.isBlank()) {
                 result = promptBuilder.fallbackOneLiner();
+            } else {
+                putCachedReason(cacheKey, result);
             }
 
             sw.stop();
@@ -67,4 +81,50 @@ public class OpenAIEngine {
             return promptBuilder.fallbackOneLiner();
         }
     }
+
+    /**
+     * LLM 호출 없이 캐시된 추천 이유만 조회합니다. 캐시에 없으면 null을 반환합니다.
+     */
+    public String findCachedReason(
+        boolean isRainingOrSnowing,
+        Month currentMonth,
+        Double feelsLike,
+        List<OotdDto> recommendedItems
+    ) {
+        return getCachedReason(promptBuilder.buildReasonCacheKey(isRainingOrSnowing, currentMonth, feelsLike, recommendedItems));
+    }
+
+    /**
+     * LLM 응답을 기다리지 않을 때 사용할 대체 문구를 반환합니다.
+     */
+    public String fallbackReason() {
+        return promptBuilder.fallbackOneLiner();
+    }
+
+    /**
+     * 캐시에서 추천 이유를 조회합니다. 캐시 장애는 무시하고 LLM 호출로 진행합니다.
+     */
+    private String getCachedReason(String key) {
+        try {
+            Cache cache = cacheManager.getCache(CacheNames.RECOMMENDATION_REASON);
+            return cache != null ? cache.get(key, String.class) : null;
+        } catch (Exception e) {
+            log.warn(ENGINE + "추천 이유 캐시 조회 실패: key={}, err={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 생성된 추천 이유를 캐시에 저장합니다. 캐시 장애는 무시합니다.
+     */
+    private void putCachedReason(String key, String reason) {
+        try {
+            Cache cache = cacheManager.getCache(CacheNames.RECOMMENDATION_REASON);
+            if (cache != null) {
+                cache.put(key, reason);
+            }
+        } catch (Exception e) {
+            log.warn(ENGINE + "추천 이유 캐시 저장 실패: key={}, err={}", key, e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.samsamotot.otboo.recommendation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samsamotot.otboo.clothes.dto.OotdDto;
+import com.samsamotot.otboo.recommendation.dto.RecommendationReasonDto;
+import com.samsamotot.otboo.sse.service.SseService;
+import java.time.Duration;
+import java.time.Month;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 추천 이유(LLM 문구)를 추천 응답과 분리하여 비동기로 생성/전달하는 서비스입니다.
+ *
+ * <p>생성된 문구는 Redis에 reasonId 기준으로 잠시 보관되며,
+ * 사용자가 이 서버에 SSE로 연결되어 있으면 "recommendation-reasons" 이벤트로 바로 전송됩니다.
+ * SSE 전송은 이 서버(로컬 노드)의 연결에만 이뤄지므로, 다른 노드에 연결된 사용자나 연결이 끊겼던 사용자는
+ * 조회 API({@link #getReason(UUID, UUID)})로 결과를 받아야 합니다.
+ *
+ * <p>SSE 이벤트 ID는 알림 재전송(Last-Event-ID) 기준으로만 쓰이므로 이 이벤트에는 ID를 붙이지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationReasonService {
+
+    public static final String SSE_EVENT_NAME = "recommendation-reasons";
+    private static final String KEY_PREFIX = "recommendationReason:";
+    private static final String SERVICE = "[RecommendationReasonService] ";
+
+    @Value("${recommendation.reason.ttl.minutes:10}")
+    private int reasonTtlMinutes;
+
+    private final OpenAIEngine openAiEngine;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SseService sseService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * LLM으로 추천 이유를 생성하여 Redis에 저장하고 SSE로 전달합니다.
+     * 추천 요청 스레드를 막지 않도록 mainTaskExecutor에서 실행됩니다.
+     */
+    @Async("mainTaskExecutor")
+    public void generateAndPublish(
+        UUID userId,
+        UUID reasonId,
+        Double temperature,
+        boolean isRainingOrSnowing,
+        Month currentMonth,
+        Double feelsLike,
+        Double sensitivity,
+        List<OotdDto> recommendedItems
+    ) {
+        String reason = openAiEngine.generateRecommendationReason(
+            temperature, isRainingOrSnowing, currentMonth, feelsLike, sensitivity, recommendedItems);
+
+        RecommendationReasonDto dto = RecommendationReasonDto.builder()
+            .reasonId(reasonId)
+            .reason(reason)
+            .ready(true)
+            .build();
+
+        try {
+            stringRedisTemplate.opsForValue().set(key(userId, reasonId), reason, Duration.ofMinutes(reasonTtlMinutes));
+        } catch (Exception e) {
+            log.warn(SERVICE + "추천 이유 저장 실패: userId={}, reasonId={}, err={}", userId, reasonId, e.getMessage());
+        }
+
+        try {
+            // 이벤트 ID를 붙이면 브라우저의 Last-Event-ID가 바뀌어 재연결 시 알림 재전송이 깨지므로 null
+            sseService.sendLocalEvent(userId, SSE_EVENT_NAME, null, objectMapper.writeValueAsString(dto));
+        } catch (Exception e) {
+            log.warn(SERVICE + "추천 이유 SSE 전송 실패: userId={}, reasonId={}, err={}", userId, reasonId, e.getMessage());
+        }
+
+        log.debug(SERVICE + "추천 이유 비동기 생성 완료: userId={}, reasonId={}", userId, reasonId);
+    }
+
+    /**
+     * 비동기로 생성된 추천 이유를 조회합니다. 아직 생성 중이거나 만료된 경우 ready=false를 반환합니다.
+     *
+     * @param userId 요청 사용자 ID (다른 사용자의 reasonId는 조회되지 않음)
+     * @param reasonId 추천 응답에 포함된 추천 이유 ID
+     */
+    public RecommendationReasonDto getReason(UUID userId, UUID reasonId) {
+        String reason = stringRedisTemplate.opsForValue().get(key(userId, reasonId));
+
+        return RecommendationReasonDto.builder()
+            .reasonId(reasonId)
+            .reason(reason)
+            .ready(reason != null)
+            .build();
+    }
+
+    private static String key(UUID userId, UUID reasonId) {
+        return KEY_PREFIX + userId + ":" + reasonId;
+    }
+}
@@ -1,7 +1,6 @@
 package com.samsamotot.otboo.recommendation.service;
 
 import com.samsamotot.otboo.clothes.dto.OotdDto;
-import com.samsamotot.otboo.clothes.entity.Clothes;
 import com.samsamotot.otboo.clothes.entity.ClothesType;
 import com.samsamotot.otboo.clothes.repository.ClothesRepository;
 import com.samsamotot.otboo.common.exception.ErrorCode;
@@ -11,21 +10,18 @@ import com.samsamotot.otboo.profile.repository.ProfileRepository;
 import com.samsamotot.otboo.recommendation.dto.RecommendationContextDto;
 import com.samsamotot.otboo.recommendation.dto.RecommendationDto;
 import com.samsamotot.otboo.recommendation.dto.RecommendationResult;
+import com.samsamotot.otboo.recommendation.dto.RecommendationState;
 import com.samsamotot.otboo.weather.entity.Precipitation;
 import com.samsamotot.otboo.weather.entity.Weather;
 import com.samsamotot.otboo.weather.repository.WeatherRepository;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Month;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,12 +34,6 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class RecommendationServiceImpl implements RecommendationService {
 
-    @Value("${recommendation.cooldown.ttl.minutes:30}")
-    private int cooldownTtlMinutes;
-
-    @Value("${recommendation.rollcount.ttl.days:7}")
-    private int rollCountTtlDays;
-
     private static final double SENSITIVITY_BASE = 2.5;     // 기준값 상수
     private static final double CORRECTION_FACTOR = 1.0;    // 보정 강도
 
@@ -55,7 +45,8 @@ public class RecommendationServiceImpl implements RecommendationService {
     private final ClothesRepository clothesRepository;
     private final ItemSelectorEngine itemSelectorEngine;
     private final OpenAIEngine openAiEngine;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RecommendationReasonService recommendationReasonService;
+    private final RecommendationStateStore recommendationStateStore;
 
     /**
      * 사용자와 날씨 정보를 기반으로 의상 추천을 수행합니다.
@@ -78,6 +69,7 @@ public class RecommendationServiceImpl implements RecommendationService {
      *   </li>
      *   <li>강수(비/눈) 여부, 월 정보, Redis 기반 추천 이력 등 컨텍스트 생성</li>
      *   <li>추천 엔진 호출 및 결과 반환</li>
+     *   <li>LLM 추천 이유는 응답을 막지 않도록 비동기로 생성 (reasonId로 조회 또는 SSE 수신, 실행기 포화로 거부되면 reasonId 없이 대체 문구만 반환)</li>
      * </ul>
      *
      * @param userId 추천 대상 사용자 ID
@@ -95,8 +87,8 @@ public class RecommendationServiceImpl implements RecommendationService {
         // 날씨 정보 조회
         Weather weather = weatherRepository.findById(weatherId)
             .orElseThrow(() -> new OtbooException(ErrorCode.WEATHER_NOT_FOUND));
-        // 사용자의 의상 목록 조회
-        List<Clothes> clothesList = clothesRepository.findAllByOwnerId(userId);
+        // 사용자의 의상 목록 조회 (추천에 필요한 컬럼만 프로젝션)
+        List<OotdDto> clothesList = clothesRepository.findRecommendationCandidates(userId);
 
         if (clothesList.isEmpty()) {
             log.warn(SERVICE + "사용자 의상 목록이 비어있습니다: userId={}", userId);
@@ -135,11 +127,10 @@ public class RecommendationServiceImpl implements RecommendationService {
         // 현재 월 정보
         Month month = LocalDate.now().getMonth();
 
-        // Redis에서 rollCounter 조회 (추천 횟수)
-        long rollCounter = getRollCounter(userId);
-
-        // Redis에서 cooldownIdMap 조회 및 변환 (의상 타입별 쿨타임 관리)
-        Map<ClothesType, UUID> cooldownIdMap = getCooldownIdMap(userId);
+        // Redis에서 rollCounter 증가 및 cooldownIdMap 조회 (한 번의 왕복, 동시 재추천에도 카운터 중복 없음)
+        RecommendationState state = recommendationStateStore.reserveRoll(userId);
+        long rollCounter = state.rollCounter();
+        Map<ClothesType, UUID> cooldownIdMap = state.cooldownIdMap();
 
         // 추천 컨텍스트 DTO 생성
         RecommendationContextDto context = RecommendationContextDto.builder()
@@ -153,9 +144,28 @@ public class RecommendationServiceImpl implements RecommendationService {
 
         List<OotdDto> recommendResult = rr.items();
 
-        // 추천 이유 생성 (랜덤 추천의 경우 기본값)
-        String reason = rr.usedRandomFallback() ? DEFAULT_REASON_ON_RANDOM : openAiEngine.generateRecommendationReason(
-                temperature, isRainingOrSnowing, month, adjustedTemperature, sensitivity, recommendResult);
+        // 추천 이유 (랜덤 추천의 경우 기본값, 캐시 적중 시 즉시 반환, 그 외에는 대체 문구 반환 후 LLM 비동기 생성)
+        String reason;
+        UUID reasonId = null;
+        if (rr.usedRandomFallback()) {
+            reason = DEFAULT_REASON_ON_RANDOM;
+        } else {
+            String cachedReason = openAiEngine.findCachedReason(isRainingOrSnowing, month, adjustedTemperature, recommendResult);
+            if (cachedReason != null) {
+                reason = cachedReason;
+            } else {
+                reason = openAiEngine.fallbackReason();
+                reasonId = UUID.randomUUID();
+                try {
+                    recommendationReasonService.generateAndPublish(
+                        userId, reasonId, temperature, isRainingOrSnowing, month, adjustedTemperature, sensitivity, recommendResult);
+                } catch (TaskRejectedException e) {
+                    // 추천 이유는 부가 정보이므로 실행기 포화 시 대체 문구로 응답하고, 도착하지 않을 reasonId는 내려주지 않는다
+                    log.warn(SERVICE + "추천 이유 생성 작업이 거부되어 대체 문구로 응답합니다: userId={}, err={}", userId, e.getMessage());
+                    reasonId = null;
+                }
+            }
+        }
 
         log.debug(SERVICE + "의상 추천 완료: userId={}, weatherId={}, 추천 아이템 수={}, 추천 이유={}",
             userId, weatherId, recommendResult.size(), reason);
@@ -165,74 +175,15 @@ public class RecommendationServiceImpl implements RecommendationService {
             .weatherId(weatherId)
             .clothes(recommendResult)
             .reason(reason)
+            .reasonId(reasonId)
             .build();
 
-        redisTemplate.executePipelined((RedisCallback<?>) (redisConnection) -> {
-            // rollCounter 증가 및 TTL 설정
-            redisTemplate.opsForValue().set("rollCounter:" + userId, rollCounter + 1);
-            redisTemplate.expire("rollCounter:" + userId, Duration.ofDays(rollCountTtlDays));
-
-            // 쿨타임 맵 저장 및 TTL 설정
-            String cooldownKey = "cooldownIdMap:" + userId;
-            for (OotdDto dto : recommendResult) {
-                String typeString = dto.type().name();
-                UUID clothesId = dto.clothesId();
-                redisTemplate.opsForHash().put(cooldownKey, typeString, clothesId.toString());
-            }
-            redisTemplate.expire(cooldownKey, Duration.ofMinutes(cooldownTtlMinutes));
-            return null;
-        });
+        // 추천된 의상들을 쿨타임 맵에 저장 (한 번의 왕복)
+        recommendationStateStore.saveCooldown(userId, recommendResult);
 
         return result;
     }
 
-    /**
-     * Redis에서 사용자별 추천 횟수(rollCounter)를 조회합니다.
-     */
-    private long getRollCounter(UUID userId) {
-        Object rollCounterObj = redisTemplate.opsForValue().get("rollCounter:" + userId);
-        long rollCounter;
-        if (rollCounterObj instanceof Long) {
-            rollCounter = (Long) rollCounterObj;
-        } else if (rollCounterObj instanceof Integer) {
-            rollCounter = ((Integer) rollCounterObj).longValue();
-        } else {
-            rollCounter = 0L;
-        }
-        return rollCounter;
-    }
-
-    /**
-     * Redis에서 의상 타입별 쿨타임 ID 맵을 조회하고 변환합니다.
-     */
-    private Map<ClothesType, UUID> getCooldownIdMap(UUID userId) {
-        Map<Object, Object> redisMap = redisTemplate.opsForHash().entries("cooldownIdMap:" + userId);
-        Map<ClothesType, UUID> cooldownIdMap = new HashMap<>();
-        for (Map.Entry<Object, Object> entry : redisMap.entrySet()) {
-            ClothesType type;
-            UUID value;
-
-            if (entry.getKey() == null || entry.getValue() == null) continue;
-
-            try {
-                type = ClothesType.valueOf(entry.getKey().toString());
-            } catch (IllegalArgumentException e) {
-                log.warn(SERVICE + "Redis에서 조회한 의상 타입이 유효하지 않습니다: {}", entry.getKey());
-                continue;
-            }
-
-            try {
-                value = UUID.fromString(entry.getValue().toString());
-            } catch (IllegalArgumentException e) {
-                log.warn(SERVICE + "Redis에서 조회한 쿨타임 ID가 유효하지 않습니다: {}", entry.getValue());
-                continue;
-            }
-
-            cooldownIdMap.put(type, value);
-        }
-        return cooldownIdMap;
-    }
-
     /**
      * 온도, 풍속, 습도를 기반으로 계절별 체감온도를 계산합니다.
      * 겨울/여름/그 외 공식 적용 (기상청 및 Steadman)
@@ -0,0 +1,176 @@
+package com.samsamotot.otboo.recommendation.service;
+
+import com.samsamotot.otboo.clothes.dto.OotdDto;
+import com.samsamotot.otboo.clothes.entity.ClothesType;
+import com.samsamotot.otboo.recommendation.dto.RecommendationState;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 추천 상태(rollCounter, 의상 타입별 쿨타임 ID)를 Redis에 보관합니다.
+ *
+ * <p>조회와 카운터 증가, 저장과 TTL 갱신을 각각 하나의 Lua 스크립트로 처리하여
+ * 추천 1회당 Redis 왕복을 2회로 줄이고, 동시 재추천 요청에서도 카운터가 중복되지 않도록 합니다.
+ * 값은 StringRedisTemplate으로 원시 문자열로 저장합니다. (JSON 직렬화 미사용)
+ *
+ * <p>두 키는 {@code {userId}} 해시 태그를 공유하므로 Redis Cluster에서도 같은 슬롯에 배치되어
+ * 다중 키 스크립트가 CROSSSLOT 오류 없이 실행됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationStateStore {
+
+    private static final String ROLL_COUNTER_KEY = "rollCounter:{%s}";
+    private static final String COOLDOWN_KEY = "cooldownIdMap:{%s}";
+    private static final String STORE = "[RecommendationStateStore] ";
+
+    /**
+     * KEYS[1]=rollCounter, KEYS[2]=cooldownIdMap, ARGV[1]=rollCounter TTL(초)
+     * 카운터를 원자적으로 증가시키고 [증가된 카운터, 타입1, ID1, 타입2, ID2, ...] 를 반환합니다.
+     * 기존 값이 정수가 아니면(이전 직렬화 형식 등) 1부터 다시 시작합니다.
+     */
+    private static final RedisScript<List<String>> RESERVE_ROLL_SCRIPT = stringListScript("""
+        local ok, n = pcall(redis.call, 'INCR', KEYS[1])
+        if not ok then
+          redis.call('SET', KEYS[1], 1)
+          n = 1
+        end
+        redis.call('EXPIRE', KEYS[1], ARGV[1])
+        local result = redis.call('HGETALL', KEYS[2])
+        table.insert(result, 1, tostring(n))
+        return result
+        """);
+
+    /**
+     * KEYS[1]=cooldownIdMap, ARGV[1]=TTL(초), ARGV[2..]=타입, ID 쌍
+     */
+    private static final RedisScript<Long> SAVE_COOLDOWN_SCRIPT = new DefaultRedisScript<>("""
+        for i = 2, #ARGV, 2 do
+          redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+        end
+        redis.call('EXPIRE', KEYS[1], ARGV[1])
+        return 1
+        """, Long.class);
+
+    @Value("${recommendation.cooldown.ttl.minutes:30}")
+    private int cooldownTtlMinutes;
+
+    @Value("${recommendation.rollcount.ttl.days:7}")
+    private int rollCountTtlDays;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * rollCounter를 1 증가시키고, 증가 전 카운터와 쿨타임 ID 맵을 한 번의 왕복으로 조회합니다.
+     *
+     * @param userId 추천 대상 사용자 ID
+     * @return 이번 추천에 사용할 상태 (rollCounter는 증가 전 값)
+     */
+    public RecommendationState reserveRoll(UUID userId) {
+        List<String> reply = stringRedisTemplate.execute(
+            RESERVE_ROLL_SCRIPT,
+            List.of(rollCounterKey(userId), cooldownKey(userId)),
+            String.valueOf(Duration.ofDays(rollCountTtlDays).toSeconds())
+        );
+
+        if (reply == null || reply.isEmpty()) {
+            return new RecommendationState(0L, new HashMap<>());
+        }
+
+        long rollCounter;
+        try {
+            rollCounter = Math.max(0L, Long.parseLong(reply.get(0)) - 1);
+        } catch (NumberFormatException e) {
+            log.warn(STORE + "Redis에서 조회한 추천 횟수가 유효하지 않습니다: {}", reply.get(0));
+            rollCounter = 0L;
+        }
+
+        return new RecommendationState(rollCounter, toCooldownIdMap(reply.subList(1, reply.size())));
+    }
+
+    /**
+     * 추천된 의상들을 타입별 쿨타임 ID로 저장하고 TTL을 갱신합니다. (한 번의 왕복)
+     *
+     * @param userId 추천 대상 사용자 ID
+     * @param recommendedItems 추천 결과 의상 목록
+     */
+    public void saveCooldown(UUID userId, List<OotdDto> recommendedItems) {
+        if (recommendedItems == null || recommendedItems.isEmpty()) {
+            return;
+        }
+
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(Duration.ofMinutes(cooldownTtlMinutes).toSeconds()));
+        for (OotdDto dto : recommendedItems) {
+            args.add(dto.type().name());
+            args.add(dto.clothesId().toString());
+        }
+
+        stringRedisTemplate.execute(
+            SAVE_COOLDOWN_SCRIPT,
+            List.of(cooldownKey(userId)),
+            args.toArray()
+        );
+    }
+
+    /**
+     * HGETALL 결과(필드, 값 교대 목록)를 의상 타입별 쿨타임 ID 맵으로 변환합니다.
+     */
+    private Map<ClothesType, UUID> toCooldownIdMap(List<String> fieldsAndValues) {
+        Map<ClothesType, UUID> cooldownIdMap = new HashMap<>();
+        for (int i = 0; i + 1 < fieldsAndValues.size(); i += 2) {
+            String field = fieldsAndValues.get(i);
+            String value = fieldsAndValues.get(i + 1);
+            ClothesType type;
+            UUID clothesId;
+
+            if (field == null || value == null) continue;
+
+            try {
+                type = ClothesType.valueOf(field);
+            } catch (IllegalArgumentException e) {
+                log.warn(STORE + "Redis에서 조회한 의상 타입이 유효하지 않습니다: {}", field);
+                continue;
+            }
+
+            try {
+                clothesId = UUID.fromString(value);
+            } catch (IllegalArgumentException e) {
+                log.warn(STORE + "Redis에서 조회한 쿨타임 ID가 유효하지 않습니다: {}", value);
+                continue;
+            }
+
+            cooldownIdMap.put(type, clothesId);
+        }
+        return cooldownIdMap;
+    }
+
+    static String rollCounterKey(UUID userId) {
+        return ROLL_COUNTER_KEY.formatted(userId);
+    }
+
+    static String cooldownKey(UUID userId) {
+        return COOLDOWN_KEY.formatted(userId);
+    }
+
+    /**
+     * 다중 응답(multi-bulk)을 문자열 목록으로 받는 스크립트를 생성합니다.
+     * StringRedisTemplate은 응답 원소를 StringRedisSerializer로 역직렬화하므로 원소 타입은 항상 String입니다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RedisScript<List<String>> stringListScript(String script) {
+        return (RedisScript<List<String>>) (RedisScript) new DefaultRedisScript<>(script, List.class);
+    }
+}
@@ -0,0 +1,13 @@
+package com.samsamotot.otboo.sse.dto;
+
+/**
+ * PackageName  : com.samsamotot.otboo.sse.dto
+ * FileName     : SseEventMessage
+ * Description  : 노드 간 전달되는 알림 이외의 SSE 이벤트 (이벤트 이름 + JSON 본문)
+ *                Kafka "sse-events" 토픽과 Redis "sse:event:{userId}" 채널의 메시지 본문
+ */
+public record SseEventMessage(
+    String eventName,
+    String data
+) {
+}
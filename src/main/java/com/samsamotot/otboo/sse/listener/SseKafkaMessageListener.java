@@ -2,6 +2,7 @@ package com.samsamotot.otboo.sse.listener;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.samsamotot.otboo.notification.dto.NotificationDto;
+import com.samsamotot.otboo.sse.dto.SseEventMessage;
 import com.samsamotot.otboo.sse.service.SseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -67,4 +68,28 @@ public class SseKafkaMessageListener {
                      userId, partition, offset, notificationData, e);
         }
     }
+
+    /**
+     * Kafka에서 알림 이외의 SSE 이벤트를 수신하여 로컬 SSE 연결로 전송
+     * 이벤트는 사용자의 연결이 있는 노드에 도달해야 하므로, 노드마다 고유한 그룹으로 구독해 모든 노드가 수신합니다.
+     *
+     * @param userId 이벤트를 받을 사용자 ID (파티션 키)
+     * @param eventData 이벤트 데이터 ({@link SseEventMessage} JSON 문자열)
+     */
+    @KafkaListener(
+        topics = "sse-events",
+        groupId = "otboo-sse-event-#{T(java.util.UUID).randomUUID()}",
+        containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handleSseEvent(
+            @Header(KafkaHeaders.RECEIVED_KEY) String userId,
+            @Payload String eventData) {
+
+        try {
+            SseEventMessage event = objectMapper.readValue(eventData, SseEventMessage.class);
+            sseService.sendLocalEvent(UUID.fromString(userId), event.eventName(), null, event.data());
+        } catch (Exception e) {
+            log.error(SSE_KAFKA_LISTENER + "이벤트 처리 실패 - userId: {}, data: {}", userId, eventData, e);
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.samsamotot.otboo.sse.listener;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.samsamotot.otboo.notification.dto.NotificationDto;
+import com.samsamotot.otboo.sse.dto.SseEventMessage;
 import com.samsamotot.otboo.sse.service.SseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +40,11 @@ public class SseRedisMessageListener implements MessageListener {
 
             log.info(SSE_REDIS_LISTENER + "메시지 수신 - channel: {}, bytes: {}", channel, message.getBody().length);
 
+            if (channel.startsWith("sse:event:")) {
+                handleEvent(channel, messageStr);
+                return;
+            }
+
             if (!channel.startsWith("sse:notification:")) return;
 
             UUID userId = UUID.fromString(channel.substring("sse:notification:".length()));
@@ -59,4 +65,18 @@ public class SseRedisMessageListener implements MessageListener {
                 message.getBody().length, e);
         }
     }
+
+    /**
+     * 알림 이외의 SSE 이벤트를 이 노드의 로컬 연결로만 전송 (재발행 방지)
+     */
+    private void handleEvent(String channel, String messageStr) throws Exception {
+        UUID userId = UUID.fromString(channel.substring("sse:event:".length()));
+
+        JsonNode root = objectMapper.readTree(messageStr);
+        SseEventMessage event = root.isTextual()
+            ? objectMapper.readValue(root.asText(), SseEventMessage.class)
+            : objectMapper.treeToValue(root, SseEventMessage.class);
+
+        sseService.sendLocalEvent(userId, event.eventName(), null, event.data());
+    }
 }
@@ -17,6 +17,10 @@ public interface SseService {
 
     void sendLocalNotification(UUID userId, String notificationData);
 
+    void sendLocalEvent(UUID userId, String eventName, String eventId, String data);
+
+    void sendEvent(UUID userId, String eventName, String data);
+
     void replayMissedEvents(UUID userId, String lastEventId, SseEmitter emitter);
 
     int getActiveConnectionCount();
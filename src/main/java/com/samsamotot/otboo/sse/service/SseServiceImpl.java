@@ -2,6 +2,7 @@ package com.samsamotot.otboo.sse.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.samsamotot.otboo.notification.dto.NotificationDto;
+import com.samsamotot.otboo.sse.dto.SseEventMessage;
 import com.samsamotot.otboo.sse.strategy.SseNotificationStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -201,6 +202,54 @@ public class SseServiceImpl implements SseService {
         }
     }
 
+    /**
+     * 알림 이외의 이벤트를 로컬 SSE 연결로만 전송합니다. (백로그/분산 발행 없음)
+     *
+     * @param userId 이벤트를 받을 사용자 ID
+     * @param eventName SSE 이벤트 이름
+     * @param eventId SSE 이벤트 ID
+     * @param data 이벤트 데이터 (JSON 문자열)
+     */
+    @Override
+    public void sendLocalEvent(UUID userId, String eventName, String eventId, String data) {
+        Set<SseEmitter> emitters = connections.get(userId);
+        if (emitters == null || emitters.isEmpty()) {
+            log.debug(SSE_SERVICE + "로컬 연결 없음 - 이벤트 건너뜀 user: {}, event: {}", userId, eventName);
+            return;
+        }
+
+        for (SseEmitter em : emitters.toArray(new SseEmitter[0])) { // 방어적 복사
+            try {
+                SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .name(eventName)
+                    .data(data);
+                if (eventId != null) {
+                    event.id(eventId);
+                }
+                em.send(event);
+            } catch (Exception e) {
+                log.error(SSE_SERVICE + "로컬 이벤트 전송실패 user: {}, event: {}", userId, eventName, e);
+                removeEmitter(userId, em);
+            }
+        }
+        log.info(SSE_SERVICE + "로컬 이벤트 전송 완료 user: {}, event: {}", userId, eventName);
+    }
+
+    /**
+     * 알림 이외의 이벤트를 사용자의 연결이 있는 노드로 전송합니다. (백로그 없음)
+     * 메시징 전략으로 모든 노드에 발행하고, 분산 전송 수단이 없으면 로컬 연결로만 전송합니다.
+     *
+     * @param userId 이벤트를 받을 사용자 ID
+     * @param eventName SSE 이벤트 이름
+     * @param data 이벤트 데이터 (JSON 문자열)
+     */
+    @Override
+    public void sendEvent(UUID userId, String eventName, String data) {
+        if (!sseNotificationStrategy.publishEvent(userId, new SseEventMessage(eventName, data))) {
+            sendLocalEvent(userId, eventName, null, data);
+        }
+    }
+
     /**
      * 사용자별 Emitter 제거 헬퍼 메서드
      * 
@@ -1,6 +1,7 @@
 package com.samsamotot.otboo.sse.strategy;
 
 import com.samsamotot.otboo.notification.dto.NotificationDto;
+import com.samsamotot.otboo.sse.dto.SseEventMessage;
 
 import java.util.UUID;
 
@@ -15,4 +16,11 @@ import java.util.UUID;
 public interface SseNotificationStrategy {
 
     void publishNotification(UUID userId, NotificationDto notification);
+
+    /**
+     * 알림 이외의 이름 있는 SSE 이벤트를 모든 노드로 발행합니다. (백로그/재전송 없음)
+     *
+     * @return Kafka 또는 Redis로 발행했으면 true, 분산 전송 수단이 없으면 false (호출자가 로컬로 전송)
+     */
+    boolean publishEvent(UUID userId, SseEventMessage event);
 }
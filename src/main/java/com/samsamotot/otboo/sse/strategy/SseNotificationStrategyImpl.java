@@ -2,6 +2,7 @@ package com.samsamotot.otboo.sse.strategy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.samsamotot.otboo.notification.dto.NotificationDto;
+import com.samsamotot.otboo.sse.dto.SseEventMessage;
 import com.samsamotot.otboo.sse.transport.MemorySseNotificationTransport;
 import com.samsamotot.otboo.sse.transport.RedisSseNotificationTransport;
 import lombok.RequiredArgsConstructor;
@@ -79,6 +80,33 @@ public class SseNotificationStrategyImpl implements SseNotificationStrategy {
         }
     }
 
+    /**
+     * 알림 이외의 SSE 이벤트를 Kafka -> Redis 순으로 발행합니다.
+     * 메모리 전송은 다른 노드에 도달하지 않으므로, 분산 전송 수단이 없으면 false를 반환해 호출자가 로컬로 전송합니다.
+     *
+     * @param userId 사용자 ID
+     * @param event 이벤트 이름과 데이터
+     * @return 분산 발행 여부
+     */
+    @Override
+    public boolean publishEvent(UUID userId, SseEventMessage event) {
+        try {
+            String eventData = objectMapper.writeValueAsString(event);
+
+            if (isKafkaAvailable()) {
+                publishEventViaKafka(userId, event.eventName(), eventData);
+                return true;
+            }
+            if (isRedisAvailable()) {
+                redisSseNotificationTransport.publishEvent(userId, eventData);
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn(SSE_NOTIFICATION_STRATEGY_IMPL + "이벤트 분산 발행 실패 - userId: {}, event: {}", userId, event.eventName(), e);
+        }
+        return false;
+    }
+
     /**
      * Kafka 사용 가능 여부 확인
      */
@@ -123,6 +151,27 @@ public class SseNotificationStrategyImpl implements SseNotificationStrategy {
             });
     }
 
+    /**
+     * Kafka를 통한 이벤트 발행 (전송 지연/실패 시 Redis로 Fallback)
+     */
+    private void publishEventViaKafka(UUID userId, String eventName, String eventData) {
+        kafkaTemplate.send("sse-events", userId.toString(), eventData)
+            .orTimeout(500, TimeUnit.MILLISECONDS)
+            .whenComplete((res, ex) -> {
+                if (ex == null) {
+                    log.debug(SSE_NOTIFICATION_STRATEGY_IMPL + "Kafka 이벤트 발행 성공 - userId: {}, event: {}", userId, eventName);
+                    return;
+                }
+                log.warn(SSE_NOTIFICATION_STRATEGY_IMPL + "Kafka 이벤트 발행 지연/실패, Redis로 Fallback - userId: {}, event: {}, reason={}",
+                    userId, eventName, ex.getClass().getSimpleName());
+                try {
+                    redisSseNotificationTransport.publishEvent(userId, eventData);
+                } catch (Exception e) {
+                    log.error(SSE_NOTIFICATION_STRATEGY_IMPL + "Redis 이벤트 발행도 실패 - userId: {}, event: {}", userId, eventName, e);
+                }
+            });
+    }
+
     /**
      * Redis를 통한 메시지 발행
      */
@@ -65,4 +65,17 @@ public class RedisSseNotificationTransport {
             throw e;
         }
     }
+
+    /**
+     * Redis Pub/Sub를 통한 SSE 이벤트(알림 이외) 발행
+     */
+    public void publishEvent(UUID userId, String eventData) {
+        if (redisTemplate == null) {
+            throw new IllegalStateException("레디스 사용 불가");
+        }
+
+        String channel = "sse:event:" + userId.toString();
+        redisTemplate.convertAndSend(channel, eventData);
+        log.debug(REDIS_SSE_NOTIFICATION_TRANSPORT + "Redis 이벤트 발행 성공 - userId: {}, channel: {}", userId, channel);
+    }
 }
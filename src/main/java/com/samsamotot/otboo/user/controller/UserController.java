@@ -90,6 +90,7 @@ public class UserController implements UserApi {
      * @param userId       수정할 사용자의 고유 ID (UUID)
      * @param request      수정할 프로필 정보가 담긴 DTO (@Valid를 통해 유효성 검사)
      * @param image 새로 등록할 프로필 이미지 파일 (선택 사항)
+     * @param imageKey presigned URL 로 직접 업로드한 이미지 키 (선택 사항, image 가 없을 때만 사용)
      * @return 수정이 완료된 최신 프로필 정보가 담긴 ResponseEntity<ProfileDto>
      * @throws OtbooException 사용자를 찾을 수 없거나 파일 처리 중 오류 발생 시 예외
      */
@@ -98,11 +99,15 @@ public class UserController implements UserApi {
     public ResponseEntity<ProfileDto> updateProfile(
             @PathVariable UUID userId,
             @RequestPart("request") @Valid ProfileUpdateRequest request,
-            @RequestPart(value = "image", required = false) MultipartFile image
+            @RequestPart(value = "image", required = false) MultipartFile image,
+            @RequestParam(value = "imageKey", required = false) String imageKey
     ) {
         log.info(CONTROLLER + "사용자 프로필 수정 요청 - 사용자 ID: {}", userId);
 
-        ProfileDto profileDto = profileService.updateProfile(userId, request, image);
+        // 멀티파트 이미지가 있으면 우선하고, 없을 때만 presigned URL 로 직접 업로드한 이미지 키를 사용
+        ProfileDto profileDto = (image == null || image.isEmpty()) && imageKey != null
+                ? profileService.updateProfileWithUploadedImage(userId, request, imageKey)
+                : profileService.updateProfile(userId, request, image);
 
         log.info(CONTROLLER + "사용자 프로필 수정 성공 - 사용자 ID: {}, 프로필: {}", userId, profileDto);
         return ResponseEntity
@@ -1,5 +1,7 @@
 package com.samsamotot.otboo.user.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.samsamotot.otboo.common.storage.ImageVariant;
 import java.util.UUID;
 import lombok.Builder;
 
@@ -7,7 +9,20 @@ import lombok.Builder;
 public record AuthorDto(
     UUID userId,
     String name,
-    String profileImageUrl
+    String profileImageUrl,
+    boolean profileImageVariantsReady
 ) {
 
+    // 변형 이미지 사용 여부를 모르는 경우(원본 URL 로 표시)
+    public AuthorDto(UUID userId, String name, String profileImageUrl) {
+        this(userId, name, profileImageUrl, false);
+    }
+
+    /**
+     * 아바타 표시용 썸네일 URL (변형 이미지 생성이 끝나지 않았으면 원본 URL)
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public String profileImageThumbnailUrl() {
+        return profileImageVariantsReady ? ImageVariant.THUMBNAIL.of(profileImageUrl) : profileImageUrl;
+    }
 }
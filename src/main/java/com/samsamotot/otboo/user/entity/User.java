@@ -47,6 +47,15 @@ public class User extends BaseEntity {
 
     @Column(name = "temporary_password_expires_at")
     private Instant temporaryPasswordExpiresAt;
+
+    // 팔로워/팔로잉 수는 UserRepository의 원자적 UPDATE로만 갱신한다. (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "follower_count", nullable = false, insertable = false, updatable = false,
+        columnDefinition = "BIGINT DEFAULT 0")
+    private long followerCount;
+
+    @Column(name = "following_count", nullable = false, insertable = false, updatable = false,
+        columnDefinition = "BIGINT DEFAULT 0")
+    private long followingCount;
     
     @Builder
     private User(String email, String username, String password, Provider provider, String providerId, Role role,
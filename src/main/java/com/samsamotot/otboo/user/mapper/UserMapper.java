@@ -24,18 +24,20 @@ public abstract class UserMapper {
     @Autowired
     ProfileRepository profileRepository;
 
-    // AuthorDto 매핑 메서드 (프로필 URL DB 조회)
+    // AuthorDto 매핑 메서드 (프로필 DB 조회)
     @Named("toAuthorDto")
-    @Mapping(source = "id", target = "userId")
-    @Mapping(source = "username", target = "name")
-    @Mapping(source = "id", target = "profileImageUrl", qualifiedByName = "profileUrlByUserId")
-    public abstract AuthorDto toAuthorDto(User user);
+    public AuthorDto toAuthorDto(User user) {
+        if (user == null) return null;
+        Profile profile = user.getId() == null ? null : profileRepository.findByUserId(user.getId()).orElse(null);
+        return toAuthorDto(user, profile);
+    }
 
-    // AuthorDto 매핑 메서드 (프로필 URL 맵 사용)
-    @Mapping(source = "id", target = "userId")
-    @Mapping(source = "username", target = "name")
-    @Mapping(target = "profileImageUrl", expression = "java(profileUrlMap.get(user.getId()))")
-    public abstract AuthorDto toAuthorDto(User user, @Context Map<UUID, String> profileUrlMap);
+    // AuthorDto 매핑 메서드 (배치 조회한 프로필 맵 사용, 프로필이 없으면 빈 URL)
+    public AuthorDto toAuthorDto(User user, @Context Map<UUID, Profile> profileMap) {
+        if (user == null) return null;
+        AuthorDto author = toAuthorDto(user, profileMap.get(user.getId()));
+        return author.profileImageUrl() != null ? author : new AuthorDto(author.userId(), author.name(), "");
+    }
 
     @Mapping(source = "name", target = "username")
     @Mapping(source = "password", target = "password")
@@ -50,11 +52,12 @@ public abstract class UserMapper {
     @Mapping(source = "isLocked", target = "locked")
     public abstract UserDto toDto(User user);
 
-    @Named("profileUrlByUserId")
-    String profileUrlByUserId(UUID userId) {
-        if (userId == null) return null;
-        return profileRepository.findByUserId(userId)
-            .map(Profile::getProfileImageUrl)
-            .orElse(null);
+    private AuthorDto toAuthorDto(User user, Profile profile) {
+        return new AuthorDto(
+            user.getId(),
+            user.getUsername(),
+            profile != null ? profile.getProfileImageUrl() : null,
+            profile != null && profile.isProfileImageVariantsReady()
+        );
     }
 }
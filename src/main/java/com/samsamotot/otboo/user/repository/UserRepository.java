@@ -1,14 +1,17 @@
 package com.samsamotot.otboo.user.repository;
 
+import com.samsamotot.otboo.user.dto.AuthorDto;
 import com.samsamotot.otboo.user.entity.Provider;
 import com.samsamotot.otboo.user.entity.Role;
 import com.samsamotot.otboo.user.entity.User;
 import com.samsamotot.otboo.user.repository.custom.UserRepositoryCustom;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -30,15 +33,27 @@ public interface UserRepository extends JpaRepository<User, UUID>, UserRepositor
     List<User> findByIsLocked(Boolean locked);
 
     Optional<User> findByProviderAndProviderId(Provider provider, String providerId);
+
+    /**
+     * 작성자 정보(id, 이름, 프로필 이미지)만 한 번의 조회로 가져옵니다.
+     * 사용자 엔티티와 프로필을 따로 로딩하지 않아도 되는 쓰기 경로(댓글 작성 등)에서 존재 확인을 겸해 사용합니다.
+     */
+    @Query("""
+        SELECT new com.samsamotot.otboo.user.dto.AuthorDto(u.id, u.username, p.profileImageUrl, COALESCE(p.profileImageVariantsReady, false))
+        FROM User u
+        LEFT JOIN Profile p ON p.user = u
+        WHERE u.id = :userId
+        """)
+    Optional<AuthorDto> findAuthorById(@Param("userId") UUID userId);
     
     /**
-     * 이메일 패턴으로 사용자 검색(관리자-사용자 관리의 이메일 검색)
+     * 이메일 패턴으로 사용자 검색(관리자-사용자 관리의 이메일 검색, 대소문자 구분)
      */
     @Query("SELECT u FROM User u WHERE u.email LIKE %:emailPattern%")
     List<User> findByEmailContaining(@Param("emailPattern") String emailPattern);
     
     /**
-     * 이름 패턴으로 사용자 검색(프로필 내 팔로워, 팔로일 검색)
+     * 이름 패턴으로 사용자 검색(프로필 내 팔로워, 팔로일 검색, 대소문자 구분)
      */
     @Query("SELECT u FROM User u WHERE u.username LIKE %:namePattern%")
     List<User> findByUsernameContaining(@Param("namePattern") String namePattern);
@@ -71,4 +86,64 @@ public interface UserRepository extends JpaRepository<User, UUID>, UserRepositor
      */
     @Query("SELECT u.id FROM User u WHERE u.isLocked = false")
     List<UUID> findActiveUserIds();
+
+    /**
+     * 팔로우 생성 시 팔로워의 팔로잉 수와 팔로위의 팔로워 수를 한 문장으로 1씩 증가시킵니다.
+     * 카운터 컬럼은 엔티티에서 갱신하지 않으므로 영속성 컨텍스트는 비우지 않습니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        update users
+           set follower_count  = follower_count  + case when id = :followeeId then 1 else 0 end,
+               following_count = following_count + case when id = :followerId then 1 else 0 end
+         where id in (:followerId, :followeeId)
+        """, nativeQuery = true)
+    int incrementFollowCounts(@Param("followerId") UUID followerId, @Param("followeeId") UUID followeeId);
+
+    /**
+     * 팔로우 취소 시 팔로워의 팔로잉 수와 팔로위의 팔로워 수를 한 문장으로 1씩 감소시킵니다. (0 이하로 내려가지 않음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        update users
+           set follower_count  = greatest(follower_count  - case when id = :followeeId then 1 else 0 end, 0),
+               following_count = greatest(following_count - case when id = :followerId then 1 else 0 end, 0)
+         where id in (:followerId, :followeeId)
+        """, nativeQuery = true)
+    int decrementFollowCounts(@Param("followerId") UUID followerId, @Param("followeeId") UUID followeeId);
+
+    /**
+     * follows 테이블 기준으로 팔로워/팔로잉 수가 어긋난 사용자 ID를 조회합니다. (잠금 없이 후보만 찾음)
+     */
+    @Query(value = """
+        select u.id
+          from users u
+         where u.follower_count  <> (select count(*) from follows f where f.followee_id = u.id)
+            or u.following_count <> (select count(*) from follows f where f.follower_id = u.id)
+        """, nativeQuery = true)
+    List<UUID> findFollowCountMismatchedUserIds();
+
+    /**
+     * 보정 대상 사용자 행을 id 순서로 잠급니다.
+     * 진행 중인 팔로우/언팔로우의 카운터 UPDATE가 커밋될 때까지 기다리고, 이후의 카운터 UPDATE는 보정이 끝날 때까지 대기시킵니다.
+     */
+    @Query(value = "select u.id from users u where u.id in (:userIds) order by u.id for update", nativeQuery = true)
+    List<UUID> lockUsersForUpdate(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 잠근 사용자들의 팔로워/팔로잉 수를 follows 테이블 기준으로 다시 계산합니다.
+     * {@link #lockUsersForUpdate} 이후 같은 트랜잭션의 별도 문장으로 실행해야 잠금 이후의 스냅샷으로 개수를 셉니다.
+     *
+     * @return 보정된 사용자 수
+     */
+    @Modifying
+    @Query(value = """
+        update users u
+           set follower_count  = (select count(*) from follows f where f.followee_id = u.id),
+               following_count = (select count(*) from follows f where f.follower_id = u.id)
+         where u.id in (:userIds)
+           and (u.follower_count  <> (select count(*) from follows f where f.followee_id = u.id)
+             or u.following_count <> (select count(*) from follows f where f.follower_id = u.id))
+        """, nativeQuery = true)
+    int recalculateFollowCounts(@Param("userIds") Collection<UUID> userIds);
 }
@@ -609,6 +609,11 @@ INSERT INTO follows (id, follower_id, followee_id, created_at) VALUES
                                                                    (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000003', 'a0000000-0000-0000-0000-000000000004', NOW()),
                                                                    (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000004', 'a0000000-0000-0000-0000-000000000005', NOW());
 
+-- users 팔로워/팔로잉 수 (follows 기준으로 계산)
+UPDATE users u
+SET follower_count = (SELECT COUNT(*) FROM follows f WHERE f.followee_id = u.id),
+    following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.id);
+
 -- feed_likes (5)
 INSERT INTO feed_likes (id, feed_id, user_id, created_at) VALUES
                                                               (gen_random_uuid(), 'f1000000-0000-0000-0000-000000000001', 'a0000000-0000-0000-0000-000000000002', NOW()),
@@ -645,12 +650,12 @@ INSERT INTO profiles (id, user_id, location_id, created_at, updated_at, name, ge
                                                                                                                                                   (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000005', 'b0000000-0000-0000-0000-000000000005', NOW(), NOW(), 'user_five', 'OTHER', '1995-05-05', 3.5, null);
 
 -- direct_messages (5)
-INSERT INTO direct_messages (id, sender_id, receiver_id, created_at, message) VALUES
-                                                                                  (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000001', 'a0000000-0000-0000-0000-000000000002', NOW() - interval '4 day', '안녕하세요'),
-                                                                                  (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000002', 'a0000000-0000-0000-0000-000000000001', NOW() - interval '3 day', '네 안녕하세요!'),
-                                                                                  (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000001', 'a0000000-0000-0000-0000-000000000003', NOW() - interval '2 day', '피드 잘보고 갑니다'),
-                                                                                  (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000004', 'a0000000-0000-0000-0000-000000000001', NOW() - interval '1 day', '질문 있습니다'),
-                                                                                  (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000005', 'a0000000-0000-0000-0000-000000000002', NOW(), '오늘 날씨 어때요?');
+INSERT INTO direct_messages (id, sender_id, receiver_id, created_at, message, conversation_key) VALUES
+                                                                                  (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000001', 'a0000000-0000-0000-0000-000000000002', NOW() - interval '4 day', '안녕하세요', 'a0000000-0000-0000-0000-000000000001:a0000000-0000-0000-0000-000000000002'),
+                                                                                  (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000002', 'a0000000-0000-0000-0000-000000000001', NOW() - interval '3 day', '네 안녕하세요!', 'a0000000-0000-0000-0000-000000000001:a0000000-0000-0000-0000-000000000002'),
+                                                                                  (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000001', 'a0000000-0000-0000-0000-000000000003', NOW() - interval '2 day', '피드 잘보고 갑니다', 'a0000000-0000-0000-0000-000000000001:a0000000-0000-0000-0000-000000000003'),
+                                                                                  (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000004', 'a0000000-0000-0000-0000-000000000001', NOW() - interval '1 day', '질문 있습니다', 'a0000000-0000-0000-0000-000000000001:a0000000-0000-0000-0000-000000000004'),
+                                                                                  (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000005', 'a0000000-0000-0000-0000-000000000002', NOW(), '오늘 날씨 어때요?', 'a0000000-0000-0000-0000-000000000002:a0000000-0000-0000-0000-000000000005');
 
 -- feed_clothes (5)
 INSERT INTO feed_clothes (id, feed_id, clothes_id, created_at) VALUES
@@ -855,9 +860,11 @@ WITH extra_users AS (
              '안녕하세요! seed message #' || row_number() OVER () AS message
          FROM targets t
      )
-INSERT INTO direct_messages(id, sender_id, receiver_id, created_at, message)
+INSERT INTO direct_messages(id, sender_id, receiver_id, created_at, message, conversation_key)
 -- 요청
-SELECT dm_id, me, other_id, created_at, message FROM seed_pairs
+SELECT dm_id, me, other_id, created_at, message,
+       LEAST(me::text COLLATE "C", other_id::text COLLATE "C") || ':' || GREATEST(me::text COLLATE "C", other_id::text COLLATE "C")
+FROM seed_pairs
 UNION ALL
 -- 답장(5분 후)
 SELECT
@@ -865,9 +872,21 @@ SELECT
     other_id,
     me,
     created_at + interval '5 minute',
-    concat('네, 반갑습니다! reply #', row_number() OVER ())
+    concat('네, 반갑습니다! reply #', row_number() OVER ()),
+    LEAST(me::text COLLATE "C", other_id::text COLLATE "C") || ':' || GREATEST(me::text COLLATE "C", other_id::text COLLATE "C")
 FROM seed_pairs;
 
+-- dm_conversations (direct_messages 로부터 사용자별 대화방 요약 생성)
+INSERT INTO dm_conversations (id, owner_id, partner_id, last_message_id, last_message, last_message_at, created_at)
+SELECT gen_random_uuid(), t.owner_id, t.partner_id, t.id, LEFT(t.message, 100), t.created_at, t.created_at
+FROM (
+  SELECT DISTINCT ON (u.owner_id, u.partner_id) u.owner_id, u.partner_id, dm.id, dm.message, dm.created_at
+  FROM direct_messages dm
+  CROSS JOIN LATERAL (VALUES (dm.sender_id, dm.receiver_id), (dm.receiver_id, dm.sender_id)) AS u(owner_id, partner_id)
+  ORDER BY u.owner_id, u.partner_id, dm.created_at DESC, dm.id DESC
+) t
+ON CONFLICT (owner_id, partner_id) DO NOTHING;
+
 -- notifications (30)
 INSERT INTO notifications (id, receiver_id, created_at, title, content, level) VALUES
 (gen_random_uuid(), 'a0000000-0000-0000-0000-000000000001', NOW(), '새로운 팔로워', 'user_six님이 회원님을 팔로우하기 시작했습니다.', 'INFO'),
@@ -1,4 +1,5 @@
 DROP TABLE IF EXISTS
+    dm_conversations,
     recommendation_clothes,
     feed_clothes,
     feed_likes,
@@ -34,6 +35,8 @@ CREATE TABLE IF NOT EXISTS users
     created_at TIMESTAMPTZ DEFAULT NOW() NOT NULL,
     updated_at TIMESTAMPTZ DEFAULT NOW() NOT NULL,
     temporary_password_expires_at TIMESTAMPTZ,
+    follower_count BIGINT DEFAULT 0 NOT NULL,
+    following_count BIGINT DEFAULT 0 NOT NULL,
 
     CONSTRAINT pk_users PRIMARY KEY (id),
     CONSTRAINT ck_users_role CHECK (role IN ('USER','ADMIN'))
@@ -104,6 +107,7 @@ CREATE TABLE IF NOT EXISTS clothes
     id UUID NOT NULL,
     name VARCHAR(255) NOT NULL,
     image_url TEXT,
+    image_variants_ready BOOLEAN DEFAULT FALSE NOT NULL,
     type VARCHAR(10) NOT NULL,
     created_at TIMESTAMPTZ NOT NULL,
     updated_at TIMESTAMPTZ,
@@ -172,6 +176,7 @@ CREATE TABLE IF NOT EXISTS profiles
     birth_date DATE,
     temperature_sensitivity DOUBLE PRECISION DEFAULT 3.0,
     profile_image_url VARCHAR(255),
+    profile_image_variants_ready BOOLEAN DEFAULT FALSE NOT NULL,
     weather_notification_enabled BOOLEAN DEFAULT TRUE NOT NULL,
 
     CONSTRAINT pk_profiles PRIMARY KEY (id),
@@ -189,12 +194,30 @@ CREATE TABLE IF NOT EXISTS direct_messages
     receiver_id UUID NOT NULL,
     created_at TIMESTAMPTZ NOT NULL,
     message TEXT NOT NULL,
+    conversation_key VARCHAR(73) NOT NULL, -- 정렬된 사용자 ID 쌍 (작은ID:큰ID)
 
     CONSTRAINT fk_dm_sender FOREIGN KEY (sender_id) REFERENCES users (id) ON DELETE CASCADE,
     CONSTRAINT fk_dm_receiver FOREIGN KEY (receiver_id) REFERENCES users (id) ON DELETE CASCADE,
     CONSTRAINT ck_dm_no_self  CHECK (sender_id <> receiver_id) -- 본인한테 DM 금지
 );
 
+-- dm_conversations 테이블 (사용자별 대화방 요약, 양쪽 사용자 각각 한 행)
+CREATE TABLE IF NOT EXISTS dm_conversations
+(
+    id UUID PRIMARY KEY,
+    owner_id UUID NOT NULL,
+    partner_id UUID NOT NULL,
+    last_message_id UUID NOT NULL,
+    last_message TEXT NOT NULL,
+    last_message_at TIMESTAMPTZ NOT NULL,
+    unread_count INT DEFAULT 0 NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT fk_dm_conversations_owner FOREIGN KEY (owner_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_dm_conversations_partner FOREIGN KEY (partner_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT uq_dm_conversations_owner_partner UNIQUE (owner_id, partner_id)
+);
+
 -- feeds 테이블
 CREATE TABLE IF NOT EXISTS feeds
 (
@@ -323,12 +346,17 @@ CREATE TABLE IF NOT EXISTS follows
 CREATE INDEX IF NOT EXISTS idx_users_email ON users(email);
 CREATE INDEX IF NOT EXISTS idx_users_username ON users(username);
 
+-- 사용자명/이메일 부분 일치 검색용 트라이그램 인덱스 (lower(x) LIKE '%term%' 형태의 검색에 사용)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING gin (lower(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+
 CREATE INDEX IF NOT EXISTS idx_ca_clothes ON clothes_attributes (clothes_id);
 CREATE INDEX IF NOT EXISTS idx_cao_definition ON clothes_attribute_options (definition_id);
 
 -- follow index
 CREATE INDEX IF NOT EXISTS idx_follows_follower_created_id_desc ON follows (follower_id, created_at DESC, id DESC);
-CREATE INDEX IF NOT EXISTS idx_follows_followee ON follows (followee_id);
+CREATE INDEX IF NOT EXISTS idx_follows_followee_created_id_desc ON follows (followee_id, created_at DESC, id DESC);
 CREATE INDEX IF NOT EXISTS idx_follows_follower ON follows (follower_id);
 
 -- notification index
@@ -336,15 +364,89 @@ CREATE INDEX IF NOT EXISTS idx_notifications_receiver_created_at ON notification
 
 -- DM index
 CREATE INDEX IF NOT EXISTS idx_dm_pair_created_at ON direct_messages (sender_id, receiver_id, created_at DESC); --대화
+CREATE INDEX IF NOT EXISTS idx_dm_conversation_created_at ON direct_messages (conversation_key, created_at DESC, id DESC); --대화 이력 페이지
 
 -- Location index
 CREATE INDEX IF NOT EXISTS idx_locations_coordinates ON locations (longitude, latitude); -- 경도/위도
 
--- DM 대화방 목록 조회를 위한 표현식 인덱스
-CREATE INDEX IF NOT EXISTS idx_dm_conversation_lookup
-ON direct_messages (
-  LEAST(sender_id, receiver_id),
-  GREATEST(sender_id, receiver_id),
-  created_at DESC,
-  id DESC
-);
+-- DM 대화방 목록 조회 인덱스 (owner 기준 마지막 활동 순)
+CREATE INDEX IF NOT EXISTS idx_dm_conversations_owner_last ON dm_conversations (owner_id, last_message_at DESC, id DESC);
+
+-- feed index (논리 삭제되지 않은 피드의 최신순/좋아요순 커서 페이지, 작성자별 페이지)
+CREATE INDEX IF NOT EXISTS idx_feeds_active_created_id_desc ON feeds (created_at DESC, id DESC) WHERE is_deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_feeds_active_like_id_desc ON feeds (like_count DESC, id DESC) WHERE is_deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_feeds_author_created_id_desc ON feeds (author_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_feeds_weather ON feeds (weather_id); -- 날씨 정리 시 피드 참조 확인
+
+-- comment index (피드별 댓글 커서 페이지)
+CREATE INDEX IF NOT EXISTS idx_comments_feed_created_id_desc ON comments (feed_id, created_at DESC, id DESC);
+
+-- feed_likes index ((feed_id, user_id) 는 uq_feed_likes 가 담당, 사용자 기준 조회용 역방향)
+CREATE INDEX IF NOT EXISTS idx_feed_likes_user_feed ON feed_likes (user_id, feed_id);
+
+-- feed_clothes index ((feed_id, clothes_id) 는 uq_feed_clothes 가 담당, 의상 삭제 시 연쇄 삭제용)
+CREATE INDEX IF NOT EXISTS idx_feed_clothes_clothes ON feed_clothes (clothes_id);
+
+-- clothes index (소유자별 의상 커서 페이지, 타입 필터 포함)
+CREATE INDEX IF NOT EXISTS idx_clothes_owner_created_id_desc ON clothes (owner_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_clothes_owner_type_created_id_desc ON clothes (owner_id, type, created_at DESC, id DESC);
+
+-- 변형 이미지 생성 완료 표시용 이미지 URL 조회 인덱스 (URL 길이 제한이 없는 hash 인덱스)
+CREATE INDEX IF NOT EXISTS idx_clothes_image_url ON clothes USING hash (image_url);
+CREATE INDEX IF NOT EXISTS idx_profiles_profile_image_url ON profiles USING hash (profile_image_url);
+
+-- profile/location index (격자별 프로필 조회)
+CREATE INDEX IF NOT EXISTS idx_locations_grid ON locations (grid_id);
+CREATE INDEX IF NOT EXISTS idx_profiles_location ON profiles (location_id);
+
+-- 기존 direct_messages 의 conversation_key 백필 (운영 DB 이관 시 1회 실행, 컬럼 추가 후 NOT NULL 적용)
+-- ALTER TABLE direct_messages ADD COLUMN IF NOT EXISTS conversation_key VARCHAR(73);
+-- UPDATE direct_messages
+-- SET conversation_key = LEAST(sender_id::text COLLATE "C", receiver_id::text COLLATE "C") || ':' || GREATEST(sender_id::text COLLATE "C", receiver_id::text COLLATE "C")
+-- WHERE conversation_key IS NULL;
+-- ALTER TABLE direct_messages ALTER COLUMN conversation_key SET NOT NULL;
+
+-- 피드/댓글/좋아요/의상 조회 인덱스 (운영 DB 이관 시 1회 실행, 쓰기 잠금 없이 생성)
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feeds_active_created_id_desc ON feeds (created_at DESC, id DESC) WHERE is_deleted = FALSE;
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feeds_active_like_id_desc ON feeds (like_count DESC, id DESC) WHERE is_deleted = FALSE;
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feeds_author_created_id_desc ON feeds (author_id, created_at DESC, id DESC);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feeds_weather ON feeds (weather_id);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_feed_created_id_desc ON comments (feed_id, created_at DESC, id DESC);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feed_likes_user_feed ON feed_likes (user_id, feed_id);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feed_clothes_clothes ON feed_clothes (clothes_id);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clothes_owner_created_id_desc ON clothes (owner_id, created_at DESC, id DESC);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clothes_owner_type_created_id_desc ON clothes (owner_id, type, created_at DESC, id DESC);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_locations_grid ON locations (grid_id);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_profiles_location ON profiles (location_id);
+
+-- users 트라이그램 검색 인덱스 (운영 DB 이관 시 1회 실행, 쓰기 잠금 없이 생성)
+-- CREATE EXTENSION IF NOT EXISTS pg_trgm;
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_username_trgm ON users USING gin (lower(username) gin_trgm_ops);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+
+-- users 팔로워/팔로잉 수 컬럼 추가 및 초기값 계산 (운영 DB 이관 시 1회 실행)
+-- ALTER TABLE users ADD COLUMN IF NOT EXISTS follower_count BIGINT DEFAULT 0 NOT NULL;
+-- ALTER TABLE users ADD COLUMN IF NOT EXISTS following_count BIGINT DEFAULT 0 NOT NULL;
+-- UPDATE users u
+-- SET follower_count = (SELECT COUNT(*) FROM follows f WHERE f.followee_id = u.id),
+--     following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.id);
+
+-- 변형 이미지 생성 완료 컬럼 추가 (운영 DB 이관 시 1회 실행, 기존 이미지는 원본 URL 로 표시)
+-- ALTER TABLE clothes ADD COLUMN IF NOT EXISTS image_variants_ready BOOLEAN DEFAULT FALSE NOT NULL;
+-- ALTER TABLE profiles ADD COLUMN IF NOT EXISTS profile_image_variants_ready BOOLEAN DEFAULT FALSE NOT NULL;
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clothes_image_url ON clothes USING hash (image_url);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_profiles_profile_image_url ON profiles USING hash (profile_image_url);
+
+-- dm_conversations 안 읽은 메시지 수 컬럼 추가 (운영 DB 이관 시 1회 실행, 기존 대화는 0에서 시작)
+-- ALTER TABLE dm_conversations ADD COLUMN IF NOT EXISTS unread_count INT DEFAULT 0 NOT NULL;
+
+-- 기존 direct_messages 로부터 dm_conversations 백필 (운영 DB 이관 시 1회 실행)
+-- INSERT INTO dm_conversations (id, owner_id, partner_id, last_message_id, last_message, last_message_at, created_at)
+-- SELECT gen_random_uuid(), t.owner_id, t.partner_id, t.id, LEFT(t.message, 100), t.created_at, t.created_at
+-- FROM (
+--   SELECT DISTINCT ON (u.owner_id, u.partner_id) u.owner_id, u.partner_id, dm.id, dm.message, dm.created_at
+--   FROM direct_messages dm
+--   CROSS JOIN LATERAL (VALUES (dm.sender_id, dm.receiver_id), (dm.receiver_id, dm.sender_id)) AS u(owner_id, partner_id)
+--   ORDER BY u.owner_id, u.partner_id, dm.created_at DESC, dm.id DESC
+-- ) t
+-- ON CONFLICT (owner_id, partner_id) DO NOTHING;
@@ -7,15 +7,19 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.samsamotot.otboo.clothes.dto.ClothesAttributeDto;
 import com.samsamotot.otboo.clothes.dto.ClothesAttributeWithDefDto;
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionDto;
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionImageDto;
 import com.samsamotot.otboo.clothes.dto.request.ClothesCreateRequest;
 import com.samsamotot.otboo.clothes.dto.request.ClothesDto;
 import com.samsamotot.otboo.clothes.dto.request.ClothesSearchRequest;
@@ -33,6 +37,7 @@ import com.samsamotot.otboo.user.entity.User;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -47,6 +52,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -510,40 +516,67 @@ public class ClothesControllerTest {
     class ClothesExtractTest {
 
         @Test
-        void 의상_정보_추출_요청이_성공하면_200_OK와_ClothesDto를_반환한다() throws Exception {
+        void 의상_정보_추출_요청이_성공하면_200_OK와_추출_결과를_반환한다() throws Exception {
             // given
-            ClothesDto extractesDto = new ClothesDto(
-                null,
-                null,
-                "[무신사] 베이직 티셔츠",
-                "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/test.jpg",
-                null,
-                null
-            );
+            UUID imageUploadId = UUID.randomUUID();
+            ClothesExtractionDto extractionDto = ClothesExtractionDto.builder()
+                .name("[에이블리] 플라워 원피스")
+                .imageUrl("https://image.a-bly.com/images/product.jpg")
+                .imageUploadId(imageUploadId)
+                .build();
 
-            when(clothesExtractService.extract(anyString())).thenReturn(extractesDto);
+            when(clothesExtractService.extract(eq(mockUser.getId()), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(extractionDto));
 
-            // when & then
-            mockMvc.perform(get("/api/clothes/extractions")
-                    .param("url", "https://store.musinsa.com/product/12345")
+            // when
+            MvcResult mvcResult = mockMvc.perform(get("/api/clothes/extractions")
+                    .param("url", "https://a-bly.com/products/98765")
                     .with(user(mockPrincipal)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.name").value("[무신사] 베이직 티셔츠"))
-                .andExpect(jsonPath("$.imageUrl").value("https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/test.jpg"));
+                .andExpect(jsonPath("$.name").value("[에이블리] 플라워 원피스"))
+                .andExpect(jsonPath("$.imageUrl").value("https://image.a-bly.com/images/product.jpg"))
+                .andExpect(jsonPath("$.imageUploadId").value(imageUploadId.toString()));
         }
 
         @Test
         void 의상_정보_추출_요청_중_예외_발생_시_400_Bad_Request를_반환한다() throws Exception {
             // given
-            when(clothesExtractService.extract(anyString()))
-                .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 사이트입니다."));
+            when(clothesExtractService.extract(any(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(
+                    new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 사이트입니다.")));
 
-            // when & then
-            mockMvc.perform(get("/api/clothes/extractions")
+            // when
+            MvcResult mvcResult = mockMvc.perform(get("/api/clothes/extractions")
                     .param("url", "https://smartstore.naver.com/product/12345")
                     .with(user(mockPrincipal)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isBadRequest())
                 .andExpect(status().reason("지원하지 않는 사이트입니다."));
         }
+
+        @Test
+        void 추출_이미지_재업로드_결과를_조회한다() throws Exception {
+            // given
+            UUID imageUploadId = UUID.randomUUID();
+            String s3Url = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/test.jpg";
+            when(clothesExtractService.getExtractedImage(mockUser.getId(), imageUploadId))
+                .thenReturn(new ClothesExtractionImageDto(imageUploadId, s3Url, true));
+
+            // when & then
+            mockMvc.perform(get("/api/clothes/extractions/images/{imageUploadId}", imageUploadId)
+                    .with(user(mockPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imageUrl").value(s3Url))
+                .andExpect(jsonPath("$.ready").value(true));
+        }
     }
 }
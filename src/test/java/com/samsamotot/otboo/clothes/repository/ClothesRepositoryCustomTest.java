@@ -1,9 +1,14 @@
 package com.samsamotot.otboo.clothes.repository;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
 
+import com.samsamotot.otboo.clothes.dto.ClothesAttributeWithDefDto;
+import com.samsamotot.otboo.clothes.dto.OotdDto;
 import com.samsamotot.otboo.clothes.dto.request.ClothesSearchRequest;
 import com.samsamotot.otboo.clothes.entity.Clothes;
+import com.samsamotot.otboo.clothes.entity.ClothesAttribute;
+import com.samsamotot.otboo.clothes.entity.ClothesAttributeDef;
 import com.samsamotot.otboo.clothes.entity.ClothesType;
 import com.samsamotot.otboo.common.config.QueryDslConfig;
 import com.samsamotot.otboo.common.config.TestJpaAuditingConfig;
@@ -11,6 +16,7 @@ import com.samsamotot.otboo.common.fixture.UserFixture;
 import com.samsamotot.otboo.user.entity.User;
 import java.time.Instant;
 import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -250,4 +256,65 @@ public class ClothesRepositoryCustomTest {
         }
     }
 
+    @Nested
+    @DisplayName("findRecommendationCandidates 테스트")
+    class FindRecommendationCandidatesTest {
+
+        @Test
+        void 의상과_속성을_단일_프로젝션으로_묶어_반환한다() {
+
+            // given
+            ClothesAttributeDef thickness = ClothesAttributeDef.createClothesAttributeDef("두께", List.of("얇음", "두꺼움"));
+            ClothesAttributeDef season = ClothesAttributeDef.createClothesAttributeDef("계절", List.of("여름", "겨울"));
+            em.persist(thickness);
+            em.persist(season);
+
+            Clothes top = Clothes.createClothes("반팔", ClothesType.TOP, owner);
+            top.addAttribute(ClothesAttribute.createClothesAttribute(thickness, "얇음"));
+            top.addAttribute(ClothesAttribute.createClothesAttribute(season, "여름"));
+            em.persist(top);
+
+            Clothes hat = Clothes.createClothes("모자", ClothesType.HAT, owner);
+            em.persist(hat);
+
+            User other = UserFixture.createValidUser();
+            em.persist(other);
+            em.persist(Clothes.createClothes("다른 사람 옷", ClothesType.TOP, other));
+
+            em.flush();
+            em.clear();
+
+            // when
+            List<OotdDto> candidates = clothesRepository.findRecommendationCandidates(owner.getId());
+
+            // then
+            assertThat(candidates).hasSize(2);
+            assertThat(candidates).extracting(OotdDto::name).containsExactlyInAnyOrder("반팔", "모자");
+
+            OotdDto topDto = candidates.stream()
+                .filter(c -> c.type() == ClothesType.TOP)
+                .findFirst()
+                .orElseThrow();
+            assertThat(topDto.clothesId()).isEqualTo(top.getId());
+            assertThat(topDto.attributes())
+                .extracting(ClothesAttributeWithDefDto::definitionName, ClothesAttributeWithDefDto::value)
+                .containsExactlyInAnyOrder(
+                    tuple("두께", "얇음"),
+                    tuple("계절", "여름")
+                );
+            assertThat(topDto.attributes()).allSatisfy(attr -> {
+                if (attr.definitionName().equals("두께")) {
+                    assertThat(attr.selectableValues()).containsExactlyInAnyOrder("얇음", "두꺼움");
+                } else {
+                    assertThat(attr.selectableValues()).containsExactlyInAnyOrder("여름", "겨울");
+                }
+            });
+
+            OotdDto hatDto = candidates.stream()
+                .filter(c -> c.type() == ClothesType.HAT)
+                .findFirst()
+                .orElseThrow();
+            assertThat(hatDto.attributes()).isEmpty();
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.samsamotot.otboo.clothes.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -15,19 +16,35 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.samsamotot.otboo.clothes.dto.request.ClothesDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionDto;
+import com.samsamotot.otboo.clothes.dto.ClothesExtractionImageDto;
 import com.samsamotot.otboo.clothes.exception.ClothesExtractionFailedException;
 import com.samsamotot.otboo.clothes.util.ClothesExtractHelper;
 import com.samsamotot.otboo.clothes.util.ImageDownloadService;
+import com.samsamotot.otboo.common.util.CacheNames;
+import com.samsamotot.otboo.sse.service.SseService;
+import java.io.FilterReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.jsoup.HttpStatusException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class ClothesExtractServiceTest {
@@ -38,6 +55,24 @@ public class ClothesExtractServiceTest {
     @Mock
     private ClothesExtractHelper clothesExtractHelper;
 
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SseService sseService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     @Spy
     private ClothesExtractServiceImpl clothesExtractService;
@@ -72,6 +107,13 @@ public class ClothesExtractServiceTest {
     </html>
 """;
 
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(clothesExtractService, "imageTtlMinutes", 10);
+    }
+
     private static final String INVALID_HTML = """
         <html><body><p>403 Forbidden</p></body></html>
         """;
@@ -81,10 +123,10 @@ public class ClothesExtractServiceTest {
     void 정상적인_HTML에서_의상_이름과_이미지를_추출할_수_있다() throws Exception {
         // given
         String url = "https://store.musinsa.com/product/12345";
-        doReturn(VALID_HTML).when(clothesExtractHelper).fetchHtml(anyString());
+        doReturn(new StringReader(VALID_HTML)).when(clothesExtractHelper).openHtml(anyString());
 
         // when
-        ClothesDto dto = clothesExtractService.extract(url);
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
 
         // then
         assertNotNull(dto);
@@ -94,40 +136,167 @@ public class ClothesExtractServiceTest {
     }
 
     @Test
-    void 에이블리_링크의_경우_이미지_업로드가_수행되고_S3_URL이_반환된다() throws Exception {
+    void 추출_결과는_정규화된_URL로_캐시된다() throws Exception {
+        // given
+        String url = "https://www.musinsa.com/products/12345?utm_source=insta";
+        String canonicalUrl = "https://musinsa.com/products/12345";
+        when(clothesExtractHelper.canonicalize(url)).thenReturn(canonicalUrl);
+        when(cacheManager.getCache(CacheNames.CLOTHES_EXTRACTION)).thenReturn(cache);
+        doReturn(new StringReader(VALID_HTML)).when(clothesExtractHelper).openHtml(anyString());
+
+        // when
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
+
+        // then
+        verify(cache).put(canonicalUrl, dto);
+    }
+
+    @Test
+    void 이름과_이미지를_찾으면_나머지_본문은_읽지_않는다() throws Exception {
+        // given - 상품 정보 뒤로 수 MB 의 본문이 이어지는 페이지
+        String url = "https://www.musinsa.com/products/12345";
+        String head = VALID_HTML.replace("</body>", "");
+        String filler = "<div><p>리뷰</p></div>".repeat(200_000);
+        CountingReader html = new CountingReader(new StringReader(head + filler + "</body></html>"));
+        doReturn(html).when(clothesExtractHelper).openHtml(anyString());
+
+        // when
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
+
+        // then
+        assertEquals("[무신사] 베이직 티셔츠", dto.name());
+        assertEquals("https://image.musinsa.com/images/product.jpg", dto.imageUrl());
+        assertTrue(html.read < filler.length() / 10);
+    }
+
+    @Test
+    void 캐시된_추출_결과가_있으면_페이지를_요청하지_않는다() throws Exception {
+        // given
+        String url = "https://a-bly.com/products/98765?utm_source=kakao";
+        String canonicalUrl = "https://a-bly.com/products/98765";
+        ClothesExtractionDto cached = ClothesExtractionDto.builder()
+            .name("[에이블리] 플라워 원피스")
+            .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/extracted/abc.jpg")
+            .build();
+        when(clothesExtractHelper.canonicalize(url)).thenReturn(canonicalUrl);
+        when(cacheManager.getCache(CacheNames.CLOTHES_EXTRACTION)).thenReturn(cache);
+        when(cache.get(canonicalUrl, ClothesExtractionDto.class)).thenReturn(cached);
+
+        // when
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
+
+        // then
+        assertEquals(cached, dto);
+        assertNull(dto.imageUploadId());
+        verify(clothesExtractHelper, never()).openHtml(anyString());
+        verify(imageDownloadService, never()).downloadAndUploadAsync(any(), any());
+    }
+
+    @Test
+    void 에이블리_링크의_경우_원본_URL로_먼저_응답하고_S3_URL은_SSE로_전달된다() throws Exception {
 
         // given
         String url = "https://a-bly.com/products/98765";
 
         // HTML 파싱 결과를 Mock으로 대체
-        doReturn(ABLY_HTML).when(clothesExtractHelper).fetchHtml(anyString());
+        doReturn(new StringReader(ABLY_HTML)).when(clothesExtractHelper).openHtml(anyString());
 
-        // S3 업로드 Mock (즉시 완료 future 리턴)
+        // S3 업로드는 응답 이후에 완료
         String expectedS3Url = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/ably98765.jpg";
-        CompletableFuture<String> mockFuture = CompletableFuture.completedFuture(expectedS3Url);
-        when(imageDownloadService.downloadAndUploadAsync(anyString(), eq("clothes/"))).thenReturn(mockFuture);
+        CompletableFuture<String> uploadFuture = new CompletableFuture<>();
+        when(imageDownloadService.downloadAndUploadAsync(anyString(), eq("clothes/extracted/"))).thenReturn(uploadFuture);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(clothesExtractHelper.canonicalize(url)).thenReturn(url);
+        when(cacheManager.getCache(CacheNames.CLOTHES_EXTRACTION)).thenReturn(cache);
 
         // when
-        ClothesDto dto = clothesExtractService.extract(url);
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
 
-        // then
+        // then - 업로드 완료를 기다리지 않고 원본 이미지 URL로 응답
         assertNotNull(dto);
         assertEquals("[에이블리] 플라워 원피스", dto.name());
-        assertEquals(expectedS3Url, dto.imageUrl());  // mockFuture 결과가 반영되었는지 확인
+        assertEquals("https://image.a-bly.com/images/product.jpg", dto.imageUrl());
+        assertNotNull(dto.imageUploadId());
+        verify(sseService, never()).sendLocalEvent(any(), any(), any(), any());
+        verify(cache, never()).put(any(), any());
+
+        // when - 업로드 완료
+        uploadFuture.complete(expectedS3Url);
+
+        // then - 재업로드 결과가 저장되고 SSE로 전달됨
+        String payload = objectMapper.writeValueAsString(
+            new ClothesExtractionImageDto(dto.imageUploadId(), expectedS3Url, true));
+        verify(valueOperations).set(
+            "clothesExtractionImage:" + userId + ":" + dto.imageUploadId(), expectedS3Url, Duration.ofMinutes(10));
+        verify(sseService).sendLocalEvent(
+            userId, ClothesExtractServiceImpl.SSE_EVENT_NAME, null, payload);
+        // 재업로드된 S3 URL 로 캐시됨
+        verify(cache).put(url, new ClothesExtractionDto("[에이블리] 플라워 원피스", expectedS3Url, null));
+    }
+
+    @Test
+    void 에이블리_이미지_재업로드가_실패하면_원본_URL이_SSE로_전달된다() throws Exception {
+        // given
+        String url = "https://a-bly.com/products/98765";
+        doReturn(new StringReader(ABLY_HTML)).when(clothesExtractHelper).openHtml(anyString());
+        when(imageDownloadService.downloadAndUploadAsync(anyString(), eq("clothes/extracted/")))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
+
+        // then
+        String payload = objectMapper.writeValueAsString(
+            new ClothesExtractionImageDto(dto.imageUploadId(), dto.imageUrl(), true));
+        verify(sseService).sendLocalEvent(
+            userId, ClothesExtractServiceImpl.SSE_EVENT_NAME, null, payload);
+    }
+
+    @Test
+    void 이미지_실행자가_포화되면_재업로드_없이_원본_URL이_SSE로_전달된다() throws Exception {
+        // given
+        String url = "https://a-bly.com/products/98765";
+        doReturn(new StringReader(ABLY_HTML)).when(clothesExtractHelper).openHtml(anyString());
+        when(imageDownloadService.downloadAndUploadAsync(anyString(), eq("clothes/extracted/")))
+            .thenThrow(new TaskRejectedException("image-exec 작업 거절"));
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
 
-        // verify
-        verify(imageDownloadService, times(1))
-            .downloadAndUploadAsync(anyString(), eq("clothes/"));
+        // then
+        assertEquals("https://image.a-bly.com/images/product.jpg", dto.imageUrl());
+        String payload = objectMapper.writeValueAsString(
+            new ClothesExtractionImageDto(dto.imageUploadId(), dto.imageUrl(), true));
+        verify(sseService).sendLocalEvent(
+            userId, ClothesExtractServiceImpl.SSE_EVENT_NAME, null, payload);
+    }
+
+    @Test
+    void 재업로드_결과가_없으면_ready_false를_반환한다() {
+        // given
+        UUID imageUploadId = UUID.randomUUID();
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("clothesExtractionImage:" + userId + ":" + imageUploadId)).thenReturn(null);
+
+        // when
+        ClothesExtractionImageDto dto = clothesExtractService.getExtractedImage(userId, imageUploadId);
+
+        // then
+        assertEquals(imageUploadId, dto.imageUploadId());
+        assertNull(dto.imageUrl());
+        assertFalse(dto.ready());
     }
 
     @Test
     void INVALID_HTML_리턴시_기본값_DTO를_반환한다() throws Exception {
         // given
         String url = "https://store.musinsa.com/product/invalid";
-        doReturn(INVALID_HTML).when(clothesExtractHelper).fetchHtml(anyString());
+        doReturn(new StringReader(INVALID_HTML)).when(clothesExtractHelper).openHtml(anyString());
 
         // when
-        ClothesDto dto = clothesExtractService.extract(url);
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
 
         // then
         assertNotNull(dto);
@@ -141,12 +310,12 @@ public class ClothesExtractServiceTest {
         // given
         String url = "https://store.musinsa.com/product/99999";
 
-        // fetchHtml()이 IOException 발생하도록 설정
+        // openHtml()이 IOException 발생하도록 설정
         doThrow(new IOException("HTTP error: 403"))
-            .when(clothesExtractHelper).fetchHtml(anyString());
+            .when(clothesExtractHelper).openHtml(anyString());
 
         // when
-        ClothesDto dto = clothesExtractService.extract(url);
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
 
         // then
         assertNotNull(dto);
@@ -165,12 +334,12 @@ public class ClothesExtractServiceTest {
 
         // when & then
         assertThrows(ClothesExtractionFailedException.class, () -> {
-            clothesExtractService.extract(maliciousUrl);
+            clothesExtractService.extract(userId, maliciousUrl);
         });
 
-        // verify - validate는 호출되었지만 fetchHtml은 호출되지 않음
+        // verify - validate는 호출되었지만 openHtml은 호출되지 않음
         verify(clothesExtractHelper, times(1)).validate(maliciousUrl);
-        verify(clothesExtractHelper, never()).fetchHtml(anyString());
+        verify(clothesExtractHelper, never()).openHtml(anyString());
     }
 
     @Test
@@ -179,10 +348,10 @@ public class ClothesExtractServiceTest {
         String url = "https://store.musinsa.com/product/forbidden";
 
         doThrow(new HttpStatusException("Forbidden", 403, url))
-            .when(clothesExtractHelper).fetchHtml(anyString());
+            .when(clothesExtractHelper).openHtml(anyString());
 
         // when
-        ClothesDto dto = clothesExtractService.extract(url);
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
 
         // then
         assertNotNull(dto);
@@ -206,14 +375,34 @@ public class ClothesExtractServiceTest {
         </html>
         """;
 
-        doReturn(html).when(clothesExtractHelper).fetchHtml(anyString());
+        doReturn(new StringReader(html)).when(clothesExtractHelper).openHtml(anyString());
 
         // when
-        ClothesDto dto = clothesExtractService.extract(url);
+        ClothesExtractionDto dto = clothesExtractService.extract(userId, url).join();
 
         // then
         assertNotNull(dto);
         assertEquals("이미지 없는 상품", dto.name());
         assertNull(dto.imageUrl());  // 빈 문자열은 null로 변환
     }
+
+    /**
+     * 파서가 실제로 읽어 간 문자 수를 센다.
+     */
+    private static class CountingReader extends FilterReader {
+        private long read;
+
+        CountingReader(Reader in) {
+            super(in);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int n = super.read(cbuf, off, len);
+            if (n > 0) {
+                read += n;
+            }
+            return n;
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package com.samsamotot.otboo.clothes.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.samsamotot.otboo.clothes.dto.request.ClothesDto;
+import com.samsamotot.otboo.clothes.dto.request.ClothesSearchRequest;
+import com.samsamotot.otboo.clothes.entity.Clothes;
+import com.samsamotot.otboo.clothes.entity.ClothesAttribute;
+import com.samsamotot.otboo.clothes.entity.ClothesAttributeDef;
+import com.samsamotot.otboo.clothes.entity.ClothesType;
+import com.samsamotot.otboo.clothes.mapper.ClothesMapperImpl;
+import com.samsamotot.otboo.clothes.util.ClothesServiceHelper;
+import com.samsamotot.otboo.common.config.QueryDslConfig;
+import com.samsamotot.otboo.common.config.TestJpaAuditingConfig;
+import com.samsamotot.otboo.common.dto.CursorResponse;
+import com.samsamotot.otboo.common.fixture.ClothesAttributeDefFixture;
+import com.samsamotot.otboo.common.fixture.UserFixture;
+import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import com.samsamotot.otboo.user.entity.User;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.samsamotot.otboo")
+@Import({TestJpaAuditingConfig.class, QueryDslConfig.class,
+    ClothesServiceImpl.class, ClothesMapperImpl.class, ClothesServiceHelper.class})
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.datasource.driver-class-name=org.postgresql.Driver",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("의상 목록 조회 쿼리 수 테스트")
+class ClothesServiceQueryCountTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+        new PostgreSQLContainer<>("postgres:17");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry reg) {
+        reg.add("spring.datasource.url",      postgres::getJdbcUrl);
+        reg.add("spring.datasource.username", postgres::getUsername);
+        reg.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @MockitoBean
+    private S3ImageStorage s3ImageStorage;
+
+    @Autowired
+    private ClothesServiceImpl clothesService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = UserFixture.createUser();
+        em.persist(owner);
+
+        ClothesAttributeDef season = ClothesAttributeDefFixture.createClothesAttributeDef();
+        ClothesAttributeDef size = ClothesAttributeDefFixture.createClothesAttributeDef("사이즈", List.of("S", "M", "L"));
+        ClothesAttributeDef color = ClothesAttributeDefFixture.createClothesAttributeDef("색상", List.of("검정", "흰색"));
+        em.persist(season);
+        em.persist(size);
+        em.persist(color);
+
+        // 60벌 x 속성 3개 (정의 3종)
+        for (int i = 0; i < 60; i++) {
+            Clothes clothes = Clothes.createClothes("의상" + i, ClothesType.TOP, owner);
+            clothes.addAttribute(ClothesAttribute.createClothesAttribute(season, "봄"));
+            clothes.addAttribute(ClothesAttribute.createClothesAttribute(size, "M"));
+            clothes.addAttribute(ClothesAttribute.createClothesAttribute(color, "검정"));
+            em.persist(clothes);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 의상_50개_목록_조회는_페이지_크기와_무관하게_고정된_쿼리_수로_처리된다() {
+
+        // given
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+        // when
+        long smallPageStatements = countStatements(statistics, 5);
+        long fullPageStatements = countStatements(statistics, 50);
+
+        // then: 페이지 조회 + 전체 개수 + 속성/정의/옵션 배치 로딩
+        assertThat(fullPageStatements).isLessThanOrEqualTo(5);
+        assertThat(fullPageStatements).isEqualTo(smallPageStatements);
+    }
+
+    private long countStatements(Statistics statistics, int limit) {
+        em.clear();
+        statistics.clear();
+
+        ClothesSearchRequest request = new ClothesSearchRequest(owner.getId(), null, null, null, limit);
+        CursorResponse<ClothesDto> response = clothesService.find(owner.getId(), request);
+
+        assertThat(response.data()).hasSize(limit);
+        assertThat(response.data()).allSatisfy(dto -> assertThat(dto.attributes()).hasSize(3));
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -7,9 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,6 +28,7 @@ import com.samsamotot.otboo.clothes.entity.ClothesAttributeOption;
 import com.samsamotot.otboo.clothes.entity.ClothesType;
 import com.samsamotot.otboo.clothes.exception.ClothesNotFoundException;
 import com.samsamotot.otboo.clothes.exception.ClothesOwnerMismatchException;
+import com.samsamotot.otboo.clothes.exception.definition.ClothesAttributeDefNotFoundException;
 import com.samsamotot.otboo.clothes.mapper.ClothesMapper;
 import com.samsamotot.otboo.clothes.repository.ClothesAttributeDefRepository;
 import com.samsamotot.otboo.clothes.repository.ClothesRepository;
@@ -33,11 +36,14 @@ import com.samsamotot.otboo.common.dto.CursorResponse;
 import com.samsamotot.otboo.common.fixture.ClothesAttributeDefFixture;
 import com.samsamotot.otboo.common.fixture.UserFixture;
 import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import com.samsamotot.otboo.common.storage.event.ImageDeleteEvent;
 import com.samsamotot.otboo.user.entity.User;
+import com.samsamotot.otboo.user.exception.UserNotFoundException;
 import com.samsamotot.otboo.user.repository.UserRepository;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,6 +53,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -54,6 +62,8 @@ import org.springframework.data.domain.SliceImpl;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 의상 기능 단위 테스트
@@ -77,6 +87,12 @@ class ClothesServiceTest {
     @Mock
     private ClothesMapper clothesMapper;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ClothesServiceImpl clothesService;
 
@@ -85,6 +101,9 @@ class ClothesServiceTest {
     @BeforeEach
     void setUp() {
         mockUser = UserFixture.createUser();
+        // 이미지 업로드 경로는 TransactionTemplate 으로 DB 작업을 감싸므로 콜백을 그대로 실행한다
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Nested
@@ -134,7 +153,7 @@ class ClothesServiceTest {
             Clothes savedClothes = Clothes.createClothes(request.name(), request.type(), mockUser);
 
             when(userRepository.findById(ownerId)).thenReturn(Optional.of(mockUser));
-            when(defRepository.findById(defEntity.getId())).thenReturn(Optional.of(defEntity));
+            when(defRepository.findAllWithOptionsByIdIn(Collections.singleton(defEntity.getId()))).thenReturn(List.of(defEntity));
             when(clothesRepository.save(any(Clothes.class))).thenReturn(savedClothes);
 
             // when
@@ -147,6 +166,65 @@ class ClothesServiceTest {
             assertThat(result.attributes().get(0).value()).isEqualTo("봄");
         }
 
+        @Test
+        void 여러_속성의_정의는_한_번의_조회로_가져와야_한다() {
+            // given
+            UUID ownerId = mockUser.getId();
+
+            ClothesAttributeDef season = ClothesAttributeDefFixture.createClothesAttributeDef("계절", List.of("봄", "여름"));
+            ClothesAttributeDef size = ClothesAttributeDefFixture.createClothesAttributeDef("사이즈", List.of("FREE", "L"));
+            ReflectionTestUtils.setField(season, "id", UUID.randomUUID());
+            ReflectionTestUtils.setField(size, "id", UUID.randomUUID());
+
+            ClothesCreateRequest request = new ClothesCreateRequest(
+                UUID.randomUUID(),
+                "부들부들 티셔츠",
+                ClothesType.TOP,
+                List.of(new ClothesAttributeDto(season.getId(), "여름"), new ClothesAttributeDto(size.getId(), "L"))
+            );
+
+            when(userRepository.findById(ownerId)).thenReturn(Optional.of(mockUser));
+            when(defRepository.findAllWithOptionsByIdIn(Set.of(season.getId(), size.getId())))
+                .thenReturn(List.of(season, size));
+            when(clothesRepository.save(any(Clothes.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            ClothesDto result = clothesService.create(ownerId, request);
+
+            // then
+            assertThat(result.attributes())
+                .extracting(ClothesAttributeWithDefDto::definitionName)
+                .containsExactly("계절", "사이즈");
+            verify(defRepository, times(1)).findAllWithOptionsByIdIn(any());
+            verify(defRepository, never()).findById(any());
+        }
+
+        @Test
+        void 존재하지_않는_속성_정의가_포함되면_예외가_발생해야_한다() {
+            // given
+            UUID ownerId = mockUser.getId();
+
+            ClothesAttributeDef season = ClothesAttributeDefFixture.createClothesAttributeDef("계절", List.of("봄"));
+            ReflectionTestUtils.setField(season, "id", UUID.randomUUID());
+            UUID missingId = UUID.randomUUID();
+
+            ClothesCreateRequest request = new ClothesCreateRequest(
+                UUID.randomUUID(),
+                "부들부들 티셔츠",
+                ClothesType.TOP,
+                List.of(new ClothesAttributeDto(season.getId(), "봄"), new ClothesAttributeDto(missingId, "L"))
+            );
+
+            when(userRepository.findById(ownerId)).thenReturn(Optional.of(mockUser));
+            when(defRepository.findAllWithOptionsByIdIn(Set.of(season.getId(), missingId)))
+                .thenReturn(List.of(season));
+
+            // when & then
+            assertThatThrownBy(() -> clothesService.create(ownerId, request))
+                .isInstanceOf(ClothesAttributeDefNotFoundException.class);
+            verify(clothesRepository, never()).save(any());
+        }
+
         @Test
         void 의상_이미지와_함께_의상_등록이_가능해야_한다() {
             // given
@@ -212,7 +290,7 @@ class ClothesServiceTest {
             Clothes savedClothes = Clothes.createClothes(request.name(), request.type(), mockUser);
 
             when(userRepository.findById(ownerId)).thenReturn(Optional.of(mockUser));
-            when(defRepository.findById(defEntity.getId())).thenReturn(Optional.of(defEntity));
+            when(defRepository.findAllWithOptionsByIdIn(Collections.singleton(defEntity.getId()))).thenReturn(List.of(defEntity));
             when(clothesRepository.save(any(Clothes.class))).thenReturn(savedClothes);
 
             when(s3ImageStorage.uploadImage(imageFile, "clothes/")).thenReturn(mockImageUrl);
@@ -229,6 +307,159 @@ class ClothesServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("의상 이미지 업로드 보상 테스트")
+    class ClothesImageCompensationTest {
+
+        @Test
+        void 업로드_후_DB_작업이_실패하면_업로드한_이미지_삭제가_요청된다() {
+            // given
+            UUID ownerId = UUID.randomUUID();
+            ClothesCreateRequest request = new ClothesCreateRequest(
+                ownerId,
+                "부들부들 셔츠",
+                ClothesType.TOP,
+                Collections.emptyList()
+            );
+            MockMultipartFile imageFile = new MockMultipartFile(
+                "file",
+                "test.jpg",
+                "image/jpeg",
+                "dummy-image".getBytes()
+            );
+            String uploadedUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/new.jpg";
+
+            when(s3ImageStorage.uploadImage(imageFile, "clothes/")).thenReturn(uploadedUrl);
+            when(userRepository.findById(ownerId)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> clothesService.create(ownerId, request, imageFile))
+                .isInstanceOf(UserNotFoundException.class);
+            verify(clothesRepository, never()).save(any());
+            verify(eventPublisher).publishEvent(new ImageDeleteEvent(uploadedUrl));
+            verify(s3ImageStorage, never()).deleteImage(any());
+        }
+
+        @Test
+        void 보상_삭제_요청이_거절되어도_원래_DB_예외를_전달한다() {
+            // given
+            UUID ownerId = UUID.randomUUID();
+            ClothesCreateRequest request = new ClothesCreateRequest(
+                ownerId,
+                "부들부들 셔츠",
+                ClothesType.TOP,
+                Collections.emptyList()
+            );
+            MockMultipartFile imageFile = new MockMultipartFile(
+                "file",
+                "test.jpg",
+                "image/jpeg",
+                "dummy-image".getBytes()
+            );
+            String uploadedUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/new.jpg";
+
+            when(s3ImageStorage.uploadImage(imageFile, "clothes/")).thenReturn(uploadedUrl);
+            when(userRepository.findById(ownerId)).thenReturn(Optional.empty());
+            doThrow(new TaskRejectedException("image delete executor saturated"))
+                .when(eventPublisher).publishEvent(new ImageDeleteEvent(uploadedUrl));
+
+            // when & then
+            assertThatThrownBy(() -> clothesService.create(ownerId, request, imageFile))
+                .isInstanceOf(UserNotFoundException.class)
+                .satisfies(e -> assertThat(e.getSuppressed()).singleElement().isInstanceOf(TaskRejectedException.class));
+            verify(clothesRepository, never()).save(any());
+        }
+
+        @Test
+        void 이미지_수정이_커밋되면_기존_이미지만_삭제가_요청된다() {
+            // given
+            UUID ownerId = UUID.randomUUID();
+            ReflectionTestUtils.setField(mockUser, "id", ownerId);
+
+            Clothes clothes = Clothes.createClothes("이미지 셔츠", ClothesType.TOP, mockUser);
+            String previousUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/old.jpg";
+            String uploadedUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/new.jpg";
+            clothes.updateImageUrl(previousUrl);
+
+            ClothesUpdateRequest updateRequest = new ClothesUpdateRequest(
+                "이미지 셔츠",
+                ClothesType.TOP,
+                Collections.emptyList()
+            );
+            MockMultipartFile newImage = new MockMultipartFile(
+                "file",
+                "test.jpg",
+                "image/jpeg",
+                "dummy-image".getBytes()
+            );
+
+            when(s3ImageStorage.uploadImage(newImage, "clothes/")).thenReturn(uploadedUrl);
+            when(clothesRepository.findById(clothes.getId())).thenReturn(Optional.of(clothes));
+            when(clothesRepository.save(any(Clothes.class))).thenReturn(clothes);
+
+            // when
+            clothesService.update(clothes.getId(), ownerId, updateRequest, newImage);
+
+            // then
+            assertThat(clothes.getImageUrl()).isEqualTo(uploadedUrl);
+            verify(eventPublisher).publishEvent(new ImageDeleteEvent(previousUrl));
+            verify(eventPublisher, never()).publishEvent(new ImageDeleteEvent(uploadedUrl));
+            verify(s3ImageStorage, never()).deleteImage(any());
+        }
+
+        @Test
+        void 직접_업로드한_이미지는_확인_후_생성되고_DB_작업이_실패하면_삭제가_요청된다() {
+            // given
+            UUID ownerId = UUID.randomUUID();
+            ClothesCreateRequest request = new ClothesCreateRequest(
+                ownerId,
+                "부들부들 셔츠",
+                ClothesType.TOP,
+                Collections.emptyList()
+            );
+            String imageKey = "uploads/clothes/" + ownerId + "/new_orig.jpg";
+            String uploadedUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/" + ownerId + "/new_orig.jpg";
+
+            when(s3ImageStorage.confirmDirectUpload(imageKey, "clothes/", ownerId)).thenReturn(uploadedUrl);
+            when(userRepository.findById(ownerId)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> clothesService.createWithUploadedImage(ownerId, request, imageKey))
+                .isInstanceOf(UserNotFoundException.class);
+            verify(s3ImageStorage, never()).uploadImage(any(MockMultipartFile.class), any());
+            verify(eventPublisher).publishEvent(new ImageDeleteEvent(uploadedUrl));
+        }
+
+        @Test
+        void 현재_이미지와_같은_이미지로_수정하면_성공해도_실패해도_이미지_삭제를_요청하지_않는다() {
+            // given
+            UUID ownerId = UUID.randomUUID();
+            ReflectionTestUtils.setField(mockUser, "id", ownerId);
+
+            String imageKey = "uploads/clothes/" + ownerId + "/same_orig.jpg";
+            String currentUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/" + ownerId + "/same_orig.jpg";
+            Clothes clothes = Clothes.createClothes("이미지 셔츠", ClothesType.TOP, mockUser);
+            clothes.updateImageUrl(currentUrl);
+
+            ClothesUpdateRequest updateRequest = new ClothesUpdateRequest(
+                "이미지 셔츠",
+                ClothesType.TOP,
+                Collections.emptyList()
+            );
+
+            when(s3ImageStorage.confirmDirectUpload(imageKey, "clothes/", ownerId)).thenReturn(currentUrl);
+            when(clothesRepository.findById(clothes.getId())).thenReturn(Optional.of(clothes));
+            when(clothesRepository.save(any(Clothes.class))).thenReturn(clothes);
+            // 이미지 반영 이후 단계에서 실패시켜 수정 경로와 보상 경로를 함께 확인
+            when(clothesMapper.toClothesDto(clothes)).thenThrow(new IllegalStateException("매핑 실패"));
+
+            // when & then
+            assertThatThrownBy(() -> clothesService.updateWithUploadedImage(clothes.getId(), ownerId, updateRequest, imageKey))
+                .isInstanceOf(IllegalStateException.class);
+            verify(eventPublisher, never()).publishEvent(any(ImageDeleteEvent.class));
+        }
+    }
+
     @Nested
     @DisplayName("의상 수정 서비스 테스트")
     class ClothesUpdateServiceTest {
@@ -305,6 +536,7 @@ class ClothesServiceTest {
 
             when(clothesRepository.findById(clothes.getId())).thenReturn(Optional.of(clothes));
             when(clothesRepository.save(any(Clothes.class))).thenReturn(clothes);
+            when(defRepository.findAllWithOptionsByIdIn(Collections.singleton(defEntity.getId()))).thenReturn(List.of(defEntity));
 
             // when
             ClothesDto result = clothesService.update(clothes.getId(), ownerId, updateRequest);
@@ -312,6 +544,58 @@ class ClothesServiceTest {
             // then
             assertThat(result.attributes()).hasSize(1);
             assertThat(result.attributes().get(0).value()).isEqualTo("여름");
+            verify(defRepository, times(1)).findAllWithOptionsByIdIn(any());
+        }
+
+        @Test
+        void 기존_속성의_값이_그대로라면_정의를_조회하지_않는다() {
+            // given
+            UUID ownerId = UUID.randomUUID();
+            ReflectionTestUtils.setField(mockUser, "id", ownerId);
+
+            ClothesAttributeDef defEntity = ClothesAttributeDefFixture.createClothesAttributeDef();
+            Clothes clothes = Clothes.createClothes("계절 셔츠", ClothesType.TOP, mockUser);
+            clothes.addAttribute(ClothesAttribute.createClothesAttribute(defEntity, "봄"));
+
+            ClothesUpdateRequest updateRequest = new ClothesUpdateRequest(
+                "계절 셔츠",
+                ClothesType.TOP,
+                List.of(new ClothesAttributeDto(defEntity.getId(), "봄"))
+            );
+
+            when(clothesRepository.findById(clothes.getId())).thenReturn(Optional.of(clothes));
+            when(clothesRepository.save(any(Clothes.class))).thenReturn(clothes);
+
+            // when
+            clothesService.update(clothes.getId(), ownerId, updateRequest);
+
+            // then
+            verify(defRepository, never()).findAllWithOptionsByIdIn(any());
+        }
+
+        @Test
+        void 기존_속성을_정의에_없는_값으로_수정하면_예외가_발생한다() {
+            // given
+            UUID ownerId = UUID.randomUUID();
+            ReflectionTestUtils.setField(mockUser, "id", ownerId);
+
+            ClothesAttributeDef defEntity = ClothesAttributeDefFixture.createClothesAttributeDef();
+            Clothes clothes = Clothes.createClothes("계절 셔츠", ClothesType.TOP, mockUser);
+            clothes.addAttribute(ClothesAttribute.createClothesAttribute(defEntity, "봄"));
+
+            ClothesUpdateRequest updateRequest = new ClothesUpdateRequest(
+                "계절 셔츠",
+                ClothesType.TOP,
+                List.of(new ClothesAttributeDto(defEntity.getId(), "없는계절"))
+            );
+
+            when(clothesRepository.findById(clothes.getId())).thenReturn(Optional.of(clothes));
+            when(defRepository.findAllWithOptionsByIdIn(Collections.singleton(defEntity.getId()))).thenReturn(List.of(defEntity));
+
+            // when & then
+            assertThatThrownBy(() -> clothesService.update(clothes.getId(), ownerId, updateRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("정의된 옵션에 없는 속성 값입니다.");
         }
 
         @Test
@@ -332,7 +616,7 @@ class ClothesServiceTest {
 
             when(clothesRepository.findById(clothes.getId())).thenReturn(Optional.of(clothes));
             when(clothesRepository.save(any(Clothes.class))).thenReturn(clothes);
-            when(defRepository.findById(newDef.getId())).thenReturn(Optional.of(newDef));
+            when(defRepository.findAllWithOptionsByIdIn(Collections.singleton(newDef.getId()))).thenReturn(List.of(newDef));
 
             // when
             ClothesDto result = clothesService.update(clothes.getId(), ownerId, updateRequest);
@@ -369,7 +653,7 @@ class ClothesServiceTest {
 
             when(clothesRepository.findById(clothes.getId())).thenReturn(Optional.of(clothes));
             when(clothesRepository.save(any(Clothes.class))).thenReturn(clothes);
-            when(defRepository.findById(defEntity.getId())).thenReturn(Optional.of(defEntity));
+            when(defRepository.findAllWithOptionsByIdIn(Collections.singleton(defEntity.getId()))).thenReturn(List.of(defEntity));
             when(s3ImageStorage.uploadImage(newImage, "clothes/")).thenReturn(mockImageUrl);
 
             // when
@@ -418,7 +702,7 @@ class ClothesServiceTest {
     class ClothesDeleteServiceTest {
 
         @Test
-        void 의상을_삭제하면_DB와_S3에서_삭제된다() {
+        void 의상을_삭제하면_DB에서_삭제되고_S3_이미지_삭제가_요청된다() {
             // given
             UUID ownerId = UUID.randomUUID();
             ReflectionTestUtils.setField(mockUser, "id", ownerId);
@@ -434,7 +718,8 @@ class ClothesServiceTest {
 
             // then
             verify(clothesRepository).delete(clothes);
-            verify(s3ImageStorage).deleteImage(imageUrl);
+            verify(eventPublisher).publishEvent(new ImageDeleteEvent(imageUrl));
+            verify(s3ImageStorage, never()).deleteImage(any());
 
         }
 
@@ -456,6 +741,7 @@ class ClothesServiceTest {
             verify(clothesRepository).findById(clothes.getId());
             verify(clothesRepository).delete(clothes);
             verify(s3ImageStorage, never()).deleteImage(any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
 
         @Test
@@ -20,12 +20,15 @@ import com.samsamotot.otboo.common.fixture.FeedFixture;
 import com.samsamotot.otboo.common.fixture.LocationFixture;
 import com.samsamotot.otboo.common.fixture.UserFixture;
 import com.samsamotot.otboo.common.fixture.WeatherFixture;
+import com.samsamotot.otboo.feed.dto.event.FeedCommentCountChangedEvent;
+import com.samsamotot.otboo.feed.dto.event.FeedSyncEvent;
 import com.samsamotot.otboo.feed.entity.Feed;
 import com.samsamotot.otboo.feed.repository.FeedRepository;
 import com.samsamotot.otboo.location.entity.Location;
 import com.samsamotot.otboo.notification.entity.Notification;
 import com.samsamotot.otboo.notification.repository.NotificationRepository;
 import com.samsamotot.otboo.notification.service.NotificationService;
+import com.samsamotot.otboo.user.dto.AuthorDto;
 import com.samsamotot.otboo.user.entity.User;
 import com.samsamotot.otboo.user.repository.UserRepository;
 import com.samsamotot.otboo.weather.entity.Grid;
@@ -106,10 +109,14 @@ public class CommentServiceTest {
             ReflectionTestUtils.setField(savedComment, "id", commentId);
             CommentDto expectedDto = CommentFixture.createCommentDto(savedComment);
 
-            given(userRepository.findById(any(UUID.class))).willReturn(Optional.of(mockUser));
-            given(feedRepository.findByIdAndIsDeletedFalse(any(UUID.class))).willReturn(Optional.of(mockFeed));
+            AuthorDto author = new AuthorDto(authorId, mockUser.getUsername(), null);
+
+            given(userRepository.findAuthorById(authorId)).willReturn(Optional.of(author));
+            given(feedRepository.existsByIdAndIsDeletedFalse(feedId)).willReturn(true);
+            given(userRepository.getReferenceById(authorId)).willReturn(mockUser);
+            given(feedRepository.getReferenceById(feedId)).willReturn(mockFeed);
             given(commentRepository.save(any(Comment.class))).willReturn(savedComment);
-            given(commentMapper.toDto(any(Comment.class))).willReturn(expectedDto);
+            given(commentMapper.toDto(savedComment, author)).willReturn(expectedDto);
 
             // when
             CommentDto result = commentService.create(feedId, request);
@@ -123,6 +130,36 @@ public class CommentServiceTest {
             verify(feedRepository, times(1)).incrementCommentCount(feedId);
         }
 
+        @Test
+        void 댓글을_생성할_때_엔티티를_로딩하지_않고_댓글_수_변경만_동기화한다() {
+
+            // given
+            UUID authorId = mockUser.getId();
+            UUID feedId = mockFeed.getId();
+
+            CommentCreateRequest request = CommentCreateRequest.builder()
+                .authorId(authorId)
+                .content("댓글")
+                .build();
+            Comment savedComment = CommentFixture.createCommentWithContent(mockFeed, mockUser, "댓글");
+            AuthorDto author = new AuthorDto(authorId, mockUser.getUsername(), null);
+
+            given(userRepository.findAuthorById(authorId)).willReturn(Optional.of(author));
+            given(feedRepository.existsByIdAndIsDeletedFalse(feedId)).willReturn(true);
+            given(userRepository.getReferenceById(authorId)).willReturn(mockUser);
+            given(feedRepository.getReferenceById(feedId)).willReturn(mockFeed);
+            given(commentRepository.save(any(Comment.class))).willReturn(savedComment);
+
+            // when
+            commentService.create(feedId, request);
+
+            // then
+            verify(userRepository, never()).findById(any());
+            verify(feedRepository, never()).findByIdAndIsDeletedFalse(any());
+            verify(eventPublisher).publishEvent(new FeedCommentCountChangedEvent(feedId, 1));
+            verify(eventPublisher, never()).publishEvent(any(FeedSyncEvent.class));
+        }
+
         @Test
         void 댓글을_등록할_때_존재하지_않는_유저면_예외가_발생한다() {
 
@@ -136,7 +173,7 @@ public class CommentServiceTest {
                 .content(content)
                 .build();
 
-            given(userRepository.findById(any(UUID.class))).willReturn(Optional.empty());
+            given(userRepository.findAuthorById(any(UUID.class))).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> commentService.create(feedId, request))
@@ -158,8 +195,9 @@ public class CommentServiceTest {
                 .content(content)
                 .build();
 
-            given(userRepository.findById(any(UUID.class))).willReturn(Optional.of(mockUser));
-            given(feedRepository.findByIdAndIsDeletedFalse(any(UUID.class))).willReturn(Optional.empty());
+            given(userRepository.findAuthorById(any(UUID.class)))
+                .willReturn(Optional.of(new AuthorDto(userId, mockUser.getUsername(), null)));
+            given(feedRepository.existsByIdAndIsDeletedFalse(any(UUID.class))).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> commentService.create(invalidFeedId, request))
@@ -0,0 +1,145 @@
+package com.samsamotot.otboo.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.samsamotot.otboo.common.config.AsyncConfig.OverloadPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("AsyncConfig 포화 정책 단위 테스트")
+class AsyncConfigTest {
+
+    private MeterRegistry registry;
+    private AsyncConfig asyncConfig;
+    private CountDownLatch release;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        asyncConfig = new AsyncConfig();
+        ReflectionTestUtils.setField(asyncConfig, "meterRegistryProvider",
+            new StaticListableBeanFactory(Map.of("meterRegistry", registry)).getBeanProvider(MeterRegistry.class));
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void SHED_정책은_풀과_큐가_가득_차면_즉시_거절한다() throws Exception {
+        // given
+        executor = asyncConfig.mainTaskExecutor(1, 1, 1, 60, OverloadPolicy.SHED, 0);
+        saturate(executor);
+
+        // when & then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+            .isInstanceOf(TaskRejectedException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(500);
+        assertThat(overloadCount("main", "rejected")).isEqualTo(1.0);
+        assertThat(overloadCount("main", "deferred")).isZero();
+    }
+
+    @Test
+    void DEFER_정책은_대기_시간_동안_자리가_나지_않으면_거절한다() throws Exception {
+        // given
+        executor = asyncConfig.weatherTaskExecutor(1, 1, 1, 60, false, OverloadPolicy.DEFER, 200);
+        saturate(executor);
+
+        // when & then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+            .isInstanceOf(TaskRejectedException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(200);
+        assertThat(overloadCount("weatherApi", "rejected")).isEqualTo(1.0);
+        assertThat(overloadCount("weatherApi", "deferred")).isZero();
+    }
+
+    @Test
+    void DEFER_정책은_대기_중_자리가_나면_큐에_넣고_실행한다() throws Exception {
+        // given
+        executor = asyncConfig.weatherTaskExecutor(1, 1, 1, 60, false, OverloadPolicy.DEFER, 5000);
+        saturate(executor);
+        CountDownLatch deferredRan = new CountDownLatch(1);
+
+        // when
+        Thread releaser = new Thread(() -> {
+            sleep(100);
+            release.countDown();
+        });
+        releaser.start();
+        executor.execute(deferredRan::countDown);
+
+        // then
+        assertThat(deferredRan.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(overloadCount("weatherApi", "deferred")).isEqualTo(1.0);
+        assertThat(overloadCount("weatherApi", "rejected")).isZero();
+    }
+
+    @Test
+    void 실행된_작업의_대기_시간과_실행_시간을_기록한다() throws Exception {
+        // given
+        executor = asyncConfig.mainTaskExecutor(1, 1, 1, 60, OverloadPolicy.SHED, 0);
+        saturate(executor);
+
+        // when
+        release.countDown();
+        executor.shutdown();
+
+        // then
+        assertThat(registry.get("executor.task.execution").tag("name", "main").timer().count()).isEqualTo(2);
+        assertThat(registry.get("executor.task.wait").tag("name", "main").timer().count()).isEqualTo(2);
+    }
+
+    /**
+     * 스레드 1개를 release 가 열릴 때까지 점유하고 큐 1칸을 채웁니다.
+     */
+    private void saturate(ThreadPoolTaskExecutor executor) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> { });
+        assertThat(executor.getThreadPoolExecutor().getQueue()).hasSize(1);
+    }
+
+    private double overloadCount(String name, String outcome) {
+        return registry.get("executor.overload").tag("name", name).tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.samsamotot.otboo.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.samsamotot.otboo.profile.dto.ProfileDto;
+import com.samsamotot.otboo.profile.entity.Gender;
+import com.samsamotot.otboo.weather.dto.WeatherAPILocation;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 기본 redisSerializer(DefaultTyping.EVERYTHING)와 타입 지정 Serializer의 페이로드를 비교합니다.
+ * 시간 측정은 환경에 따라 달라지므로 단위 테스트에서는 크기와 왕복 결과만 검증합니다.
+ */
+@DisplayName("Redis 타입 지정 Serializer 테스트")
+class RedisSerializersTest {
+
+    private GenericJackson2JsonRedisSerializer genericSerializer;
+    private ObjectMapper compactObjectMapper;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        genericSerializer = new RedisConfig().redisSerializer(objectMapper);
+        compactObjectMapper = RedisSerializers.compactObjectMapper(objectMapper);
+    }
+
+    @Test
+    void ProfileDto는_타입_정보_없이_더_작게_직렬화되고_동일하게_복원된다() {
+
+        // given
+        ProfileDto profile = ProfileDto.builder()
+            .userId(UUID.randomUUID())
+            .location(WeatherAPILocation.builder()
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .x(60)
+                .y(127)
+                .locationNames(List.of("서울특별시", "중구", "태평로1가"))
+                .build())
+            .name("테스트유저")
+            .gender(Gender.FEMALE)
+            .birthDate(LocalDate.of(1995, 3, 14))
+            .temperatureSensitivity(2.5)
+            .profileImageUrl("https://cdn.example.com/profiles/test.png")
+            .weatherNotificationEnabled(true)
+            .build();
+        RedisSerializer<ProfileDto> typedSerializer = RedisSerializers.typed(compactObjectMapper, ProfileDto.class);
+
+        // when
+        byte[] generic = genericSerializer.serialize(profile);
+        byte[] typed = typedSerializer.serialize(profile);
+
+        // then
+        assertThat(typed.length).isLessThan(generic.length);
+        assertThat(new String(generic, StandardCharsets.UTF_8)).contains("@class");
+        assertThat(new String(typed, StandardCharsets.UTF_8)).doesNotContain("@class");
+        assertThat(typedSerializer.deserialize(typed)).isEqualTo(profile);
+    }
+
+    @Test
+    void 일별_기온_값은_타입_지정_Serializer가_더_작거나_같고_동일하게_복원된다() {
+
+        // given
+        Double dailyValue = 27.3;
+        RedisSerializer<Double> typedSerializer = RedisSerializers.typed(compactObjectMapper, Double.class);
+
+        // when
+        byte[] generic = genericSerializer.serialize(dailyValue);
+        byte[] typed = typedSerializer.serialize(dailyValue);
+
+        // then
+        assertThat(typed.length).isLessThanOrEqualTo(generic.length);
+        assertThat(typedSerializer.deserialize(typed)).isEqualTo(dailyValue);
+    }
+
+    @Test
+    void null_값은_빈_페이로드로_직렬화되고_null로_복원된다() {
+
+        // given
+        RedisSerializer<ProfileDto> typedSerializer = RedisSerializers.typed(compactObjectMapper, ProfileDto.class);
+
+        // when & then
+        assertThat(typedSerializer.serialize(null)).isEmpty();
+        assertThat(typedSerializer.deserialize(null)).isNull();
+        assertThat(typedSerializer.deserialize(new byte[0])).isNull();
+    }
+}
@@ -1,5 +1,10 @@
 package com.samsamotot.otboo.common.fixture;
 
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import javax.imageio.ImageIO;
 import org.springframework.mock.web.MockMultipartFile;
 
 /**
@@ -21,6 +26,26 @@ public class S3ImageFixture {
         );
     }
 
+    // 실제로 디코딩 가능한 PNG 이미지 파일 Fixture
+    public static MockMultipartFile createDecodableImageFile(int width, int height) {
+        return new MockMultipartFile(
+            "file",
+            DEFAULT_FILE_NAME,
+            DEFAULT_CONTENT_TYPE,
+            createPngBytes(width, height)
+        );
+    }
+
+    public static byte[] createPngBytes(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
      // 비어있는 이미지 파일 Fixture
     public static MockMultipartFile createEmptyImageFile() {
         return new MockMultipartFile(
@@ -0,0 +1,54 @@
+package com.samsamotot.otboo.common.schema;
+
+import jakarta.persistence.EntityManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * 리포지토리 호출 중 실제로 실행된 쿼리의 실행 계획을 auto_explain 으로 수집하는 테스트 도구.
+ * <p>
+ * 테스트 트랜잭션의 커넥션에만 auto_explain 을 켜고, Hibernate 가 바인딩 값과 함께 실행한 쿼리
+ * (FK 연쇄 삭제 트리거 같은 중첩 쿼리 포함)의 계획을 컨테이너의 서버 로그에서 읽어온다.
+ */
+public final class QueryPlanCapture {
+
+    private static final String PLAN_END_MARKER = "plan-capture-end";
+
+    private QueryPlanCapture() {
+    }
+
+    public static String plansOf(PostgreSQLContainer<?> postgres, EntityManager em, Runnable repositoryCall) {
+        execute(em, "LOAD 'auto_explain'");
+        execute(em, "SET auto_explain.log_nested_statements = on");
+        execute(em, "SET auto_explain.log_min_duration = 0");
+        int offset = postgres.getLogs().length();
+
+        repositoryCall.run();
+        em.flush();
+        em.createNativeQuery("SELECT '" + PLAN_END_MARKER + "'").getSingleResult();
+
+        execute(em, "SET auto_explain.log_min_duration = -1");
+        em.clear();
+        return awaitLogsSince(postgres, offset);
+    }
+
+    private static String awaitLogsSince(PostgreSQLContainer<?> postgres, int offset) {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            String logs = postgres.getLogs();
+            String captured = logs.length() > offset ? logs.substring(offset) : "";
+            if (captured.contains(PLAN_END_MARKER)) {
+                return captured;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError("auto_explain 실행 계획 로그를 찾지 못했습니다.");
+    }
+
+    private static void execute(EntityManager em, String sql) {
+        em.createNativeQuery(sql).executeUpdate();
+    }
+}
@@ -0,0 +1,300 @@
+package com.samsamotot.otboo.common.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.samsamotot.otboo.clothes.dto.request.ClothesSearchRequest;
+import com.samsamotot.otboo.clothes.entity.ClothesType;
+import com.samsamotot.otboo.clothes.repository.ClothesRepository;
+import com.samsamotot.otboo.comment.repository.CommentRepository;
+import com.samsamotot.otboo.common.config.QueryDslConfig;
+import com.samsamotot.otboo.common.config.TestJpaAuditingConfig;
+import com.samsamotot.otboo.common.type.SortDirection;
+import com.samsamotot.otboo.feed.repository.FeedLikeRepository;
+import com.samsamotot.otboo.feed.repository.FeedRepository;
+import com.samsamotot.otboo.profile.repository.ProfileRepository;
+import com.samsamotot.otboo.weather.entity.Grid;
+import com.samsamotot.otboo.weather.repository.WeatherRepository;
+import jakarta.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * schema.sql 의 인덱스가 리포지토리 조회/삭제 쿼리를 실제로 받쳐주는지 확인하는 실행 계획 테스트.
+ * <p>
+ * 스키마는 Hibernate DDL 대신 schema.sql 을 그대로 실행해 만들고, 대용량으로 시드한 뒤 실제 리포지토리 메서드를 호출한다.
+ * 호출 동안 실제로 실행된 쿼리(FK 연쇄 삭제 포함)의 실행 계획을 {@link QueryPlanCapture} 로 수집하고,
+ * 해당 테이블에 Seq Scan 이 나타나면 실패한다.
+ */
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.samsamotot.otboo")
+@Import({TestJpaAuditingConfig.class, QueryDslConfig.class})
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.datasource.driver-class-name=org.postgresql.Driver",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:schema.sql"
+})
+@DisplayName("리포지토리 쿼리 인덱스 실행 계획 테스트")
+class RepositoryIndexPlanTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+        new PostgreSQLContainer<>("postgres:17");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry reg) {
+        reg.add("spring.datasource.url",      postgres::getJdbcUrl);
+        reg.add("spring.datasource.username", postgres::getUsername);
+        reg.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    private static final UUID USER = seededId("u", 7);
+    private static final UUID FEED = seededId("f", 7);
+    private static final UUID GRID = seededId("g", 7);
+    private static final UUID KEYSET_ID = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private FeedLikeRepository feedLikeRepository;
+
+    @Autowired
+    private ClothesRepository clothesRepository;
+
+    @Autowired
+    private WeatherRepository weatherRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @BeforeEach
+    void setUp() {
+        execute("""
+            INSERT INTO users (id, email, username, password, provider, role, is_locked, created_at)
+            SELECT md5('u' || g)::uuid, 'u' || g || '@test.com', 'user' || g, 'pw', 'LOCAL', 'USER', false, now()
+            FROM generate_series(0, 9999) g
+            """);
+        execute("""
+            INSERT INTO grids (id, x, y, created_at)
+            SELECT md5('g' || g)::uuid, g, g, now()
+            FROM generate_series(0, 499) g
+            """);
+        execute("""
+            INSERT INTO locations (id, grid_id, latitude, longitude, location_names, created_at)
+            SELECT md5('l' || g)::uuid, md5('g' || (g % 500))::uuid, -80 + g * 0.01, g * 0.01, ARRAY['서울'], now()
+            FROM generate_series(0, 4999) g
+            """);
+        execute("""
+            INSERT INTO profiles (id, user_id, location_id, name, temperature_sensitivity, weather_notification_enabled, created_at)
+            SELECT md5('p' || g)::uuid, md5('u' || g)::uuid, md5('l' || (g % 5000))::uuid, 'user' || g, 3.0, true, now()
+            FROM generate_series(0, 9999) g
+            """);
+        execute("""
+            INSERT INTO weathers (id, grid_id, forecast_at, forecasted_at, created_at)
+            SELECT md5('w' || g)::uuid, md5('g' || (g % 500))::uuid,
+                   now() - (g / 500) * interval '1 hour', now() - (g / 500) * interval '1 hour' - interval '1 hour', now()
+            FROM generate_series(0, 19999) g
+            """);
+        execute("""
+            INSERT INTO feeds (id, author_id, weather_id, content, like_count, comment_count, is_deleted, created_at)
+            SELECT md5('f' || g)::uuid, md5('u' || (g % 10000))::uuid, md5('w' || (g % 20000))::uuid,
+                   'feed' || g, g % 500, 2, g % 10 = 0, now() - g * interval '1 second'
+            FROM generate_series(0, 49999) g
+            """);
+        execute("""
+            INSERT INTO comments (id, feed_id, author_id, content, created_at)
+            SELECT md5('c' || g)::uuid, md5('f' || (g % 50000))::uuid, md5('u' || (g % 10000))::uuid,
+                   'comment' || g, now() - g * interval '1 second'
+            FROM generate_series(0, 99999) g
+            """);
+        execute("""
+            INSERT INTO feed_likes (id, feed_id, user_id, created_at)
+            SELECT md5('fl' || g)::uuid, md5('f' || (g % 50000))::uuid, md5('u' || (g / 10))::uuid, now()
+            FROM generate_series(0, 99999) g
+            """);
+        execute("""
+            INSERT INTO clothes (id, name, type, owner_id, created_at)
+            SELECT md5('cl' || g)::uuid, 'clothes' || g,
+                   (ARRAY['TOP','BOTTOM','DRESS','OUTER','UNDERWEAR','ACCESSORY','SHOES','SOCKS','HAT','BAG','SCARF','ETC'])[1 + g % 12],
+                   md5('u' || (g % 10000))::uuid, now() - g * interval '1 second'
+            FROM generate_series(0, 49999) g
+            """);
+        execute("""
+            INSERT INTO feed_clothes (id, feed_id, clothes_id, created_at)
+            SELECT md5('fc' || g)::uuid, md5('f' || g)::uuid, md5('cl' || g)::uuid, now()
+            FROM generate_series(0, 49999) g
+            """);
+        execute("ANALYZE");
+    }
+
+    @Test
+    void 피드_목록_커서_조회는_인덱스를_사용한다() {
+
+        // given
+        String keysetTime = Instant.now().minus(Duration.ofHours(1)).toString();
+
+        // when: FeedRepositoryImpl.findByCursor (최신순 / 좋아요순 / 작성자 필터)
+        String latest = plansOf(() -> feedRepository.findByCursor(
+            keysetTime, KEYSET_ID, 21, "createdAt", SortDirection.DESCENDING, null, null, null, null));
+        String popular = plansOf(() -> feedRepository.findByCursor(
+            "250", KEYSET_ID, 21, "likeCount", SortDirection.DESCENDING, null, null, null, null));
+        String byAuthor = plansOf(() -> feedRepository.findByCursor(
+            null, null, 21, "createdAt", SortDirection.DESCENDING, null, null, null, USER));
+
+        // then
+        assertNoSeqScan(latest, "feeds");
+        assertNoSeqScan(popular, "feeds");
+        assertNoSeqScan(byAuthor, "feeds");
+        assertThat(latest).contains("idx_feeds_active_created_id_desc");
+        assertThat(popular).contains("idx_feeds_active_like_id_desc");
+    }
+
+    @Test
+    void 댓글_커서_조회와_개수_조회는_인덱스를_사용한다() {
+
+        // given
+        String keysetTime = Instant.now().minus(Duration.ofHours(1)).toString();
+
+        // when: CommentRepositoryImpl.findByFeedIdWithCursor, CommentRepository.countByFeedId
+        String page = plansOf(() -> commentRepository.findByFeedIdWithCursor(FEED, keysetTime, KEYSET_ID, 11));
+        String count = plansOf(() -> commentRepository.countByFeedId(FEED));
+
+        // then
+        assertNoSeqScan(page, "comments");
+        assertNoSeqScan(count, "comments");
+        assertThat(page).contains("idx_comments_feed_created_id_desc");
+    }
+
+    @Test
+    void 좋아요_조회는_인덱스를_사용한다() {
+
+        // when: FeedLikeRepository 의 조회 메서드
+        String likedIds = plansOf(() -> feedLikeRepository.findFeedLikeIdsByUserIdAndFeedIdIn(
+            USER, Set.of(FEED, seededId("f", 8), seededId("f", 9))));
+        String exists = plansOf(() -> feedLikeRepository.existsByFeedIdAndUserId(FEED, USER));
+
+        // then
+        assertNoSeqScan(likedIds, "feed_likes");
+        assertNoSeqScan(exists, "feed_likes");
+    }
+
+    @Test
+    void 의상_커서_조회와_추천_후보_조회는_인덱스를_사용한다() {
+
+        // given
+        ClothesSearchRequest nextPage = ClothesSearchRequest.builder()
+            .ownerId(USER)
+            .cursor(Instant.now().minus(Duration.ofHours(1)).toString())
+            .idAfter(KEYSET_ID)
+            .limit(20)
+            .build();
+        ClothesSearchRequest typed = ClothesSearchRequest.builder()
+            .ownerId(USER)
+            .typeEqual(ClothesType.TOP)
+            .limit(20)
+            .build();
+
+        // when: ClothesRepositoryCustomImpl
+        String page = plansOf(() -> clothesRepository.findClothesWithCursor(USER, nextPage, PageRequest.of(0, 20)));
+        String typedPage = plansOf(() -> clothesRepository.findClothesWithCursor(USER, typed, PageRequest.of(0, 20)));
+        String count = plansOf(() -> clothesRepository.totalElementCount(USER, typed));
+        String candidates = plansOf(() -> clothesRepository.findRecommendationCandidates(USER));
+
+        // then
+        assertNoSeqScan(page, "clothes");
+        assertNoSeqScan(typedPage, "clothes");
+        assertNoSeqScan(count, "clothes");
+        assertNoSeqScan(candidates, "clothes");
+    }
+
+    @Test
+    void 날씨_정리_삭제와_참조_조회는_인덱스를_사용한다() {
+
+        // given
+        Grid grid = em.find(Grid.class, GRID);
+        Instant threshold = Instant.now().minus(Duration.ofHours(20));
+
+        // when: WeatherRepository 삭제 쿼리, FeedRepository.findWeatherIdsByGrid
+        String oldDelete = plansOf(() -> weatherRepository.deleteOldAndUnreferencedWeather(grid, threshold));
+        String outdatedDelete = plansOf(() -> weatherRepository.deleteOutdatedAndUnreferencedWeather(grid));
+        String referenced = plansOf(() -> feedRepository.findWeatherIdsByGrid(grid));
+
+        // then
+        for (String plan : new String[] {oldDelete, outdatedDelete, referenced}) {
+            assertNoSeqScan(plan, "weathers");
+            assertNoSeqScan(plan, "feeds");
+        }
+    }
+
+    @Test
+    void 격자별_프로필_조회와_의상_연쇄_삭제는_인덱스를_사용한다() {
+
+        // when: ProfileRepository.findAllByLocationGridId, 의상 삭제 시 feed_clothes FK 연쇄 삭제
+        String profiles = plansOf(() -> profileRepository.findAllByLocationGridId(GRID));
+        String cascade = plansOf(() -> clothesRepository.delete(clothesRepository.findById(seededId("cl", 7)).orElseThrow()));
+
+        // then
+        assertNoSeqScan(profiles, "profiles");
+        assertNoSeqScan(profiles, "locations");
+        assertThat(cascade).contains("feed_clothes");
+        assertNoSeqScan(cascade, "feed_clothes");
+    }
+
+    private String plansOf(Runnable repositoryCall) {
+        return QueryPlanCapture.plansOf(postgres, em, repositoryCall);
+    }
+
+    private void assertNoSeqScan(String plan, String table) {
+        assertThat(plan)
+            .as("%s 에 Seq Scan 이 없어야 합니다.%n%s", table, plan)
+            .doesNotContainPattern("Seq Scan on " + table + "\\b");
+    }
+
+    private void execute(String sql) {
+        em.createNativeQuery(sql).executeUpdate();
+    }
+
+    private static UUID seededId(String prefix, int n) {
+        // 시드 데이터와 같은 방식(md5(prefix || n)::uuid)으로 식별자를 만든다
+        try {
+            String hex = HexFormat.of().formatHex(
+                MessageDigest.getInstance("MD5").digest((prefix + n).getBytes(StandardCharsets.UTF_8)));
+            return UUID.fromString(hex.replaceFirst("(.{8})(.{4})(.{4})(.{4})(.{12})", "$1-$2-$3-$4-$5"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
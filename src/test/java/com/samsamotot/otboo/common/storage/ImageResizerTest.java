@@ -0,0 +1,69 @@
+package com.samsamotot.otboo.common.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.samsamotot.otboo.common.fixture.S3ImageFixture;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageResizerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 긴_변을_기준으로_비율을_유지하며_축소한다() throws Exception {
+        // given
+        BufferedImage source = ImageResizer.read(pngFile(1600, 800), ImageVariant.THUMBNAIL.maxSize());
+
+        // when
+        byte[] resized = ImageResizer.resizeToJpeg(source, ImageVariant.THUMBNAIL.maxSize());
+
+        // then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(resized));
+        assertThat(result.getWidth()).isEqualTo(200);
+        assertThat(result.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    void 최대_크기보다_작은_이미지는_확대하지_않는다() throws Exception {
+        // given
+        BufferedImage source = ImageResizer.read(pngFile(120, 90), ImageVariant.MEDIUM.maxSize());
+
+        // when
+        byte[] resized = ImageResizer.resizeToJpeg(source, ImageVariant.MEDIUM.maxSize());
+
+        // then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(resized));
+        assertThat(result.getWidth()).isEqualTo(120);
+        assertThat(result.getHeight()).isEqualTo(90);
+    }
+
+    @Test
+    void 큰_이미지는_필요한_해상도까지만_건너뛰며_디코딩한다() throws Exception {
+        // when
+        BufferedImage decoded = ImageResizer.read(pngFile(4000, 2000), ImageVariant.MEDIUM.maxSize());
+
+        // then
+        assertThat(decoded.getWidth()).isBetween(ImageVariant.MEDIUM.maxSize(), 4000 / 2);
+    }
+
+    @Test
+    void 이미지가_아닌_파일은_디코딩_불가로_판단한다() throws Exception {
+        // given
+        Path text = Files.write(tempDir.resolve("dummy.png"), "dummy-image-content".getBytes());
+
+        // when & then
+        assertThat(ImageResizer.isDecodable(text)).isFalse();
+        assertThat(ImageResizer.isDecodable(pngFile(10, 10))).isTrue();
+    }
+
+    private Path pngFile(int width, int height) throws Exception {
+        return Files.write(Files.createTempFile(tempDir, "image-", ".png"), S3ImageFixture.createPngBytes(width, height));
+    }
+}
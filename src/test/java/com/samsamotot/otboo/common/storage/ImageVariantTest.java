@@ -0,0 +1,42 @@
+package com.samsamotot.otboo.common.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ImageVariantTest {
+
+    private static final String BASE_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/";
+
+    @Test
+    void 원본_표시가_있는_URL은_변형_이미지_URL로_변환된다() {
+        // given
+        String url = BASE_URL + "clothes/abc_orig.png";
+
+        // when & then
+        assertThat(ImageVariant.THUMBNAIL.of(url)).isEqualTo(BASE_URL + "clothes/abc_thumb.jpg");
+        assertThat(ImageVariant.MEDIUM.of(url)).isEqualTo(BASE_URL + "clothes/abc_medium.jpg");
+    }
+
+    @Test
+    void 원본_표시가_없는_URL은_그대로_반환된다() {
+        // given
+        String legacyUrl = BASE_URL + "profile/abc.png";
+        String externalUrl = "https://k.kakaocdn.net/dn/profile.jpg";
+
+        // when & then
+        assertThat(ImageVariant.THUMBNAIL.of(legacyUrl)).isEqualTo(legacyUrl);
+        assertThat(ImageVariant.THUMBNAIL.of(externalUrl)).isEqualTo(externalUrl);
+        assertThat(ImageVariant.THUMBNAIL.of(null)).isNull();
+    }
+
+    @Test
+    void 파일명에_원본_표시를_붙인다() {
+        // when
+        String marked = ImageVariant.markSource("abc.webp");
+
+        // then
+        assertThat(marked).isEqualTo("abc_orig.webp");
+        assertThat(ImageVariant.isSource("clothes/" + marked)).isTrue();
+    }
+}
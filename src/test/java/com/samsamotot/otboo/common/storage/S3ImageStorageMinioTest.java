@@ -0,0 +1,211 @@
+package com.samsamotot.otboo.common.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.samsamotot.otboo.common.fixture.S3ImageFixture;
+import com.samsamotot.otboo.common.storage.dto.ImageUploadUrlResponse;
+import com.samsamotot.otboo.common.storage.event.ImageDirectUploadedEvent;
+import com.samsamotot.otboo.common.storage.event.ImageUploadedEvent;
+import com.samsamotot.otboo.common.storage.event.ImageVariantsReadyEvent;
+import com.samsamotot.otboo.common.storage.listener.ImageVariantListener;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * S3 호환 저장소(MinIO)를 대상으로 스트리밍/멀티파트 업로드, presigned 직접 업로드와 변형 이미지 생성을 검증한다.
+ */
+@Testcontainers
+class S3ImageStorageMinioTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String REGION = "ap-northeast-2";
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    static S3Client s3Client;
+    static S3AsyncClient s3AsyncClient;
+    static S3Presigner s3Presigner;
+
+    private final List<Object> publishedEvents = new ArrayList<>();
+    private S3ImageStorage s3ImageStorage;
+
+    @BeforeAll
+    static void setUpClients() {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+            AwsBasicCredentials.create(minio.getUserName(), minio.getPassword()));
+        URI endpoint = URI.create(minio.getS3URL());
+
+        s3Client = S3Client.builder()
+            .endpointOverride(endpoint)
+            .region(Region.of(REGION))
+            .credentialsProvider(credentials)
+            .forcePathStyle(true)
+            .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+            .build();
+        s3AsyncClient = S3AsyncClient.builder()
+            .endpointOverride(endpoint)
+            .region(Region.of(REGION))
+            .credentialsProvider(credentials)
+            .forcePathStyle(true)
+            .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+            .multipartEnabled(true)
+            .multipartConfiguration(MultipartConfiguration.builder()
+                .thresholdInBytes(PART_SIZE)
+                .minimumPartSizeInBytes(PART_SIZE)
+                .build())
+            .build();
+
+        s3Presigner = S3Presigner.builder()
+            .endpointOverride(endpoint)
+            .region(Region.of(REGION))
+            .credentialsProvider(credentials)
+            .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+            .build();
+
+        s3Client.createBucket(b -> b.bucket(BUCKET));
+    }
+
+    @AfterAll
+    static void closeClients() {
+        s3Client.close();
+        s3AsyncClient.close();
+        s3Presigner.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        s3ImageStorage = new S3ImageStorage(s3Client, s3AsyncClient, s3Presigner, publishedEvents::add);
+        ReflectionTestUtils.setField(s3ImageStorage, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3ImageStorage, "region", REGION);
+        ReflectionTestUtils.setField(s3ImageStorage, "presignExpirationSeconds", 300L);
+        ReflectionTestUtils.setField(s3ImageStorage, "presignMaxBytes", 10L * 1024 * 1024);
+    }
+
+    @Test
+    void 임계값을_넘는_파일은_멀티파트로_업로드되고_임시_파일이_정리된다() throws Exception {
+        // given
+        byte[] content = new byte[(int) (PART_SIZE * 2 + 1024)];
+        new Random(42).nextBytes(content);
+        Path file = Files.write(S3ImageStorage.createTempFile(), content);
+
+        // when
+        String url = s3ImageStorage.uploadImage(file, "image/jpeg", "large.jpg", "clothes/");
+
+        // then
+        HeadObjectResponse head = s3Client.headObject(b -> b.bucket(BUCKET).key(keyOf(url)));
+        assertThat(head.contentLength()).isEqualTo(content.length);
+        // 멀티파트로 올라간 객체의 ETag 는 "<해시>-<파트 수>" 형태
+        assertThat(head.eTag()).contains("-3");
+        assertThat(Files.exists(file)).isFalse();
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    @Test
+    void 변형_이미지를_생성하고_원본_삭제_시_함께_삭제한다() throws Exception {
+        // given
+        Path file = Files.write(S3ImageStorage.createTempFile(), S3ImageFixture.createPngBytes(1200, 900));
+        String url = s3ImageStorage.uploadImage(file, "image/png", "photo.png", "profile/");
+        ImageUploadedEvent event = (ImageUploadedEvent) publishedEvents.get(0);
+
+        // when
+        new ImageVariantListener(s3ImageStorage, publishedEvents::add).onImageUploaded(event);
+
+        // then
+        String thumbKey = ImageVariant.THUMBNAIL.of(keyOf(url));
+        String mediumKey = ImageVariant.MEDIUM.of(keyOf(url));
+        assertThat(s3Client.headObject(b -> b.bucket(BUCKET).key(thumbKey)).contentType()).isEqualTo("image/jpeg");
+        assertThat(s3Client.headObject(b -> b.bucket(BUCKET).key(mediumKey)).contentLength()).isPositive();
+        assertThat(Files.exists(event.file())).isFalse();
+
+        // when
+        s3ImageStorage.deleteImage(url);
+
+        // then
+        for (String key : List.of(keyOf(url), thumbKey, mediumKey)) {
+            assertThatThrownBy(() -> s3Client.headObject(b -> b.bucket(BUCKET).key(key)))
+                .isInstanceOf(NoSuchKeyException.class);
+        }
+    }
+
+    @Test
+    void presigned_URL로_직접_업로드한_이미지를_확인하고_변형_이미지를_생성한다() throws Exception {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        byte[] content = S3ImageFixture.createPngBytes(1200, 900);
+        ImageUploadUrlResponse target =
+            s3ImageStorage.createPresignedUpload("clothes/", ownerId, "image/png", content.length);
+
+        HttpResponse<Void> putResponse = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create(target.uploadUrl()))
+                .header("Content-Type", "image/png")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(content))
+                .build(),
+            HttpResponse.BodyHandlers.discarding());
+        assertThat(putResponse.statusCode()).isEqualTo(200);
+
+        // when
+        String url = s3ImageStorage.confirmDirectUpload(target.imageKey(), "clothes/", ownerId);
+        new ImageVariantListener(s3ImageStorage, publishedEvents::add)
+            .onImageDirectUploaded((ImageDirectUploadedEvent) publishedEvents.get(0));
+
+        // then
+        assertThat(keyOf(url)).isEqualTo(target.imageKey().substring("uploads/".length()));
+        assertThatThrownBy(() -> s3Client.headObject(b -> b.bucket(BUCKET).key(target.imageKey())))
+            .isInstanceOf(NoSuchKeyException.class);
+        String thumbKey = ImageVariant.THUMBNAIL.of(keyOf(url));
+        assertThat(s3Client.headObject(b -> b.bucket(BUCKET).key(thumbKey)).contentType()).isEqualTo("image/jpeg");
+        assertThat(publishedEvents).contains(new ImageVariantsReadyEvent(url));
+    }
+
+    @Test
+    void 서명과_다른_Content_Type으로는_업로드할_수_없다() throws Exception {
+        // given
+        ImageUploadUrlResponse target =
+            s3ImageStorage.createPresignedUpload("profile/", UUID.randomUUID(), "image/png", 4);
+
+        // when
+        HttpResponse<Void> putResponse = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create(target.uploadUrl()))
+                .header("Content-Type", "text/html")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(new byte[4]))
+                .build(),
+            HttpResponse.BodyHandlers.discarding());
+
+        // then
+        assertThat(putResponse.statusCode()).isEqualTo(403);
+    }
+
+    private String keyOf(String url) {
+        return url.substring(url.indexOf(".amazonaws.com/") + ".amazonaws.com/".length());
+    }
+}
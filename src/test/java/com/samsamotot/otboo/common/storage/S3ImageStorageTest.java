@@ -3,42 +3,94 @@ package com.samsamotot.otboo.common.storage;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.samsamotot.otboo.common.fixture.S3ImageFixture;
+import com.samsamotot.otboo.common.storage.dto.ImageUploadUrlResponse;
+import com.samsamotot.otboo.common.storage.event.ImageDirectUploadedEvent;
+import com.samsamotot.otboo.common.storage.event.ImageUploadedEvent;
+import com.samsamotot.otboo.common.storage.event.ImageVariantsReadyEvent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @ExtendWith(MockitoExtension.class)
 class S3ImageStorageTest {
     @Mock
     private S3Client s3Client;
 
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private S3ImageStorage s3ImageStorage;
 
     private final String bucketName = "test-bucket";
     private final String region = "ap-northeast-2";
 
+    // 서명 계산은 로컬에서만 이뤄지므로 실제 presigner 를 사용
+    private final S3Presigner s3Presigner = S3Presigner.builder()
+        .region(Region.of(region))
+        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access", "secret")))
+        .build();
+
     @BeforeEach
     void setUp() {
-        s3ImageStorage = new S3ImageStorage(s3Client);
+        s3ImageStorage = new S3ImageStorage(s3Client, s3AsyncClient, s3Presigner, eventPublisher);
+        lenient().when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
 
         ReflectionTestUtils.setField(s3ImageStorage, "bucketName", bucketName);
         ReflectionTestUtils.setField(s3ImageStorage, "region", region);
+        ReflectionTestUtils.setField(s3ImageStorage, "presignExpirationSeconds", 300L);
+        ReflectionTestUtils.setField(s3ImageStorage, "presignMaxBytes", 10L * 1024 * 1024);
     }
 
     @Nested
@@ -60,6 +112,73 @@ class S3ImageStorageTest {
                 .startsWith("https://" + bucketName + ".s3." + region + ".amazonaws.com/" + folderPath);
         }
 
+        @Test
+        void 디코딩_가능한_이미지는_원본_표시를_붙이고_변형_생성_이벤트를_발행한다() throws Exception {
+            // given
+            MockMultipartFile file = S3ImageFixture.createDecodableImageFile(800, 600);
+
+            // when
+            String resultUrl = s3ImageStorage.uploadImage(file, "clothes/");
+
+            // then
+            assertThat(ImageVariant.isSource(resultUrl)).isTrue();
+            ArgumentCaptor<ImageUploadedEvent> captor = ArgumentCaptor.forClass(ImageUploadedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            ImageUploadedEvent event = captor.getValue();
+            assertThat(resultUrl).endsWith(event.s3Key());
+            // 임시 파일은 변형 생성이 끝날 때까지 남아 있어야 한다
+            assertThat(Files.readAllBytes(event.file())).isEqualTo(file.getBytes());
+            Files.deleteIfExists(event.file());
+        }
+
+        @Test
+        void 변형_생성_작업이_거절되어도_원본_업로드는_성공하고_임시_파일을_정리한다() throws Exception {
+            // given
+            Path tempFile = Files.write(S3ImageStorage.createTempFile(), S3ImageFixture.createPngBytes(800, 600));
+            doThrow(new TaskRejectedException("image-exec 작업 거절"))
+                .when(eventPublisher).publishEvent(any(Object.class));
+
+            // when
+            String resultUrl = s3ImageStorage.uploadImage(tempFile, "image/png", "photo.png", "clothes/");
+
+            // then
+            assertThat(ImageVariant.isSource(resultUrl)).isTrue();
+            verify(s3AsyncClient).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+            assertThat(Files.exists(tempFile)).isFalse();
+        }
+
+        @Test
+        void 디코딩할_수_없는_파일은_변형_생성_없이_원본만_업로드한다() {
+            // given
+            MockMultipartFile file = S3ImageFixture.createSampleImageFile();
+
+            // when
+            String resultUrl = s3ImageStorage.uploadImage(file, "profile/");
+
+            // then
+            assertThat(ImageVariant.isSource(resultUrl)).isFalse();
+            ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+            verify(s3AsyncClient, times(1)).putObject(captor.capture(), any(AsyncRequestBody.class));
+            assertThat(captor.getValue().contentLength()).isEqualTo(file.getSize());
+            verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        void 업로드가_실패하면_SERVICE_UNAVAILABLE_예외가_발생하고_임시_파일을_정리한다() throws Exception {
+            // given
+            Path tempFile = S3ImageStorage.createTempFile();
+            Files.write(tempFile, "dummy-image-content".getBytes());
+            when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.failedFuture(SdkClientException.create("connection reset")));
+
+            // when & then
+            assertThatThrownBy(() -> s3ImageStorage.uploadImage(tempFile, "image/png", "test.png", "clothes/"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("S3 업로드 중 외부 서비스 오류가 발생했습니다.");
+            assertThat(Files.exists(tempFile)).isFalse();
+        }
+
         @Test
         void 파일이_null이면_BAD_REQUEST_예외가_발생한다() {
             assertThatThrownBy(() -> s3ImageStorage.uploadImage(null, "profile/"))
@@ -85,6 +204,38 @@ class S3ImageStorageTest {
                 .isInstanceOf(ResponseStatusException.class)
                 .hasMessageContaining("S3 업로드 경로(folderPath)가 비어있습니다.");
         }
+
+        @Test
+        void 같은_내용의_이미지가_이미_있으면_업로드하지_않고_기존_URL을_반환한다() throws Exception {
+            // given
+            Path tempFile = Files.write(S3ImageStorage.createTempFile(), "dummy-image-content".getBytes());
+            when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+
+            // when
+            String resultUrl = s3ImageStorage.uploadImageIfAbsent(tempFile, "image/png", "a.png", "clothes/extracted/", "abc123");
+
+            // then
+            assertThat(resultUrl)
+                .isEqualTo("https://" + bucketName + ".s3." + region + ".amazonaws.com/clothes/extracted/abc123.png");
+            verify(s3AsyncClient, never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+            assertThat(Files.exists(tempFile)).isFalse();
+        }
+
+        @Test
+        void 같은_내용의_이미지가_없으면_내용_해시를_키로_업로드한다() throws Exception {
+            // given
+            Path tempFile = Files.write(S3ImageStorage.createTempFile(), "dummy-image-content".getBytes());
+            when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message("not found").build());
+
+            // when
+            s3ImageStorage.uploadImageIfAbsent(tempFile, "image/png", "a.png", "clothes/extracted/", "abc123");
+
+            // then
+            ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+            verify(s3AsyncClient).putObject(captor.capture(), any(AsyncRequestBody.class));
+            assertThat(captor.getValue().key()).isEqualTo("clothes/extracted/abc123.png");
+        }
     }
 
     @Nested
@@ -105,6 +256,21 @@ class S3ImageStorageTest {
             verify(s3Client, times(1)).deleteObject(any(DeleteObjectRequest.class));
         }
 
+        @Test
+        void 변형_생성_대상_원본을_삭제하면_변형_이미지도_함께_삭제한다() {
+            // given
+            String imageUrl = "https://" + bucketName + ".s3." + region + ".amazonaws.com/clothes/abc_orig.png";
+
+            // when
+            s3ImageStorage.deleteImage(imageUrl);
+
+            // then
+            ArgumentCaptor<DeleteObjectRequest> captor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+            verify(s3Client, times(3)).deleteObject(captor.capture());
+            assertThat(captor.getAllValues()).extracting(DeleteObjectRequest::key)
+                .containsExactly("clothes/abc_orig.png", "clothes/abc_thumb.jpg", "clothes/abc_medium.jpg");
+        }
+
         @Test
         void URL이_null이면_S3삭제를_호출하지_않는다() {
             // when
@@ -134,4 +300,206 @@ class S3ImageStorageTest {
                 .hasMessageContaining("이미지 삭제 중 오류가 발생했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("S3 직접 업로드 테스트")
+    class S3DirectUploadTest {
+
+        private final UUID ownerId = UUID.randomUUID();
+
+        @Test
+        void 업로드_URL을_발급하면_요청자_경로_아래의_서명된_PUT_URL을_반환한다() {
+            // when
+            ImageUploadUrlResponse response =
+                s3ImageStorage.createPresignedUpload("clothes/", ownerId, "image/png", 1024);
+
+            // then
+            assertThat(response.imageKey()).startsWith("uploads/clothes/" + ownerId + "/");
+            assertThat(ImageVariant.isSource(response.imageKey())).isTrue();
+            assertThat(response.uploadUrl())
+                .contains(bucketName)
+                .contains(response.imageKey())
+                .contains("X-Amz-Signature=");
+            assertThat(response.expiresAt()).isAfter(Instant.now());
+        }
+
+        @Test
+        void WebP_업로드_URL은_변형_생성_대상으로_표시하지_않는다() {
+            // when
+            ImageUploadUrlResponse response =
+                s3ImageStorage.createPresignedUpload("profile/", ownerId, "image/webp", 1024);
+
+            // then
+            assertThat(response.imageKey()).endsWith(".webp");
+            assertThat(ImageVariant.isSource(response.imageKey())).isFalse();
+        }
+
+        @Test
+        void 지원하지_않는_형식이면_BAD_REQUEST_예외가_발생한다() {
+            assertThatThrownBy(() -> s3ImageStorage.createPresignedUpload("clothes/", ownerId, "image/gif", 1024))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("지원하지 않는 이미지 형식입니다");
+        }
+
+        @Test
+        void 허용_크기를_넘으면_BAD_REQUEST_예외가_발생한다() {
+            assertThatThrownBy(() -> s3ImageStorage.createPresignedUpload("clothes/", ownerId, "image/png", 11L * 1024 * 1024))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("허용된 이미지 크기를 초과했습니다.");
+        }
+
+        @Test
+        void 업로드를_확인하면_임시_경로에서_옮긴_공개_URL을_반환하고_변형_생성_이벤트를_발행한다() {
+            // given
+            String imageKey = "uploads/clothes/" + ownerId + "/abc_orig.png";
+            String confirmedKey = "clothes/" + ownerId + "/abc_orig.png";
+            when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength(2048L).contentType("image/png").build());
+
+            // when
+            String url = s3ImageStorage.confirmDirectUpload(imageKey, "clothes/", ownerId);
+
+            // then
+            assertThat(url).isEqualTo("https://" + bucketName + ".s3." + region + ".amazonaws.com/" + confirmedKey);
+            ArgumentCaptor<CopyObjectRequest> copyCaptor = ArgumentCaptor.forClass(CopyObjectRequest.class);
+            verify(s3Client).copyObject(copyCaptor.capture());
+            assertThat(copyCaptor.getValue().sourceKey()).isEqualTo(imageKey);
+            assertThat(copyCaptor.getValue().destinationKey()).isEqualTo(confirmedKey);
+            ArgumentCaptor<DeleteObjectRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+            verify(s3Client).deleteObject(deleteCaptor.capture());
+            assertThat(deleteCaptor.getValue().key()).isEqualTo(imageKey);
+            verify(eventPublisher).publishEvent(new ImageDirectUploadedEvent(confirmedKey));
+        }
+
+        @Test
+        void 임시_경로가_아닌_키로는_확인할_수_없다() {
+            // given
+            String imageKey = "clothes/" + ownerId + "/abc_orig.png";
+
+            // when & then
+            assertThatThrownBy(() -> s3ImageStorage.confirmDirectUpload(imageKey, "clothes/", ownerId))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("유효하지 않은 이미지 키입니다.");
+            verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+        }
+
+        @Test
+        void 다른_사용자_경로의_키면_S3를_조회하지_않고_BAD_REQUEST_예외가_발생한다() {
+            // given
+            String imageKey = "uploads/clothes/" + UUID.randomUUID() + "/abc_orig.png";
+
+            // when & then
+            assertThatThrownBy(() -> s3ImageStorage.confirmDirectUpload(imageKey, "clothes/", ownerId))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("유효하지 않은 이미지 키입니다.");
+            verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+        }
+
+        @Test
+        void 업로드된_객체가_없으면_BAD_REQUEST_예외가_발생한다() {
+            // given
+            String imageKey = "uploads/profile/" + ownerId + "/abc_orig.jpg";
+            when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message("not found").build());
+
+            // when & then
+            assertThatThrownBy(() -> s3ImageStorage.confirmDirectUpload(imageKey, "profile/", ownerId))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @Test
+        void 허용되지_않은_객체는_삭제하고_BAD_REQUEST_예외가_발생한다() {
+            // given
+            String imageKey = "uploads/clothes/" + ownerId + "/abc_orig.png";
+            when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength(2048L).contentType("text/html").build());
+
+            // when & then
+            assertThatThrownBy(() -> s3ImageStorage.confirmDirectUpload(imageKey, "clothes/", ownerId))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("허용되지 않은 이미지입니다.");
+            ArgumentCaptor<DeleteObjectRequest> captor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+            verify(s3Client).deleteObject(captor.capture());
+            assertThat(captor.getValue().key()).isEqualTo(imageKey);
+            verify(s3Client, never()).copyObject(any(CopyObjectRequest.class));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        void 확인되지_않은_채_오래된_임시_객체만_삭제한다() {
+            // given
+            Instant now = Instant.now();
+            when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+                .thenReturn(ListObjectsV2Response.builder()
+                    .contents(
+                        S3Object.builder().key("uploads/clothes/a/old.png").lastModified(now.minus(Duration.ofDays(2))).build(),
+                        S3Object.builder().key("uploads/clothes/a/new.png").lastModified(now.minus(Duration.ofMinutes(5))).build())
+                    .nextContinuationToken("next")
+                    .build())
+                .thenReturn(ListObjectsV2Response.builder()
+                    .contents(S3Object.builder().key("uploads/profile/b/old.jpg").lastModified(now.minus(Duration.ofDays(3))).build())
+                    .build());
+
+            // when
+            int deleted = s3ImageStorage.deleteStaleDirectUploads(Duration.ofDays(1));
+
+            // then
+            assertThat(deleted).isEqualTo(2);
+            ArgumentCaptor<ListObjectsV2Request> listCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+            verify(s3Client, times(2)).listObjectsV2(listCaptor.capture());
+            assertThat(listCaptor.getAllValues()).allSatisfy(r -> assertThat(r.prefix()).isEqualTo("uploads/"));
+            assertThat(listCaptor.getAllValues().get(1).continuationToken()).isEqualTo("next");
+            ArgumentCaptor<DeleteObjectsRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+            verify(s3Client, times(2)).deleteObjects(deleteCaptor.capture());
+            assertThat(deleteCaptor.getAllValues())
+                .flatMap(r -> r.delete().objects())
+                .extracting(ObjectIdentifier::key)
+                .containsExactly("uploads/clothes/a/old.png", "uploads/profile/b/old.jpg");
+        }
+    }
+
+    @Nested
+    @DisplayName("변형 이미지 완료 확인 테스트")
+    class VariantsReadyTest {
+
+        private final String imageUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/abc_orig.png";
+
+        @Test
+        void 변형_이미지가_모두_있으면_완료_이벤트를_발행한다() {
+            // given
+            when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+
+            // when
+            s3ImageStorage.publishVariantsReadyIfGenerated(imageUrl);
+
+            // then
+            verify(s3Client, times(ImageVariant.values().length)).headObject(any(HeadObjectRequest.class));
+            verify(eventPublisher).publishEvent(new ImageVariantsReadyEvent(imageUrl));
+        }
+
+        @Test
+        void 아직_없는_변형_이미지가_있으면_이벤트를_발행하지_않는다() {
+            // given
+            when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message("not found").build());
+
+            // when
+            s3ImageStorage.publishVariantsReadyIfGenerated(imageUrl);
+
+            // then
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        void 변형_생성_대상이_아니면_S3를_조회하지_않는다() {
+            // when
+            s3ImageStorage.publishVariantsReadyIfGenerated("https://k.kakaocdn.net/dn/profile.jpg");
+
+            // then
+            verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+}
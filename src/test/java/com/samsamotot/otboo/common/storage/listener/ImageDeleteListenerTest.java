@@ -0,0 +1,96 @@
+package com.samsamotot.otboo.common.storage.listener;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import com.samsamotot.otboo.common.storage.event.ImageDeleteEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeleteListenerTest {
+
+    private static final String IMAGE_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/clothes/old.jpg";
+
+    @Mock
+    private S3ImageStorage s3ImageStorage;
+
+    private ImageDeleteListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ImageDeleteListener(s3ImageStorage, Runnable::run, 3, 0);
+    }
+
+    @Test
+    void 삭제에_실패하면_성공할_때까지_재시도한다() {
+        // given
+        doThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE))
+            .doNothing()
+            .when(s3ImageStorage).deleteImage(IMAGE_URL);
+
+        // when
+        listener.onImageDelete(new ImageDeleteEvent(IMAGE_URL));
+
+        // then
+        verify(s3ImageStorage, times(2)).deleteImage(IMAGE_URL);
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘기면_예외없이_중단한다() {
+        // given
+        doThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE))
+            .when(s3ImageStorage).deleteImage(IMAGE_URL);
+
+        // when
+        listener.onImageDelete(new ImageDeleteEvent(IMAGE_URL));
+
+        // then
+        verify(s3ImageStorage, times(3)).deleteImage(IMAGE_URL);
+    }
+
+    @Test
+    void 한번에_성공하면_재시도하지_않는다() {
+        // given
+        doNothing().when(s3ImageStorage).deleteImage(IMAGE_URL);
+
+        // when
+        listener.onImageDelete(new ImageDeleteEvent(IMAGE_URL));
+
+        // then
+        verify(s3ImageStorage, times(1)).deleteImage(IMAGE_URL);
+    }
+
+    @Test
+    void URL이_비어_있으면_삭제를_호출하지_않는다() {
+        // when
+        listener.onImageDelete(new ImageDeleteEvent(" "));
+
+        // then
+        verify(s3ImageStorage, never()).deleteImage(any());
+    }
+
+    @Test
+    void 삭제_작업이_거절되어도_발행한_쪽으로_예외를_전파하지_않는다() {
+        // given
+        ImageDeleteListener rejecting = new ImageDeleteListener(s3ImageStorage, task -> {
+            throw new TaskRejectedException("imageDelete 작업 거절");
+        }, 3, 0);
+
+        // when & then
+        assertThatCode(() -> rejecting.onImageDelete(new ImageDeleteEvent(IMAGE_URL))).doesNotThrowAnyException();
+        verify(s3ImageStorage, never()).deleteImage(any());
+    }
+}
@@ -0,0 +1,71 @@
+package com.samsamotot.otboo.common.storage.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.samsamotot.otboo.common.fixture.S3ImageFixture;
+import com.samsamotot.otboo.common.storage.ImageVariant;
+import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import com.samsamotot.otboo.common.storage.event.ImageUploadedEvent;
+import com.samsamotot.otboo.common.storage.event.ImageVariantsReadyEvent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantListenerTest {
+
+    private static final String S3_KEY = "clothes/abc_orig.png";
+    private static final String IMAGE_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/" + S3_KEY;
+
+    @Mock
+    private S3ImageStorage s3ImageStorage;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ImageVariantListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ImageVariantListener(s3ImageStorage, eventPublisher);
+    }
+
+    @Test
+    void 변형_이미지를_모두_저장하면_완료_이벤트를_발행한다() throws Exception {
+        // given
+        Path file = Files.write(S3ImageStorage.createTempFile(), S3ImageFixture.createPngBytes(800, 600));
+        when(s3ImageStorage.generatePublicUrl(S3_KEY)).thenReturn(IMAGE_URL);
+
+        // when
+        listener.onImageUploaded(new ImageUploadedEvent(S3_KEY, file));
+
+        // then
+        verify(s3ImageStorage).uploadVariant(eq(ImageVariant.THUMBNAIL.of(S3_KEY)), any(byte[].class));
+        verify(s3ImageStorage).uploadVariant(eq(ImageVariant.MEDIUM.of(S3_KEY)), any(byte[].class));
+        verify(eventPublisher).publishEvent(new ImageVariantsReadyEvent(IMAGE_URL));
+    }
+
+    @Test
+    void 변형_이미지_저장에_실패하면_완료_이벤트를_발행하지_않는다() throws Exception {
+        // given
+        Path file = Files.write(S3ImageStorage.createTempFile(), S3ImageFixture.createPngBytes(800, 600));
+        doThrow(new RuntimeException("S3 오류"))
+            .when(s3ImageStorage).uploadVariant(eq(ImageVariant.MEDIUM.of(S3_KEY)), any(byte[].class));
+
+        // when
+        listener.onImageUploaded(new ImageUploadedEvent(S3_KEY, file));
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
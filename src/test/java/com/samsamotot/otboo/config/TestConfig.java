@@ -14,6 +14,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.KafkaMessageListenerContainer;
@@ -70,6 +71,16 @@ public class TestConfig {
     return Mockito.mock(RedisTemplate.class);
   }
 
+  /**
+   * 테스트 환경에서 StringRedisTemplate Mock
+   */
+  @Bean
+  @Primary
+  @Profile("test")
+  public StringRedisTemplate stringRedisTemplate() {
+    return Mockito.mock(StringRedisTemplate.class);
+  }
+
   @Bean
   public TokenInvalidationService tokenInvalidationService() {
     return Mockito.mock(TokenInvalidationService.class);
@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -18,9 +19,10 @@ import com.samsamotot.otboo.common.security.service.CustomUserDetails;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageDto;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageListResponse;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomDto;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListRequest;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListResponse;
-import com.samsamotot.otboo.directmessage.dto.DmTopicKey;
 import com.samsamotot.otboo.directmessage.dto.SendDmRequest;
+import com.samsamotot.otboo.directmessage.relay.DirectMessageRelay;
 import com.samsamotot.otboo.directmessage.service.DirectMessageService;
 import com.samsamotot.otboo.user.dto.AuthorDto;
 import com.samsamotot.otboo.user.entity.User;
@@ -34,7 +36,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
@@ -64,7 +65,7 @@ class DirectMessageControllerTest {
     private DirectMessageService directMessageService;
 
     @MockitoBean
-    SimpMessagingTemplate simpMessagingTemplate;
+    DirectMessageRelay directMessageRelay;
 
     @Test
     void dm을_목록을_정상적으로_가져온다() throws Exception {
@@ -131,11 +132,21 @@ class DirectMessageControllerTest {
         then(directMessageService)
             .should().sendMessage(eq(me), eq(request));
 
-        // 브로드캐스트 목적지 검증
-        String expectedDestination = DmTopicKey.destination(me, other);
-        then(simpMessagingTemplate)
-            .should().convertAndSend(eq(expectedDestination),
-                eq(dto));
+        // 중계 대상 검증
+        then(directMessageRelay)
+            .should().publish(eq(me), eq(other), eq(dto));
+    }
+
+    @Test
+    void 대화방을_읽음_처리한다() throws Exception {
+        // given
+        UUID partnerId = UUID.randomUUID();
+
+        // when n then
+        mockMvc.perform(post("/api/direct-messages/rooms/{partnerId}/read", partnerId))
+            .andExpect(status().isNoContent());
+
+        then(directMessageService).should().markAsRead(partnerId);
     }
 
     @Test
@@ -150,7 +161,7 @@ class DirectMessageControllerTest {
         // then
         assertThat(resp).isNull();
         then(directMessageService).shouldHaveNoInteractions();
-        then(simpMessagingTemplate).shouldHaveNoInteractions();
+        then(directMessageRelay).shouldHaveNoInteractions();
     }
 
     @Test
@@ -168,7 +179,7 @@ class DirectMessageControllerTest {
         DirectMessageRoomListResponse mockResponse = DirectMessageRoomListResponse.builder()
             .rooms(List.of(mockRoomDto))
             .build();
-        given(directMessageService.getConversationList()).willReturn(mockResponse);
+        given(directMessageService.getConversationList(any(DirectMessageRoomListRequest.class))).willReturn(mockResponse);
 
         User mockUser = UserFixture.createValidUser();
         ReflectionTestUtils.setField(mockUser, "id", UUID.randomUUID());
@@ -178,8 +189,9 @@ class DirectMessageControllerTest {
         mockMvc.perform(get("/api/direct-messages/rooms")
                 .with(user(mockPrincipal)))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.rooms.length()").value(1));
+            .andExpect(jsonPath("$.rooms.length()").value(1))
+            .andExpect(jsonPath("$.hasNext").value(false));
 
-        then(directMessageService).should().getConversationList();
+        then(directMessageService).should().getConversationList(new DirectMessageRoomListRequest(null, null, null));
     }
 }
\ No newline at end of file
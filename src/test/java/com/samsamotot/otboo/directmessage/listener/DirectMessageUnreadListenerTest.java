@@ -0,0 +1,55 @@
+package com.samsamotot.otboo.directmessage.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageUnreadDto;
+import com.samsamotot.otboo.directmessage.dto.event.DirectMessageUnreadChangedEvent;
+import com.samsamotot.otboo.sse.service.SseService;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DirectMessageUnreadListener 단위 테스트")
+class DirectMessageUnreadListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private SseService sseService;
+
+    private DirectMessageUnreadListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new DirectMessageUnreadListener(sseService, objectMapper);
+    }
+
+    @Test
+    void 안읽은_수_변경은_다른_노드의_연결에도_닿도록_분산_전송한다() throws Exception {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        UUID partnerId = UUID.randomUUID();
+        ArgumentCaptor<String> dataCaptor = ArgumentCaptor.forClass(String.class);
+
+        // when
+        listener.onUnreadChanged(new DirectMessageUnreadChangedEvent(ownerId, partnerId, 4));
+
+        // then
+        verify(sseService).sendEvent(eq(ownerId), eq(DirectMessageUnreadListener.SSE_EVENT_NAME), dataCaptor.capture());
+        verify(sseService, never()).sendLocalEvent(any(), anyString(), any(), anyString());
+        assertThat(objectMapper.readValue(dataCaptor.getValue(), DirectMessageUnreadDto.class))
+            .isEqualTo(new DirectMessageUnreadDto(partnerId, 4));
+    }
+}
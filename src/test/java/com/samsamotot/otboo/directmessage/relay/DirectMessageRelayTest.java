@@ -0,0 +1,209 @@
+package com.samsamotot.otboo.directmessage.relay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageDto;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageRelayEnvelope;
+import com.samsamotot.otboo.directmessage.dto.DmTopicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DirectMessageRelay 단위 테스트")
+class DirectMessageRelayTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private DirectMessageRelay relay;
+
+    private final UUID senderId = UUID.randomUUID();
+    private final UUID receiverId = UUID.randomUUID();
+    private final DirectMessageDto message = DirectMessageDto.builder()
+        .id(UUID.randomUUID())
+        .createdAt(Instant.parse("2025-10-01T00:00:00Z"))
+        .content("hello")
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        relay = new DirectMessageRelay(stringRedisTemplate, messagingTemplate, objectMapper);
+        ReflectionTestUtils.setField(relay, "presenceTtlHours", 24L);
+        ReflectionTestUtils.setField(relay, "relayEnabled", true);
+        ReflectionTestUtils.setField(relay, "heartbeatTtlMs", 90000L);
+        lenient().when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void 다른_노드에_세션이_있으면_해당_노드_채널로만_중계한다() throws Exception {
+
+        // given
+        String remoteNode = UUID.randomUUID().toString();
+        given(setOperations.union("ws:presence:" + senderId, "ws:presence:" + receiverId))
+            .willReturn(Set.of(relay.getNodeId(), remoteNode));
+        given(valueOperations.multiGet(List.of("ws:node:alive:" + remoteNode))).willReturn(List.of("1"));
+
+        // when
+        relay.publish(senderId, receiverId, message);
+
+        // then
+        String destination = DmTopicKey.destination(senderId, receiverId);
+        verify(messagingTemplate).convertAndSend(destination, message);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, times(1)).convertAndSend(eq("ws:dm:node:" + remoteNode), payload.capture());
+        verify(stringRedisTemplate, never()).convertAndSend(eq(relay.nodeChannel()), anyString());
+
+        DirectMessageRelayEnvelope envelope = objectMapper.readValue(payload.getValue(), DirectMessageRelayEnvelope.class);
+        assertThat(envelope.destination()).isEqualTo(destination);
+        assertThat(envelope.message()).isEqualTo(message);
+    }
+
+    @Test
+    void 대화_상대가_모두_이_노드에만_있으면_발행하지_않는다() {
+
+        // given
+        given(setOperations.union(anyString(), anyString())).willReturn(Set.of(relay.getNodeId()));
+
+        // when
+        relay.publish(senderId, receiverId, message);
+
+        // then
+        verify(messagingTemplate).convertAndSend(DmTopicKey.destination(senderId, receiverId), message);
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    void 하트비트가_만료된_노드는_중계하지_않고_presence에서_제거한다() {
+
+        // given
+        String deadNode = UUID.randomUUID().toString();
+        given(setOperations.union(anyString(), anyString())).willReturn(Set.of(deadNode));
+        given(valueOperations.multiGet(List.of("ws:node:alive:" + deadNode))).willReturn(Arrays.asList((String) null));
+
+        // when
+        relay.publish(senderId, receiverId, message);
+
+        // then
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+        verify(setOperations).remove("ws:presence:" + senderId, deadNode);
+        verify(setOperations).remove("ws:presence:" + receiverId, deadNode);
+    }
+
+    @Test
+    void Redis_오류가_나도_로컬_전달은_유지된다() {
+
+        // given
+        given(setOperations.union(anyString(), anyString())).willThrow(new RedisConnectionFailureException("redis down"));
+
+        // when
+        relay.publish(senderId, receiverId, message);
+
+        // then
+        verify(messagingTemplate).convertAndSend(DmTopicKey.destination(senderId, receiverId), message);
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    void Redis_오류_후에는_하트비트가_복구될_때까지_Redis를_호출하지_않는다() {
+
+        // given
+        given(setOperations.union(anyString(), anyString())).willThrow(new RedisConnectionFailureException("redis down"));
+        relay.publish(senderId, receiverId, message);
+
+        // when: 장애 중 메시지와 세션 등록
+        relay.publish(senderId, receiverId, message);
+        relay.registerSession(senderId, "s1");
+
+        // then
+        verify(setOperations, times(1)).union(anyString(), anyString());
+        verify(setOperations, never()).add(anyString(), any());
+
+        // when: 하트비트 성공
+        relay.heartbeat();
+
+        // then: 복구 후 presence 재등록
+        verify(valueOperations).set("ws:node:alive:" + relay.getNodeId(), "1", Duration.ofMillis(90000));
+        verify(setOperations).add("ws:presence:" + senderId, relay.getNodeId());
+    }
+
+    @Test
+    void 중계가_비활성화되면_Redis를_호출하지_않는다() {
+
+        // given
+        ReflectionTestUtils.setField(relay, "relayEnabled", false);
+
+        // when
+        relay.registerSession(senderId, "s1");
+        relay.publish(senderId, receiverId, message);
+        relay.heartbeat();
+
+        // then
+        verify(messagingTemplate).convertAndSend(DmTopicKey.destination(senderId, receiverId), message);
+        verify(stringRedisTemplate, never()).opsForSet();
+        verify(stringRedisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    void 사용자의_첫_세션에서_등록하고_마지막_세션이_끊기면_제거한다() {
+
+        // given
+        String key = "ws:presence:" + senderId;
+
+        // when
+        relay.registerSession(senderId, "s1");
+        relay.registerSession(senderId, "s2");
+        relay.unregisterSession(senderId, "s1");
+        relay.unregisterSession(senderId, "s1");
+
+        // then
+        verify(setOperations, times(1)).add(key, relay.getNodeId());
+        verify(stringRedisTemplate).expire(key, Duration.ofHours(24));
+        verify(setOperations, never()).remove(any(), any());
+
+        // when
+        relay.unregisterSession(senderId, "s2");
+
+        // then
+        verify(setOperations).remove(key, relay.getNodeId());
+    }
+}
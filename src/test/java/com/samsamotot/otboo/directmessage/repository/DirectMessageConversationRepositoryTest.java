@@ -0,0 +1,215 @@
+package com.samsamotot.otboo.directmessage.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.samsamotot.otboo.common.config.QueryDslConfig;
+import com.samsamotot.otboo.common.config.TestJpaAuditingConfig;
+import com.samsamotot.otboo.common.fixture.UserFixture;
+import com.samsamotot.otboo.directmessage.entity.DirectMessageConversation;
+import com.samsamotot.otboo.user.entity.User;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.samsamotot.otboo")
+@Import({TestJpaAuditingConfig.class, QueryDslConfig.class})
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.datasource.driver-class-name=org.postgresql.Driver",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@DisplayName("DM 대화방 요약 레포지토리 슬라이스 테스트")
+class DirectMessageConversationRepositoryTest {
+    private static final Instant baseTime = Instant.parse("2024-09-01T00:00:00Z");
+    private static final Pageable INBOX_PAGE = PageRequest.of(0, 100);
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+        new PostgreSQLContainer<>("postgres:17");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry reg) {
+        reg.add("spring.datasource.url",      postgres::getJdbcUrl);
+        reg.add("spring.datasource.username", postgres::getUsername);
+        reg.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private DirectMessageConversationRepository conversationRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    User me;
+    User friend;
+    User stranger;
+
+    @BeforeEach
+    void setUp() {
+        me = UserFixture.createUserWithEmail("me@test.com");
+        friend = UserFixture.createUserWithEmail("friend@test.com");
+        stranger = UserFixture.createUserWithEmail("stranger@test.com");
+        em.persist(me);
+        em.persist(friend);
+        em.persist(stranger);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 메시지를_보내면_양쪽_사용자의_대화방_요약이_생성된다() {
+
+        // given
+        UUID messageId = UUID.randomUUID();
+
+        // when
+        conversationRepository.upsertLastMessage(me.getId(), friend.getId(), messageId, "안녕", baseTime);
+        em.clear();
+
+        // then
+        List<DirectMessageConversation> myInbox = conversationRepository.findInbox(me.getId(), INBOX_PAGE);
+        List<DirectMessageConversation> friendInbox = conversationRepository.findInbox(friend.getId(), INBOX_PAGE);
+
+        assertThat(myInbox).singleElement().satisfies(c -> {
+            assertThat(c.getPartner().getId()).isEqualTo(friend.getId());
+            assertThat(c.getLastMessageId()).isEqualTo(messageId);
+            assertThat(c.getLastMessage()).isEqualTo("안녕");
+        });
+        assertThat(friendInbox).singleElement().satisfies(c ->
+            assertThat(c.getPartner().getId()).isEqualTo(me.getId()));
+    }
+
+    @Test
+    void 같은_상대와의_대화는_한_행으로_갱신되고_마지막_활동순으로_정렬된다() {
+
+        // given
+        conversationRepository.upsertLastMessage(me.getId(), friend.getId(), UUID.randomUUID(), "첫 메시지", baseTime);
+        conversationRepository.upsertLastMessage(stranger.getId(), me.getId(), UUID.randomUUID(), "처음 뵙겠습니다", baseTime.plusSeconds(10));
+        UUID latestId = UUID.randomUUID();
+
+        // when
+        conversationRepository.upsertLastMessage(friend.getId(), me.getId(), latestId, "답장", baseTime.plusSeconds(20));
+        em.clear();
+
+        // then
+        List<DirectMessageConversation> myInbox = conversationRepository.findInbox(me.getId(), INBOX_PAGE);
+        assertThat(myInbox).extracting(c -> c.getPartner().getId())
+            .containsExactly(friend.getId(), stranger.getId());
+        assertThat(myInbox.get(0).getLastMessageId()).isEqualTo(latestId);
+        assertThat(myInbox.get(0).getLastMessage()).isEqualTo("답장");
+    }
+
+    @Test
+    void 더_오래된_메시지로는_대화방_요약을_덮어쓰지_않는다() {
+
+        // given
+        UUID latestId = UUID.randomUUID();
+        conversationRepository.upsertLastMessage(me.getId(), friend.getId(), latestId, "최신", baseTime.plusSeconds(30));
+
+        // when
+        conversationRepository.upsertLastMessage(friend.getId(), me.getId(), UUID.randomUUID(), "늦게 도착한 이전 메시지", baseTime);
+        em.clear();
+
+        // then
+        assertThat(conversationRepository.findInbox(me.getId(), INBOX_PAGE))
+            .singleElement()
+            .extracting(DirectMessageConversation::getLastMessageId)
+            .isEqualTo(latestId);
+    }
+
+    @Test
+    void 수신자의_안읽은_수만_누적되고_읽음_처리로_초기화된다() {
+
+        // given
+        int first = conversationRepository.upsertLastMessage(friend.getId(), me.getId(), UUID.randomUUID(), "하나", baseTime);
+        int second = conversationRepository.upsertLastMessage(friend.getId(), me.getId(), UUID.randomUUID(), "둘", baseTime.plusSeconds(1));
+        // 순서가 뒤바뀌어 도착한 메시지도 안 읽은 수에는 포함된다
+        int third = conversationRepository.upsertLastMessage(friend.getId(), me.getId(), UUID.randomUUID(), "이전", baseTime.minusSeconds(1));
+
+        // when
+        Optional<Integer> myUnread = conversationRepository.findUnreadCount(me.getId(), friend.getId());
+        Optional<Integer> friendUnread = conversationRepository.findUnreadCount(friend.getId(), me.getId());
+        int updated = conversationRepository.markAsRead(me.getId(), friend.getId());
+        int updatedAgain = conversationRepository.markAsRead(me.getId(), friend.getId());
+        em.clear();
+
+        // then
+        // upsert 는 갱신 후 수신자의 안 읽은 수를 돌려준다
+        assertThat(List.of(first, second, third)).containsExactly(1, 2, 3);
+        assertThat(myUnread).contains(3);
+        assertThat(friendUnread).contains(0);
+        assertThat(updated).isEqualTo(1);
+        assertThat(updatedAgain).isZero();
+        assertThat(conversationRepository.findInbox(me.getId(), INBOX_PAGE))
+            .singleElement()
+            .satisfies(c -> {
+                assertThat(c.getUnreadCount()).isZero();
+                assertThat(c.getLastMessage()).isEqualTo("둘");
+            });
+    }
+
+    @Test
+    void 대화방_목록은_요청한_개수까지만_마지막_활동순으로_조회된다() {
+
+        // given
+        conversationRepository.upsertLastMessage(me.getId(), friend.getId(), UUID.randomUUID(), "오래된 대화", baseTime);
+        conversationRepository.upsertLastMessage(stranger.getId(), me.getId(), UUID.randomUUID(), "최근 대화", baseTime.plusSeconds(10));
+        em.clear();
+
+        // when
+        List<DirectMessageConversation> myInbox = conversationRepository.findInbox(me.getId(), PageRequest.of(0, 1));
+
+        // then
+        assertThat(myInbox).singleElement()
+            .satisfies(c -> assertThat(c.getPartner().getId()).isEqualTo(stranger.getId()));
+    }
+
+    @Test
+    void 커서_이후의_대화방을_같은_시각은_id_역순으로_이어서_조회한다() {
+
+        // given
+        User another = UserFixture.createUserWithEmail("another@test.com");
+        em.persist(another);
+        em.flush();
+        conversationRepository.upsertLastMessage(me.getId(), friend.getId(), UUID.randomUUID(), "가장 최근", baseTime.plusSeconds(20));
+        conversationRepository.upsertLastMessage(me.getId(), stranger.getId(), UUID.randomUUID(), "동시 1", baseTime);
+        conversationRepository.upsertLastMessage(me.getId(), another.getId(), UUID.randomUUID(), "동시 2", baseTime);
+        em.clear();
+
+        List<DirectMessageConversation> all = conversationRepository.findInbox(me.getId(), INBOX_PAGE);
+        DirectMessageConversation firstPageLast = conversationRepository.findInbox(me.getId(), PageRequest.of(0, 2)).get(1);
+
+        // when
+        List<DirectMessageConversation> nextPage = conversationRepository.findInboxNextPage(
+            me.getId(), firstPageLast.getLastMessageAt(), firstPageLast.getId(), INBOX_PAGE);
+
+        // then
+        // 첫 페이지 마지막 행과 같은 시각의 나머지 대화방만 누락·중복 없이 이어진다
+        assertThat(all).hasSize(3);
+        assertThat(firstPageLast.getLastMessageAt()).isEqualTo(baseTime);
+        assertThat(nextPage).extracting(DirectMessageConversation::getId)
+            .containsExactly(all.get(2).getId());
+    }
+}
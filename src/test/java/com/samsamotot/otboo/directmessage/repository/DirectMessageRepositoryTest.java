@@ -0,0 +1,186 @@
+package com.samsamotot.otboo.directmessage.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.samsamotot.otboo.common.config.QueryDslConfig;
+import com.samsamotot.otboo.common.config.TestJpaAuditingConfig;
+import com.samsamotot.otboo.common.fixture.UserFixture;
+import com.samsamotot.otboo.directmessage.entity.DirectMessage;
+import com.samsamotot.otboo.user.entity.User;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.samsamotot.otboo")
+@Import({TestJpaAuditingConfig.class, QueryDslConfig.class})
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.datasource.driver-class-name=org.postgresql.Driver",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@DisplayName("DM 레포지토리 슬라이스 테스트")
+class DirectMessageRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+        new PostgreSQLContainer<>("postgres:17");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry reg) {
+        reg.add("spring.datasource.url",      postgres::getJdbcUrl);
+        reg.add("spring.datasource.username", postgres::getUsername);
+        reg.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private DirectMessageRepository directMessageRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    User me;
+    User friend;
+    User stranger;
+
+    @BeforeEach
+    void setUp() {
+        me = UserFixture.createUserWithEmail("me@test.com");
+        friend = UserFixture.createUserWithEmail("friend@test.com");
+        stranger = UserFixture.createUserWithEmail("stranger@test.com");
+        em.persist(me);
+        em.persist(friend);
+        em.persist(stranger);
+
+        // 양방향 대화 + 다른 대화 (인덱스 선택도를 위해 여러 대화 섞기)
+        for (int i = 0; i < 60; i++) {
+            persistMessage(i % 2 == 0 ? me : friend, i % 2 == 0 ? friend : me, "me-friend-" + i);
+            persistMessage(stranger, i % 2 == 0 ? me : friend, "stranger-" + i);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private void persistMessage(User sender, User receiver, String message) {
+        em.persist(DirectMessage.builder()
+            .sender(sender)
+            .receiver(receiver)
+            .message(message)
+            .build());
+    }
+
+    @Test
+    void 대화_키는_보낸사람과_받는사람_순서와_무관하다() {
+
+        // when
+        String key1 = DirectMessage.conversationKeyOf(me.getId(), friend.getId());
+        String key2 = DirectMessage.conversationKeyOf(friend.getId(), me.getId());
+
+        // then
+        assertThat(key1).isEqualTo(key2);
+    }
+
+    @Test
+    void 양방향_메시지를_대화_키로_최신순_조회한다() {
+
+        // given
+        String key = DirectMessage.conversationKeyOf(me.getId(), friend.getId());
+
+        // when
+        List<DirectMessage> page = directMessageRepository.findFirstPage(key, PageRequest.of(0, 10));
+        long total = directMessageRepository.countByConversationKey(key);
+
+        // then
+        assertThat(total).isEqualTo(60L);
+        assertThat(page).hasSize(10);
+        assertThat(page).allSatisfy(m -> assertThat(m.getMessage()).startsWith("me-friend-"));
+        assertThat(page).extracting(m -> m.getSender().getId()).contains(me.getId(), friend.getId());
+        for (int i = 1; i < page.size(); i++) {
+            DirectMessage prev = page.get(i - 1);
+            DirectMessage cur = page.get(i);
+            assertThat(prev.getCreatedAt().compareTo(cur.getCreatedAt()) > 0
+                || (prev.getCreatedAt().equals(cur.getCreatedAt()) && prev.getId().compareTo(cur.getId()) > 0)).isTrue();
+        }
+    }
+
+    @Test
+    void 다음_페이지는_커서_이후의_메시지만_조회한다() {
+
+        // given
+        String key = DirectMessage.conversationKeyOf(me.getId(), friend.getId());
+        List<DirectMessage> first = directMessageRepository.findFirstPage(key, PageRequest.of(0, 10));
+        DirectMessage last = first.get(first.size() - 1);
+
+        // when
+        List<DirectMessage> next = directMessageRepository.findNextPage(
+            key, last.getCreatedAt(), last.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(next).hasSize(10);
+        assertThat(next).extracting(DirectMessage::getId).doesNotContainAnyElementsOf(
+            first.stream().map(DirectMessage::getId).toList());
+    }
+
+    @Test
+    void 대화_이력_페이지_조회는_정렬_없이_인덱스_범위_스캔으로_처리된다() {
+
+        // given
+        String key = DirectMessage.conversationKeyOf(me.getId(), friend.getId());
+        prepareIndexOnlyPlanner();
+
+        // when
+        String firstPagePlan = explain("""
+            SELECT m.* FROM direct_messages m
+            WHERE m.conversation_key = '%s'
+            ORDER BY m.created_at DESC, m.id DESC
+            LIMIT 21
+            """.formatted(key));
+        String nextPagePlan = explain("""
+            SELECT m.* FROM direct_messages m
+            WHERE m.conversation_key = '%s'
+              AND m.created_at <= '%s'
+              AND (m.created_at < '%s' OR (m.created_at = '%s' AND m.id < '%s'))
+            ORDER BY m.created_at DESC, m.id DESC
+            LIMIT 21
+            """.formatted(key, Instant.now(), Instant.now(), Instant.now(), UUID.randomUUID()));
+
+        // then
+        assertThat(firstPagePlan).contains("idx_dm_conversation_created_at").doesNotContain("Sort");
+        assertThat(nextPagePlan).contains("idx_dm_conversation_created_at").doesNotContain("Sort");
+    }
+
+    /**
+     * 소량 데이터에서 순차 스캔/비트맵 스캔이 선택되지 않도록 하여 인덱스가 정렬을 대신하는지만 확인한다.
+     */
+    private void prepareIndexOnlyPlanner() {
+        em.getEntityManager().createNativeQuery("ANALYZE direct_messages").executeUpdate();
+        em.getEntityManager().createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+        em.getEntityManager().createNativeQuery("SET LOCAL enable_bitmapscan = off").executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private String explain(String sql) {
+        List<Object> rows = em.getEntityManager().createNativeQuery("EXPLAIN " + sql).getResultList();
+        return rows.stream().map(Object::toString).collect(Collectors.joining("\n"));
+    }
+}
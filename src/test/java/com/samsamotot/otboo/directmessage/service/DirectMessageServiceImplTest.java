@@ -22,11 +22,15 @@ import com.samsamotot.otboo.common.security.service.CustomUserDetails;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageDto;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageListResponse;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomDto;
+import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListRequest;
 import com.samsamotot.otboo.directmessage.dto.DirectMessageRoomListResponse;
 import com.samsamotot.otboo.directmessage.dto.MessageRequest;
 import com.samsamotot.otboo.directmessage.dto.SendDmRequest;
+import com.samsamotot.otboo.directmessage.dto.event.DirectMessageUnreadChangedEvent;
 import com.samsamotot.otboo.directmessage.entity.DirectMessage;
+import com.samsamotot.otboo.directmessage.entity.DirectMessageConversation;
 import com.samsamotot.otboo.directmessage.mapper.DirectMessageMapper;
+import com.samsamotot.otboo.directmessage.repository.DirectMessageConversationRepository;
 import com.samsamotot.otboo.directmessage.repository.DirectMessageRepository;
 import com.samsamotot.otboo.notification.dto.event.DirectMessageReceivedEvent;
 import com.samsamotot.otboo.profile.entity.Profile;
@@ -37,7 +41,6 @@ import com.samsamotot.otboo.user.repository.UserRepository;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -55,6 +58,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -84,6 +89,9 @@ class DirectMessageServiceImplTest {
     @Mock
     private DirectMessageRepository directMessageRepository;
 
+    @Mock
+    private DirectMessageConversationRepository conversationRepository;
+
     @Mock
     private ProfileRepository profileRepository;
 
@@ -252,9 +260,9 @@ class DirectMessageServiceImplTest {
         DirectMessage m2 = dm(UUID.randomUUID(), Instant.parse("2025-09-22T11:00:00Z"));
         DirectMessage m3 = dm(UUID.randomUUID(), Instant.parse("2025-09-22T10:00:00Z"));
 
-        given(directMessageRepository.findFirstPage(any(), any(), any()))
+        given(directMessageRepository.findFirstPage(any(), any()))
             .willReturn(List.of(m1, m2, m3));
-        given(directMessageRepository.countBetween(myId, otherId)).willReturn(42L);
+        given(directMessageRepository.countByConversationKey(DirectMessage.conversationKeyOf(myId, otherId))).willReturn(42L);
         given(directMessageMapper.toDto(any())).willReturn(mock(DirectMessageDto.class));
 
         var request = firstPageRequest(otherId, 2);
@@ -268,8 +276,8 @@ class DirectMessageServiceImplTest {
         assertThat(resp.hasNext()).isTrue();
         assertThat(resp.totalCount()).isEqualTo(42L);
 
-        then(directMessageRepository).should().findFirstPage(any(), any(), any());
-        then(directMessageRepository).should().countBetween(myId, otherId);
+        then(directMessageRepository).should().findFirstPage(eq(DirectMessage.conversationKeyOf(myId, otherId)), any());
+        then(directMessageRepository).should().countByConversationKey(DirectMessage.conversationKeyOf(myId, otherId));
         then(directMessageMapper).should(atLeast(2)).toDto(any());
     }
 
@@ -285,10 +293,10 @@ class DirectMessageServiceImplTest {
         DirectMessage m1 = dm(UUID.randomUUID(), Instant.parse("2025-09-22T09:00:00Z"));
         DirectMessage m2 = dm(UUID.randomUUID(), Instant.parse("2025-09-22T08:00:00Z"));
 
-        given(directMessageRepository.findNextPage(any(), any(), any(), any(), any()))
+        given(directMessageRepository.findNextPage(any(), any(), any(), any()))
             .willReturn(List.of(m1, m2));
 
-        given(directMessageRepository.countBetween(myId, otherId)).willReturn(40L);
+        given(directMessageRepository.countByConversationKey(DirectMessage.conversationKeyOf(myId, otherId))).willReturn(40L);
         given(directMessageMapper.toDto(any())).willReturn(mock(DirectMessageDto.class));
 
         var request = nextPageRequest(otherId, Instant.parse("2025-09-22T10:00:00Z"), null, 2);
@@ -302,8 +310,8 @@ class DirectMessageServiceImplTest {
         assertThat(resp.hasNext()).isFalse();
         assertThat(resp.totalCount()).isEqualTo(40L);
 
-        then(directMessageRepository).should().findNextPage(any(), any(), any(), any(), any());
-        then(directMessageRepository).should().countBetween(myId, otherId);
+        then(directMessageRepository).should().findNextPage(eq(DirectMessage.conversationKeyOf(myId, otherId)), any(), any(), any());
+        then(directMessageRepository).should().countByConversationKey(DirectMessage.conversationKeyOf(myId, otherId));
         then(directMessageMapper).should(atLeast(2)).toDto(any());
     }
 
@@ -328,7 +336,50 @@ class DirectMessageServiceImplTest {
         then(directMessageRepository).should().save(any(DirectMessage.class));
         then(directMessageMapper).should().toDto(any(DirectMessage.class));
         then(eventPublisher).should().publishEvent(any(DirectMessageReceivedEvent.class));
+        then(conversationRepository).should()
+            .upsertLastMessage(eq(myId), eq(otherId), any(UUID.class), eq(content), any(Instant.class));
+    }
+
+    @Test
+    void 대화방_요약의_미리보기는_100자로_자른다() throws Exception {
+        // given
+        String longContent = "가".repeat(150);
+        SendDmRequest req = new SendDmRequest(myId, otherId, longContent);
+
+        User senderRef = stubUser(myId, false);
+        User receiverRef = stubUser(otherId, false);
+
+        DirectMessageDto dto = mock(DirectMessageDto.class);
+        commonGiven(senderRef, receiverRef, dto);
+
+        // when
+        directMessageService.sendMessage(myId, req);
+
+        // then
+        then(conversationRepository).should()
+            .upsertLastMessage(eq(myId), eq(otherId), any(UUID.class), eq("가".repeat(100)), any(Instant.class));
+        assertThat(dmCaptor.getValue().getMessage()).isEqualTo(longContent);
+    }
+
+    @Test
+    void 대화방_요약의_미리보기는_이모지를_중간에서_자르지_않는다() throws Exception {
+        // given
+        String longContent = "😀".repeat(150);
+        SendDmRequest req = new SendDmRequest(myId, otherId, longContent);
 
+        User senderRef = stubUser(myId, false);
+        User receiverRef = stubUser(otherId, false);
+
+        DirectMessageDto dto = mock(DirectMessageDto.class);
+        commonGiven(senderRef, receiverRef, dto);
+
+        // when
+        directMessageService.sendMessage(myId, req);
+
+        // then
+        // 서로게이트 쌍 기준 100개가 아니라 코드 포인트(이모지) 100개로 잘린다
+        then(conversationRepository).should()
+            .upsertLastMessage(eq(myId), eq(otherId), any(UUID.class), eq("😀".repeat(100)), any(Instant.class));
     }
 
     @Test
@@ -351,6 +402,7 @@ class DirectMessageServiceImplTest {
         assertThat(captured.getSender()).isSameAs(senderRef);
         assertThat(captured.getReceiver()).isSameAs(receiverRef);
         assertThat(captured.getMessage()).isEqualTo(content);
+        assertThat(captured.getConversationKey()).isEqualTo(DirectMessage.conversationKeyOf(otherId, myId));
 
     }
 
@@ -405,49 +457,30 @@ class DirectMessageServiceImplTest {
         // given
         loginAsUserId(myId, myEmail);
 
-        List<DirectMessage> fetched = new ArrayList<>();
+        List<DirectMessageConversation> inbox = new ArrayList<>();
         List<User> partners = new ArrayList<>();
         Set<UUID> partnerIds = new HashSet<>();
-        List<UUID> lastMessageIds = new ArrayList<>();
 
-        // lastMessageIds와 dm(id) 동기화
         for (int i = 0; i < 25; i++) {
-            User sender = stubUser(myId, false);
             UUID partnerId = UUID.nameUUIDFromBytes(("partner-" + i).getBytes(StandardCharsets.UTF_8));
-            User receiver = stubUser(partnerId, false);
-
-            UUID dmId = UUID.nameUUIDFromBytes(("dm-" + i).getBytes(StandardCharsets.UTF_8));
+            User partner = stubUser(partnerId, false);
 
-            DirectMessage dm = mock(DirectMessage.class);
-            when(dm.getId()).thenReturn(dmId);        // ★ 중요: id 스텁
-            when(dm.getSender()).thenReturn(sender);
-            when(dm.getReceiver()).thenReturn(receiver);
+            DirectMessageConversation conversation = mock(DirectMessageConversation.class);
+            when(conversation.getPartner()).thenReturn(partner);
 
-            fetched.add(dm);
-            partners.add(receiver);
+            inbox.add(conversation);
+            partners.add(partner);
             partnerIds.add(partnerId);
-            lastMessageIds.add(dmId);
         }
 
-        // DB가 순서를 보장하지 않는 상황을 흉내: return 순서를 섞는다
-        Collections.shuffle(fetched);
-
-        // mapper는 호출 순서 검증을 위해 dm.id를 담아주도록 스텁
-        when(directMessageMapper.toRoomDto(any(User.class), any(DirectMessage.class), anyMap()))
-            .thenAnswer(inv -> {
-                DirectMessage dm = inv.getArgument(1, DirectMessage.class);
-                return DirectMessageRoomDto.builder()
-                    .partner(AuthorDto.builder().userId(UUID.randomUUID()).name("x").build())
-                    .lastMessage("msg")
-                    .lastMessageSentAt(Instant.now())
-                    .build();
-            });
-
-        given(directMessageRepository.findLastMessageIdsOfConversations(myId))
-            .willReturn(lastMessageIds);
-        given(directMessageRepository.findWithUsersByIds(argThat(ids ->
-            ids != null && ids.size() == lastMessageIds.size() && ids.containsAll(lastMessageIds)
-        ))).willReturn(fetched);
+        when(directMessageMapper.toRoomDto(any(DirectMessageConversation.class), anyMap()))
+            .thenReturn(DirectMessageRoomDto.builder()
+                .partner(AuthorDto.builder().userId(UUID.randomUUID()).name("x").build())
+                .lastMessage("msg")
+                .lastMessageSentAt(Instant.now())
+                .build());
+
+        given(conversationRepository.findInbox(eq(myId), any(Pageable.class))).willReturn(inbox);
 
         // 배치 프로필 조회
         List<Profile> profileList = partners.stream()
@@ -460,47 +493,42 @@ class DirectMessageServiceImplTest {
             .willReturn(profileList);
 
         // when
-        DirectMessageRoomListResponse response = directMessageService.getConversationList();
+        DirectMessageRoomListResponse response = directMessageService.getConversationList(
+            new DirectMessageRoomListRequest(null, null, 30));
 
         // then
         assertThat(response).isNotNull();
         assertThat(response.rooms()).hasSize(25);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
 
-        // 레포 호출 검증
-        then(directMessageRepository).should().findLastMessageIdsOfConversations(myId);
-        ArgumentCaptor<List<UUID>> idsCaptor = ArgumentCaptor.forClass(List.class);
-        then(directMessageRepository).should().findWithUsersByIds(idsCaptor.capture());
-        assertThat(idsCaptor.getValue()).containsExactlyInAnyOrderElementsOf(lastMessageIds);
-
+        // 레포 호출 검증 (메시지 이력 테이블은 조회하지 않는다)
+        then(conversationRepository).should().findInbox(eq(myId), any(Pageable.class));
+        then(directMessageRepository).shouldHaveNoInteractions();
         then(profileRepository).should()
             .findByUserIdIn(argThat(ids -> ids.containsAll(partnerIds)));
 
-        // mapper 호출 순서가 lastMessageIds와 같은지: DirectMessage 인자 캡처
-        ArgumentCaptor<DirectMessage> dmArgCaptor = ArgumentCaptor.forClass(DirectMessage.class);
+        // mapper 호출 순서가 조회 순서(마지막 활동 순)와 같은지 검증
+        ArgumentCaptor<DirectMessageConversation> conversationCaptor = ArgumentCaptor.forClass(DirectMessageConversation.class);
         then(directMessageMapper).should(times(25))
-            .toRoomDto(any(User.class), dmArgCaptor.capture(), anyMap());
-
-        List<UUID> mappedOrder = dmArgCaptor.getAllValues().stream()
-            .map(DirectMessage::getId)
-            .toList();
-        assertThat(mappedOrder).containsExactlyElementsOf(lastMessageIds); // ★ 정렬 보장 검증
+            .toRoomDto(conversationCaptor.capture(), anyMap());
+        assertThat(conversationCaptor.getAllValues()).containsExactlyElementsOf(inbox); // ★ 정렬 보장 검증
     }
 
     @ParameterizedTest
     @NullAndEmptySource
-    void 대화_목록이_없을_때_빈_리스트를_반환한다(List<UUID> messageIds) {
+    void 대화_목록이_없을_때_빈_리스트를_반환한다(List<DirectMessageConversation> inbox) {
         // given
         loginAsUserId(myId, myEmail);
-        given(directMessageRepository.findLastMessageIdsOfConversations(myId)).willReturn(messageIds);
+        given(conversationRepository.findInbox(eq(myId), any(Pageable.class))).willReturn(inbox);
 
         // when
-        DirectMessageRoomListResponse response = directMessageService.getConversationList();
+        DirectMessageRoomListResponse response = directMessageService.getConversationList(new DirectMessageRoomListRequest(null, null, null));
 
         // then
         assertThat(response).isNotNull();
         assertThat(response.rooms()).isEmpty();
-        then(directMessageRepository).should().findLastMessageIdsOfConversations(myId);
-        then(directMessageRepository).should(never()).findWithUsersByIds(any());
+        then(conversationRepository).should().findInbox(eq(myId), any(Pageable.class));
         then(profileRepository).should(never()).findByUserIdIn(any());
         then(directMessageMapper).shouldHaveNoInteractions();
     }
@@ -510,89 +538,145 @@ class DirectMessageServiceImplTest {
         // given
         loginAsUserId(myId, myEmail);
 
-        User me = stubUser(myId, false);
         User partner1 = stubUser(otherId, false);
         UUID partner2Id = UUID.randomUUID();
         User partner2 = stubUser(partner2Id, false);
 
-        // dm1: 나 -> partner1
-        DirectMessage dm1 = mock(DirectMessage.class);
-        UUID dm1Id = UUID.randomUUID();
-        when(dm1.getId()).thenReturn(dm1Id);
-        when(dm1.getSender()).thenReturn(me);
-        when(dm1.getReceiver()).thenReturn(partner1);
+        DirectMessageConversation conversation1 = mock(DirectMessageConversation.class);
+        when(conversation1.getPartner()).thenReturn(partner1);
+        DirectMessageConversation conversation2 = mock(DirectMessageConversation.class);
+        when(conversation2.getPartner()).thenReturn(partner2);
 
-        // dm2: partner2 -> 나
-        DirectMessage dm2 = mock(DirectMessage.class);
-        UUID dm2Id = UUID.randomUUID();
-        when(dm2.getId()).thenReturn(dm2Id);
-        when(dm2.getSender()).thenReturn(partner2);
-        when(dm2.getReceiver()).thenReturn(me);
+        given(conversationRepository.findInbox(eq(myId), any(Pageable.class))).willReturn(List.of(conversation1, conversation2));
 
-        // lastMessageIds는 ordered로 가정 (dm1, dm2)
-        List<UUID> messageIds = List.of(dm1Id, dm2Id);
-        given(directMessageRepository.findLastMessageIdsOfConversations(myId)).willReturn(messageIds);
-
-        // fetched는 순서 섞여도 상관없게 (서비스가 재정렬)
-        given(directMessageRepository.findWithUsersByIds(messageIds)).willReturn(List.of(dm2, dm1));
-
-        // 프로필: partner1은 이미지 있음, partner2는 null
+        // 프로필은 이미지 유무와 관계없이 사용자 ID 로 묶여 매퍼에 전달된다 (빈 URL 처리는 매퍼 담당)
         Profile profile1 = mock(Profile.class);
         when(profile1.getUser()).thenReturn(partner1);
-        when(profile1.getProfileImageUrl()).thenReturn("http://image.com/user1.jpg");
 
         Profile profile2 = mock(Profile.class);
         when(profile2.getUser()).thenReturn(partner2);
-        when(profile2.getProfileImageUrl()).thenReturn(null);
 
-        given(profileRepository.findByUserIdIn(Set.of(partner1.getId(), partner2.getId())))
+        given(profileRepository.findByUserIdIn(Set.of(otherId, partner2Id)))
             .willReturn(List.of(profile1, profile2));
 
-        // mapper는 호출만 되면 OK
-        when(directMessageMapper.toRoomDto(any(User.class), any(DirectMessage.class), anyMap()))
+        when(directMessageMapper.toRoomDto(any(DirectMessageConversation.class), anyMap()))
             .thenReturn(DirectMessageRoomDto.builder()
                 .partner(AuthorDto.builder().userId(UUID.randomUUID()).name("p").build())
                 .lastMessage("m").lastMessageSentAt(Instant.now()).build());
 
         // when
-        DirectMessageRoomListResponse response = directMessageService.getConversationList();
+        DirectMessageRoomListResponse response = directMessageService.getConversationList(new DirectMessageRoomListRequest(null, null, null));
 
         // then
         assertThat(response).isNotNull();
         assertThat(response.rooms()).hasSize(2);
 
-        then(directMessageRepository).should().findLastMessageIdsOfConversations(myId);
-        then(directMessageRepository).should().findWithUsersByIds(messageIds);
         then(profileRepository).should().findByUserIdIn(Set.of(otherId, partner2Id));
         then(directMessageMapper).should(times(2))
-            .toRoomDto(any(User.class), any(DirectMessage.class), anyMap());
+            .toRoomDto(any(DirectMessageConversation.class), argThat(map ->
+                map.get(otherId) == profile1 && map.get(partner2Id) == profile2));
     }
 
     @Test
-    void 파트너가_없으면_프로필_조회를_생략하고_반환한다() {
+    void 대화방이_limit보다_많으면_다음_커서를_반환한다() {
         // given
         loginAsUserId(myId, myEmail);
 
-        DirectMessage dm = mock(DirectMessage.class);
-        UUID dmId = UUID.randomUUID();
-        when(dm.getId()).thenReturn(dmId);
-        when(dm.getSender()).thenReturn(null);
-        when(dm.getReceiver()).thenReturn(null);
+        Instant base = Instant.parse("2025-09-01T00:00:00Z");
+        List<DirectMessageConversation> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User partner = stubUser(UUID.randomUUID(), false);
+            DirectMessageConversation conversation = mock(DirectMessageConversation.class);
+            lenient().when(conversation.getPartner()).thenReturn(partner);
+            lenient().when(conversation.getId()).thenReturn(UUID.randomUUID());
+            lenient().when(conversation.getLastMessageAt()).thenReturn(base.minusSeconds(i));
+            rows.add(conversation);
+        }
 
-        given(directMessageRepository.findLastMessageIdsOfConversations(myId))
-            .willReturn(List.of(dmId));
-        given(directMessageRepository.findWithUsersByIds(List.of(dmId)))
-            .willReturn(List.of(dm));
+        given(conversationRepository.findInbox(eq(myId), eq(PageRequest.of(0, 3)))).willReturn(rows);
+        given(profileRepository.findByUserIdIn(any())).willReturn(List.of());
+        when(directMessageMapper.toRoomDto(any(DirectMessageConversation.class), anyMap()))
+            .thenReturn(DirectMessageRoomDto.builder()
+                .partner(AuthorDto.builder().userId(UUID.randomUUID()).name("p").build())
+                .lastMessage("m").lastMessageSentAt(Instant.now()).build());
 
         // when
-        DirectMessageRoomListResponse response = directMessageService.getConversationList();
+        DirectMessageRoomListResponse response = directMessageService.getConversationList(
+            new DirectMessageRoomListRequest(null, null, 2));
+
+        // then
+        // limit + 1 개를 조회해 초과분으로 다음 페이지 여부를 판단하고, 마지막으로 내려준 대화방이 다음 커서가 된다
+        assertThat(response.rooms()).hasSize(2);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursor()).isEqualTo(rows.get(1).getLastMessageAt().toString());
+        assertThat(response.nextIdAfter()).isEqualTo(rows.get(1).getId());
+    }
+
+    @Test
+    void 커서가_있으면_커서_이후의_대화방을_조회한다() {
+        // given
+        loginAsUserId(myId, myEmail);
+        Instant cursor = Instant.parse("2025-09-01T00:00:00Z");
+        UUID idAfter = UUID.randomUUID();
+        given(conversationRepository.findInboxNextPage(myId, cursor, idAfter, PageRequest.of(0, 21)))
+            .willReturn(List.of());
+
+        // when
+        DirectMessageRoomListResponse response = directMessageService.getConversationList(
+            new DirectMessageRoomListRequest(cursor, idAfter, null));
 
         // then
-        assertThat(response).isNotNull();
         assertThat(response.rooms()).isEmpty();
+        assertThat(response.hasNext()).isFalse();
+        then(conversationRepository).should(never()).findInbox(any(), any());
+    }
 
-        then(profileRepository).should(never()).findByUserIdIn(any());
-        then(directMessageMapper).should(never())
-            .toRoomDto(any(User.class), any(DirectMessage.class), anyMap());
+    /*            unread count     */
+    @Test
+    void 메세지_전송_후_수신자의_안읽은_수를_이벤트로_발행한다() throws Exception {
+        // given
+        SendDmRequest req = new SendDmRequest(myId, otherId, "hi");
+
+        User senderRef = stubUser(myId, false);
+        User receiverRef = stubUser(otherId, false);
+
+        DirectMessageDto dto = mock(DirectMessageDto.class);
+        commonGiven(senderRef, receiverRef, dto);
+        given(conversationRepository.upsertLastMessage(eq(myId), eq(otherId), any(), any(), any())).willReturn(3);
+
+        // when
+        directMessageService.sendMessage(myId, req);
+
+        // then
+        then(eventPublisher).should().publishEvent(new DirectMessageUnreadChangedEvent(otherId, myId, 3));
+        // 안 읽은 수는 upsert 결과로 받으므로 추가 조회 없음
+        then(conversationRepository).should(never()).findUnreadCount(any(), any());
+    }
+
+    @Test
+    void 읽음_처리하면_안읽은_수를_0으로_발행한다() {
+        // given
+        loginAsUserId(myId, myEmail);
+        given(conversationRepository.markAsRead(myId, otherId)).willReturn(1);
+
+        // when
+        directMessageService.markAsRead(otherId);
+
+        // then
+        then(conversationRepository).should().markAsRead(myId, otherId);
+        then(eventPublisher).should().publishEvent(new DirectMessageUnreadChangedEvent(myId, otherId, 0));
+    }
+
+    @Test
+    void 이미_읽은_대화방은_이벤트를_발행하지_않는다() {
+        // given
+        loginAsUserId(myId, myEmail);
+        given(conversationRepository.markAsRead(myId, otherId)).willReturn(0);
+
+        // when
+        directMessageService.markAsRead(otherId);
+
+        // then
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 }
@@ -4,6 +4,7 @@ package com.samsamotot.otboo.feed.service;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -33,6 +34,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +52,9 @@ class FeedDataSyncServiceTest {
     @Mock
     FeedMapper feedMapper;
 
+    @Mock
+    ElasticsearchOperations operations;
+
     @InjectMocks
     FeedDataSyncService service;
 
@@ -129,6 +136,31 @@ class FeedDataSyncServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Elasticsearch 댓글 수 부분 갱신 테스트")
+    class UpdateCommentCount {
+
+        @Test
+        void 문서_전체_대신_댓글_수만_스크립트로_갱신한다() {
+
+            // given
+            IndexCoordinates index = IndexCoordinates.of("feeds");
+            given(operations.getIndexCoordinatesFor(FeedDocument.class)).willReturn(index);
+
+            // when
+            service.updateCommentCount(ID1, 1);
+
+            // then
+            ArgumentCaptor<UpdateQuery> captor = ArgumentCaptor.forClass(UpdateQuery.class);
+            verify(operations).update(captor.capture(), eq(index));
+            UpdateQuery query = captor.getValue();
+            assertThat(query.getId()).isEqualTo(ID1.toString());
+            assertThat(query.getScript()).isEqualTo("ctx._source.commentCount += params.delta");
+            assertThat(query.getParams()).containsEntry("delta", 1L);
+            verify(feedSearchRepository, never()).save(any());
+        }
+    }
+
     @Nested
     @DisplayName("Elasticsearch 하드 삭제 테스트")
     class HardDelete {
@@ -24,6 +24,7 @@ import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
@@ -610,4 +611,41 @@ class FollowRepositoryImplTest {
         assertThat(rows.stream().map(Follow::getCreatedAt).toList())
             .isSortedAccordingTo(Comparator.reverseOrder());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 팔로워_팔로잉_키셋_페이지는_인덱스_순서로_정렬없이_조회한다() throws Exception {
+        // given
+        UUID target = UUID.randomUUID();
+        insertUser(target, "target@test.com", "target", false, Instant.parse("2025-09-01T00:00:00Z"));
+        for (int i = 0; i < 5; i++) {
+            UUID other = UUID.randomUUID();
+            insertUser(other, "u" + i + "@test.com", "user" + i, false, Instant.parse("2025-09-01T00:00:00Z"));
+            insertFollow(UUID.randomUUID(), other, target, Instant.parse("2025-09-15T10:00:00Z").plusSeconds(i));
+            insertFollow(UUID.randomUUID(), target, other, Instant.parse("2025-09-15T10:00:00Z").plusSeconds(i));
+        }
+        em.createNativeQuery("ANALYZE follows").executeUpdate();
+        em.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+        em.createNativeQuery("SET LOCAL enable_bitmapscan = off").executeUpdate();
+
+        String keyset = """
+              AND f.created_at <= '2025-09-15T10:00:03Z'
+              AND (f.created_at < '2025-09-15T10:00:03Z' OR f.id < '%s')
+            ORDER BY f.created_at DESC, f.id DESC
+            LIMIT 11
+            """.formatted(UUID.randomUUID());
+
+        // when
+        String followerPlan = explain("SELECT f.* FROM follows f WHERE f.followee_id = '" + target + "'" + keyset);
+        String followingPlan = explain("SELECT f.* FROM follows f WHERE f.follower_id = '" + target + "'" + keyset);
+
+        // then
+        assertThat(followerPlan).contains("idx_follows_followee_created_id_desc").doesNotContain("Sort");
+        assertThat(followingPlan).contains("idx_follows_follower_created_id_desc").doesNotContain("Sort");
+    }
+
+    @SuppressWarnings("unchecked")
+    private String explain(String sql) {
+        List<Object> rows = em.createNativeQuery("EXPLAIN " + sql).getResultList();
+        return rows.stream().map(Object::toString).collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.samsamotot.otboo.follow.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.samsamotot.otboo.user.repository.UserRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FollowCountScheduler 단위 테스트")
+class FollowCountSchedulerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private FollowCountScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new FollowCountScheduler(userRepository, transactionTemplate);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 2);
+    }
+
+    @Test
+    void 어긋난_사용자를_배치별로_잠근_뒤_다시_센다() {
+
+        // given
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        given(userRepository.findFollowCountMismatchedUserIds()).willReturn(List.of(a, b, c));
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(new SimpleTransactionStatus());
+        });
+
+        // when
+        scheduler.reconcileFollowCounts();
+
+        // then
+        InOrder order = inOrder(userRepository);
+        order.verify(userRepository).lockUsersForUpdate(List.of(a, b));
+        order.verify(userRepository).recalculateFollowCounts(List.of(a, b));
+        order.verify(userRepository).lockUsersForUpdate(List.of(c));
+        order.verify(userRepository).recalculateFollowCounts(List.of(c));
+    }
+
+    @Test
+    void 어긋난_사용자가_없으면_잠그지_않는다() {
+
+        // given
+        given(userRepository.findFollowCountMismatchedUserIds()).willReturn(List.of());
+
+        // when
+        scheduler.reconcileFollowCounts();
+
+        // then
+        verify(transactionTemplate, never()).execute(any());
+        verify(userRepository, never()).lockUsersForUpdate(any());
+    }
+}
@@ -1,6 +1,7 @@
 package com.samsamotot.otboo.follow.service;
 
 import com.samsamotot.otboo.common.exception.OtbooException;
+import com.samsamotot.otboo.common.security.service.CustomUserDetails;
 import com.samsamotot.otboo.follow.dto.*;
 import com.samsamotot.otboo.follow.entity.Follow;
 import com.samsamotot.otboo.follow.mapper.FollowMapper;
@@ -19,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Method;
 import java.time.Instant;
@@ -63,6 +65,14 @@ class FollowServiceImplTest {
         SecurityContextHolder.getContext().setAuthentication(auth);
     }
 
+    private static void loginAs(UUID userId, boolean locked) {
+        CustomUserDetails userDetails = mock(CustomUserDetails.class);
+        lenient().when(userDetails.getId()).thenReturn(userId);
+        lenient().when(userDetails.isLocked()).thenReturn(locked);
+        var auth = new UsernamePasswordAuthenticationToken(userDetails, null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
     private static Instant invokeParse(String cursor) {
         try {
             Method m = FollowServiceImpl.class.getDeclaredMethod("parseCursorToInstant", String.class);
@@ -104,6 +114,8 @@ class FollowServiceImplTest {
         User followee = mock(User.class, Answers.RETURNS_DEFAULTS);
         lenient().when(follower.isLocked()).thenReturn(false);
         lenient().when(followee.isLocked()).thenReturn(false);
+        lenient().when(follower.getId()).thenReturn(followerId);
+        lenient().when(followee.getId()).thenReturn(followeeId);
 
         given(userRepository.findById(followerId)).willReturn(Optional.of(follower));
         given(userRepository.findById(followeeId)).willReturn(Optional.of(followee));
@@ -127,6 +139,7 @@ class FollowServiceImplTest {
         assertThat(dto.follower()).isNotNull();
         assertThat(dto.followee().userId()).isEqualTo(followeeId);
         assertThat(dto.follower().userId()).isEqualTo(followerId);
+        then(userRepository).should().incrementFollowCounts(followerId, followeeId);
     }
 
     @Test
@@ -231,38 +244,11 @@ class FollowServiceImplTest {
     /*
         팔로우 요약 정보 조회 단위 테스트
      */
-    @Test
-    void 로그인_유저정보_확인_실패() throws Exception {
-        // given
-        loginAsEmail(myEmail);
-
-        User principal = mock(User.class, Answers.RETURNS_DEFAULTS);
-        lenient().when(principal.getId()).thenReturn(myId);
-        lenient().when(principal.isLocked()).thenReturn(false);
-        given(userRepository.findByEmail(myEmail)).willReturn(Optional.of(principal));
-
-        given(userRepository.findById(myId)).willReturn(Optional.empty());
-
-        // when n then
-        assertThatThrownBy(() -> followService.findFollowSummaries(UUID.randomUUID()))
-            .isInstanceOf(OtbooException.class);
-    }
-
     @Test
     void 입력_유저정보_확인_실패() throws Exception {
         // given
-        loginAsEmail(myEmail);
-        User principal = mock(User.class, Answers.RETURNS_DEFAULTS);
-        lenient().when(principal.getId()).thenReturn(myId);
-        lenient().when(principal.isLocked()).thenReturn(false);
-        given(userRepository.findByEmail(myEmail)).willReturn(Optional.of(principal));
-
-        User loggedIn = mock(User.class, Answers.RETURNS_DEFAULTS);
-        lenient().when(loggedIn.isLocked()).thenReturn(false);
-
-        given(userRepository.findById(any(UUID.class)))
-            .willReturn(Optional.of(loggedIn))
-            .willReturn(Optional.empty());
+        loginAs(myId, false);
+        given(userRepository.findById(any(UUID.class))).willReturn(Optional.empty());
 
         // when n then
         assertThatThrownBy(() -> followService.findFollowSummaries(UUID.randomUUID()))
@@ -273,39 +259,23 @@ class FollowServiceImplTest {
     @Test
     void 로그인_유저_locked_확인_실패() throws Exception {
         // given
-        loginAsEmail(myEmail);
-        User principal = mock(User.class, Answers.RETURNS_DEFAULTS);
-        lenient().when(principal.getId()).thenReturn(myId);
-        lenient().when(principal.isLocked()).thenReturn(false);
-        given(userRepository.findByEmail(myEmail)).willReturn(Optional.of(principal));
-
-        User loggedIn = mock(User.class, Answers.RETURNS_DEFAULTS);
-        given(loggedIn.isLocked()).willReturn(true);
-        given(userRepository.findById(myId)).willReturn(Optional.of(loggedIn));
+        loginAs(myId, true);
 
         // when n then
         assertThatThrownBy(() -> followService.findFollowSummaries(UUID.randomUUID()))
             .isInstanceOf(OtbooException.class);
+        then(userRepository).shouldHaveNoInteractions();
+        then(followRepository).shouldHaveNoInteractions();
     }
 
 
     @Test
     void 입력_유저_locked_확인_실패() throws Exception {
         // given
-        loginAsEmail(myEmail);
-        User principal = mock(User.class, Answers.RETURNS_DEFAULTS);
-        lenient().when(principal.getId()).thenReturn(myId);
-        lenient().when(principal.isLocked()).thenReturn(false);
-        given(userRepository.findByEmail(myEmail)).willReturn(Optional.of(principal));
-
-        User loggedIn = mock(User.class, Answers.RETURNS_DEFAULTS);
+        loginAs(myId, false);
         User target   = mock(User.class, Answers.RETURNS_DEFAULTS);
-        given(loggedIn.isLocked()).willReturn(false);
         given(target.isLocked()).willReturn(true);
-
-        given(userRepository.findById(any(UUID.class)))
-            .willReturn(Optional.of(loggedIn))
-            .willReturn(Optional.of(target));
+        given(userRepository.findById(any(UUID.class))).willReturn(Optional.of(target));
 
         // when n then
         assertThatThrownBy(() -> followService.findFollowSummaries(UUID.randomUUID()))
@@ -316,73 +286,54 @@ class FollowServiceImplTest {
     @Test
     void 팔로우_있는지_확인_실패() throws Exception {
         // given
-        loginAsEmail(myEmail);
-        User principal = mock(User.class, Answers.RETURNS_DEFAULTS);
-        lenient().when(principal.getId()).thenReturn(myId);
-        lenient().when(principal.isLocked()).thenReturn(false);
-        given(userRepository.findByEmail(myEmail)).willReturn(Optional.of(principal));
+        loginAs(myId, false);
 
-        User loggedIn = mock(User.class, Answers.RETURNS_DEFAULTS);
         User target = mock(User.class, Answers.RETURNS_DEFAULTS);
         UUID targetId = UUID.randomUUID();
 
-        given(loggedIn.isLocked()).willReturn(false);
         given(target.isLocked()).willReturn(false);
+        given(userRepository.findById(targetId)).willReturn(Optional.of(target));
 
-        given(userRepository.findById(any(UUID.class)))
-            .willReturn(Optional.of(loggedIn)) // me
-            .willReturn(Optional.of(target));  // target
-
-        given(followRepository.existsByFollowerIdAndFolloweeId(any(UUID.class), any(UUID.class)))
-            .willReturn(false);
-
-        given(followRepository.findByFollowerIdAndFolloweeId(any(UUID.class), any(UUID.class)))
-            .willReturn(Optional.empty());
+        given(followRepository.findBetween(myId, targetId)).willReturn(List.of());
 
-        given(followRepository.countByFolloweeId(any(UUID.class))).willReturn(0L);
-        given(followRepository.countByFollowerId(any(UUID.class))).willReturn(0L);
+        given(target.getFollowerCount()).willReturn(120_000L);
+        given(target.getFollowingCount()).willReturn(3L);
 
         // when
         FollowSummaryDto response = followService.findFollowSummaries(targetId);
 
         // then
         assertThat(response).isNotNull();
+        assertThat(response.followerCount()).isEqualTo(120_000L);
+        assertThat(response.followingCount()).isEqualTo(3L);
         assertThat(response.followedByMe()).isFalse();
         assertThat(response.followedByMeId()).isNull();
         assertThat(response.followingMe()).isFalse();
+
+        // 인증 사용자 재조회와 COUNT 쿼리 없이 사용자 단건 조회 + 관계 조회 1회로 처리
+        then(userRepository).should(times(1)).findById(targetId);
+        then(userRepository).shouldHaveNoMoreInteractions();
+        then(followRepository).should(times(1)).findBetween(myId, targetId);
+        then(followRepository).shouldHaveNoMoreInteractions();
     }
 
 
     @Test
     void 팔로우_여부_확인_실패() throws Exception {
         // given
-        loginAsEmail(myEmail);
-        User principal = mock(User.class, Answers.RETURNS_DEFAULTS);
-        lenient().when(principal.getId()).thenReturn(myId);
-        lenient().when(principal.isLocked()).thenReturn(false);
-        given(userRepository.findByEmail(myEmail)).willReturn(Optional.of(principal));
+        loginAs(myId, false);
 
-        User loggedIn = mock(User.class, Answers.RETURNS_DEFAULTS);
         User target   = mock(User.class, Answers.RETURNS_DEFAULTS);
         UUID targetId = UUID.randomUUID();
 
-        given(loggedIn.isLocked()).willReturn(false);
         given(target.isLocked()).willReturn(false);
+        given(userRepository.findById(targetId)).willReturn(Optional.of(target));
 
-        given(userRepository.findById(any(UUID.class)))
-            .willReturn(Optional.of(loggedIn))
-            .willReturn(Optional.of(target));
-
-        given(followRepository.existsByFollowerIdAndFolloweeId(any(UUID.class), any(UUID.class)))
-            .willReturn(false);
-
-        Follow follow = mock(Follow.class, Answers.RETURNS_DEFAULTS);
-        given(follow.getId()).willReturn(UUID.randomUUID());
-        given(followRepository.findByFollowerIdAndFolloweeId(any(UUID.class), any(UUID.class)))
-            .willReturn(Optional.of(follow));
-
-        given(followRepository.countByFolloweeId(any(UUID.class))).willReturn(0L);
-        given(followRepository.countByFollowerId(any(UUID.class))).willReturn(0L);
+        Follow followedByMe = followOf(myId, targetId);
+        UUID followedByMeId = UUID.randomUUID();
+        ReflectionTestUtils.setField(followedByMe, "id", followedByMeId);
+        Follow followingMe = followOf(targetId, myId);
+        given(followRepository.findBetween(myId, targetId)).willReturn(List.of(followedByMe, followingMe));
 
         // when
         FollowSummaryDto res = followService.findFollowSummaries(targetId);
@@ -390,8 +341,8 @@ class FollowServiceImplTest {
         // then
         assertThat(res).isNotNull();
         assertThat(res.followedByMe()).isTrue();
-        assertThat(res.followedByMeId()).isNotNull();
-        assertThat(res.followingMe()).isFalse();
+        assertThat(res.followedByMeId()).isEqualTo(followedByMeId);
+        assertThat(res.followingMe()).isTrue();
     }
 
 
@@ -404,6 +355,16 @@ class FollowServiceImplTest {
             .hasMessageContaining("인증이 필요");
     }
 
+    @Test
+    void 지원하지_않는_Principal이면_실패() throws Exception{
+        loginAsEmail(myEmail);
+
+        assertThatThrownBy(() -> followService.findFollowSummaries(UUID.randomUUID()))
+            .isInstanceOf(OtbooException.class)
+            .hasMessageContaining("인증이 필요");
+        then(userRepository).shouldHaveNoInteractions();
+    }
+
     /*
         팔로잉 목록 조회 단위 테스트
      */
@@ -423,8 +384,7 @@ class FollowServiceImplTest {
         given(followRepository.findFollowings(any(FollowingRequest.class)))
             .willReturn(List.of(f1, f2));
 
-        given(followRepository.countTotalFollowings(followerId, null))
-            .willReturn(2L);
+        given(follower.getFollowingCount()).willReturn(2L);
 
         given(followMapper.toDto(any(Follow.class))).willAnswer(inv ->
             new FollowDto(
@@ -440,6 +400,8 @@ class FollowServiceImplTest {
         // then
         assertThat(res).isNotNull();
         assertThat(res.data()).isNotNull();
+        assertThat(res.totalCount()).isEqualTo(2L);
+        then(followRepository).should(never()).countTotalFollowings(any(), any());
     }
 
     @Test
@@ -539,7 +501,7 @@ class FollowServiceImplTest {
         given(followRepository.findFollowers(any(FollowingRequest.class)))
             .willReturn(List.of(f1, f2));
 
-        given(followRepository.countTotalFollowers(followeeId, null)).willReturn(2L);
+        given(followee.getFollowerCount()).willReturn(2L);
 
         given(followMapper.toDto(any(Follow.class))).willAnswer(inv ->
             new FollowDto(
@@ -555,6 +517,8 @@ class FollowServiceImplTest {
         // then
         assertThat(res).isNotNull();
         assertThat(res.data()).isNotEmpty();
+        assertThat(res.totalCount()).isEqualTo(2L);
+        then(followRepository).should(never()).countTotalFollowers(any(), any());
     }
 
     @Test
@@ -593,29 +557,72 @@ class FollowServiceImplTest {
     void 팔로우_여부_확인한다_실패() throws Exception {
         // given
         UUID followId = UUID.randomUUID();
-        given(followRepository.existsById(followId)).willReturn(false);
+        given(followRepository.findById(followId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> followService.unfollow(followId))
             .isInstanceOf(OtbooException.class);
 
-        then(followRepository).should(times(1)).existsById(followId);
-        then(followRepository).should(never()).deleteById(any());
+        then(followRepository).should(times(1)).findById(followId);
+        then(followRepository).should(never()).deleteFollowById(any());
         then(followRepository).shouldHaveNoMoreInteractions();
+        then(userRepository).shouldHaveNoInteractions();
     }
 
     @Test
     void 팔로우_취소한다() throws Exception {
         // given
         UUID followId = UUID.randomUUID();
-        given(followRepository.existsById(followId)).willReturn(true);
+        Follow follow = followOf(UUID.randomUUID(), UUID.randomUUID());
+        given(followRepository.findById(followId)).willReturn(Optional.of(follow));
+        given(followRepository.deleteFollowById(followId)).willReturn(1);
 
         // when
         followService.unfollow(followId);
 
         // then
-        then(followRepository).should(times(1)).deleteById(followId);
-        then(followRepository).shouldHaveNoMoreInteractions();
+        then(followRepository).should(times(1)).deleteFollowById(followId);
+        then(userRepository).should(times(1))
+            .decrementFollowCounts(follow.getFollower().getId(), follow.getFollowee().getId());
+    }
+
+    @Test
+    void 이미_삭제된_팔로우는_카운터를_감소시키지_않는다() throws Exception {
+        // given
+        UUID followId = UUID.randomUUID();
+        given(followRepository.findById(followId)).willReturn(Optional.of(followOf(UUID.randomUUID(), UUID.randomUUID())));
+        given(followRepository.deleteFollowById(followId)).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> followService.unfollow(followId))
+            .isInstanceOf(OtbooException.class);
+        then(userRepository).should(never()).decrementFollowCounts(any(), any());
+    }
+
+    private static Follow followOf(UUID followerId, UUID followeeId) {
+        User follower = mock(User.class);
+        User followee = mock(User.class);
+        lenient().when(follower.getId()).thenReturn(followerId);
+        lenient().when(followee.getId()).thenReturn(followeeId);
+        return Follow.builder().follower(follower).followee(followee).build();
+    }
+
+    @Test
+    void 이름_검색이_있으면_팔로워_수를_COUNT_쿼리로_계산한다() throws Exception {
+        // given
+        UUID followeeId = UUID.randomUUID();
+        FollowingRequest req = new FollowingRequest(followeeId, null, null, 10, "kim");
+
+        User followee = mock(User.class, Answers.RETURNS_DEFAULTS);
+        given(userRepository.findById(followeeId)).willReturn(Optional.of(followee));
+        given(followRepository.findFollowers(any(FollowingRequest.class))).willReturn(List.of());
+        given(followRepository.countTotalFollowers(followeeId, "kim")).willReturn(1L);
 
+        // when
+        FollowListResponse res = followService.getFollowers(req);
+
+        // then
+        assertThat(res.totalCount()).isEqualTo(1L);
+        then(followee).should(never()).getFollowerCount();
     }
-}
\ No newline at end of file
+}
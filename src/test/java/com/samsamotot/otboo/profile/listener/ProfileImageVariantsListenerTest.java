@@ -0,0 +1,65 @@
+package com.samsamotot.otboo.profile.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.samsamotot.otboo.common.storage.event.ImageVariantsReadyEvent;
+import com.samsamotot.otboo.common.util.CacheNames;
+import com.samsamotot.otboo.profile.repository.ProfileRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileImageVariantsListenerTest {
+
+    private static final String IMAGE_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/profile/abc_orig.png";
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private ProfileImageVariantsListener listener;
+
+    @Test
+    void 변형_이미지가_준비되면_프로필에_표시하고_캐시를_비운다() {
+        // given
+        UUID userId = UUID.randomUUID();
+        given(profileRepository.findUserIdsWaitingForImageVariants(IMAGE_URL)).willReturn(List.of(userId));
+        given(cacheManager.getCache(CacheNames.PROFILE)).willReturn(cache);
+
+        // when
+        listener.onImageVariantsReady(new ImageVariantsReadyEvent(IMAGE_URL));
+
+        // then
+        then(profileRepository).should().markImageVariantsReady(IMAGE_URL);
+        then(cache).should().evict(userId);
+    }
+
+    @Test
+    void 해당_이미지를_쓰는_프로필이_없으면_아무것도_하지_않는다() {
+        // given
+        given(profileRepository.findUserIdsWaitingForImageVariants(IMAGE_URL)).willReturn(List.of());
+
+        // when
+        listener.onImageVariantsReady(new ImageVariantsReadyEvent(IMAGE_URL));
+
+        // then
+        then(profileRepository).should(never()).markImageVariantsReady(any());
+        then(cacheManager).should(never()).getCache(any());
+    }
+}
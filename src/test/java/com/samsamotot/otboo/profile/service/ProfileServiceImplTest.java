@@ -5,6 +5,7 @@ import com.samsamotot.otboo.common.exception.OtbooException;
 import com.samsamotot.otboo.common.fixture.LocationFixture;
 import com.samsamotot.otboo.common.fixture.ProfileFixture;
 import com.samsamotot.otboo.common.storage.S3ImageStorage;
+import com.samsamotot.otboo.common.storage.event.ImageDeleteEvent;
 import com.samsamotot.otboo.location.entity.Location;
 import com.samsamotot.otboo.location.repository.LocationRepository;
 import com.samsamotot.otboo.profile.dto.NotificationSettingUpdateRequest;
@@ -19,6 +20,7 @@ import com.samsamotot.otboo.user.repository.UserRepository;
 import com.samsamotot.otboo.weather.dto.WeatherAPILocation;
 import com.samsamotot.otboo.weather.entity.Grid;
 import com.samsamotot.otboo.weather.repository.GridRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -27,9 +29,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.mockito.invocation.InvocationOnMock;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -64,6 +70,12 @@ public class ProfileServiceImplTest {
     @Mock
     private S3ImageStorage s3ImageStorage;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("유저 프로필 조회 테스트")
     class GetProfileTests {
@@ -136,6 +148,12 @@ public class ProfileServiceImplTest {
     @DisplayName("유저 프로필 수정 테스트")
     class UpdateProfileTests {
 
+        @BeforeEach
+        void setUp() {
+            given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                    invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        }
+
         @Test
         void 이미지_있는_프로필_수정_성공하면_200_DTO() {
             // Given
@@ -183,7 +201,8 @@ public class ProfileServiceImplTest {
             assertThat(resultDto.profileImageUrl()).isEqualTo(newImageUrl);
 
             verify(s3ImageStorage).uploadImage(profileImageFile, "profile/");
-            verify(s3ImageStorage).deleteImage(oldImageUrl);
+            verify(s3ImageStorage, never()).deleteImage(anyString());
+            verify(eventPublisher).publishEvent(new ImageDeleteEvent(oldImageUrl));
             verify(locationRepository).findByLongitudeAndLatitude(weatherLocation.longitude(), weatherLocation.latitude());
         }
 
@@ -240,6 +259,128 @@ public class ProfileServiceImplTest {
             verify(locationRepository).save(any(Location.class));
         }
 
+        @Test
+        void 직접_업로드한_이미지로_프로필_수정_성공하면_기존_이미지_삭제가_요청된다() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            String oldImageUrl = "http://s3.com/old-image.png";
+            String imageKey = "uploads/profile/" + userId + "/new_orig.png";
+            String newImageUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/profile/" + userId + "/new_orig.png";
+
+            ProfileUpdateRequest request = ProfileUpdateRequest.builder()
+                    .name("수정된 이름")
+                    .gender(Gender.MALE)
+                    .birthDate(LocalDate.of(1995, 1, 1))
+                    .temperatureSensitivity(5.0)
+                    .build();
+
+            Profile existingProfile = ProfileFixture.perfectProfileWithImage(oldImageUrl);
+            when(profileRepository.findByUserId(userId)).thenReturn(Optional.of(existingProfile));
+            when(s3ImageStorage.confirmDirectUpload(imageKey, "profile/", userId)).thenReturn(newImageUrl);
+
+            given(profileMapper.toDto(any(Profile.class))).willAnswer(invocation -> {
+                Profile profile = invocation.getArgument(0);
+                return ProfileDto.builder()
+                        .name(profile.getName())
+                        .profileImageUrl(profile.getProfileImageUrl())
+                        .build();
+            });
+
+            // When
+            ProfileDto resultDto = profileService.updateProfileWithUploadedImage(userId, request, imageKey);
+
+            // Then
+            assertThat(resultDto.profileImageUrl()).isEqualTo(newImageUrl);
+            verify(s3ImageStorage, never()).uploadImage(any(), anyString());
+            verify(eventPublisher).publishEvent(new ImageDeleteEvent(oldImageUrl));
+        }
+
+        @Test
+        void 현재_이미지와_같은_이미지로_수정하면_성공해도_실패해도_이미지_삭제를_요청하지_않는다() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            String imageKey = "uploads/profile/" + userId + "/same_orig.png";
+            String currentImageUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/profile/" + userId + "/same_orig.png";
+
+            ProfileUpdateRequest request = ProfileUpdateRequest.builder()
+                    .name("수정된 이름")
+                    .gender(Gender.MALE)
+                    .birthDate(LocalDate.of(1995, 1, 1))
+                    .temperatureSensitivity(5.0)
+                    .build();
+
+            Profile existingProfile = ProfileFixture.perfectProfileWithImage(currentImageUrl);
+            when(profileRepository.findByUserId(userId)).thenReturn(Optional.of(existingProfile));
+            when(s3ImageStorage.confirmDirectUpload(imageKey, "profile/", userId)).thenReturn(currentImageUrl);
+            // 이미지 반영 이후 단계에서 실패시켜 수정 경로와 보상 경로를 함께 확인
+            given(profileMapper.toDto(any(Profile.class))).willThrow(new IllegalStateException("매핑 실패"));
+
+            // When
+            // Then
+            assertThatThrownBy(() -> profileService.updateProfileWithUploadedImage(userId, request, imageKey))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(eventPublisher, never()).publishEvent(any(ImageDeleteEvent.class));
+        }
+
+        @Test
+        void 이미지_업로드_후_DB_반영이_실패하면_새_이미지만_삭제_요청() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            String newImageUrl = "http://s3.com/new-image.png";
+
+            ProfileUpdateRequest request = ProfileUpdateRequest.builder()
+                    .name("수정된 이름")
+                    .gender(Gender.MALE)
+                    .birthDate(LocalDate.of(1995, 1, 1))
+                    .temperatureSensitivity(5.0)
+                    .build();
+            MockMultipartFile profileImageFile = new MockMultipartFile(
+                    "profileImage", "profile.png", MediaType.IMAGE_PNG_VALUE, "new_image_data".getBytes()
+            );
+
+            when(s3ImageStorage.uploadImage(any(), anyString())).thenReturn(newImageUrl);
+            when(profileRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+            // When
+            // Then
+            assertThatThrownBy(() -> profileService.updateProfile(userId, request, profileImageFile))
+                    .isInstanceOf(OtbooException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PROFILE_NOT_FOUND);
+
+            verify(eventPublisher).publishEvent(new ImageDeleteEvent(newImageUrl));
+            verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+            verify(s3ImageStorage, never()).deleteImage(anyString());
+        }
+
+        @Test
+        void 보상_삭제_요청이_거절되어도_원래_DB_예외를_전달한다() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            String newImageUrl = "http://s3.com/new-image.png";
+
+            ProfileUpdateRequest request = ProfileUpdateRequest.builder()
+                    .name("수정된 이름")
+                    .gender(Gender.MALE)
+                    .birthDate(LocalDate.of(1995, 1, 1))
+                    .temperatureSensitivity(5.0)
+                    .build();
+            MockMultipartFile profileImageFile = new MockMultipartFile(
+                    "profileImage", "profile.png", MediaType.IMAGE_PNG_VALUE, "new_image_data".getBytes()
+            );
+
+            when(s3ImageStorage.uploadImage(any(), anyString())).thenReturn(newImageUrl);
+            when(profileRepository.findByUserId(userId)).thenReturn(Optional.empty());
+            doThrow(new TaskRejectedException("imageDelete 작업 거절"))
+                    .when(eventPublisher).publishEvent(new ImageDeleteEvent(newImageUrl));
+
+            // When
+            // Then
+            assertThatThrownBy(() -> profileService.updateProfile(userId, request, profileImageFile))
+                    .isInstanceOf(OtbooException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PROFILE_NOT_FOUND)
+                    .satisfies(e -> assertThat(e.getSuppressed()).singleElement().isInstanceOf(TaskRejectedException.class));
+        }
+
         @Test
         void 존재하지_않는_유저의_프로필_수정하면_404_NOT_FOUND() {
             // Given
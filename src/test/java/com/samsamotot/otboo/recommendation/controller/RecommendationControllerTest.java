@@ -12,6 +12,8 @@ import com.samsamotot.otboo.common.exception.OtbooException;
 import com.samsamotot.otboo.common.fixture.UserFixture;
 import com.samsamotot.otboo.common.security.service.CustomUserDetails;
 import com.samsamotot.otboo.recommendation.dto.RecommendationDto;
+import com.samsamotot.otboo.recommendation.dto.RecommendationReasonDto;
+import com.samsamotot.otboo.recommendation.service.RecommendationReasonService;
 import com.samsamotot.otboo.recommendation.service.RecommendationService;
 import com.samsamotot.otboo.user.entity.User;
 import java.util.List;
@@ -37,6 +39,9 @@ public class RecommendationControllerTest {
     @MockitoBean
     private RecommendationService recommendationService;
 
+    @MockitoBean
+    private RecommendationReasonService recommendationReasonService;
+
     User mockUser;
     CustomUserDetails mockPrincipal;
 
@@ -97,4 +102,27 @@ public class RecommendationControllerTest {
                 .with(user(mockPrincipal)))
             .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void 추천이유_조회_요청이면_생성된_추천이유와_200이_반환되어야_한다() throws Exception {
+
+        // given
+        UUID userId = mockUser.getId();
+        UUID reasonId = UUID.randomUUID();
+
+        RecommendationReasonDto mockDto = RecommendationReasonDto.builder()
+            .reasonId(reasonId)
+            .reason("쌀쌀한 날씨라 니트를 골랐어요.")
+            .ready(true)
+            .build();
+        given(recommendationReasonService.getReason(userId, reasonId)).willReturn(mockDto);
+
+        // when & then
+        mockMvc.perform(get("/api/recommendations/reasons/{reasonId}", reasonId)
+                .with(user(mockPrincipal)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.reasonId").value(reasonId.toString()))
+            .andExpect(jsonPath("$.reason").value("쌀쌀한 날씨라 니트를 골랐어요."))
+            .andExpect(jsonPath("$.ready").value(true));
+    }
 }
@@ -1,15 +1,12 @@
 package com.samsamotot.otboo.recommendation.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 
+import com.samsamotot.otboo.clothes.dto.ClothesAttributeWithDefDto;
 import com.samsamotot.otboo.clothes.dto.OotdDto;
-import com.samsamotot.otboo.clothes.entity.Clothes;
-import com.samsamotot.otboo.clothes.entity.ClothesAttribute;
 import com.samsamotot.otboo.clothes.entity.ClothesAttributeDef;
 import com.samsamotot.otboo.clothes.entity.ClothesType;
-import com.samsamotot.otboo.clothes.mapper.ClothesMapper;
 import com.samsamotot.otboo.recommendation.dto.RecommendationContextDto;
 import com.samsamotot.otboo.recommendation.dto.RecommendationResult;
 import com.samsamotot.otboo.recommendation.type.Style;
@@ -23,7 +20,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
-import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -33,9 +29,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 @DisplayName("ItemSelectorEngine 단위 테스트")
 public class ItemSelectorEngineTest {
 
-    @Mock
-    private ClothesMapper clothesMapper;
-
     @Spy
     @InjectMocks
     private ItemSelectorEngine itemSelectorEngine;
@@ -61,23 +54,23 @@ public class ItemSelectorEngineTest {
         // given
         int hotTemperature = 30;
 
-        ClothesAttribute lightAttr = ClothesAttribute.builder()
-            .definition(thickness)
+        ClothesAttributeWithDefDto lightAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(thickness.getName())
             .value("얇음")
             .build();
 
-        ClothesAttribute heavyAttr = ClothesAttribute.builder()
-            .definition(thickness)
+        ClothesAttributeWithDefDto heavyAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(thickness.getName())
             .value("두꺼움")
             .build();
 
-        Clothes lightClothes = Clothes.builder()
+        OotdDto lightClothes = OotdDto.builder()
             .name("가벼운 상의")
             .type(ClothesType.TOP)
             .attributes(List.of(lightAttr))
             .build();
 
-        Clothes heavyClothes = Clothes.builder()
+        OotdDto heavyClothes = OotdDto.builder()
             .name("두꺼운 상의")
             .type(ClothesType.TOP)
             .attributes(List.of(heavyAttr))
@@ -97,23 +90,23 @@ public class ItemSelectorEngineTest {
         // given
         int coldTemperature = 0;
 
-        ClothesAttribute lightAttr = ClothesAttribute.builder()
-            .definition(thickness)
+        ClothesAttributeWithDefDto lightAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(thickness.getName())
             .value("얇음")
             .build();
 
-        ClothesAttribute heavyAttr = ClothesAttribute.builder()
-            .definition(thickness)
+        ClothesAttributeWithDefDto heavyAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(thickness.getName())
             .value("두꺼움")
             .build();
 
-        Clothes lightClothes = Clothes.builder()
+        OotdDto lightClothes = OotdDto.builder()
             .name("가벼운 상의")
             .type(ClothesType.TOP)
             .attributes(List.of(lightAttr))
             .build();
 
-        Clothes heavyClothes = Clothes.builder()
+        OotdDto heavyClothes = OotdDto.builder()
             .name("두꺼운 상의")
             .type(ClothesType.TOP)
             .attributes(List.of(heavyAttr))
@@ -133,34 +126,34 @@ public class ItemSelectorEngineTest {
         // given
         int mildTemperature = 15;
 
-        ClothesAttribute lightAttr = ClothesAttribute.builder()
-            .definition(thickness)
+        ClothesAttributeWithDefDto lightAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(thickness.getName())
             .value("얇음")
             .build();
 
-        ClothesAttribute midAttr = ClothesAttribute.builder()
-            .definition(thickness)
+        ClothesAttributeWithDefDto midAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(thickness.getName())
             .value("보통")
             .build();
 
-        ClothesAttribute heavyAttr = ClothesAttribute.builder()
-            .definition(thickness)
+        ClothesAttributeWithDefDto heavyAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(thickness.getName())
             .value("두꺼움")
             .build();
 
-        Clothes lightClothes = Clothes.builder()
+        OotdDto lightClothes = OotdDto.builder()
             .name("가벼운 상의")
             .type(ClothesType.TOP)
             .attributes(List.of(lightAttr))
             .build();
 
-        Clothes midClothes = Clothes.builder()
+        OotdDto midClothes = OotdDto.builder()
             .name("중간 상의")
             .type(ClothesType.TOP)
             .attributes(List.of(midAttr))
             .build();
 
-        Clothes heavyClothes = Clothes.builder()
+        OotdDto heavyClothes = OotdDto.builder()
             .name("두꺼운 상의")
             .type(ClothesType.TOP)
             .attributes(List.of(heavyAttr))
@@ -183,23 +176,23 @@ public class ItemSelectorEngineTest {
         // given
         Month currentMonth = Month.JUNE;
 
-        ClothesAttribute summerSeasonAttr = ClothesAttribute.builder()
-            .definition(season)
+        ClothesAttributeWithDefDto summerSeasonAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(season.getName())
             .value("여름")
             .build();
 
-        ClothesAttribute winterSeasonAttr = ClothesAttribute.builder()
-            .definition(season)
+        ClothesAttributeWithDefDto winterSeasonAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(season.getName())
             .value("겨울")
             .build();
 
-        Clothes summerClothes = Clothes.builder()
+        OotdDto summerClothes = OotdDto.builder()
             .name("여름 옷")
             .type(ClothesType.TOP)
             .attributes(List.of(summerSeasonAttr))
             .build();
 
-        Clothes winterClothes = Clothes.builder()
+        OotdDto winterClothes = OotdDto.builder()
             .name("겨울 옷")
             .type(ClothesType.TOP)
             .attributes(List.of(winterSeasonAttr))
@@ -217,11 +210,11 @@ public class ItemSelectorEngineTest {
     void 계절_완전_불일치시_점수_0_및_추천_제외된다() {
 
         // given
-        ClothesAttribute summerAttr = ClothesAttribute.builder()
-            .definition(season)
+        ClothesAttributeWithDefDto summerAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(season.getName())
             .value("여름")
             .build();
-        Clothes clothes = Clothes.builder()
+        OotdDto clothes = OotdDto.builder()
             .name("여름 옷")
             .type(ClothesType.TOP)
             .attributes(List.of(summerAttr))
@@ -240,23 +233,23 @@ public class ItemSelectorEngineTest {
         // given
         boolean isRaining = true;
 
-        ClothesAttribute waterproofAttr = ClothesAttribute.builder()
-            .definition(waterproof)
+        ClothesAttributeWithDefDto waterproofAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(waterproof.getName())
             .value("가능")
             .build();
 
-        ClothesAttribute nonWaterproofAttr = ClothesAttribute.builder()
-            .definition(waterproof)
+        ClothesAttributeWithDefDto nonWaterproofAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(waterproof.getName())
             .value("불가능")
             .build();
 
-        Clothes waterproofClothes = Clothes.builder()
+        OotdDto waterproofClothes = OotdDto.builder()
             .name("방수 옷")
             .type(ClothesType.TOP)
             .attributes(List.of(waterproofAttr))
             .build();
 
-        Clothes nonWaterproofClothes = Clothes.builder()
+        OotdDto nonWaterproofClothes = OotdDto.builder()
             .name("비방수 옷")
             .type(ClothesType.TOP)
             .attributes(List.of(nonWaterproofAttr))
@@ -276,23 +269,23 @@ public class ItemSelectorEngineTest {
         // given
         boolean isRaining = false;
 
-        ClothesAttribute waterproofAttr = ClothesAttribute.builder()
-            .definition(waterproof)
+        ClothesAttributeWithDefDto waterproofAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(waterproof.getName())
             .value("가능")
             .build();
 
-        ClothesAttribute nonWaterproofAttr = ClothesAttribute.builder()
-            .definition(waterproof)
+        ClothesAttributeWithDefDto nonWaterproofAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName(waterproof.getName())
             .value("불가능")
             .build();
 
-        Clothes waterproofClothes = Clothes.builder()
+        OotdDto waterproofClothes = OotdDto.builder()
             .name("방수 옷")
             .type(ClothesType.TOP)
             .attributes(List.of(waterproofAttr))
             .build();
 
-        Clothes nonWaterproofClothes = Clothes.builder()
+        OotdDto nonWaterproofClothes = OotdDto.builder()
             .name("비방수 옷")
             .type(ClothesType.TOP)
             .attributes(List.of(nonWaterproofAttr))
@@ -387,21 +380,21 @@ public class ItemSelectorEngineTest {
         Month month = Month.APRIL;
         boolean isRainy = false;
 
-        Clothes highScoreClothes = Clothes.builder()
+        OotdDto highScoreClothes = OotdDto.builder()
+            .clothesId(UUID.randomUUID())
             .name("추천될 옷")
             .type(ClothesType.TOP)
             .attributes(List.of())
             .build();
-        ReflectionTestUtils.setField(highScoreClothes, "id", UUID.randomUUID());
 
-        Clothes lowScoreClothes = Clothes.builder()
+        OotdDto lowScoreClothes = OotdDto.builder()
+            .clothesId(UUID.randomUUID())
             .name("제외될 옷")
             .type(ClothesType.TOP)
             .attributes(List.of())
             .build();
-        ReflectionTestUtils.setField(lowScoreClothes, "id", UUID.randomUUID());
 
-        List<Clothes> clothesList = List.of(highScoreClothes, lowScoreClothes);
+        List<OotdDto> clothesList = List.of(highScoreClothes, lowScoreClothes);
         RecommendationContextDto context = RecommendationContextDto.builder()
             .adjustedTemperature(temperature)
             .currentMonth(month)
@@ -410,8 +403,6 @@ public class ItemSelectorEngineTest {
 
         doReturn(0.5).when(itemSelectorEngine).calculateScore(highScoreClothes, temperature, month, isRainy);
         doReturn(0.3).when(itemSelectorEngine).calculateScore(lowScoreClothes, temperature, month, isRainy);
-        doReturn(OotdDto.builder().name("추천될 옷").build())
-            .when(clothesMapper).toOotdDto(any(Clothes.class));
 
         // when
         RecommendationResult rr = itemSelectorEngine.createRecommendation(
@@ -434,21 +425,21 @@ public class ItemSelectorEngineTest {
         Month month = Month.APRIL;
         boolean isRainy = false;
 
-        Clothes lowScoreClothes1 = Clothes.builder()
+        OotdDto lowScoreClothes1 = OotdDto.builder()
+            .clothesId(UUID.randomUUID())
             .name("제외될 옷1")
             .type(ClothesType.TOP)
             .attributes(List.of())
             .build();
-        ReflectionTestUtils.setField(lowScoreClothes1, "id", UUID.randomUUID());
 
-        Clothes lowScoreClothes2 = Clothes.builder()
+        OotdDto lowScoreClothes2 = OotdDto.builder()
+            .clothesId(UUID.randomUUID())
             .name("제외될 옷2")
             .type(ClothesType.TOP)
             .attributes(List.of())
             .build();
-        ReflectionTestUtils.setField(lowScoreClothes2, "id", UUID.randomUUID());
 
-        List<Clothes> clothesList = List.of(lowScoreClothes1, lowScoreClothes2);
+        List<OotdDto> clothesList = List.of(lowScoreClothes1, lowScoreClothes2);
         RecommendationContextDto context = RecommendationContextDto.builder()
             .adjustedTemperature(temperature)
             .currentMonth(month)
@@ -458,16 +449,6 @@ public class ItemSelectorEngineTest {
         doReturn(0.2).when(itemSelectorEngine).calculateScore(lowScoreClothes1, temperature, month, isRainy);
         doReturn(0.1).when(itemSelectorEngine).calculateScore(lowScoreClothes2, temperature, month, isRainy);
 
-        Mockito.lenient().when(clothesMapper.toOotdDto(Mockito.any(Clothes.class)))
-            .thenAnswer(inv -> {
-                Clothes c = inv.getArgument(0);
-                return OotdDto.builder()
-                    .clothesId(c.getId())
-                    .name(c.getName())
-                    .type(c.getType())
-                    .build();
-            });
-
         // when
         RecommendationResult rr = itemSelectorEngine.createRecommendation(clothesList, context, 0L, Map.of());
         List<OotdDto> result = rr.items();
@@ -481,12 +462,12 @@ public class ItemSelectorEngineTest {
     void 후보군이_1개일때_정상적으로_추천된다() {
 
         // given
-        Clothes clothes = Clothes.builder()
+        OotdDto clothes = OotdDto.builder()
+            .clothesId(UUID.randomUUID())
             .name("단일 옷")
             .type(ClothesType.TOP)
             .attributes(List.of())
             .build();
-        ReflectionTestUtils.setField(clothes, "id", UUID.randomUUID());
 
         RecommendationContextDto context = RecommendationContextDto.builder()
             .adjustedTemperature(20.0)
@@ -495,7 +476,6 @@ public class ItemSelectorEngineTest {
             .build();
 
         doReturn(0.8).when(itemSelectorEngine).calculateScore(clothes, 20.0, Month.APRIL, false);
-        doReturn(OotdDto.builder().name("단일 옷").build()).when(clothesMapper).toOotdDto(any(Clothes.class));
 
         // when
         RecommendationResult rr = itemSelectorEngine.createRecommendation(List.of(clothes), context, 0L, Map.of());
@@ -523,11 +503,11 @@ public class ItemSelectorEngineTest {
     void 속성명_오타_입력시_기본값으로_처리된다() {
 
         // given
-        ClothesAttribute wrongAttr = ClothesAttribute.builder()
-            .definition(ClothesAttributeDef.createClothesAttributeDef("두께오타", List.of("얇음", "보통", "두꺼움")))
+        ClothesAttributeWithDefDto wrongAttr = ClothesAttributeWithDefDto.builder()
+            .definitionName("두께오타")
             .value("얇음")
             .build();
-        Clothes clothes = Clothes.builder()
+        OotdDto clothes = OotdDto.builder()
             .name("오타 옷")
             .type(ClothesType.TOP)
             .attributes(List.of(wrongAttr))
@@ -561,7 +541,7 @@ public class ItemSelectorEngineTest {
     void 속성값_누락시_기본값으로_점수_계산된다() {
 
         // given
-        Clothes clothes = Clothes.builder()
+        OotdDto clothes = OotdDto.builder()
             .name("속성 없는 옷")
             .type(ClothesType.TOP)
             .attributes(List.of())
@@ -579,25 +559,19 @@ public class ItemSelectorEngineTest {
         // given
         UUID cooldownTopId = UUID.randomUUID();
 
-        Clothes top1 = Clothes.builder().name("쿨다운 상의")
+        OotdDto top1 = OotdDto.builder()
+            .clothesId(cooldownTopId).name("쿨다운 상의")
             .type(ClothesType.TOP).attributes(List.of()).build();
-        ReflectionTestUtils.setField(top1, "id", cooldownTopId);
 
-        Clothes top2 = Clothes.builder().name("정상 상의")
+        OotdDto top2 = OotdDto.builder()
+            .clothesId(UUID.randomUUID()).name("정상 상의")
             .type(ClothesType.TOP).attributes(List.of()).build();
-        ReflectionTestUtils.setField(top2, "id", UUID.randomUUID());
 
         RecommendationContextDto ctx = RecommendationContextDto.builder()
             .adjustedTemperature(20.0).currentMonth(Month.APRIL).isRainingOrSnowing(false).build();
 
         doReturn(0.8).when(itemSelectorEngine).calculateScore(top2, 20.0, Month.APRIL, false);
 
-        Mockito.lenient().when(clothesMapper.toOotdDto(any(Clothes.class)))
-            .thenAnswer(inv -> {
-                Clothes c = inv.getArgument(0);
-                return OotdDto.builder().clothesId(c.getId()).name(c.getName()).type(c.getType()).build();
-            });
-
         // when
         RecommendationResult rr = itemSelectorEngine.createRecommendation(
             List.of(top1, top2), ctx, 0L, Map.of(ClothesType.TOP, cooldownTopId)
@@ -618,26 +592,20 @@ public class ItemSelectorEngineTest {
             .isRainingOrSnowing(false)
             .build();
 
-        Clothes lowTop = Clothes.builder().name("lowTop")
+        OotdDto lowTop = OotdDto.builder()
+            .clothesId(UUID.randomUUID()).name("lowTop")
             .type(ClothesType.TOP).build();
-        Clothes lowBottom = Clothes.builder().name("lowBottom")
+        OotdDto lowBottom = OotdDto.builder()
+            .clothesId(UUID.randomUUID()).name("lowBottom")
             .type(ClothesType.BOTTOM).build();
-        ReflectionTestUtils.setField(lowTop, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(lowBottom, "id", UUID.randomUUID());
 
-        List<Clothes> clothesList = List.of(lowTop, lowBottom);
+        List<OotdDto> clothesList = List.of(lowTop, lowBottom);
 
         Mockito.doReturn(0.1).when(itemSelectorEngine)
             .calculateScore(Mockito.eq(lowTop), Mockito.anyDouble(), Mockito.any(), Mockito.anyBoolean());
         Mockito.doReturn(0.05).when(itemSelectorEngine)
             .calculateScore(Mockito.eq(lowBottom), Mockito.anyDouble(), Mockito.any(), Mockito.anyBoolean());
 
-        Mockito.lenient().when(clothesMapper.toOotdDto(Mockito.any(Clothes.class)))
-            .thenAnswer(inv -> {
-                Clothes c = inv.getArgument(0);
-                return OotdDto.builder().name(c.getName()).type(c.getType()).clothesId(c.getId()).build();
-            });
-
         // when
         RecommendationResult rr = itemSelectorEngine.createRecommendation(clothesList, context, 0L, Map.of());
         List<OotdDto> result = rr.items();
@@ -658,26 +626,20 @@ public class ItemSelectorEngineTest {
             .isRainingOrSnowing(false)
             .build();
 
-        Clothes hat = Clothes.builder().name("hat")
+        OotdDto hat = OotdDto.builder()
+            .clothesId(UUID.randomUUID()).name("hat")
             .type(ClothesType.HAT).build();
-        Clothes top = Clothes.builder().name("top")
+        OotdDto top = OotdDto.builder()
+            .clothesId(UUID.randomUUID()).name("top")
             .type(ClothesType.TOP).build();
-        ReflectionTestUtils.setField(hat, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(top, "id", UUID.randomUUID());
 
-        List<Clothes> clothesList = List.of(hat, top);
+        List<OotdDto> clothesList = List.of(hat, top);
 
         Mockito.doReturn(0.90).when(itemSelectorEngine)
             .calculateScore(Mockito.same(hat), Mockito.eq(20.0), Mockito.eq(Month.MAY), Mockito.eq(false));
         Mockito.doReturn(0.10).when(itemSelectorEngine)
             .calculateScore(Mockito.same(top), Mockito.eq(20.0), Mockito.eq(Month.MAY), Mockito.eq(false));
 
-        Mockito.lenient().when(clothesMapper.toOotdDto(Mockito.any(Clothes.class)))
-            .thenAnswer(inv -> {
-                Clothes c = inv.getArgument(0);
-                return OotdDto.builder().name(c.getName()).type(c.getType()).clothesId(c.getId()).build();
-            });
-
         // when
         RecommendationResult rr = itemSelectorEngine.createRecommendation(clothesList, context, 42L, Map.of());
         List<OotdDto> result = rr.items();
@@ -698,22 +660,16 @@ public class ItemSelectorEngineTest {
             .isRainingOrSnowing(false)
             .build();
 
-        Clothes hat = Clothes.builder().name("hat")
+        OotdDto hat = OotdDto.builder()
+            .clothesId(UUID.randomUUID()).name("hat")
             .type(ClothesType.HAT).build();
-        Clothes bag = Clothes.builder().name("bag")
+        OotdDto bag = OotdDto.builder()
+            .clothesId(UUID.randomUUID()).name("bag")
             .type(ClothesType.BAG).build();
-        ReflectionTestUtils.setField(hat, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(bag, "id", UUID.randomUUID());
-        List<Clothes> clothesList = List.of(hat, bag);
+        List<OotdDto> clothesList = List.of(hat, bag);
 
         Mockito.doReturn(0.1).when(itemSelectorEngine)
-            .calculateScore(Mockito.any(Clothes.class), Mockito.anyDouble(), Mockito.any(), Mockito.anyBoolean());
-
-        Mockito.lenient().when(clothesMapper.toOotdDto(Mockito.any(Clothes.class)))
-            .thenAnswer(inv -> {
-                Clothes c = inv.getArgument(0);
-                return OotdDto.builder().name(c.getName()).type(c.getType()).clothesId(c.getId()).build();
-            });
+            .calculateScore(Mockito.any(OotdDto.class), Mockito.anyDouble(), Mockito.any(), Mockito.anyBoolean());
 
         // when
         RecommendationResult rr = itemSelectorEngine.createRecommendation(clothesList, context, 99L, Map.of());
@@ -733,10 +689,8 @@ public class ItemSelectorEngineTest {
             .isRainingOrSnowing(false)
             .build();
 
-        Clothes top = Clothes.builder().name("top").type(ClothesType.TOP).attributes(List.of()).build();
-        Clothes bottom = Clothes.builder().name("bottom").type(ClothesType.BOTTOM).attributes(List.of()).build();
-        ReflectionTestUtils.setField(top, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(bottom, "id", UUID.randomUUID());
+        OotdDto top = OotdDto.builder().clothesId(UUID.randomUUID()).name("top").type(ClothesType.TOP).attributes(List.of()).build();
+        OotdDto bottom = OotdDto.builder().clothesId(UUID.randomUUID()).name("bottom").type(ClothesType.BOTTOM).attributes(List.of()).build();
 
         // 임계값(0.4) 초과 점수로 스텁
         Mockito.doReturn(0.8).when(itemSelectorEngine)
@@ -744,13 +698,7 @@ public class ItemSelectorEngineTest {
         Mockito.doReturn(0.8).when(itemSelectorEngine)
             .calculateScore(Mockito.same(bottom), Mockito.eq(18.0), Mockito.eq(Month.OCTOBER), Mockito.eq(false));
 
-        Mockito.lenient().when(clothesMapper.toOotdDto(Mockito.any(Clothes.class)))
-            .thenAnswer(inv -> {
-                Clothes c = inv.getArgument(0);
-                return OotdDto.builder().clothesId(c.getId()).name(c.getName()).type(c.getType()).build();
-            });
-
-        Map<ClothesType, List<Clothes>> groups = Map.of(
+        Map<ClothesType, List<OotdDto>> groups = Map.of(
             ClothesType.TOP, List.of(top),
             ClothesType.BOTTOM, List.of(bottom)
         );
@@ -775,12 +723,9 @@ public class ItemSelectorEngineTest {
             .isRainingOrSnowing(false)
             .build();
 
-        Clothes topLow = Clothes.builder().name("lowTop").type(ClothesType.TOP).attributes(List.of()).build();
-        Clothes bottomLow = Clothes.builder().name("lowBottom").type(ClothesType.BOTTOM).attributes(List.of()).build();
-        Clothes dressOk = Clothes.builder().name("dressOk").type(ClothesType.DRESS).attributes(List.of()).build();
-        ReflectionTestUtils.setField(topLow, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(bottomLow, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(dressOk, "id", UUID.randomUUID());
+        OotdDto topLow = OotdDto.builder().clothesId(UUID.randomUUID()).name("lowTop").type(ClothesType.TOP).attributes(List.of()).build();
+        OotdDto bottomLow = OotdDto.builder().clothesId(UUID.randomUUID()).name("lowBottom").type(ClothesType.BOTTOM).attributes(List.of()).build();
+        OotdDto dressOk = OotdDto.builder().clothesId(UUID.randomUUID()).name("dressOk").type(ClothesType.DRESS).attributes(List.of()).build();
 
         // TOP/BOTTOM은 임계값 미만, DRESS는 임계값 초과
         Mockito.doReturn(0.2).when(itemSelectorEngine)
@@ -790,13 +735,7 @@ public class ItemSelectorEngineTest {
         Mockito.doReturn(0.7).when(itemSelectorEngine)
             .calculateScore(Mockito.same(dressOk), Mockito.eq(23.0), Mockito.eq(Month.JUNE), Mockito.eq(false));
 
-        Mockito.lenient().when(clothesMapper.toOotdDto(Mockito.any(Clothes.class)))
-            .thenAnswer(inv -> {
-                Clothes c = inv.getArgument(0);
-                return OotdDto.builder().clothesId(c.getId()).name(c.getName()).type(c.getType()).build();
-            });
-
-        Map<ClothesType, List<Clothes>> groups = Map.of(
+        Map<ClothesType, List<OotdDto>> groups = Map.of(
             ClothesType.TOP, List.of(topLow),
             ClothesType.BOTTOM, List.of(bottomLow),
             ClothesType.DRESS, List.of(dressOk)
@@ -823,23 +762,15 @@ public class ItemSelectorEngineTest {
             .isRainingOrSnowing(false)
             .build();
 
-        Clothes topLow = Clothes.builder().name("lowTop").type(ClothesType.TOP).attributes(List.of()).build();
-        Clothes bottomOk = Clothes.builder().name("okBottom").type(ClothesType.BOTTOM).attributes(List.of()).build();
-        ReflectionTestUtils.setField(topLow, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(bottomOk, "id", UUID.randomUUID());
+        OotdDto topLow = OotdDto.builder().clothesId(UUID.randomUUID()).name("lowTop").type(ClothesType.TOP).attributes(List.of()).build();
+        OotdDto bottomOk = OotdDto.builder().clothesId(UUID.randomUUID()).name("okBottom").type(ClothesType.BOTTOM).attributes(List.of()).build();
 
         Mockito.doReturn(0.2).when(itemSelectorEngine)
             .calculateScore(Mockito.same(topLow), Mockito.eq(19.0), Mockito.eq(Month.MAY), Mockito.eq(false));
         Mockito.doReturn(0.8).when(itemSelectorEngine)
             .calculateScore(Mockito.same(bottomOk), Mockito.eq(19.0), Mockito.eq(Month.MAY), Mockito.eq(false));
 
-        Mockito.lenient().when(clothesMapper.toOotdDto(Mockito.any(Clothes.class)))
-            .thenAnswer(inv -> {
-                Clothes c = inv.getArgument(0);
-                return OotdDto.builder().clothesId(c.getId()).name(c.getName()).type(c.getType()).build();
-            });
-
-        Map<ClothesType, List<Clothes>> groups = Map.of(
+        Map<ClothesType, List<OotdDto>> groups = Map.of(
             ClothesType.TOP, List.of(topLow),
             ClothesType.BOTTOM, List.of(bottomOk)
         );
@@ -866,10 +797,8 @@ public class ItemSelectorEngineTest {
             .build();
 
         // 스타일 속성 없는 아이템 2개
-        Clothes a = Clothes.builder().name("A").type(ClothesType.TOP).attributes(List.of()).build();
-        Clothes b = Clothes.builder().name("B").type(ClothesType.TOP).attributes(List.of()).build();
-        ReflectionTestUtils.setField(a, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(b, "id", UUID.randomUUID());
+        OotdDto a = OotdDto.builder().clothesId(UUID.randomUUID()).name("A").type(ClothesType.TOP).attributes(List.of()).build();
+        OotdDto b = OotdDto.builder().clothesId(UUID.randomUUID()).name("B").type(ClothesType.TOP).attributes(List.of()).build();
 
         // 기본 점수 스텁
         Mockito.doReturn(0.55).when(itemSelectorEngine)
@@ -897,25 +826,16 @@ public class ItemSelectorEngineTest {
     @Test
     void 폴백_hasPairAndHasDress_드레스를_선택한다() {
         // given
-        Clothes t1 = Clothes.builder().name("T1").type(ClothesType.TOP).attributes(List.of()).build();
-        Clothes b1 = Clothes.builder().name("B1").type(ClothesType.BOTTOM).attributes(List.of()).build();
-        Clothes d1 = Clothes.builder().name("D1").type(ClothesType.DRESS).attributes(List.of()).build();
-        ReflectionTestUtils.setField(t1, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(b1, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(d1, "id", UUID.randomUUID());
-
-        Map<ClothesType, List<Clothes>> groups = Map.of(
+        OotdDto t1 = OotdDto.builder().clothesId(UUID.randomUUID()).name("T1").type(ClothesType.TOP).attributes(List.of()).build();
+        OotdDto b1 = OotdDto.builder().clothesId(UUID.randomUUID()).name("B1").type(ClothesType.BOTTOM).attributes(List.of()).build();
+        OotdDto d1 = OotdDto.builder().clothesId(UUID.randomUUID()).name("D1").type(ClothesType.DRESS).attributes(List.of()).build();
+
+        Map<ClothesType, List<OotdDto>> groups = Map.of(
             ClothesType.TOP, List.of(t1),
             ClothesType.BOTTOM, List.of(b1),
             ClothesType.DRESS, List.of(d1)
         );
 
-        Mockito.lenient().when(clothesMapper.toOotdDto(Mockito.any(Clothes.class)))
-            .thenAnswer(inv -> {
-                Clothes c = inv.getArgument(0);
-                return OotdDto.builder().clothesId(c.getId()).name(c.getName()).type(c.getType()).build();
-            });
-
         // pickDress == true 가 되는 rollCounter 탐색
         long rollCounterForDress = -1L;
         for (long rc = 0; rc < 10_000; rc++) {
@@ -941,25 +861,16 @@ public class ItemSelectorEngineTest {
     @Test
     void 폴백_hasPairAndHasDress_TOP_BOTTOM_한벌을_선택한다() {
         // given
-        Clothes t1 = Clothes.builder().name("T1").type(ClothesType.TOP).attributes(List.of()).build();
-        Clothes b1 = Clothes.builder().name("B1").type(ClothesType.BOTTOM).attributes(List.of()).build();
-        Clothes d1 = Clothes.builder().name("D1").type(ClothesType.DRESS).attributes(List.of()).build();
-        ReflectionTestUtils.setField(t1, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(b1, "id", UUID.randomUUID());
-        ReflectionTestUtils.setField(d1, "id", UUID.randomUUID());
-
-        Map<ClothesType, List<Clothes>> groups = Map.of(
+        OotdDto t1 = OotdDto.builder().clothesId(UUID.randomUUID()).name("T1").type(ClothesType.TOP).attributes(List.of()).build();
+        OotdDto b1 = OotdDto.builder().clothesId(UUID.randomUUID()).name("B1").type(ClothesType.BOTTOM).attributes(List.of()).build();
+        OotdDto d1 = OotdDto.builder().clothesId(UUID.randomUUID()).name("D1").type(ClothesType.DRESS).attributes(List.of()).build();
+
+        Map<ClothesType, List<OotdDto>> groups = Map.of(
             ClothesType.TOP, List.of(t1),
             ClothesType.BOTTOM, List.of(b1),
             ClothesType.DRESS, List.of(d1)
         );
 
-        Mockito.lenient().when(clothesMapper.toOotdDto(Mockito.any(Clothes.class)))
-            .thenAnswer(inv -> {
-                Clothes c = inv.getArgument(0);
-                return OotdDto.builder().clothesId(c.getId()).name(c.getName()).type(c.getType()).build();
-            });
-
         // pickDress == false 가 되는 rollCounter 찾기
         long rollCounterForTopBottom = -1L;
         for (long rc = 0; rc < 10_000; rc++) {
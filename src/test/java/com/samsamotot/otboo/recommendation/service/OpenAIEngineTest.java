@@ -6,9 +6,14 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.samsamotot.otboo.clothes.dto.ClothesAttributeWithDefDto;
+import com.samsamotot.otboo.clothes.dto.OotdDto;
+import com.samsamotot.otboo.clothes.entity.ClothesType;
 import com.samsamotot.otboo.recommendation.prompt.PromptBuilder;
 import java.time.Month;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,10 +21,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.model.Generation;
 import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OpenAIEngine 단위 테스트")
@@ -29,7 +36,10 @@ public class OpenAIEngineTest {
     private PromptBuilder promptBuilder;
 
     @Mock
-    private OpenAiChatModel openAiChatModel;
+    private ChatModel chatModel;
+
+    @Mock
+    private CacheManager cacheManager;
 
     @InjectMocks
     private OpenAIEngine openAIEngine;
@@ -50,7 +60,7 @@ public class OpenAIEngineTest {
         when(promptBuilder.buildOneLiner(any(), anyBoolean(), any(), any(), any(), any()))
             .thenReturn(userPrompt);
         when(promptBuilder.postProcessOneLiner(llmRaw)).thenReturn(processed);
-        when(openAiChatModel.call(any(Prompt.class))).thenReturn(response);
+        when(chatModel.call(any(Prompt.class))).thenReturn(response);
 
         // when
         String reason = openAIEngine.generateRecommendationReason(
@@ -70,7 +80,7 @@ public class OpenAIEngineTest {
 
         when(promptBuilder.buildOneLiner(any(), anyBoolean(), any(), any(), any(), any()))
             .thenReturn(userPrompt);
-        when(openAiChatModel.call(any(Prompt.class))).thenThrow(new RuntimeException("LLM 오류"));
+        when(chatModel.call(any(Prompt.class))).thenThrow(new RuntimeException("LLM 오류"));
         when(promptBuilder.fallbackOneLiner()).thenReturn("기본 추천 문구");
 
         // when
@@ -82,4 +92,127 @@ public class OpenAIEngineTest {
         assertThat(reason).isEqualTo("기본 추천 문구");
         verify(promptBuilder).fallbackOneLiner();
     }
+
+    @Test
+    void 동일한_정규화_컨텍스트면_캐시된_문구를_반환하고_LLM을_다시_호출하지_않는다() {
+
+        // given
+        StubChatModel stub = new StubChatModel("가볍게 입기 좋은 날이에요.");
+        OpenAIEngine engine = new OpenAIEngine(new PromptBuilder(60, 3.0), stub, new ConcurrentMapCacheManager());
+
+        // when: 체감온도 같은 구간(15~18℃), 아이템 순서만 다름
+        String first = engine.generateRecommendationReason(
+            17.0, false, Month.OCTOBER, 15.2, 2.5, List.of(item(ClothesType.TOP, "캐주얼"), item(ClothesType.BOTTOM, null))
+        );
+        String second = engine.generateRecommendationReason(
+            18.5, false, Month.SEPTEMBER, 17.9, 3.0, List.of(item(ClothesType.BOTTOM, null), item(ClothesType.TOP, "캐주얼"))
+        );
+
+        // then
+        assertThat(first).isEqualTo("가볍게 입기 좋은 날이에요.");
+        assertThat(second).isEqualTo(first);
+        assertThat(stub.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 컨텍스트가_다르면_LLM을_다시_호출한다() {
+
+        // given
+        StubChatModel stub = new StubChatModel("우산 챙기기 좋은 날이에요.");
+        OpenAIEngine engine = new OpenAIEngine(new PromptBuilder(60, 3.0), stub, new ConcurrentMapCacheManager());
+        List<OotdDto> items = List.of(item(ClothesType.TOP, "캐주얼"));
+
+        // when
+        engine.generateRecommendationReason(17.0, false, Month.OCTOBER, 15.2, 2.5, items);
+        engine.generateRecommendationReason(17.0, true, Month.OCTOBER, 15.2, 2.5, items);
+        engine.generateRecommendationReason(5.0, false, Month.OCTOBER, 3.0, 2.5, items);
+
+        // then
+        assertThat(stub.calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 스타일이_같아도_두께나_방수_속성이_다르면_LLM을_다시_호출한다() {
+
+        // given
+        StubChatModel stub = new StubChatModel("포근하게 입기 좋은 날이에요.");
+        OpenAIEngine engine = new OpenAIEngine(new PromptBuilder(60, 3.0), stub, new ConcurrentMapCacheManager());
+
+        // when
+        engine.generateRecommendationReason(17.0, false, Month.OCTOBER, 15.2, 2.5,
+            List.of(item(ClothesType.OUTER, "캐주얼", "얇음", "X")));
+        engine.generateRecommendationReason(17.0, false, Month.OCTOBER, 15.2, 2.5,
+            List.of(item(ClothesType.OUTER, "캐주얼", "두꺼움", "X")));
+        engine.generateRecommendationReason(17.0, false, Month.OCTOBER, 15.2, 2.5,
+            List.of(item(ClothesType.OUTER, "캐주얼", "두꺼움", "O")));
+        engine.generateRecommendationReason(17.0, false, Month.OCTOBER, 15.2, 2.5,
+            List.of(item(ClothesType.OUTER, "캐주얼", "두꺼움", "O")));
+
+        // then
+        assertThat(stub.calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void LLM_예외로_생성된_fallback_문구는_캐시하지_않는다() {
+
+        // given
+        StubChatModel stub = new StubChatModel(null);
+        OpenAIEngine engine = new OpenAIEngine(new PromptBuilder(60, 3.0), stub, new ConcurrentMapCacheManager());
+        List<OotdDto> items = List.of(item(ClothesType.TOP, "캐주얼"));
+
+        // when
+        engine.generateRecommendationReason(17.0, false, Month.OCTOBER, 15.2, 2.5, items);
+        engine.generateRecommendationReason(17.0, false, Month.OCTOBER, 15.2, 2.5, items);
+
+        // then
+        assertThat(stub.calls.get()).isEqualTo(2);
+    }
+
+    private static OotdDto item(ClothesType type, String style, String thickness, String waterproof) {
+        List<ClothesAttributeWithDefDto> attributes = List.of(
+            ClothesAttributeWithDefDto.builder().definitionName("스타일").value(style).build(),
+            ClothesAttributeWithDefDto.builder().definitionName("두께").value(thickness).build(),
+            ClothesAttributeWithDefDto.builder().definitionName("방수").value(waterproof).build()
+        );
+        return OotdDto.builder()
+            .clothesId(UUID.randomUUID())
+            .name(type.name())
+            .type(type)
+            .attributes(attributes)
+            .build();
+    }
+
+    private static OotdDto item(ClothesType type, String style) {
+        List<ClothesAttributeWithDefDto> attributes = style == null
+            ? List.of()
+            : List.of(ClothesAttributeWithDefDto.builder().definitionName("스타일").value(style).build());
+        return OotdDto.builder()
+            .clothesId(UUID.randomUUID())
+            .name(type.name())
+            .type(type)
+            .attributes(attributes)
+            .build();
+    }
+
+    /**
+     * 호출 횟수를 기록하는 로컬 ChatModel 스텁 (reply가 null이면 예외 발생)
+     */
+    private static class StubChatModel implements ChatModel {
+
+        private final String reply;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        StubChatModel(String reply) {
+            this.reply = reply;
+        }
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            calls.incrementAndGet();
+            if (reply == null) {
+                throw new RuntimeException("LLM 오류");
+            }
+            return new ChatResponse(List.of(new Generation(new AssistantMessage(reply))));
+        }
+    }
 }
@@ -0,0 +1,126 @@
+package com.samsamotot.otboo.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samsamotot.otboo.clothes.dto.OotdDto;
+import com.samsamotot.otboo.recommendation.dto.RecommendationReasonDto;
+import com.samsamotot.otboo.sse.service.SseService;
+import java.time.Duration;
+import java.time.Month;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationReason 서비스 단위 테스트")
+class RecommendationReasonServiceTest {
+
+    @Mock
+    private OpenAIEngine openAiEngine;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SseService sseService;
+
+    private RecommendationReasonService recommendationReasonService;
+
+    @BeforeEach
+    void setUp() {
+        recommendationReasonService = new RecommendationReasonService(openAiEngine, stringRedisTemplate, sseService, new ObjectMapper());
+        ReflectionTestUtils.setField(recommendationReasonService, "reasonTtlMinutes", 10);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    void 생성된_추천이유를_Redis에_저장하고_SSE로_전송한다() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID reasonId = UUID.randomUUID();
+        List<OotdDto> items = List.of();
+        given(openAiEngine.generateRecommendationReason(15.0, false, Month.OCTOBER, 13.0, 2.5, items))
+            .willReturn("선선한 날씨라 가디건을 골랐어요.");
+
+        // when
+        recommendationReasonService.generateAndPublish(userId, reasonId, 15.0, false, Month.OCTOBER, 13.0, 2.5, items);
+
+        // then
+        verify(valueOperations).set(
+            "recommendationReason:" + userId + ":" + reasonId, "선선한 날씨라 가디건을 골랐어요.", Duration.ofMinutes(10));
+        verify(sseService).sendLocalEvent(eq(userId), eq(RecommendationReasonService.SSE_EVENT_NAME),
+            isNull(), anyString());
+    }
+
+    @Test
+    void Redis_저장에_실패해도_SSE_전송은_시도한다() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID reasonId = UUID.randomUUID();
+        given(openAiEngine.generateRecommendationReason(any(), any(Boolean.class), any(), any(), any(), any()))
+            .willReturn("추천 이유");
+        doThrow(new RuntimeException("redis down"))
+            .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        // when
+        recommendationReasonService.generateAndPublish(userId, reasonId, 15.0, false, Month.OCTOBER, 13.0, 2.5, List.of());
+
+        // then
+        verify(sseService).sendLocalEvent(eq(userId), eq(RecommendationReasonService.SSE_EVENT_NAME),
+            isNull(), anyString());
+    }
+
+    @Test
+    void 아직_생성되지_않은_추천이유는_ready_false로_반환한다() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID reasonId = UUID.randomUUID();
+        given(valueOperations.get("recommendationReason:" + userId + ":" + reasonId)).willReturn(null);
+
+        // when
+        RecommendationReasonDto result = recommendationReasonService.getReason(userId, reasonId);
+
+        // then
+        assertThat(result.reasonId()).isEqualTo(reasonId);
+        assertThat(result.reason()).isNull();
+        assertThat(result.ready()).isFalse();
+    }
+
+    @Test
+    void 생성된_추천이유는_ready_true로_반환한다() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID reasonId = UUID.randomUUID();
+        given(valueOperations.get("recommendationReason:" + userId + ":" + reasonId)).willReturn("추천 이유");
+
+        // when
+        RecommendationReasonDto result = recommendationReasonService.getReason(userId, reasonId);
+
+        // then
+        assertThat(result.reason()).isEqualTo("추천 이유");
+        assertThat(result.ready()).isTrue();
+    }
+}
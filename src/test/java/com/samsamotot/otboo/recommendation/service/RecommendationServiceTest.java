@@ -9,14 +9,14 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.samsamotot.otboo.clothes.dto.OotdDto;
-import com.samsamotot.otboo.clothes.entity.Clothes;
 import com.samsamotot.otboo.clothes.entity.ClothesType;
 import com.samsamotot.otboo.clothes.repository.ClothesRepository;
 import com.samsamotot.otboo.common.exception.ErrorCode;
@@ -31,6 +31,7 @@ import com.samsamotot.otboo.profile.repository.ProfileRepository;
 import com.samsamotot.otboo.recommendation.dto.RecommendationContextDto;
 import com.samsamotot.otboo.recommendation.dto.RecommendationDto;
 import com.samsamotot.otboo.recommendation.dto.RecommendationResult;
+import com.samsamotot.otboo.recommendation.dto.RecommendationState;
 import com.samsamotot.otboo.user.entity.User;
 import com.samsamotot.otboo.weather.entity.Grid;
 import com.samsamotot.otboo.weather.entity.Weather;
@@ -48,10 +49,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -74,13 +72,10 @@ public class RecommendationServiceTest {
     private OpenAIEngine openAiEngine;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private RecommendationReasonService recommendationReasonService;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
-
-    @Mock
-    private HashOperations<String, Object, Object> hashOperations;
+    private RecommendationStateStore recommendationStateStore;
 
     @InjectMocks
     private RecommendationServiceImpl recommendationService;
@@ -88,14 +83,14 @@ public class RecommendationServiceTest {
     User mockUser;
     Profile mockProfile;
     Weather mockWeather;
-    List<Clothes> mockClothesList;
+    List<OotdDto> mockClothesList;
 
     @BeforeEach
     void setUp() {
 
-        // Redis ValueOperations,HashOperations 모킹 설정 (테스트마다 필요하지 않을 수 있어 lenient 사용)
-        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        // Redis 추천 상태 모킹 설정 (테스트마다 필요하지 않을 수 있어 lenient 사용)
+        lenient().when(recommendationStateStore.reserveRoll(any(UUID.class)))
+            .thenReturn(new RecommendationState(0L, Map.of()));
 
         mockUser = UserFixture.createUser();
         ReflectionTestUtils.setField(mockUser, "id", UUID.randomUUID());
@@ -106,8 +101,12 @@ public class RecommendationServiceTest {
         mockWeather = WeatherFixture.createWeather(grid);
         ReflectionTestUtils.setField(mockWeather, "id", UUID.randomUUID());
 
-        Clothes clothes = ClothesFixture.createClothes();
-        ReflectionTestUtils.setField(clothes, "id", UUID.randomUUID());
+        OotdDto clothes = OotdDto.builder()
+            .clothesId(UUID.randomUUID())
+            .name(ClothesFixture.DEFAULT_CLOTHES_NAME)
+            .type(ClothesFixture.DEFAULT_CLOTHES_TYPE)
+            .attributes(List.of())
+            .build();
         mockClothesList = List.of(clothes);
 
         lenient().when(itemSelectorEngine.createRecommendation(
@@ -129,7 +128,7 @@ public class RecommendationServiceTest {
 
         given(profileRepository.findByUserId(userId)).willReturn(Optional.of(profile));
         given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
-        given(clothesRepository.findAllByOwnerId(userId)).willReturn(mockClothesList);
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
 
         ArgumentCaptor<RecommendationContextDto> captor = ArgumentCaptor.forClass(RecommendationContextDto.class);
 
@@ -161,7 +160,7 @@ public class RecommendationServiceTest {
 
         given(profileRepository.findByUserId(userId)).willReturn(Optional.of(profile));
         given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
-        given(clothesRepository.findAllByOwnerId(userId)).willReturn(mockClothesList);
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
 
         ArgumentCaptor<RecommendationContextDto> captor = ArgumentCaptor.forClass(RecommendationContextDto.class);
 
@@ -183,27 +182,23 @@ public class RecommendationServiceTest {
     }
 
     @Test
-    void Redis에서_roll_카운터와_cooldown_ID를_정상적으로_조회한다() {
+    void Redis에서_roll_카운터와_cooldown_ID를_한번에_조회한다() {
 
         // given
         UUID userId = mockUser.getId();
         UUID weatherId = mockWeather.getId();
-        String rollCountKey = "rollCounter:" + userId;
-        String cooldownKey = "cooldownIdMap:" + userId;
-        Object cooldownField = ClothesType.TOP;
 
         given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mockProfile));
         given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
-        given(clothesRepository.findAllByOwnerId(userId)).willReturn(mockClothesList);
-        given(valueOperations.get(rollCountKey)).willReturn(5L);
-        given(hashOperations.entries(cooldownKey)).willReturn(Map.of(cooldownField, UUID.randomUUID().toString()));
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
+        given(recommendationStateStore.reserveRoll(userId))
+            .willReturn(new RecommendationState(5L, Map.of(ClothesType.TOP, UUID.randomUUID())));
 
         // when
         recommendationService.recommendClothes(userId, weatherId);
 
         // then
-        verify(valueOperations, times(1)).get(rollCountKey);
-        verify(hashOperations, times(1)).entries(cooldownKey);
+        verify(recommendationStateStore, times(1)).reserveRoll(userId);
     }
 
     @Test
@@ -213,15 +208,12 @@ public class RecommendationServiceTest {
         UUID userId = mockUser.getId();
         UUID weatherId = mockWeather.getId();
         UUID randomClothesId = UUID.randomUUID();
-        String rollCountKey = "rollCounter:" + userId;
-        String cooldownKey = "cooldownIdMap:" + userId;
-        Object cooldownField = ClothesType.TOP;
 
         given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mockProfile));
         given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
-        given(clothesRepository.findAllByOwnerId(userId)).willReturn(mockClothesList);
-        given(valueOperations.get(rollCountKey)).willReturn(5L);
-        given(hashOperations.entries(cooldownKey)).willReturn(Map.of(cooldownField, randomClothesId.toString()));
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
+        given(recommendationStateStore.reserveRoll(userId))
+            .willReturn(new RecommendationState(5L, Map.of(ClothesType.TOP, randomClothesId)));
 
         ArgumentCaptor<Long> rollCountCaptor = ArgumentCaptor.forClass(Long.class);
         ArgumentCaptor<Map> cooldownCaptor = ArgumentCaptor.forClass(Map.class);
@@ -246,8 +238,7 @@ public class RecommendationServiceTest {
 
         given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mockProfile));
         given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
-        given(clothesRepository.findAllByOwnerId(userId)).willReturn(mockClothesList);
-        given(valueOperations.get(any())).willReturn(null); // Redis에서 null 반환
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
 
         ArgumentCaptor<Long> rollCountCaptor = ArgumentCaptor.forClass(Long.class);
         ArgumentCaptor<Map> cooldownCaptor = ArgumentCaptor.forClass(Map.class);
@@ -263,7 +254,7 @@ public class RecommendationServiceTest {
     }
 
     @Test
-    void 추천이유가_정상적으로_반환된다() {
+    void 캐시된_추천이유가_있으면_즉시_반환하고_비동기_생성하지_않는다() {
 
         // given
         UUID userId = mockUser.getId();
@@ -271,7 +262,7 @@ public class RecommendationServiceTest {
 
         given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mockProfile));
         given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
-        given(clothesRepository.findAllByOwnerId(userId)).willReturn(mockClothesList);
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
 
         List<OotdDto> clothes = List.of(
             OotdDto.builder()
@@ -284,30 +275,110 @@ public class RecommendationServiceTest {
         given(itemSelectorEngine.createRecommendation(any(), any(), anyLong(), any())).willReturn(rr);
 
         String expectedReason = "추천 이유 테스트 문구";
-        given(openAiEngine.generateRecommendationReason(
-            any(Double.class), any(Boolean.class), any(Month.class), any(Double.class), any(Double.class), any(List.class)
-        )).willReturn(expectedReason);
+        given(openAiEngine.findCachedReason(any(Boolean.class), any(Month.class), any(Double.class), any(List.class)))
+            .willReturn(expectedReason);
 
         // when
         RecommendationDto result = recommendationService.recommendClothes(userId, weatherId);
 
         // then
         assertThat(result.reason()).isEqualTo(expectedReason);
-        verify(openAiEngine, times(1)).generateRecommendationReason(
+        assertThat(result.reasonId()).isNull();
+        verifyNoInteractions(recommendationReasonService);
+        verify(openAiEngine, never()).generateRecommendationReason(
+            any(Double.class), any(Boolean.class), any(Month.class), any(Double.class), any(Double.class), any(List.class)
+        );
+    }
+
+    @Test
+    void 캐시된_추천이유가_없으면_대체문구와_reasonId를_반환하고_LLM은_비동기로_생성한다() {
+
+        // given
+        UUID userId = mockUser.getId();
+        UUID weatherId = mockWeather.getId();
+
+        given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mockProfile));
+        given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
+
+        List<OotdDto> clothes = List.of(
+            OotdDto.builder()
+                .clothesId(UUID.randomUUID())
+                .type(ClothesType.TOP)
+                .name("테스트 상의")
+                .build()
+        );
+        RecommendationResult rr = new RecommendationResult(clothes, false);
+        given(itemSelectorEngine.createRecommendation(any(), any(), anyLong(), any())).willReturn(rr);
+
+        String fallbackReason = "오늘 날씨에 맞춰 골라봤어요.";
+        given(openAiEngine.findCachedReason(any(Boolean.class), any(Month.class), any(Double.class), any(List.class)))
+            .willReturn(null);
+        given(openAiEngine.fallbackReason()).willReturn(fallbackReason);
+
+        // when
+        RecommendationDto result = recommendationService.recommendClothes(userId, weatherId);
+
+        // then
+        assertThat(result.reason()).isEqualTo(fallbackReason);
+        assertThat(result.reasonId()).isNotNull();
+        assertThat(result.clothes()).isEqualTo(clothes);
+        verify(recommendationReasonService, times(1)).generateAndPublish(
+            eq(userId), eq(result.reasonId()), any(Double.class), any(Boolean.class), any(Month.class),
+            any(Double.class), any(Double.class), eq(clothes)
+        );
+        verify(openAiEngine, never()).generateRecommendationReason(
             any(Double.class), any(Boolean.class), any(Month.class), any(Double.class), any(Double.class), any(List.class)
         );
     }
 
+    @Test
+    void 추천이유_생성_작업이_거부되어도_추천은_대체문구로_응답하고_reasonId는_내려주지_않는다() {
+
+        // given
+        UUID userId = mockUser.getId();
+        UUID weatherId = mockWeather.getId();
+
+        given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mockProfile));
+        given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
+
+        List<OotdDto> clothes = List.of(
+            OotdDto.builder()
+                .clothesId(UUID.randomUUID())
+                .type(ClothesType.TOP)
+                .name("테스트 상의")
+                .build()
+        );
+        RecommendationResult rr = new RecommendationResult(clothes, false);
+        given(itemSelectorEngine.createRecommendation(any(), any(), anyLong(), any())).willReturn(rr);
+
+        String fallbackReason = "오늘 날씨에 맞춰 골라봤어요.";
+        given(openAiEngine.findCachedReason(any(Boolean.class), any(Month.class), any(Double.class), any(List.class)))
+            .willReturn(null);
+        given(openAiEngine.fallbackReason()).willReturn(fallbackReason);
+        willThrow(new TaskRejectedException("mainTaskExecutor 포화"))
+            .given(recommendationReasonService).generateAndPublish(
+                any(UUID.class), any(UUID.class), any(Double.class), any(Boolean.class), any(Month.class),
+                any(Double.class), any(Double.class), anyList()
+            );
+
+        // when
+        RecommendationDto result = recommendationService.recommendClothes(userId, weatherId);
+
+        // then
+        assertThat(result.clothes()).isEqualTo(clothes);
+        assertThat(result.reason()).isEqualTo(fallbackReason);
+        assertThat(result.reasonId()).isNull();
+        verify(recommendationStateStore).saveCooldown(userId, clothes);
+    }
+
     @Test
     void ItemSelectorEngine이_반환한_결과를_받아_새로운_상태를_Redis에_저장한다() {
 
         // given
         UUID userId = mockUser.getId();
         UUID weatherId = mockWeather.getId();
-        UUID randomClothesId = UUID.randomUUID();
-        String rollCountKey = "rollCounter:" + userId;
-        String cooldownKey = "cooldownIdMap:" + userId;
-        Object cooldownField = ClothesType.TOP;
 
         OotdDto topDto = OotdDto.builder()
                 .clothesId(UUID.randomUUID())
@@ -320,21 +391,14 @@ public class RecommendationServiceTest {
 
         given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mockProfile));
         given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
-        given(clothesRepository.findAllByOwnerId(userId)).willReturn(mockClothesList);
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
         given(itemSelectorEngine.createRecommendation(any(), any(), anyLong(), any())).willReturn(rr);
 
-        doAnswer(invocation -> {
-            RedisCallback<?> callback = invocation.getArgument(0);
-            callback.doInRedis(null);
-            return null;
-        }).when(redisTemplate).executePipelined(any(RedisCallback.class));
-
         // when
         recommendationService.recommendClothes(userId, weatherId);
 
         // then
-        verify(valueOperations, times(1)).set(eq(rollCountKey), eq(1L));
-        verify(hashOperations, times(1)).put(eq(cooldownKey), eq(topDto.type().name()), eq(topDto.clothesId().toString()));
+        verify(recommendationStateStore, times(1)).saveCooldown(eq(userId), eq(clothes));
     }
 
     @Test
@@ -346,7 +410,7 @@ public class RecommendationServiceTest {
 
         given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mockProfile));
         given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
-        given(clothesRepository.findAllByOwnerId(userId)).willReturn(mockClothesList);
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
 
         List<OotdDto> clothes = List.of();
         RecommendationResult rr = new RecommendationResult(clothes, false);
@@ -369,14 +433,14 @@ public class RecommendationServiceTest {
 
         given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mockProfile));
         given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
-        given(clothesRepository.findAllByOwnerId(userId)).willReturn(List.of()); // 빈 옷장
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(List.of()); // 빈 옷장
 
         // when
         RecommendationDto result = recommendationService.recommendClothes(userId, weatherId);
 
         // then
         assertThat(result.clothes()).isEmpty();
-        verify(clothesRepository, times(1)).findAllByOwnerId(userId);
+        verify(clothesRepository, times(1)).findRecommendationCandidates(userId);
         verifyNoInteractions(itemSelectorEngine);
         verifyNoInteractions(openAiEngine);
     }
@@ -421,7 +485,7 @@ public class RecommendationServiceTest {
         UUID weatherId = mockWeather.getId();
         given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mockProfile));
         given(weatherRepository.findById(weatherId)).willReturn(Optional.of(mockWeather));
-        given(clothesRepository.findAllByOwnerId(userId)).willReturn(mockClothesList);
+        given(clothesRepository.findRecommendationCandidates(userId)).willReturn(mockClothesList);
 
         List<OotdDto> clothes = List.of(
             OotdDto.builder()
@@ -439,5 +503,6 @@ public class RecommendationServiceTest {
         // then
         assertThat(result.reason()).isEqualTo("오늘 날씨에 맞는 옷을 추천해드릴게요.");
         verifyNoInteractions(openAiEngine);
+        verifyNoInteractions(recommendationReasonService);
     }
 }
@@ -0,0 +1,122 @@
+package com.samsamotot.otboo.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.samsamotot.otboo.clothes.dto.OotdDto;
+import com.samsamotot.otboo.clothes.entity.ClothesType;
+import com.samsamotot.otboo.recommendation.dto.RecommendationState;
+import io.lettuce.core.cluster.SlotHash;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationStateStore 단위 테스트")
+class RecommendationStateStoreTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RecommendationStateStore recommendationStateStore;
+
+    @BeforeEach
+    void setUp() {
+        recommendationStateStore = new RecommendationStateStore(stringRedisTemplate);
+        ReflectionTestUtils.setField(recommendationStateStore, "cooldownTtlMinutes", 30);
+        ReflectionTestUtils.setField(recommendationStateStore, "rollCountTtlDays", 1);
+    }
+
+    @Test
+    void 증가된_카운터와_쿨타임_맵을_한번의_스크립트_응답에서_변환한다() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID topId = UUID.randomUUID();
+        given(stringRedisTemplate.execute(any(RedisScript.class),
+            eq(List.of("rollCounter:{" + userId + "}", "cooldownIdMap:{" + userId + "}")), any(Object[].class)))
+            .willReturn(List.of("6", "TOP", topId.toString()));
+
+        // when
+        RecommendationState state = recommendationStateStore.reserveRoll(userId);
+
+        // then
+        assertThat(state.rollCounter()).isEqualTo(5L);
+        assertThat(state.cooldownIdMap()).containsExactlyEntriesOf(Map.of(ClothesType.TOP, topId));
+    }
+
+    @Test
+    void 유효하지_않은_쿨타임_항목은_건너뛴다() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID bottomId = UUID.randomUUID();
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+            .willReturn(List.of("1", "UNKNOWN", UUID.randomUUID().toString(), "TOP", "not-a-uuid", "BOTTOM", bottomId.toString()));
+
+        // when
+        RecommendationState state = recommendationStateStore.reserveRoll(userId);
+
+        // then
+        assertThat(state.rollCounter()).isZero();
+        assertThat(state.cooldownIdMap()).hasSize(1).containsEntry(ClothesType.BOTTOM, bottomId);
+    }
+
+    @Test
+    void 추천_결과를_타입과_ID_쌍으로_한번에_저장한다() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        OotdDto top = OotdDto.builder().clothesId(UUID.randomUUID()).type(ClothesType.TOP).build();
+        OotdDto bottom = OotdDto.builder().clothesId(UUID.randomUUID()).type(ClothesType.BOTTOM).build();
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+
+        // when
+        recommendationStateStore.saveCooldown(userId, List.of(top, bottom));
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+            eq(List.of("cooldownIdMap:{" + userId + "}")), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).containsExactly(
+            "1800", "TOP", top.clothesId().toString(), "BOTTOM", bottom.clothesId().toString());
+    }
+
+    @Test
+    void 추천_결과가_없으면_Redis를_호출하지_않는다() {
+
+        // when
+        recommendationStateStore.saveCooldown(UUID.randomUUID(), List.of());
+
+        // then
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    void 한_스크립트에서_쓰는_키들은_같은_해시_태그를_공유한다() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+
+        // when
+        String rollCounterKey = RecommendationStateStore.rollCounterKey(userId);
+        String cooldownKey = RecommendationStateStore.cooldownKey(userId);
+
+        // then
+        assertThat(SlotHash.getSlot(rollCounterKey)).isEqualTo(SlotHash.getSlot(cooldownKey));
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.samsamotot.otboo.follow.mapper.FollowMapper;
 import com.samsamotot.otboo.notification.dto.NotificationDto;
 import com.samsamotot.otboo.notification.entity.NotificationLevel;
+import com.samsamotot.otboo.sse.dto.SseEventMessage;
 import com.samsamotot.otboo.sse.strategy.SseNotificationStrategy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -886,4 +887,37 @@ class SseServiceImplTest {
         assertEquals(1, backlog().get(userId).size());
         assertFalse(sseService.isUserConnected(userId), "연결은 없어야 함");
     }
-}
\ No newline at end of file
+
+    @Test
+    void 이벤트는_분산_발행되면_로컬로_직접_전송하지_않는다() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        CountingEmitter emitter = new CountingEmitter();
+        connections().computeIfAbsent(userId, k -> java.util.concurrent.ConcurrentHashMap.newKeySet()).add(emitter);
+        when(sseNotificationStrategy.publishEvent(userId, new SseEventMessage("direct-message-unread", "{}")))
+            .thenReturn(true);
+
+        // when
+        sseService.sendEvent(userId, "direct-message-unread", "{}");
+
+        // then
+        // 발행한 노드도 구독 리스너를 통해 받으므로 여기서 보내면 중복 전송된다
+        assertEquals(0, emitter.sentCount);
+    }
+
+    @Test
+    void 분산_전송_수단이_없으면_이벤트를_로컬_연결로_전송한다() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        CountingEmitter emitter = new CountingEmitter();
+        connections().computeIfAbsent(userId, k -> java.util.concurrent.ConcurrentHashMap.newKeySet()).add(emitter);
+        when(sseNotificationStrategy.publishEvent(userId, new SseEventMessage("direct-message-unread", "{}")))
+            .thenReturn(false);
+
+        // when
+        sseService.sendEvent(userId, "direct-message-unread", "{}");
+
+        // then
+        assertEquals(1, emitter.sentCount);
+    }
+}
@@ -0,0 +1,123 @@
+package com.samsamotot.otboo.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.samsamotot.otboo.common.config.QueryDslConfig;
+import com.samsamotot.otboo.common.config.TestJpaAuditingConfig;
+import com.samsamotot.otboo.common.fixture.UserFixture;
+import com.samsamotot.otboo.follow.entity.Follow;
+import com.samsamotot.otboo.user.entity.User;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.samsamotot.otboo")
+@Import({TestJpaAuditingConfig.class, QueryDslConfig.class})
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.datasource.driver-class-name=org.postgresql.Driver",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@DisplayName("사용자 팔로우 카운터 레포지토리 슬라이스 테스트")
+class UserFollowCountRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+        new PostgreSQLContainer<>("postgres:17");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry reg) {
+        reg.add("spring.datasource.url",      postgres::getJdbcUrl);
+        reg.add("spring.datasource.username", postgres::getUsername);
+        reg.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    User me;
+    User celebrity;
+
+    @BeforeEach
+    void setUp() {
+        me = UserFixture.createUserWithEmail("me@test.com");
+        celebrity = UserFixture.createUserWithEmail("celebrity@test.com");
+        em.persist(me);
+        em.persist(celebrity);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 팔로우하면_팔로워와_팔로위의_카운터가_함께_증가한다() {
+
+        // when
+        userRepository.incrementFollowCounts(me.getId(), celebrity.getId());
+
+        // then
+        User follower = userRepository.findById(me.getId()).orElseThrow();
+        User followee = userRepository.findById(celebrity.getId()).orElseThrow();
+        assertThat(follower.getFollowingCount()).isEqualTo(1);
+        assertThat(follower.getFollowerCount()).isZero();
+        assertThat(followee.getFollowerCount()).isEqualTo(1);
+        assertThat(followee.getFollowingCount()).isZero();
+    }
+
+    @Test
+    void 언팔로우_카운터는_0_아래로_내려가지_않는다() {
+
+        // when
+        userRepository.decrementFollowCounts(me.getId(), celebrity.getId());
+
+        // then
+        assertThat(userRepository.findById(me.getId()).orElseThrow().getFollowingCount()).isZero();
+        assertThat(userRepository.findById(celebrity.getId()).orElseThrow().getFollowerCount()).isZero();
+    }
+
+    @Test
+    void 보정_작업은_follows_기준으로_어긋난_사용자만_찾아_잠근_뒤_복구한다() {
+
+        // given: 카운터를 거치지 않고 팔로우를 저장해 드리프트를 만든다
+        em.persist(Follow.builder()
+            .follower(em.find(User.class, me.getId()))
+            .followee(em.find(User.class, celebrity.getId()))
+            .build());
+        em.flush();
+        em.clear();
+
+        // when
+        List<UUID> candidates = userRepository.findFollowCountMismatchedUserIds();
+        List<UUID> locked = userRepository.lockUsersForUpdate(candidates);
+        int repaired = userRepository.recalculateFollowCounts(candidates);
+        em.clear();
+
+        // then
+        assertThat(candidates).containsExactlyInAnyOrder(me.getId(), celebrity.getId());
+        assertThat(locked).containsExactlyInAnyOrderElementsOf(candidates);
+        assertThat(repaired).isEqualTo(2);
+        assertThat(userRepository.findFollowCountMismatchedUserIds()).isEmpty();
+        assertThat(userRepository.findById(celebrity.getId()).orElseThrow().getFollowerCount()).isEqualTo(1);
+        assertThat(userRepository.findById(me.getId()).orElseThrow().getFollowingCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.samsamotot.otboo.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.samsamotot.otboo.common.config.QueryDslConfig;
+import com.samsamotot.otboo.common.config.TestJpaAuditingConfig;
+import com.samsamotot.otboo.common.fixture.UserFixture;
+import com.samsamotot.otboo.common.schema.QueryPlanCapture;
+import com.samsamotot.otboo.user.dto.UserListRequest;
+import com.samsamotot.otboo.user.entity.Role;
+import com.samsamotot.otboo.user.entity.User;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 사용자 검색 쿼리와 schema.sql 의 트라이그램 인덱스를 함께 검증하는 슬라이스 테스트.
+ * <p>
+ * 스키마는 schema.sql 을 그대로 실행해 만들고, 실행 계획은 실제 리포지토리 쿼리에서 {@link QueryPlanCapture} 로 수집한다.
+ */
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.samsamotot.otboo")
+@Import({TestJpaAuditingConfig.class, QueryDslConfig.class})
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.datasource.driver-class-name=org.postgresql.Driver",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:schema.sql"
+})
+@DisplayName("사용자 검색 트라이그램 인덱스 슬라이스 테스트")
+class UserSearchIndexTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+        new PostgreSQLContainer<>("postgres:17");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry reg) {
+        reg.add("spring.datasource.url",      postgres::getJdbcUrl);
+        reg.add("spring.datasource.username", postgres::getUsername);
+        reg.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 50; i++) {
+            em.persist(UserFixture.createUser("user" + i + "@test.com", "user" + i, Role.USER, false));
+        }
+        em.persist(UserFixture.createUser("kimcheolsu@otboo.com", "KimCheolsu", Role.USER, false));
+        em.persist(UserFixture.createUser("kimyounghee@otboo.com", "kimYounghee", Role.USER, false));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 관리자_이메일_검색은_대소문자_구분없이_부분_일치로_검색된다() {
+
+        // given
+        UserListRequest request = UserListRequest.withEmailSearch(10, "OTBOO");
+
+        // when
+        List<User> users = userRepository.findUsersWithCursor(request).getContent();
+        long count = userRepository.countUsersWithFilters(request);
+
+        // then
+        assertThat(users).extracting(User::getEmail)
+            .containsExactlyInAnyOrder("kimcheolsu@otboo.com", "kimyounghee@otboo.com");
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    void 패턴_검색_메서드는_대소문자를_구분한다() {
+
+        // when
+        List<User> upperName = userRepository.findByUsernameContaining("KIM");
+        List<User> exactName = userRepository.findByUsernameContaining("Kim");
+        List<User> upperEmail = userRepository.findByEmailContaining("OTBOO");
+        List<User> exactEmail = userRepository.findByEmailContaining("otboo");
+
+        // then
+        assertThat(upperName).isEmpty();
+        assertThat(exactName).extracting(User::getUsername).containsExactly("KimCheolsu");
+        assertThat(upperEmail).isEmpty();
+        assertThat(exactEmail).hasSize(2);
+    }
+
+    @Test
+    void 관리자_이메일_검색은_트라이그램_인덱스를_사용한다() {
+
+        // given
+        execute("ANALYZE users");
+        execute("SET LOCAL enable_seqscan = off");
+        UserListRequest request = UserListRequest.withEmailSearch(10, "otboo");
+
+        // when: UserRepositoryCustomImpl 의 containsIgnoreCase 조건 (lower(email) LIKE)
+        String pagePlan = QueryPlanCapture.plansOf(postgres, em.getEntityManager(),
+            () -> userRepository.findUsersWithCursor(request));
+        String countPlan = QueryPlanCapture.plansOf(postgres, em.getEntityManager(),
+            () -> userRepository.countUsersWithFilters(request));
+
+        // then
+        assertThat(pagePlan).contains("idx_users_email_trgm");
+        assertThat(countPlan).contains("idx_users_email_trgm");
+    }
+
+    private void execute(String sql) {
+        em.getEntityManager().createNativeQuery(sql).executeUpdate();
+    }
+}